@@ -0,0 +1,126 @@
+#!/bin/bash
+
+# Tennis Court Booking API - Servlet vs Reactive Connections-per-Core Benchmark
+#
+# Boots the application twice (servlet stack, then the reactive profile) on the same
+# number of cores and ramps concurrent connections until latency or errors break the SLA.
+# The highest level that held is reported as sustained connections per core.
+#
+# Requirements: a built boot jar (./gradlew bootJar) and `hey` (https://github.com/rakyll/hey)
+#
+# Usage: ./benchmark-reactive.sh [duration] [cores] [sla-ms]
+#   duration  load duration per concurrency level (default: 20s)
+#   cores     processors visible to the JVM (default: 2)
+#   sla-ms    p99 latency a level must stay under (default: 200)
+#
+# Environment:
+#   BENCH_PROFILES  base profiles for both runs (default: test)
+#   BENCH_LEVELS    concurrency levels to ramp through (default: "100 200 400 800 1600 3200")
+
+DURATION=${1:-20s}
+CORES=${2:-2}
+SLA_MS=${3:-200}
+BASE_PROFILES=${BENCH_PROFILES:-test}
+LEVELS=${BENCH_LEVELS:-"100 200 400 800 1600 3200"}
+PORT=8080
+BASE_URL="http://localhost:${PORT}/api/bookings"
+JAR=$(ls build/libs/*.jar 2>/dev/null | grep -v plain | head -n1)
+
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+if [ -z "$JAR" ]; then
+    echo -e "${RED}No boot jar found - run ./gradlew bootJar first${NC}"
+    exit 1
+fi
+if ! command -v hey > /dev/null; then
+    echo -e "${RED}hey is not installed - see https://github.com/rakyll/hey${NC}"
+    exit 1
+fi
+
+wait_for_startup() {
+    for _ in $(seq 1 60); do
+        if curl -s "http://localhost:${PORT}/actuator/health" | grep -q UP; then
+            return 0
+        fi
+        sleep 1
+    done
+    return 1
+}
+
+seed_bookings() {
+    # One booking per hour on a fixed day, so schedule reads return real rows
+    for hour in $(seq 8 19); do
+        curl -s -o /dev/null -X POST "$BASE_URL" \
+            -H "Content-Type: application/json" \
+            -d "{\"date\": \"2030-01-15\", \"start\": \"$(printf '%02d' $hour):00\", \"end\": \"$(printf '%02d' $hour):30\"}"
+    done
+}
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+
+    echo -e "${YELLOW}Starting application (${mode}, profiles: ${profiles}, cores: ${CORES})${NC}" >&2
+    java -XX:ActiveProcessorCount=$CORES -jar "$JAR" --spring.profiles.active="$profiles" --server.port=$PORT \
+        --logging.level.com.tennis.court_booking=WARN --spring.jpa.show-sql=false \
+        > "benchmark-${mode}.log" 2>&1 &
+    local pid=$!
+
+    if ! wait_for_startup; then
+        echo -e "${RED}Application did not start - see benchmark-${mode}.log${NC}" >&2
+        kill $pid 2>/dev/null
+        return 1
+    fi
+
+    seed_bookings
+    # Warm-up so JIT compilation does not skew the measured levels
+    hey -z 10s -c 50 "${BASE_URL}?date=2030-01-15" > /dev/null
+
+    local sustained=0
+    local sustained_rps=0
+    for level in $LEVELS; do
+        local output
+        output=$(hey -z "$DURATION" -c "$level" "${BASE_URL}?date=2030-01-15")
+        local rps
+        rps=$(echo "$output" | awk '/Requests\/sec/ {print $2}')
+        local p99
+        p99=$(echo "$output" | awk '/99% in/ {print $3 * 1000}')
+        local errors
+        errors=$(echo "$output" | awk '/Status code distribution/ {flag=1; next} flag && /\[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}')
+        errors=$((errors + $(echo "$output" | awk '/Error distribution/ {flag=1; next} flag && /\[[0-9]+\]/ {gsub(/[\[\]]/, "", $1); sum += $1} END {print sum + 0}')))
+
+        echo "  ${mode} c=${level}: ${rps} req/s, p99 ${p99} ms, ${errors} errors" >&2
+        if [ "$errors" -ne 0 ] || [ -z "$p99" ] || awk "BEGIN {exit !($p99 > $SLA_MS)}"; then
+            break
+        fi
+        sustained=$level
+        sustained_rps=$rps
+    done
+
+    kill $pid
+    wait $pid 2>/dev/null
+
+    echo "${mode} ${sustained} $((sustained / CORES)) ${sustained_rps}"
+}
+
+echo "=========================================="
+echo "Servlet vs Reactive Benchmark"
+echo "Duration per level: ${DURATION}, cores: ${CORES}, p99 SLA: ${SLA_MS} ms"
+echo "Levels: ${LEVELS}"
+echo "=========================================="
+
+servlet=$(run_mode servlet "$BASE_PROFILES")
+reactive=$(run_mode reactive "${BASE_PROFILES},reactive")
+
+echo ""
+printf "%-10s %22s %20s %14s\n" "mode" "sustained connections" "connections/core" "requests/sec"
+for result in "$servlet" "$reactive"; do
+    if [ -n "$result" ]; then
+        printf "%-10s %22s %20s %14s\n" $result
+    fi
+done
+echo ""
+echo -e "${GREEN}Application logs are in benchmark-servlet.log and benchmark-reactive.log${NC}"
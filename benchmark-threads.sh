@@ -0,0 +1,109 @@
+#!/bin/bash
+
+# Tennis Court Booking API - Platform vs Virtual Threads Load Benchmark
+#
+# Boots the application twice (platform threads, then the virtual-threads profile),
+# drives the same load against both and prints throughput and p99 latency side by side.
+#
+# Requirements: a built boot jar (./gradlew bootJar) and `hey` (https://github.com/rakyll/hey)
+#
+# Usage: ./benchmark-threads.sh [duration] [concurrency]
+#   duration     load duration per mode (default: 30s)
+#   concurrency  concurrent connections (default: 400, above Tomcat's 200 platform threads)
+#
+# Environment:
+#   BENCH_PROFILES  base profiles for both runs (default: test)
+
+DURATION=${1:-30s}
+CONCURRENCY=${2:-400}
+BASE_PROFILES=${BENCH_PROFILES:-test}
+PORT=8080
+BASE_URL="http://localhost:${PORT}/api/bookings"
+JAR=$(ls build/libs/*.jar 2>/dev/null | grep -v plain | head -n1)
+
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+if [ -z "$JAR" ]; then
+    echo -e "${RED}No boot jar found - run ./gradlew bootJar first${NC}"
+    exit 1
+fi
+if ! command -v hey > /dev/null; then
+    echo -e "${RED}hey is not installed - see https://github.com/rakyll/hey${NC}"
+    exit 1
+fi
+
+wait_for_startup() {
+    for _ in $(seq 1 60); do
+        if curl -s "http://localhost:${PORT}/actuator/health" | grep -q UP; then
+            return 0
+        fi
+        sleep 1
+    done
+    return 1
+}
+
+seed_bookings() {
+    # One booking per hour on a fixed day, so schedule reads return real rows
+    for hour in $(seq 8 19); do
+        curl -s -o /dev/null -X POST "$BASE_URL" \
+            -H "Content-Type: application/json" \
+            -d "{\"date\": \"2030-01-15\", \"start\": \"$(printf '%02d' $hour):00\", \"end\": \"$(printf '%02d' $hour):30\"}"
+    done
+}
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+    local jvm_args=$3
+
+    echo -e "${YELLOW}Starting application (${mode}, profiles: ${profiles})${NC}" >&2
+    java $jvm_args -jar "$JAR" --spring.profiles.active="$profiles" --server.port=$PORT \
+        --logging.level.com.tennis.court_booking=WARN --spring.jpa.show-sql=false \
+        > "benchmark-${mode}.log" 2>&1 &
+    local pid=$!
+
+    if ! wait_for_startup; then
+        echo -e "${RED}Application did not start - see benchmark-${mode}.log${NC}" >&2
+        kill $pid 2>/dev/null
+        return 1
+    fi
+
+    seed_bookings
+    # Warm-up so JIT compilation does not skew the measured run
+    hey -z 10s -c 50 "${BASE_URL}?date=2030-01-15" > /dev/null
+
+    local output
+    output=$(hey -z "$DURATION" -c "$CONCURRENCY" "${BASE_URL}?date=2030-01-15")
+    local rps
+    rps=$(echo "$output" | awk '/Requests\/sec/ {print $2}')
+    local p99
+    p99=$(echo "$output" | awk '/99% in/ {print $3 * 1000}')
+    local errors
+    errors=$(echo "$output" | awk '/Status code distribution/ {flag=1; next} flag && /\[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}')
+
+    kill $pid
+    wait $pid 2>/dev/null
+
+    echo "${mode} ${rps} ${p99} ${errors}"
+}
+
+echo "=========================================="
+echo "Platform vs Virtual Threads Benchmark"
+echo "Duration: ${DURATION}, concurrency: ${CONCURRENCY}"
+echo "=========================================="
+
+platform=$(run_mode platform "$BASE_PROFILES" "")
+virtual=$(run_mode virtual "${BASE_PROFILES},virtual-threads" "-Djdk.tracePinnedThreads=short")
+
+echo ""
+printf "%-10s %14s %12s %10s\n" "mode" "requests/sec" "p99 (ms)" "errors"
+for result in "$platform" "$virtual"; do
+    if [ -n "$result" ]; then
+        printf "%-10s %14s %12s %10s\n" $result
+    fi
+done
+echo ""
+echo -e "${GREEN}Pinned thread traces (if any) are in benchmark-virtual.log${NC}"
@@ -0,0 +1,135 @@
+package com.tennis.court_booking.benchmark;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.exception.BookingRejectedException;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the reservation hot path in the domain layer.
+ *
+ * Every invocation checks one requested slot against a day holding bookingsPerDay
+ * bookings, the way BookingApplicationService does after findByDate. Bookings fill the
+ * first half of equal steps across the opening hours; a hit requests the slot of a
+ * random existing booking (and is rejected after scanning up to it), a miss requests
+ * the free half of a random step (and scans the whole day). hitRatio sets the share of
+ * hits among the pre-built requests, which are visited round-robin.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes='DomainHotPathBenchmark'
+ * The gc profiler is enabled in build.gradle; gc.alloc.rate.norm is bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainHotPathBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 15);
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final LocalTime CLOSING = LocalTime.of(20, 0);
+    private static final int REQUESTS = 1024;
+
+    @Param({"1", "10", "100", "1000"})
+    public int bookingsPerDay;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private final OverlappingReservationsPolicy overlappingPolicy = new OverlappingReservationsPolicy();
+    private final BookingDomainService domainService = new BookingDomainService(
+            new OpeningHoursPolicy(OPENING, CLOSING), overlappingPolicy);
+
+    private List<Booking> existingBookings;
+    private TimeSlot[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long stepSeconds = (CLOSING.toSecondOfDay() - OPENING.toSecondOfDay()) / bookingsPerDay;
+        long halfStep = Math.max(1, stepSeconds / 2);
+
+        // ArrayList, like the lists returned by the repository adapter
+        existingBookings = new ArrayList<>(bookingsPerDay);
+        for (int i = 0; i < bookingsPerDay; i++) {
+            LocalTime start = OPENING.plusSeconds(i * stepSeconds);
+            existingBookings.add(new Booking((long) i + 1, new TimeSlot(DATE, start, start.plusSeconds(halfStep))));
+        }
+
+        int hits = (int) Math.round(hitRatio * REQUESTS);
+        List<TimeSlot> slots = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            LocalTime stepStart = OPENING.plusSeconds(random.nextInt(bookingsPerDay) * stepSeconds);
+            slots.add(i < hits
+                    ? new TimeSlot(DATE, stepStart, stepStart.plusSeconds(halfStep))
+                    : new TimeSlot(DATE, stepStart.plusSeconds(halfStep), stepStart.plusSeconds(stepSeconds)));
+        }
+        Collections.shuffle(slots, random);
+        requests = slots.toArray(TimeSlot[]::new);
+    }
+
+    private TimeSlot nextRequest() {
+        TimeSlot request = requests[next];
+        next = (next + 1) & (REQUESTS - 1);
+        return request;
+    }
+
+    /**
+     * The bare overlap test, run against every booking of the day without stopping at a hit.
+     */
+    @Benchmark
+    public int overlaps() {
+        TimeSlot request = nextRequest();
+        int overlapping = 0;
+        for (Booking booking : existingBookings) {
+            if (request.overlaps(booking.getTimeSlot())) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * The overlapping reservations policy, including the rejection thrown on a hit.
+     */
+    @Benchmark
+    public Object validate() {
+        TimeSlot request = nextRequest();
+        try {
+            overlappingPolicy.validate(request, existingBookings);
+            return request;
+        } catch (BookingRejectedException e) {
+            return e;
+        }
+    }
+
+    /**
+     * The full domain reservation: opening hours, overlap check and the new booking.
+     */
+    @Benchmark
+    public Object reserve() {
+        TimeSlot request = nextRequest();
+        try {
+            return domainService.reserve(request, existingBookings);
+        } catch (BookingRejectedException e) {
+            return e;
+        }
+    }
+}
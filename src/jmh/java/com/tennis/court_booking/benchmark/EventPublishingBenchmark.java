@@ -0,0 +1,143 @@
+package com.tennis.court_booking.benchmark;
+
+import com.tennis.court_booking.adapter.out.event.BatchFormat;
+import com.tennis.court_booking.adapter.out.event.BatchingBookingEventPublisherAdapter;
+import com.tennis.court_booking.adapter.out.event.BookingEventPublisherAdapter;
+import com.tennis.court_booking.adapter.out.event.EventPartitioningStrategy;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU and allocation per published booking event, per-event path against batched path.
+ *
+ * Every invocation publishes one BookingCreatedEvent. perEvent goes through
+ * BookingEventPublisherAdapter; batched goes through BatchingBookingEventPublisherAdapter
+ * with a window far longer than an iteration, so a send happens every batchSize events.
+ * The batch is sent on the adapter's batcher thread, so batched times what a caller pays
+ * (mapping, keying, buffering and the hand-over) while the send itself only shows up in
+ * the allocation profile. format selects BURST (one record
+ * per event, flushed once) or ENVELOPE (one record per date key); events cycle through
+ * datesPerBatch dates, so an envelope carries batchSize / datesPerBatch events.
+ *
+ * The broker is left out: the KafkaTemplate serializes every record value with the
+ * JsonSerializer the application uses and completes the send at once, so the numbers
+ * cover mapping, keying, buffering, serialization and callbacks.
+ * Logging is raised to WARN to keep console output out of the measurement. perEvent does
+ * not depend on the batching parameters; compare it with batched at the same settings.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes='EventPublishingBenchmark'
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventPublishingBenchmark {
+
+    private static final String TOPIC = "booking-created";
+    private static final String BATCH_TOPIC = "booking-created-batch";
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    @Param({"10", "100"})
+    public int batchSize;
+
+    @Param({"BURST", "ENVELOPE"})
+    public BatchFormat format;
+
+    @Param({"1", "10"})
+    public int datesPerBatch;
+
+    private BookingEventPublisherAdapter perEventPublisher;
+    private BatchingBookingEventPublisherAdapter batchingPublisher;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+        perEventPublisher = new BookingEventPublisherAdapter(
+                new SerializingKafkaTemplate<>(), TOPIC, EventPartitioningStrategy.DATE);
+        batchingPublisher = new BatchingBookingEventPublisherAdapter(
+                new SerializingKafkaTemplate<>(), TOPIC, BATCH_TOPIC, EventPartitioningStrategy.DATE,
+                format, batchSize, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchingPublisher.destroy();
+    }
+
+    /**
+     * One event through the per-event publisher: one record and one callback per event.
+     */
+    @Benchmark
+    public void perEvent() {
+        perEventPublisher.publish(nextEvent());
+    }
+
+    /**
+     * One event through the batching publisher: buffered, sent with its batch.
+     */
+    @Benchmark
+    public void batched() {
+        batchingPublisher.publish(nextEvent());
+    }
+
+    private BookingCreatedEvent nextEvent() {
+        long id = ++nextId;
+        int hour = 8 + (int) (id % 12);
+        return new BookingCreatedEvent(id, FIRST_DATE.plusDays(id % datesPerBatch),
+                LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+    }
+
+    /**
+     * KafkaTemplate that serializes record values and acknowledges them immediately.
+     * Its producer factory is never asked for a producer, so no broker is contacted.
+     */
+    private static final class SerializingKafkaTemplate<V> extends KafkaTemplate<String, V> {
+
+        private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+        private long offset;
+
+        SerializingKafkaTemplate() {
+            super(new DefaultKafkaProducerFactory<>(Map.<String, Object>of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")));
+            serializer.setAddTypeInfo(false);
+        }
+
+        @Override
+        public CompletableFuture<SendResult<String, V>> send(String topic, String key, V data) {
+            byte[] value = serializer.serialize(topic, data);
+            RecordMetadata metadata = new RecordMetadata(
+                    new TopicPartition(topic, 0), offset++, 0, 0L, key.length(), value.length);
+            return CompletableFuture.completedFuture(
+                    new SendResult<>(new ProducerRecord<>(topic, key, data), metadata));
+        }
+
+        @Override
+        public void flush() {
+            // Records are acknowledged on send
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.tennis.court_booking;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+/**
+ * The R2DBC transaction manager is excluded so the JPA one is the only transaction manager
+ * bean in both web stacks; the reactive stack creates its own (see R2dbcDayLockAdapter).
+ */
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class CourtBookingApplication {
 
 	public static void main(String[] args) {
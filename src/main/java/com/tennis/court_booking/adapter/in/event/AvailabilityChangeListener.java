@@ -0,0 +1,59 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.in.web.sse.AvailabilityStreamHub;
+import com.tennis.court_booking.adapter.out.event.dto.AvailabilityChangeKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.mapper.AvailabilityChangeMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka inbound adapter feeding the local availability streams from the availability
+ * changes topic, so subscribers of this instance see writes made on any instance and
+ * by either web stack.
+ *
+ * Every instance consumes in a group of its own, starting at the latest offset: a live
+ * stream only needs changes made after it subscribed, and its "subscribed" event tells the
+ * client which schedule version to re-read from.
+ *
+ * Enabled with booking.stream.fan-out.enabled=true, in the servlet stack that serves the
+ * streams.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "booking.stream.fan-out", name = "enabled", havingValue = "true")
+public class AvailabilityChangeListener {
+
+    private final AvailabilityStreamHub streamHub;
+
+    /**
+     * Creates a new availability change listener.
+     *
+     * @param streamHub the hub of the local availability streams
+     * @throws IllegalArgumentException if streamHub is null
+     */
+    public AvailabilityChangeListener(AvailabilityStreamHub streamHub) {
+        if (streamHub == null) {
+            throw new IllegalArgumentException("AvailabilityStreamHub cannot be null");
+        }
+        this.streamHub = streamHub;
+    }
+
+    /**
+     * Pushes a consumed change to the local subscribers of its date.
+     *
+     * @param kafkaEvent the consumed change
+     */
+    @KafkaListener(
+            id = "availability-stream-fan-out",
+            topics = "${kafka.topic.availability-changes:availability-changes}",
+            groupId = "court-booking-stream-${random.uuid}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "spring.json.value.default.type=com.tennis.court_booking.adapter.out.event.dto.AvailabilityChangeKafkaEvent"
+            })
+    public void onAvailabilityChange(AvailabilityChangeKafkaEvent kafkaEvent) {
+        streamHub.publish(AvailabilityChangeMapper.toChange(kafkaEvent));
+    }
+}
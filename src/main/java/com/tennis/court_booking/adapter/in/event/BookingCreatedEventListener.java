@@ -0,0 +1,133 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEventBatch;
+import com.tennis.court_booking.adapter.out.event.mapper.BookingEventMapper;
+import com.tennis.court_booking.application.port.in.AvailabilityProjectionUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Kafka inbound adapter that builds the availability read model from booking events.
+ *
+ * Responsibilities:
+ * 1. Consumes the booking-created topic with one consumer thread per partition
+ *    (and the batch envelope topic when batched publishing is enabled)
+ * 2. Converts Kafka DTOs back to domain events using BookingEventMapper
+ * 3. Applies events to the AvailabilityProjectionUseCase port
+ * 4. Replays assigned partitions from offset zero, since the view lives in memory
+ *    (or, with SNAPSHOT bootstrap, only a recent window on top of the snapshot topic)
+ *
+ * The consumer group defaults to a per-instance group so every instance sees every
+ * partition and holds a complete view. Set booking.read-model.group-id to share a group.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "booking.read-model", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookingCreatedEventListener extends AbstractConsumerSeekAware {
+
+    private final AvailabilityProjectionUseCase projectionUseCase;
+    private final ReadModelBootstrap bootstrap;
+    private final Duration snapshotOverlap;
+
+    /**
+     * Creates a new booking created event listener that replays from offset zero.
+     *
+     * @param projectionUseCase the read model projection to feed
+     * @throws IllegalArgumentException if projectionUseCase is null
+     */
+    public BookingCreatedEventListener(AvailabilityProjectionUseCase projectionUseCase) {
+        this(projectionUseCase, ReadModelBootstrap.REPLAY, 0L);
+    }
+
+    /**
+     * Creates a new booking created event listener.
+     *
+     * @param projectionUseCase the read model projection to feed
+     * @param bootstrap how the view is populated on partition assignment (injected from configuration)
+     * @param snapshotOverlapMillis how far back to replay events when bootstrapping from snapshots
+     * @throws IllegalArgumentException if projectionUseCase or bootstrap is null
+     */
+    @Autowired
+    public BookingCreatedEventListener(
+            AvailabilityProjectionUseCase projectionUseCase,
+            @Value("${booking.read-model.bootstrap:REPLAY}") ReadModelBootstrap bootstrap,
+            @Value("${booking.read-model.snapshot-overlap-ms:60000}") long snapshotOverlapMillis) {
+        if (projectionUseCase == null) {
+            throw new IllegalArgumentException("AvailabilityProjectionUseCase cannot be null");
+        }
+        if (bootstrap == null) {
+            throw new IllegalArgumentException("Read model bootstrap cannot be null");
+        }
+        this.projectionUseCase = projectionUseCase;
+        this.bootstrap = bootstrap;
+        this.snapshotOverlap = Duration.ofMillis(snapshotOverlapMillis);
+    }
+
+    /**
+     * Applies a consumed booking created event to the read model.
+     * Redelivered events are ignored by the projection, so the listener is safe under
+     * at-least-once delivery.
+     *
+     * @param kafkaEvent the consumed event
+     */
+    @KafkaListener(
+            id = "availability-read-model",
+            topics = "${kafka.topic.booking-created:booking-created}",
+            groupId = "${booking.read-model.group-id:court-booking-read-model-${random.uuid}}",
+            concurrency = "${booking.read-model.concurrency:3}")
+    public void onBookingCreated(BookingCreatedKafkaEvent kafkaEvent) {
+        boolean applied = projectionUseCase.apply(BookingEventMapper.toDomainEvent(kafkaEvent));
+        if (!applied) {
+            log.debug("Ignoring already applied booking created event for booking ID: {}", kafkaEvent.getBookingId());
+        }
+    }
+
+    /**
+     * Applies every event of a consumed batch envelope to the read model.
+     * Only started when batched publishing is enabled in ENVELOPE format.
+     *
+     * @param batch the consumed envelope
+     */
+    @KafkaListener(
+            id = "availability-read-model-batch",
+            topics = "${kafka.topic.booking-created-batch:booking-created-batch}",
+            groupId = "${booking.read-model.group-id:court-booking-read-model-${random.uuid}}",
+            concurrency = "${booking.read-model.concurrency:3}",
+            autoStartup = "#{'${kafka.publishing.batch.enabled:false}' == 'true' && '${kafka.publishing.batch.format:BURST}' == 'ENVELOPE'}",
+            properties = "spring.json.value.default.type=com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEventBatch")
+    public void onBookingCreatedBatch(BookingCreatedKafkaEventBatch batch) {
+        for (BookingCreatedKafkaEvent kafkaEvent : batch.getEvents()) {
+            onBookingCreated(kafkaEvent);
+        }
+    }
+
+    /**
+     * Positions every newly assigned partition for the configured bootstrap.
+     * REPLAY seeks to the beginning so the in-memory view is rebuilt from the full history.
+     * SNAPSHOT leaves the history to the snapshot listener and only replays the recent
+     * overlap window, covering changes whose snapshots were not yet written.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        if (bootstrap == ReadModelBootstrap.SNAPSHOT) {
+            long from = System.currentTimeMillis() - snapshotOverlap.toMillis();
+            log.info("Replaying the last {} ms of booking events for partitions: {}",
+                    snapshotOverlap.toMillis(), assignments.keySet());
+            callback.seekToTimestamp(assignments.keySet(), from);
+        } else {
+            log.info("Rebuilding availability read model from offset zero for partitions: {}", assignments.keySet());
+            callback.seekToBeginning(assignments.keySet());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.tennis.court_booking.adapter.in.event;
+
+/**
+ * How the availability read model is populated when the listener gets its partitions.
+ */
+public enum ReadModelBootstrap {
+
+    /**
+     * Replay the booking-created topic from offset zero.
+     */
+    REPLAY,
+
+    /**
+     * Load the latest day schedule snapshots from the compacted snapshot topic, and only
+     * replay a short recent window of booking-created to cover snapshots still in flight.
+     */
+    SNAPSHOT
+}
@@ -0,0 +1,86 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.mapper.ScheduleSnapshotMapper;
+import com.tennis.court_booking.application.port.in.AvailabilityProjectionUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Kafka inbound adapter that warms the availability read model from day schedule snapshots.
+ * Active when booking.read-model.bootstrap is SNAPSHOT.
+ *
+ * The compacted snapshot topic holds roughly one record per day, so reading it from the
+ * beginning is far cheaper than replaying every booking event ever emitted.
+ * Snapshots are applied by version, so a snapshot older than the one already applied for
+ * its date is ignored, and they may overlap with events from the live topic.
+ *
+ * The snapshots are written by the reservation path, so bootstrapping from them requires
+ * booking.snapshot.enabled; without it the topic would go stale and startup fails instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "booking.read-model", name = "bootstrap", havingValue = "SNAPSHOT")
+public class ScheduleSnapshotListener extends AbstractConsumerSeekAware {
+
+    private final AvailabilityProjectionUseCase projectionUseCase;
+
+    /**
+     * Creates a new schedule snapshot listener.
+     *
+     * @param projectionUseCase the read model projection to warm
+     * @param snapshotsEnabled whether this deployment publishes day schedule snapshots
+     * @throws IllegalArgumentException if projectionUseCase is null or snapshots are not enabled
+     */
+    public ScheduleSnapshotListener(
+            AvailabilityProjectionUseCase projectionUseCase,
+            @Value("${booking.snapshot.enabled:false}") boolean snapshotsEnabled) {
+        if (projectionUseCase == null) {
+            throw new IllegalArgumentException("AvailabilityProjectionUseCase cannot be null");
+        }
+        if (!snapshotsEnabled) {
+            throw new IllegalArgumentException(
+                    "booking.read-model.bootstrap=SNAPSHOT requires booking.snapshot.enabled=true");
+        }
+        this.projectionUseCase = projectionUseCase;
+    }
+
+    /**
+     * Applies a consumed day schedule snapshot to the read model.
+     * Tombstones (null values) are ignored.
+     *
+     * @param snapshot the consumed snapshot
+     */
+    @KafkaListener(
+            id = "availability-read-model-snapshots",
+            topics = "${kafka.topic.schedule-snapshots:booking-schedule-snapshots}",
+            groupId = "${booking.read-model.group-id:court-booking-read-model-${random.uuid}}-snapshots",
+            properties = "spring.json.value.default.type=com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent")
+    public void onSnapshot(@Payload(required = false) DayScheduleSnapshotKafkaEvent snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        int added = projectionUseCase.applySnapshot(
+                snapshot.getDate(), snapshot.getVersion(), ScheduleSnapshotMapper.toBookings(snapshot));
+        log.debug("Applied schedule snapshot for date: {} version: {} ({} new bookings)",
+                snapshot.getDate(), snapshot.getVersion(), added);
+    }
+
+    /**
+     * Reads the snapshot topic from the beginning on every assignment.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        log.info("Loading schedule snapshots for partitions: {}", assignments.keySet());
+        callback.seekToBeginning(assignments.keySet());
+    }
+}
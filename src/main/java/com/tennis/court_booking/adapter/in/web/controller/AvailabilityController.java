@@ -0,0 +1,68 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.dto.DayAvailabilityResponse;
+import com.tennis.court_booking.adapter.in.web.dto.TimeWindowResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.port.in.TimeWindow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for court availability queries.
+ * Serves the read side of the application, backed by the availability read model.
+ */
+@RestController
+@RequestMapping("/api/bookings/availability")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AvailabilityController {
+
+    private final AvailabilityUseCase availabilityUseCase;
+
+    /**
+     * Creates a new availability controller.
+     *
+     * @param availabilityUseCase the use case for availability queries
+     * @throws IllegalArgumentException if availabilityUseCase is null
+     */
+    public AvailabilityController(AvailabilityUseCase availabilityUseCase) {
+        if (availabilityUseCase == null) {
+            throw new IllegalArgumentException("AvailabilityUseCase cannot be null");
+        }
+        this.availabilityUseCase = availabilityUseCase;
+    }
+
+    /**
+     * Returns the free and occupied windows for a single day.
+     *
+     * @param date the day to query (ISO format, e.g. 2025-12-01)
+     * @return ResponseEntity with the day's availability and HTTP 200 status
+     */
+    @GetMapping
+    public ResponseEntity<DayAvailabilityResponse> getAvailability(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        AvailabilityResponse response = availabilityUseCase.getAvailability(date);
+
+        DayAvailabilityResponse restResponse = new DayAvailabilityResponse(
+                response.getDate(),
+                toWindowResponses(response.getFreeWindows()),
+                toWindowResponses(response.getOccupiedWindows())
+        );
+
+        return ResponseEntity.ok(restResponse);
+    }
+
+    private static List<TimeWindowResponse> toWindowResponses(List<TimeWindow> windows) {
+        return windows.stream()
+                .map(window -> new TimeWindowResponse(window.getStart(), window.getEnd()))
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.sse.AvailabilityStreamHub;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller streaming live availability changes as Server-Sent Events.
+ *
+ * Clients read the day's schedule once (GET /api/bookings?date=, which returns its version
+ * as ETag) and then follow this stream instead of polling.
+ */
+@RestController
+@RequestMapping("/api/bookings/stream")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AvailabilityStreamController {
+
+    private final AvailabilityStreamHub streamHub;
+    private final ScheduleUseCase scheduleUseCase;
+
+    /**
+     * Creates a new availability stream controller.
+     *
+     * @param streamHub the hub fanning changes out to subscribers
+     * @param scheduleUseCase the use case providing schedule versions
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public AvailabilityStreamController(AvailabilityStreamHub streamHub, ScheduleUseCase scheduleUseCase) {
+        if (streamHub == null) {
+            throw new IllegalArgumentException("AvailabilityStreamHub cannot be null");
+        }
+        if (scheduleUseCase == null) {
+            throw new IllegalArgumentException("ScheduleUseCase cannot be null");
+        }
+        this.streamHub = streamHub;
+        this.scheduleUseCase = scheduleUseCase;
+    }
+
+    /**
+     * Subscribes to booked and freed slots of a single day.
+     *
+     * Events: "subscribed" (data: the day's schedule version), then "booked" and "freed"
+     * (data: booking ID, date, start and end time; id: the version after the change).
+     *
+     * @param date the day to follow (ISO format, e.g. 2025-12-01)
+     * @return the event stream, or HTTP 503 when the maximum number of subscribers is reached
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        SseEmitter emitter = streamHub.subscribe(date, () -> scheduleUseCase.getScheduleVersion(date));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Tells nginx-style proxies not to buffer the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
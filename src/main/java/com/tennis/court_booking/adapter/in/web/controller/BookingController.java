@@ -1,16 +1,34 @@
 package com.tennis.court_booking.adapter.in.web.controller;
 
+import com.tennis.court_booking.adapter.in.web.dto.BookingPageResponse;
+import com.tennis.court_booking.adapter.in.web.dto.DayScheduleResponse;
 import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingRequest;
 import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingResponse;
+import com.tennis.court_booking.application.port.in.BookingListQuery;
+import com.tennis.court_booking.application.port.in.BookingListingUseCase;
+import com.tennis.court_booking.application.port.in.BookingPage;
 import com.tennis.court_booking.application.port.in.BookingResponse;
 import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.IdempotentBookingUseCase;
 import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
 
 /**
  * REST controller for managing court bookings.
@@ -19,31 +37,65 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 @RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingController {
 
+    /**
+     * Request header carrying the client-chosen key that makes a reservation safe to retry.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final BookingUseCase bookingUseCase;
+    private final IdempotentBookingUseCase idempotentBookingUseCase;
+    private final ScheduleUseCase scheduleUseCase;
+    private final BookingListingUseCase listingUseCase;
 
     /**
      * Creates a new booking controller.
      *
      * @param bookingUseCase the use case for booking operations
-     * @throws IllegalArgumentException if bookingUseCase is null
+     * @param idempotentBookingUseCase the use case for reservations sent with an Idempotency-Key
+     * @param scheduleUseCase the use case for day schedule queries
+     * @param listingUseCase the use case for paged booking listings
+     * @throws IllegalArgumentException if any parameter is null
      */
-    public BookingController(BookingUseCase bookingUseCase) {
+    public BookingController(
+            BookingUseCase bookingUseCase,
+            IdempotentBookingUseCase idempotentBookingUseCase,
+            ScheduleUseCase scheduleUseCase,
+            BookingListingUseCase listingUseCase) {
         if (bookingUseCase == null) {
             throw new IllegalArgumentException("BookingUseCase cannot be null");
         }
+        if (idempotentBookingUseCase == null) {
+            throw new IllegalArgumentException("IdempotentBookingUseCase cannot be null");
+        }
+        if (scheduleUseCase == null) {
+            throw new IllegalArgumentException("ScheduleUseCase cannot be null");
+        }
+        if (listingUseCase == null) {
+            throw new IllegalArgumentException("BookingListingUseCase cannot be null");
+        }
         this.bookingUseCase = bookingUseCase;
+        this.idempotentBookingUseCase = idempotentBookingUseCase;
+        this.scheduleUseCase = scheduleUseCase;
+        this.listingUseCase = listingUseCase;
     }
 
     /**
      * Creates a new court booking reservation.
      *
+     * With an Idempotency-Key header, retries of the request replay the first outcome
+     * (the same booking, or the same rejection) instead of reserving again.
+     *
      * @param request the booking request containing date and time details
+     * @param idempotencyKey the optional client-chosen idempotency key
      * @return ResponseEntity with the created booking details and HTTP 201 status
      */
     @PostMapping
-    public ResponseEntity<ReserveBookingResponse> reserveBooking(@RequestBody ReserveBookingRequest request) {
+    public ResponseEntity<ReserveBookingResponse> reserveBooking(
+            @RequestBody ReserveBookingRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         // Map REST request DTO to application command DTO
         ReserveCommand command = new ReserveCommand(
                 request.getDate(),
@@ -52,7 +104,9 @@ public class BookingController {
         );
 
         // Execute the use case
-        BookingResponse response = bookingUseCase.reserve(command);
+        BookingResponse response = idempotencyKey == null
+                ? bookingUseCase.reserve(command)
+                : idempotentBookingUseCase.reserve(idempotencyKey, command);
 
         // Map application response DTO to REST response DTO
         ReserveBookingResponse restResponse = new ReserveBookingResponse(
@@ -64,4 +118,81 @@ public class BookingController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(restResponse);
     }
+
+    /**
+     * Returns every booking of a single day.
+     *
+     * The response carries the day's schedule version as a strong ETag. A request whose
+     * If-None-Match still matches the current version is answered with 304 Not Modified
+     * before the repository is queried or anything is serialized.
+     *
+     * @param date the day to query (ISO format, e.g. 2025-12-01)
+     * @param webRequest the current request, used for the conditional check
+     * @return ResponseEntity with the day's bookings and HTTP 200 status, or null once 304 has been set
+     */
+    @GetMapping(params = "date")
+    public ResponseEntity<DayScheduleResponse> getSchedule(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(scheduleUseCase.getScheduleVersion(date))) {
+            return null;
+        }
+
+        ScheduleResponse response = scheduleUseCase.getSchedule(date);
+
+        DayScheduleResponse restResponse = new DayScheduleResponse(
+                response.getDate(),
+                response.getBookings().stream()
+                        .map(booking -> new ReserveBookingResponse(
+                                booking.getId(),
+                                booking.getDate(),
+                                booking.getStartTime(),
+                                booking.getEndTime()))
+                        .toList()
+        );
+
+        return ResponseEntity.ok()
+                .eTag(response.getVersion())
+                .cacheControl(CacheControl.noCache())
+                .body(restResponse);
+    }
+
+    /**
+     * Returns one page of bookings between two dates, ordered by date, start time and ID.
+     *
+     * Pass the nextCursor of a page as cursor to get the following one; it is absent on
+     * the last page. Requests with a date parameter are served by getSchedule instead.
+     *
+     * @param from the first date of the range (ISO format, e.g. 2025-12-01)
+     * @param to the last date of the range (ISO format, e.g. 2025-12-31)
+     * @param fromTime only bookings ending after this time of day (optional, e.g. 10:00)
+     * @param toTime only bookings starting before this time of day (optional, e.g. 12:00)
+     * @param cursor the nextCursor of the previous page (optional)
+     * @param limit the maximum number of bookings on the page
+     * @return ResponseEntity with the page and HTTP 200 status
+     */
+    @GetMapping(params = "!date")
+    public ResponseEntity<BookingPageResponse> listBookings(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "fromTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime fromTime,
+            @RequestParam(value = "toTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime toTime,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        BookingPage page = listingUseCase.listBookings(
+                new BookingListQuery(from, to, fromTime, toTime, cursor, limit));
+
+        BookingPageResponse restResponse = new BookingPageResponse(
+                page.getBookings().stream()
+                        .map(booking -> new ReserveBookingResponse(
+                                booking.getId(),
+                                booking.getDate(),
+                                booking.getStartTime(),
+                                booking.getEndTime()))
+                        .toList(),
+                page.getNextCursor()
+        );
+
+        return ResponseEntity.ok(restResponse);
+    }
 }
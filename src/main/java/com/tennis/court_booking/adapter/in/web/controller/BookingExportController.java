@@ -0,0 +1,110 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingResponse;
+import com.tennis.court_booking.application.port.in.BookingExport;
+import com.tennis.court_booking.application.port.in.BookingExportUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+/**
+ * REST controller for bulk booking exports.
+ *
+ * Bookings are written as newline-delimited JSON (one booking per line) while they are
+ * read from the database, so memory stays flat for any range and the first line reaches
+ * the client long before the query completes.
+ */
+@RestController
+@RequestMapping("/api/bookings/export")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BookingExportController {
+
+    /**
+     * Number of lines written between explicit flushes to the client.
+     */
+    static final int FLUSH_EVERY = 500;
+
+    private final BookingExportUseCase exportUseCase;
+    private final ObjectWriter lineWriter;
+
+    /**
+     * Creates a new booking export controller.
+     *
+     * @param exportUseCase the use case for booking exports
+     * @param objectMapper the application's JSON mapper
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public BookingExportController(BookingExportUseCase exportUseCase, ObjectMapper objectMapper) {
+        if (exportUseCase == null) {
+            throw new IllegalArgumentException("BookingExportUseCase cannot be null");
+        }
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("ObjectMapper cannot be null");
+        }
+        this.exportUseCase = exportUseCase;
+        // Flushing is done in chunks below rather than after every line
+        this.lineWriter = objectMapper.writerFor(ReserveBookingResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Streams every booking between two dates (inclusive) as NDJSON.
+     * The range is validated before the response starts, so bad input still gets a 400.
+     *
+     * @param from the first date of the range (ISO format, e.g. 2025-12-01)
+     * @param to the last date of the range (ISO format, e.g. 2025-12-31)
+     * @return ResponseEntity streaming the bookings with HTTP 200 status
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        BookingExport export = exportUseCase.exportBookings(from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = lineWriter.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                try {
+                    export.writeTo(booking -> {
+                        try {
+                            lineWriter.writeValue(generator, new ReserveBookingResponse(
+                                    booking.getId(),
+                                    booking.getDate(),
+                                    booking.getStartTime(),
+                                    booking.getEndTime()));
+                            generator.writeRaw('\n');
+                            // Flush the first line at once so the client sees progress immediately
+                            if (++written[0] % FLUSH_EVERY == 1) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
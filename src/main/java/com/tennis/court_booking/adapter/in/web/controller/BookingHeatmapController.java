@@ -0,0 +1,63 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.dto.DayCapacityResponse;
+import com.tennis.court_booking.adapter.in.web.dto.MonthHeatmapResponse;
+import com.tennis.court_booking.application.port.in.HeatmapResponse;
+import com.tennis.court_booking.application.port.in.HeatmapUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * REST controller for the monthly capacity heat-map of the calendar view.
+ * The whole month is answered from per-day counters in one query.
+ */
+@RestController
+@RequestMapping("/api/bookings/heatmap")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BookingHeatmapController {
+
+    private final HeatmapUseCase heatmapUseCase;
+
+    /**
+     * Creates a new booking heat-map controller.
+     *
+     * @param heatmapUseCase the use case for monthly heat-maps
+     * @throws IllegalArgumentException if heatmapUseCase is null
+     */
+    public BookingHeatmapController(HeatmapUseCase heatmapUseCase) {
+        if (heatmapUseCase == null) {
+            throw new IllegalArgumentException("HeatmapUseCase cannot be null");
+        }
+        this.heatmapUseCase = heatmapUseCase;
+    }
+
+    /**
+     * Returns the booked minutes, booking count and free capacity percentage of every day of a month.
+     *
+     * @param month the month to describe (ISO format, e.g. 2025-12)
+     * @return ResponseEntity with the heat-map and HTTP 200 status
+     */
+    @GetMapping
+    public ResponseEntity<MonthHeatmapResponse> getHeatmap(@RequestParam("month") YearMonth month) {
+        HeatmapResponse response = heatmapUseCase.getHeatmap(month);
+
+        MonthHeatmapResponse restResponse = new MonthHeatmapResponse(
+                response.getMonth(),
+                response.getDays().stream()
+                        .map(day -> new DayCapacityResponse(
+                                day.getDate(),
+                                day.getOccupiedMinutes(),
+                                day.getBookingCount(),
+                                day.getFreePercent()))
+                        .toList()
+        );
+
+        return ResponseEntity.ok(restResponse);
+    }
+}
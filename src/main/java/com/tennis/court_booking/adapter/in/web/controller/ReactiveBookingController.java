@@ -0,0 +1,104 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.dto.DayScheduleResponse;
+import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingRequest;
+import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingResponse;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReactiveBookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * WebFlux REST controller for managing court bookings.
+ * The non-blocking counterpart of BookingController: same paths, payloads and status codes,
+ * but every handler returns a Mono and no request ever holds a thread while waiting
+ * for the database or Kafka.
+ *
+ * Only active in the reactive web stack (reactive profile).
+ */
+@RestController
+@RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingController {
+
+    private final ReactiveBookingUseCase bookingUseCase;
+
+    /**
+     * Creates a new reactive booking controller.
+     *
+     * @param bookingUseCase the reactive use case for booking operations
+     * @throws IllegalArgumentException if bookingUseCase is null
+     */
+    public ReactiveBookingController(ReactiveBookingUseCase bookingUseCase) {
+        if (bookingUseCase == null) {
+            throw new IllegalArgumentException("ReactiveBookingUseCase cannot be null");
+        }
+        this.bookingUseCase = bookingUseCase;
+    }
+
+    /**
+     * Creates a new court booking reservation.
+     *
+     * @param request the booking request containing date and time details
+     * @return Mono of ResponseEntity with the created booking details and HTTP 201 status
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ReserveBookingResponse>> reserveBooking(@RequestBody ReserveBookingRequest request) {
+        // Map REST request DTO to application command DTO
+        ReserveCommand command = new ReserveCommand(
+                request.getDate(),
+                request.getStart(),
+                request.getEnd()
+        );
+
+        return bookingUseCase.reserve(command)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(toRestResponse(response)));
+    }
+
+    /**
+     * Returns every booking of a single day, with the same ETag handling as BookingController.
+     *
+     * @param date the day to query (ISO format, e.g. 2025-12-01)
+     * @param exchange the current exchange, used for the conditional check
+     * @return Mono of ResponseEntity with the day's bookings, or empty once 304 has been set
+     */
+    @GetMapping(params = "date")
+    public Mono<ResponseEntity<DayScheduleResponse>> getSchedule(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServerWebExchange exchange) {
+        return bookingUseCase.getScheduleVersion(date)
+                .filter(version -> !exchange.checkNotModified(version))
+                .flatMap(version -> bookingUseCase.getSchedule(date))
+                .map(response -> ResponseEntity.ok()
+                        .eTag(response.getVersion())
+                        .cacheControl(CacheControl.noCache())
+                        .body(new DayScheduleResponse(
+                                response.getDate(),
+                                response.getBookings().stream()
+                                        .map(ReactiveBookingController::toRestResponse)
+                                        .toList())));
+    }
+
+    private static ReserveBookingResponse toRestResponse(BookingResponse response) {
+        return new ReserveBookingResponse(
+                response.getId(),
+                response.getDate(),
+                response.getStartTime(),
+                response.getEndTime()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * REST API DTO for a single availability change pushed on the availability stream.
+ */
+@Getter
+@AllArgsConstructor
+public class AvailabilityChangeResponse {
+    private final Long bookingId;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
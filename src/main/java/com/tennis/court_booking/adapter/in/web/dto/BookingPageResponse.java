@@ -0,0 +1,18 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * REST API response DTO holding one page of the booking listing.
+ * It is mapped from BookingPage returned by the application layer; nextCursor is
+ * null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingPageResponse {
+    private final List<ReserveBookingResponse> bookings;
+    private final String nextCursor;
+}
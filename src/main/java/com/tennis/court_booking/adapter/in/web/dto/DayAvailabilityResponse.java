@@ -0,0 +1,19 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST API response DTO describing the availability of the court on a single day.
+ * It is mapped from AvailabilityResponse returned by the application layer.
+ */
+@Getter
+@AllArgsConstructor
+public class DayAvailabilityResponse {
+    private final LocalDate date;
+    private final List<TimeWindowResponse> free;
+    private final List<TimeWindowResponse> occupied;
+}
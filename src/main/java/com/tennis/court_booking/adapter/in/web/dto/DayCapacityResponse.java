@@ -0,0 +1,18 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * REST API response DTO describing the capacity of one day of a heat-map.
+ */
+@Getter
+@AllArgsConstructor
+public class DayCapacityResponse {
+    private final LocalDate date;
+    private final long occupiedMinutes;
+    private final int bookingCount;
+    private final int freePercent;
+}
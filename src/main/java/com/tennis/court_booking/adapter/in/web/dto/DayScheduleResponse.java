@@ -0,0 +1,18 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST API response DTO listing the bookings of a single day.
+ * It is mapped from ScheduleResponse returned by the application layer.
+ */
+@Getter
+@AllArgsConstructor
+public class DayScheduleResponse {
+    private final LocalDate date;
+    private final List<ReserveBookingResponse> bookings;
+}
@@ -0,0 +1,18 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * REST API response DTO holding the capacity of every day of a month.
+ * It is mapped from HeatmapResponse returned by the application layer.
+ */
+@Getter
+@AllArgsConstructor
+public class MonthHeatmapResponse {
+    private final YearMonth month;
+    private final List<DayCapacityResponse> days;
+}
@@ -0,0 +1,16 @@
+package com.tennis.court_booking.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * REST API response DTO for a window of time within a day.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeWindowResponse {
+    private final LocalTime start;
+    private final LocalTime end;
+}
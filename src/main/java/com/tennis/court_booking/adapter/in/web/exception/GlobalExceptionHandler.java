@@ -1,9 +1,12 @@
 package com.tennis.court_booking.adapter.in.web.exception;
 
 import com.tennis.court_booking.adapter.in.web.dto.ErrorResponse;
+import com.tennis.court_booking.application.idempotency.IdempotencyClaimLostException;
+import com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException;
 import com.tennis.court_booking.domain.exception.BusinessException;
 import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
  * Translates domain exceptions into appropriate HTTP error responses.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     /**
@@ -62,6 +66,50 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles retries whose Idempotency-Key is still held by a request in progress.
+     * Mapped to HTTP 409 (Conflict) status; the client may retry with the same key.
+     *
+     * @param ex the in-progress exception
+     * @param request the HTTP request
+     * @return error response with 409 status
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgressException(
+            IdempotencyKeyInProgressException ex,
+            HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles reservations whose Idempotency-Key claim was taken over before they completed.
+     * Mapped to HTTP 409 (Conflict) status; a retry with the same key replays the stored outcome.
+     *
+     * @param ex the claim lost exception
+     * @param request the HTTP request
+     * @return error response with 409 status
+     */
+    @ExceptionHandler(IdempotencyClaimLostException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyClaimLostException(
+            IdempotencyClaimLostException ex,
+            HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles illegal argument exceptions (typically from null validations).
      * Illegal argument exceptions are mapped to HTTP 400 (Bad Request) status.
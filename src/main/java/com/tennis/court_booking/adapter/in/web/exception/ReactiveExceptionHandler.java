@@ -0,0 +1,65 @@
+package com.tennis.court_booking.adapter.in.web.exception;
+
+import com.tennis.court_booking.adapter.in.web.dto.ErrorResponse;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception handler for the WebFlux REST API.
+ * Produces the same ErrorResponse bodies and status codes as GlobalExceptionHandler.
+ *
+ * Only active in the reactive web stack (reactive profile).
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles domain rule violations and invalid input.
+     * These are mapped to HTTP 400 (Bad Request) status.
+     *
+     * @param ex the exception
+     * @param request the HTTP request
+     * @return error response with 400 status
+     */
+    @ExceptionHandler({
+            BusinessException.class,
+            InvalidTimeSlotException.class,
+            IllegalArgumentException.class
+    })
+    public ResponseEntity<ErrorResponse> handleBadRequest(RuntimeException ex, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles all other unexpected exceptions.
+     * Generic exceptions are mapped to HTTP 500 (Internal Server Error) status.
+     *
+     * @param ex the exception
+     * @param request the HTTP request
+     * @return error response with 500 status
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred: " + ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ErrorResponse> errorResponse(HttpStatus status, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getPath().value()
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
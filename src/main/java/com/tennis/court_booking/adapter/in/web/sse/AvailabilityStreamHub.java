@@ -0,0 +1,344 @@
+package com.tennis.court_booking.adapter.in.web.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.court_booking.adapter.in.web.dto.AvailabilityChangeResponse;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fans availability changes out to Server-Sent Events subscribers, per date.
+ *
+ * Idle subscriptions cost no thread: each is an async SseEmitter plus a small bounded
+ * queue. A change is serialized once and offered to the queue of every subscriber of its
+ * date, and a virtual thread drains a queue that has something in it, at most one drain
+ * per subscriber at a time. The publishing request thread never writes to a socket, and a
+ * client that stops reading only blocks its own drain, never the fan-out to the others.
+ *
+ * A subscriber whose queue is full, or whose current send has been blocked for longer than
+ * the send timeout, is too slow to keep up and is evicted; browsers reconnect on their own
+ * and resynchronize from the versioned schedule. A periodic heartbeat comment keeps idle
+ * connections open through proxies and reveals dead ones.
+ *
+ * Metrics:
+ * - availability.stream.subscribers: open subscriptions
+ * - availability.stream.evictions: subscribers dropped for falling behind
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AvailabilityStreamHub implements AvailabilityChangePublisher, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+
+    private final ConcurrentMap<LocalDate, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter evictions;
+
+    /**
+     * Creates a new availability stream hub.
+     *
+     * @param objectMapper the mapper serializing change payloads
+     * @param meterRegistry the registry receiving stream metrics
+     * @param queueCapacity the number of undelivered events after which a subscriber is evicted (injected from configuration)
+     * @param maxSubscribers the maximum number of open subscriptions (injected from configuration)
+     * @param heartbeatMillis the interval between heartbeat comments (injected from configuration)
+     * @param timeoutMillis how long a subscription stays open before the client has to reconnect (injected from configuration)
+     * @param sendTimeoutMillis how long a single send may block before its subscriber is evicted (injected from configuration)
+     * @throws IllegalArgumentException if any parameter is null or not positive
+     */
+    public AvailabilityStreamHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${booking.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${booking.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${booking.stream.heartbeat-ms:15000}") long heartbeatMillis,
+            @Value("${booking.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${booking.stream.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("ObjectMapper cannot be null");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        if (queueCapacity <= 0 || maxSubscribers <= 0 || heartbeatMillis <= 0 || timeoutMillis <= 0
+                || sendTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Stream settings must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("availability-stream-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("availability-stream-heartbeat-"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        this.heartbeat.scheduleAtFixedRate(
+                this::evictStalledSubscribers, sendTimeoutMillis, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("availability.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open availability stream subscriptions")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("availability.stream.evictions")
+                .description("Availability stream subscribers evicted for falling behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription to the changes of one day.
+     *
+     * The first event, named "subscribed", carries the day's schedule version at the time
+     * the subscription became active. A client whose schedule has a different version
+     * should re-read it; every later change is delivered as a "booked" or "freed" event.
+     *
+     * @param date the day to follow
+     * @param currentVersion supplies the day's schedule version
+     * @return the emitter to return from the request handler, or null if the hub is full
+     * @throws RuntimeException whatever currentVersion throws; the subscription is then withdrawn
+     */
+    public SseEmitter subscribe(LocalDate date, Supplier<String> currentVersion) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (currentVersion == null) {
+            throw new IllegalArgumentException("Version supplier cannot be null");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        Subscriber subscriber = new Subscriber(date, createEmitter(timeoutMillis), new ArrayBlockingQueue<>(queueCapacity));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(ex -> remove(subscriber));
+        subscribers.compute(date, (key, daySubscribers) -> {
+            Set<Subscriber> updated = daySubscribers == null ? ConcurrentHashMap.newKeySet() : daySubscribers;
+            updated.add(subscriber);
+            return updated;
+        });
+
+        // Sampled after registering, so no change is both missed and covered by an older version
+        String version;
+        try {
+            version = currentVersion.get();
+        } catch (RuntimeException ex) {
+            remove(subscriber);
+            throw ex;
+        }
+        offer(subscriber, SseEmitter.event().name("subscribed").id(version).data(version).build());
+        return subscriber.emitter;
+    }
+
+    @Override
+    public boolean hasSubscribers(LocalDate date) {
+        Set<Subscriber> daySubscribers = subscribers.get(date);
+        return daySubscribers != null && !daySubscribers.isEmpty();
+    }
+
+    @Override
+    public void publish(AvailabilityChange change) {
+        Set<Subscriber> daySubscribers = subscribers.get(change.getDate());
+        if (daySubscribers == null || daySubscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> event = toEvent(change);
+        if (event == null) {
+            return;
+        }
+        for (Subscriber subscriber : daySubscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    /**
+     * @return the number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(daySubscribers -> daySubscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }));
+        senders.shutdown();
+    }
+
+    /**
+     * Creates the emitter of a new subscription. Overridable in tests.
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private Set<DataWithMediaType> toEvent(AvailabilityChange change) {
+        AvailabilityChangeResponse payload = new AvailabilityChangeResponse(
+                change.getBookingId(),
+                change.getDate(),
+                change.getStartTime(),
+                change.getEndTime());
+        try {
+            return SseEmitter.event()
+                    .name(change.getType() == AvailabilityChange.Type.BOOKED ? "booked" : "freed")
+                    .id(change.getVersion())
+                    .data(objectMapper.writeValueAsString(payload), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize availability change for booking ID: {}", change.getBookingId(), ex);
+            return null;
+        }
+    }
+
+    private void sendHeartbeats() {
+        Set<DataWithMediaType> comment = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(daySubscribers -> daySubscribers.forEach(subscriber -> offer(subscriber, comment)));
+    }
+
+    /**
+     * Evicts the subscribers whose send in progress has been blocked for longer than the
+     * send timeout, and interrupts that send.
+     */
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(daySubscribers -> daySubscribers.forEach(subscriber -> {
+            long sendStarted = subscriber.sendStartedNanos;
+            if (sendStarted != 0 && now - sendStarted > sendTimeoutNanos) {
+                Thread sender = subscriber.sender;
+                evict(subscriber);
+                if (sender != null) {
+                    sender.interrupt();
+                }
+            }
+        }));
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        subscriber.sender = Thread.currentThread();
+        try {
+            Set<DataWithMediaType> event;
+            while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedNanos = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedNanos = 0;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away, the emitter already completed or a stalled send was interrupted
+            log.debug("Dropping availability stream subscriber for {}: {}", subscriber.date, ex.getMessage());
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.sendStartedNanos = 0;
+            subscriber.sender = null;
+            subscriber.draining.set(false);
+        }
+        // An event offered while the drain was finishing would otherwise wait for the next one
+        if (!subscriber.closed.get() && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictions.increment();
+            log.debug("Evicting slow availability stream subscriber for {}", subscriber.date);
+            // Completing waits for a send in progress, so never do it on the publishing thread
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.date, (date, daySubscribers) -> {
+            daySubscribers.remove(subscriber);
+            return daySubscribers.isEmpty() ? null : daySubscribers;
+        });
+        subscriber.queue.clear();
+        return true;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One open subscription.
+     */
+    private static final class Subscriber {
+        private final LocalDate date;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendStartedNanos;
+        private volatile Thread sender;
+
+        private Subscriber(LocalDate date, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.date = date;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.mapper.AvailabilityChangeMapper;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka adapter implementation of the AvailabilityChangePublisher port.
+ * Relays every change to the availability changes topic, keyed by ISO date, from which
+ * AvailabilityChangeListener on every instance - including this one - pushes it to the
+ * local availability streams. Without it, a stream only sees the writes of its own instance.
+ *
+ * Sends are fire-and-forget: a lost change only delays a subscriber until it re-reads the
+ * versioned schedule, and the reservation path must not wait for the broker.
+ *
+ * Enabled with booking.stream.fan-out.enabled=true; it then replaces the local
+ * AvailabilityStreamHub as the publisher the write paths announce to.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "booking.stream.fan-out", name = "enabled", havingValue = "true")
+public class AvailabilityChangePublisherAdapter implements AvailabilityChangePublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String changesTopic;
+
+    /**
+     * Creates a new availability change publisher adapter.
+     *
+     * @param kafkaTemplate the Spring Kafka template for publishing messages
+     * @param changesTopic the topic relaying availability changes
+     * @throws IllegalArgumentException if kafkaTemplate or changesTopic is null
+     */
+    public AvailabilityChangePublisherAdapter(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${kafka.topic.availability-changes:availability-changes}") String changesTopic) {
+        if (kafkaTemplate == null) {
+            throw new IllegalArgumentException("KafkaTemplate cannot be null");
+        }
+        if (changesTopic == null || changesTopic.isBlank()) {
+            throw new IllegalArgumentException("Changes topic cannot be null or blank");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.changesTopic = changesTopic;
+        log.info("AvailabilityChangePublisherAdapter initialized with topic: {}", changesTopic);
+    }
+
+    @Override
+    public void publish(AvailabilityChange change) {
+        String key = change.getDate().toString();
+        kafkaTemplate.send(changesTopic, key, AvailabilityChangeMapper.toKafkaEvent(change))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to relay availability change of booking ID: {} on date: {}",
+                                change.getBookingId(), key, ex);
+                    }
+                });
+    }
+}
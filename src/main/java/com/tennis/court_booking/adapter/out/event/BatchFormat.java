@@ -0,0 +1,19 @@
+package com.tennis.court_booking.adapter.out.event;
+
+/**
+ * How the batching publisher writes a coalesced batch of booking events to Kafka.
+ */
+public enum BatchFormat {
+
+    /**
+     * One record per event on the regular topic, sent as a tight burst and flushed once.
+     * Consumers of the regular topic see the same records as with per-event publishing.
+     */
+    BURST,
+
+    /**
+     * One envelope record per message key, sent to the batch topic.
+     * Nothing is written to the regular topic; its consumers must move to the batch topic.
+     */
+    ENVELOPE
+}
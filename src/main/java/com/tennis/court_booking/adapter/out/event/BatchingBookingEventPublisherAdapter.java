@@ -0,0 +1,287 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEventBatch;
+import com.tennis.court_booking.adapter.out.event.mapper.BookingEventMapper;
+import com.tennis.court_booking.application.port.out.BookingEventPublisher;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Kafka adapter implementation of the BookingEventPublisher port that coalesces events.
+ * Enabled with kafka.publishing.batch.enabled=true, replacing BookingEventPublisherAdapter.
+ *
+ * Events are buffered until either the batch window elapses (measured from the first
+ * buffered event) or the buffer reaches the maximum batch size, then sent together:
+ * - BURST (default): one record per event on the regular topic, followed by a single flush
+ * - ENVELOPE: one BookingCreatedKafkaEventBatch record per message key on the batch topic
+ *
+ * BURST keeps the booking-created topic contract, so existing consumers are unaffected.
+ * ENVELOPE moves events to booking-created-batch: only consumers of that topic (such as
+ * BookingCreatedEventListener) still receive them, and nothing is written to booking-created.
+ *
+ * Batches are always sent from the batcher thread, also when a publish fills the buffer,
+ * so callers never wait for the producer. A record the producer refuses outright is logged
+ * with its batch and skipped, and the rest of the batch is still sent. Otherwise success and
+ * failure are logged once per batch rather than once per event. On shutdown, batches already
+ * handed to the batcher are sent and any buffered events are flushed.
+ *
+ * The buffer is guarded by a ReentrantLock rather than a monitor, so publishers running on
+ * virtual threads park instead of pinning their carrier while the lock is contended.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka.publishing.batch", name = "enabled", havingValue = "true")
+public class BatchingBookingEventPublisherAdapter implements BookingEventPublisher, DisposableBean {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String bookingCreatedTopic;
+    private final String bookingCreatedBatchTopic;
+    private final EventPartitioningStrategy partitioningStrategy;
+    private final BatchFormat batchFormat;
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<PendingEvent> buffer = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Creates a new batching Kafka event publisher adapter.
+     *
+     * @param kafkaTemplate the Spring Kafka template for publishing messages
+     * @param bookingCreatedTopic the topic for individual booking created events
+     * @param bookingCreatedBatchTopic the topic for batch envelopes
+     * @param partitioningStrategy the strategy choosing the message key
+     * @param batchFormat how a batch is written to Kafka
+     * @param maxBatchSize the number of buffered events that triggers an immediate flush
+     * @param windowMillis the longest time an event waits in the buffer
+     * @throws IllegalArgumentException if any parameter is null, blank or not positive
+     */
+    public BatchingBookingEventPublisherAdapter(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${kafka.topic.booking-created:booking-created}") String bookingCreatedTopic,
+            @Value("${kafka.topic.booking-created-batch:booking-created-batch}") String bookingCreatedBatchTopic,
+            @Value("${kafka.partitioning.strategy:BOOKING_ID}") EventPartitioningStrategy partitioningStrategy,
+            @Value("${kafka.publishing.batch.format:BURST}") BatchFormat batchFormat,
+            @Value("${kafka.publishing.batch.max-size:100}") int maxBatchSize,
+            @Value("${kafka.publishing.batch.window-ms:20}") long windowMillis) {
+        if (kafkaTemplate == null) {
+            throw new IllegalArgumentException("KafkaTemplate cannot be null");
+        }
+        if (bookingCreatedTopic == null || bookingCreatedTopic.isBlank()) {
+            throw new IllegalArgumentException("Booking created topic cannot be null or blank");
+        }
+        if (bookingCreatedBatchTopic == null || bookingCreatedBatchTopic.isBlank()) {
+            throw new IllegalArgumentException("Booking created batch topic cannot be null or blank");
+        }
+        if (partitioningStrategy == null) {
+            throw new IllegalArgumentException("Partitioning strategy cannot be null");
+        }
+        if (batchFormat == null) {
+            throw new IllegalArgumentException("Batch format cannot be null");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Batch window must be positive");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.bookingCreatedTopic = bookingCreatedTopic;
+        this.bookingCreatedBatchTopic = bookingCreatedBatchTopic;
+        this.partitioningStrategy = partitioningStrategy;
+        this.batchFormat = batchFormat;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "booking-event-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // On shutdown, drop the pending window timer but still send batches already handed over
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduler = executor;
+        log.info("BatchingBookingEventPublisherAdapter initialized with format: {}, max size: {}, window: {} ms",
+                batchFormat, maxBatchSize, windowMillis);
+    }
+
+    /**
+     * Buffers a booking created event for the next batch.
+     * When the event fills the batch, the batch is handed to the batcher thread to be sent.
+     *
+     * @param event the domain event to publish
+     * @throws IllegalArgumentException if event is null
+     */
+    @Override
+    public void publish(BookingCreatedEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+
+        PendingEvent pending = new PendingEvent(
+                partitioningStrategy.messageKey(event),
+                BookingEventMapper.toKafkaEvent(event));
+
+        List<PendingEvent> fullBatch = null;
+        lock.lock();
+        try {
+            buffer.add(pending);
+            if (buffer.size() >= maxBatchSize) {
+                fullBatch = drainLocked();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (fullBatch != null) {
+            sendInBackground(fullBatch);
+        }
+    }
+
+    /**
+     * Sends all currently buffered events.
+     */
+    public void flush() {
+        List<PendingEvent> batch;
+        lock.lock();
+        try {
+            batch = drainLocked();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Stops the window timer, waits for the batches handed to the batcher thread and sends
+     * any events still buffered.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Booking event batcher did not finish sending within {} ms", SHUTDOWN_TIMEOUT.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private List<PendingEvent> drainLocked() {
+        List<PendingEvent> batch = buffer;
+        buffer = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    /**
+     * Hands a full batch to the batcher thread, or sends it right away once that has shut down.
+     */
+    private void sendInBackground(List<PendingEvent> batch) {
+        try {
+            scheduler.execute(() -> send(batch));
+        } catch (RejectedExecutionException ex) {
+            send(batch);
+        }
+    }
+
+    private void send(List<PendingEvent> batch) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        String topic;
+        int refused = 0;
+
+        if (batchFormat == BatchFormat.ENVELOPE) {
+            topic = bookingCreatedBatchTopic;
+            Map<String, List<BookingCreatedKafkaEvent>> eventsByKey = new LinkedHashMap<>();
+            for (PendingEvent pending : batch) {
+                eventsByKey.computeIfAbsent(pending.key(), key -> new ArrayList<>()).add(pending.event());
+            }
+            for (Map.Entry<String, List<BookingCreatedKafkaEvent>> entry : eventsByKey.entrySet()) {
+                BookingCreatedKafkaEventBatch envelope = new BookingCreatedKafkaEventBatch(entry.getValue());
+                if (!trySend(futures, batch, topic, entry.getKey(), envelope, entry.getValue().get(0))) {
+                    refused++;
+                }
+            }
+        } else {
+            topic = bookingCreatedTopic;
+            for (PendingEvent pending : batch) {
+                if (!trySend(futures, batch, topic, pending.key(), pending.event(), pending.event())) {
+                    refused++;
+                }
+            }
+            try {
+                kafkaTemplate.flush();
+            } catch (RuntimeException ex) {
+                log.error("Failed to flush batch of {} booking created events (first booking ID: {}) to topic: {}",
+                        batch.size(), batch.get(0).event().getBookingId(), topic, ex);
+            }
+        }
+
+        int records = futures.size();
+        int refusedRecords = refused;
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, ex) -> {
+            if (ex == null && refusedRecords == 0) {
+                log.info("Successfully published batch of {} booking created events as {} records to topic: {}",
+                        batch.size(), records, topic);
+            } else if (ex == null) {
+                log.warn("Published {} records of batch of {} booking created events to topic: {}, {} records refused",
+                        records, batch.size(), topic, refusedRecords);
+            } else {
+                log.error("Failed to publish batch of {} booking created events (first booking ID: {}) to topic: {}",
+                        batch.size(), batch.get(0).event().getBookingId(), topic, ex);
+            }
+        });
+    }
+
+    /**
+     * Sends one record of a batch. A record the producer refuses synchronously is logged
+     * with the batch it belongs to, so the remaining records are still sent.
+     *
+     * @return true if the record was handed to the producer
+     */
+    private boolean trySend(List<CompletableFuture<?>> futures, List<PendingEvent> batch, String topic,
+                            String key, Object value, BookingCreatedKafkaEvent firstEvent) {
+        try {
+            futures.add(kafkaTemplate.send(topic, key, value));
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Failed to send record with key: {} (booking ID: {}) of batch of {} booking created events "
+                            + "to topic: {}", key, firstEvent.getBookingId(), batch.size(), topic, ex);
+            return false;
+        }
+    }
+
+    private record PendingEvent(String key, BookingCreatedKafkaEvent event) {
+    }
+}
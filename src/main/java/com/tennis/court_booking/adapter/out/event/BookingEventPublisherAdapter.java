@@ -5,7 +5,9 @@ import com.tennis.court_booking.adapter.out.event.mapper.BookingEventMapper;
 import com.tennis.court_booking.application.port.out.BookingEventPublisher;
 import com.tennis.court_booking.domain.event.BookingCreatedEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -26,42 +28,69 @@ import java.util.concurrent.CompletableFuture;
  * Key design principles:
  * - Thin adapter with no business logic
  * - Delegates conversion to mapper
- * - Uses dependency injection for configuration (topic name)
+ * - Uses dependency injection for configuration (topic name, partitioning strategy)
  * - Async publishing with callback handling
  * - Comprehensive error logging for troubleshooting
+ * - A BookingPublishEvent flight recorder event per event, from send to acknowledgement
+ *
+ * This is the per-event path; it is replaced by BatchingBookingEventPublisherAdapter
+ * when kafka.publishing.batch.enabled is true.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "kafka.publishing.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class BookingEventPublisherAdapter implements BookingEventPublisher {
 
     private final KafkaTemplate<String, BookingCreatedKafkaEvent> kafkaTemplate;
     private final String bookingCreatedTopic;
+    private final EventPartitioningStrategy partitioningStrategy;
+
+    /**
+     * Creates a new Kafka event publisher adapter that keys messages by booking ID.
+     *
+     * @param kafkaTemplate the Spring Kafka template for publishing messages
+     * @param bookingCreatedTopic the topic name for booking created events
+     * @throws IllegalArgumentException if kafkaTemplate or bookingCreatedTopic is null
+     */
+    public BookingEventPublisherAdapter(
+            KafkaTemplate<String, BookingCreatedKafkaEvent> kafkaTemplate,
+            String bookingCreatedTopic) {
+        this(kafkaTemplate, bookingCreatedTopic, EventPartitioningStrategy.BOOKING_ID);
+    }
 
     /**
      * Creates a new Kafka event publisher adapter.
      *
      * @param kafkaTemplate the Spring Kafka template for publishing messages
      * @param bookingCreatedTopic the topic name for booking created events (injected from configuration)
-     * @throws IllegalArgumentException if kafkaTemplate or bookingCreatedTopic is null
+     * @param partitioningStrategy the strategy choosing the message key (injected from configuration)
+     * @throws IllegalArgumentException if any parameter is null
      */
+    @Autowired
     public BookingEventPublisherAdapter(
             KafkaTemplate<String, BookingCreatedKafkaEvent> kafkaTemplate,
-            @Value("${kafka.topic.booking-created:booking-created}") String bookingCreatedTopic) {
+            @Value("${kafka.topic.booking-created:booking-created}") String bookingCreatedTopic,
+            @Value("${kafka.partitioning.strategy:BOOKING_ID}") EventPartitioningStrategy partitioningStrategy) {
         if (kafkaTemplate == null) {
             throw new IllegalArgumentException("KafkaTemplate cannot be null");
         }
         if (bookingCreatedTopic == null || bookingCreatedTopic.isBlank()) {
             throw new IllegalArgumentException("Booking created topic cannot be null or blank");
         }
+        if (partitioningStrategy == null) {
+            throw new IllegalArgumentException("Partitioning strategy cannot be null");
+        }
         this.kafkaTemplate = kafkaTemplate;
         this.bookingCreatedTopic = bookingCreatedTopic;
-        log.info("BookingEventPublisherAdapter initialized with topic: {}", bookingCreatedTopic);
+        this.partitioningStrategy = partitioningStrategy;
+        log.info("BookingEventPublisherAdapter initialized with topic: {} and partitioning strategy: {}",
+                bookingCreatedTopic, partitioningStrategy);
     }
 
     /**
      * Publishes a booking created event to Kafka.
      * The event is converted to a Kafka-specific DTO and sent to the configured topic.
-     * Uses the booking ID as the message key for partitioning.
+     * The message key is chosen by the configured partitioning strategy.
      *
      * Publishing is asynchronous. Success and failure are logged but not propagated
      * to maintain loose coupling with event consumers.
@@ -80,22 +109,33 @@ public class BookingEventPublisherAdapter implements BookingEventPublisher {
         // Convert domain event to Kafka-specific DTO
         BookingCreatedKafkaEvent kafkaEvent = BookingEventMapper.toKafkaEvent(event);
 
-        // Use booking ID as message key for consistent partitioning
-        String messageKey = event.getBookingId().toString();
+        // Message key decides the partition (by date or by booking ID)
+        String messageKey = partitioningStrategy.messageKey(event);
 
-        // Send to Kafka asynchronously
-        CompletableFuture<SendResult<String, BookingCreatedKafkaEvent>> future =
-                kafkaTemplate.send(bookingCreatedTopic, messageKey, kafkaEvent);
+        // Send to Kafka asynchronously; the flight recorder event lasts until the broker answers
+        BookingPublishEvent publishEvent = BookingPublishEvent.start(event.getBookingId(), event.getDate(), bookingCreatedTopic);
+        long sendStart = System.nanoTime();
+        CompletableFuture<SendResult<String, BookingCreatedKafkaEvent>> future;
+        try {
+            future = kafkaTemplate.send(bookingCreatedTopic, messageKey, kafkaEvent);
+        } catch (RuntimeException e) {
+            publishEvent.recordSendDuration(System.nanoTime() - sendStart);
+            publishEvent.complete(-1, -1, false);
+            throw e;
+        }
+        publishEvent.recordSendDuration(System.nanoTime() - sendStart);
 
         // Handle success and failure callbacks
         future.whenComplete((result, ex) -> {
             if (ex == null) {
+                publishEvent.complete(result.getRecordMetadata().partition(), result.getRecordMetadata().offset(), true);
                 log.info("Successfully published booking created event for booking ID: {} to topic: {} partition: {} offset: {}",
                         event.getBookingId(),
                         bookingCreatedTopic,
                         result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset());
             } else {
+                publishEvent.complete(-1, -1, false);
                 log.error("Failed to publish booking created event for booking ID: {} to topic: {}",
                         event.getBookingId(),
                         bookingCreatedTopic,
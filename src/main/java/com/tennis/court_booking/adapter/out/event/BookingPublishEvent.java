@@ -0,0 +1,96 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.time.LocalDate;
+
+/**
+ * Flight recorder event covering one booking created event, from the send call to the
+ * broker's acknowledgement.
+ *
+ * The event is committed on the producer thread that completes the send, so the request
+ * thread is stored separately; the part spent blocked inside send() on that thread
+ * (waiting for metadata or buffer space) is the send duration.
+ */
+@Name(BookingPublishEvent.NAME)
+@Label("Booking Publish")
+@Category("Court Booking")
+@Description("One booking created event sent to Kafka and acknowledged or failed")
+@StackTrace(false)
+class BookingPublishEvent extends Event {
+
+    static final String NAME = "com.tennis.court_booking.BookingPublish";
+
+    @Label("Booking ID")
+    private long bookingId;
+
+    @Label("Date")
+    private String date;
+
+    @Label("Topic")
+    private String topic;
+
+    @Label("Partition")
+    private int partition = -1;
+
+    @Label("Offset")
+    private long offset = -1;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Request Thread")
+    private Thread requestThread;
+
+    @Label("Send")
+    @Timespan
+    private long sendDuration;
+
+    private transient LocalDate day;
+
+    /**
+     * Creates and begins an event on the request thread.
+     *
+     * @param bookingId the booking the event is about
+     * @param day the booking's date
+     * @param topic the destination topic
+     * @return the started event
+     */
+    static BookingPublishEvent start(long bookingId, LocalDate day, String topic) {
+        BookingPublishEvent event = new BookingPublishEvent();
+        event.bookingId = bookingId;
+        event.day = day;
+        event.topic = topic;
+        event.requestThread = Thread.currentThread();
+        event.begin();
+        return event;
+    }
+
+    void recordSendDuration(long nanos) {
+        sendDuration = nanos;
+    }
+
+    /**
+     * Ends the event once the broker answered and commits it if a recording wants it.
+     *
+     * @param partition the partition written to, or -1 if the send failed
+     * @param offset the offset written at, or -1 if the send failed
+     * @param succeeded whether the broker acknowledged the event
+     */
+    void complete(int partition, long offset, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.partition = partition;
+            this.offset = offset;
+            this.succeeded = succeeded;
+            this.date = day == null ? null : day.toString();
+            commit();
+        }
+    }
+}
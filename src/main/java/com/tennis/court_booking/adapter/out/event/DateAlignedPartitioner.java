@@ -0,0 +1,69 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Kafka producer partitioner that aligns date-keyed records to partitions by day.
+ *
+ * Records keyed by an ISO date (yyyy-MM-dd) go to partition {@code epochDay mod partitions},
+ * so consecutive days are spread round-robin across partitions and every event of a day
+ * lands on the same partition. Hash partitioning would give the same per-day ordering but
+ * can pile several busy days onto one partition.
+ *
+ * Any other key falls back to the murmur2 hash used by Kafka's default partitioner,
+ * so booking-ID keyed records keep their usual placement.
+ *
+ * Registered through the producer property {@code partitioner.class}.
+ */
+public class DateAlignedPartitioner implements Partitioner {
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        int partitionCount = cluster.partitionsForTopic(topic).size();
+        if (partitionCount <= 1) {
+            return 0;
+        }
+        if (keyBytes == null) {
+            return ThreadLocalRandom.current().nextInt(partitionCount);
+        }
+
+        if (key instanceof String stringKey && stringKey.length() == ISO_DATE_LENGTH) {
+            try {
+                return partitionForDate(LocalDate.parse(stringKey), partitionCount);
+            } catch (DateTimeParseException ignored) {
+                // Not a date key - fall through to hash partitioning
+            }
+        }
+        return Utils.toPositive(Utils.murmur2(keyBytes)) % partitionCount;
+    }
+
+    /**
+     * Returns the partition that holds all events of the given date.
+     *
+     * @param date the booking date
+     * @param partitionCount the number of partitions of the topic
+     * @return the partition index
+     */
+    public static int partitionForDate(LocalDate date, int partitionCount) {
+        return (int) Math.floorMod(date.toEpochDay(), (long) partitionCount);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        // No configuration required
+    }
+
+    @Override
+    public void close() {
+        // No resources to release
+    }
+}
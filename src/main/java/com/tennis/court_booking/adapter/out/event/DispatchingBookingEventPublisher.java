@@ -0,0 +1,160 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.application.port.out.BookingEventPublisher;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decorator of the BookingEventPublisher port that moves publishing off the caller's thread.
+ *
+ * publish() only enqueues the event on a dedicated executor and returns, so a Kafka metadata
+ * fetch or a full producer buffer no longer adds to the latency of the reservation request.
+ * Each dispatched send is watched by a timeout; a send exceeding it is reported and no longer
+ * counted as in flight (the producer's max.block.ms bounds how long the thread stays blocked).
+ * If the executor rejects an event it is published on the caller's thread instead.
+ * On shutdown the queue is drained for up to the shutdown timeout.
+ *
+ * Metrics:
+ * - booking.events.dispatch.in_flight: events queued or being sent
+ * - booking.events.dispatch.lag: time from enqueue until a dispatch thread picks the event up
+ * - booking.events.dispatch.timeouts / failures: sends that timed out or threw
+ */
+@Slf4j
+public class DispatchingBookingEventPublisher implements BookingEventPublisher, DisposableBean {
+
+    private final BookingEventPublisher delegate;
+    private final ExecutorService executor;
+    private final Duration sendTimeout;
+    private final Duration shutdownTimeout;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer dispatchLag;
+    private final Counter timeouts;
+    private final Counter failures;
+
+    /**
+     * Creates a new dispatching publisher.
+     *
+     * @param delegate the publisher performing the actual send
+     * @param executor the dedicated executor running the sends
+     * @param sendTimeout the longest time a single send may take
+     * @param shutdownTimeout the longest time to wait for queued sends on shutdown
+     * @param meterRegistry the registry receiving dispatch metrics
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public DispatchingBookingEventPublisher(
+            BookingEventPublisher delegate,
+            ExecutorService executor,
+            Duration sendTimeout,
+            Duration shutdownTimeout,
+            MeterRegistry meterRegistry) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate publisher cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (sendTimeout == null) {
+            throw new IllegalArgumentException("Send timeout cannot be null");
+        }
+        if (shutdownTimeout == null) {
+            throw new IllegalArgumentException("Shutdown timeout cannot be null");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.sendTimeout = sendTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("booking.events.dispatch.in_flight", inFlight, AtomicInteger::get)
+                .description("Booking events queued or being sent")
+                .register(meterRegistry);
+        this.dispatchLag = Timer.builder("booking.events.dispatch.lag")
+                .description("Time from enqueue until a dispatch thread starts sending")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("booking.events.dispatch.timeouts")
+                .description("Dispatched sends that exceeded the send timeout")
+                .register(meterRegistry);
+        this.failures = Counter.builder("booking.events.dispatch.failures")
+                .description("Dispatched sends that failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enqueues the event for publishing on the dispatch executor.
+     *
+     * @param event the domain event to publish
+     * @throws IllegalArgumentException if event is null
+     */
+    @Override
+    public void publish(BookingCreatedEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+
+        long enqueuedAt = System.nanoTime();
+        inFlight.incrementAndGet();
+        CompletableFuture<Void> send;
+        try {
+            send = CompletableFuture.runAsync(() -> {
+                dispatchLag.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                delegate.publish(event);
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            inFlight.decrementAndGet();
+            log.warn("Event dispatch rejected, publishing booking ID: {} on the caller thread", event.getBookingId());
+            delegate.publish(event);
+            return;
+        }
+
+        send.orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, ex) -> {
+                    inFlight.decrementAndGet();
+                    if (ex instanceof TimeoutException) {
+                        timeouts.increment();
+                        log.error("Dispatch of booking created event for booking ID: {} timed out after {} ms",
+                                event.getBookingId(), sendTimeout.toMillis());
+                    } else if (ex != null) {
+                        failures.increment();
+                        log.error("Dispatch of booking created event for booking ID: {} failed",
+                                event.getBookingId(), ex);
+                    }
+                });
+    }
+
+    /**
+     * @return the number of events queued or being sent
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Stops accepting new events and waits for queued sends to complete.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            List<Runnable> dropped = executor.shutdownNow();
+            log.warn("Event dispatch did not drain within {} ms; {} queued events were dropped",
+                    shutdownTimeout.toMillis(), dropped.size());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+
+/**
+ * Strategy for choosing the Kafka message key of booking events, and with it the partition.
+ *
+ * DATE keys every event by its ISO booking date. Together with DateAlignedPartitioner this
+ * puts all events of one day on one partition, in order, so per-day consumers can keep
+ * their state locally without cross-partition coordination.
+ *
+ * BOOKING_ID keys events by booking ID, spreading a single day over all partitions.
+ */
+public enum EventPartitioningStrategy {
+
+    DATE {
+        @Override
+        public String messageKey(BookingCreatedEvent event) {
+            return event.getDate().toString();
+        }
+    },
+
+    BOOKING_ID {
+        @Override
+        public String messageKey(BookingCreatedEvent event) {
+            return event.getBookingId().toString();
+        }
+    };
+
+    /**
+     * Returns the Kafka message key for the given event.
+     *
+     * @param event the event being published
+     * @return the message key
+     */
+    public abstract String messageKey(BookingCreatedEvent event);
+}
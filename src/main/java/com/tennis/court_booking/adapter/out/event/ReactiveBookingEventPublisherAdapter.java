@@ -0,0 +1,79 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.mapper.BookingEventMapper;
+import com.tennis.court_booking.application.port.out.ReactiveBookingEventPublisher;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Kafka adapter implementation of the ReactiveBookingEventPublisher port.
+ *
+ * Wraps KafkaTemplate's send future in a Mono, so the reactive pipeline continues when the
+ * broker acknowledges the record without any thread waiting for it. Keys, topic and
+ * payload are identical to BookingEventPublisherAdapter, so consumers cannot tell the
+ * two stacks apart. Failures are logged and swallowed, like in the servlet adapter.
+ *
+ * Only active in the reactive web stack (reactive profile).
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingEventPublisherAdapter implements ReactiveBookingEventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String bookingCreatedTopic;
+    private final EventPartitioningStrategy partitioningStrategy;
+
+    /**
+     * Creates a new reactive Kafka event publisher adapter.
+     *
+     * @param kafkaTemplate the Spring Kafka template for publishing messages
+     * @param bookingCreatedTopic the topic name for booking created events (injected from configuration)
+     * @param partitioningStrategy the strategy choosing the message key (injected from configuration)
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public ReactiveBookingEventPublisherAdapter(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${kafka.topic.booking-created:booking-created}") String bookingCreatedTopic,
+            @Value("${kafka.partitioning.strategy:BOOKING_ID}") EventPartitioningStrategy partitioningStrategy) {
+        if (kafkaTemplate == null) {
+            throw new IllegalArgumentException("KafkaTemplate cannot be null");
+        }
+        if (bookingCreatedTopic == null || bookingCreatedTopic.isBlank()) {
+            throw new IllegalArgumentException("Booking created topic cannot be null or blank");
+        }
+        if (partitioningStrategy == null) {
+            throw new IllegalArgumentException("Partitioning strategy cannot be null");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.bookingCreatedTopic = bookingCreatedTopic;
+        this.partitioningStrategy = partitioningStrategy;
+    }
+
+    @Override
+    public Mono<Void> publish(BookingCreatedEvent event) {
+        if (event == null) {
+            return Mono.error(new IllegalArgumentException("Event cannot be null"));
+        }
+
+        return Mono.fromFuture(() -> kafkaTemplate.send(
+                        bookingCreatedTopic,
+                        partitioningStrategy.messageKey(event),
+                        BookingEventMapper.toKafkaEvent(event)))
+                .doOnNext(result -> log.info(
+                        "Successfully published booking created event for booking ID: {} to topic: {} partition: {} offset: {}",
+                        event.getBookingId(),
+                        bookingCreatedTopic,
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset()))
+                .doOnError(ex -> log.error("Failed to publish booking created event for booking ID: {} to topic: {}",
+                        event.getBookingId(), bookingCreatedTopic, ex))
+                .onErrorResume(ex -> Mono.empty())
+                .then();
+    }
+}
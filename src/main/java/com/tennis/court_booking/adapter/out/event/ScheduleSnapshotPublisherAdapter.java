@@ -0,0 +1,82 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.mapper.ScheduleSnapshotMapper;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.domain.entity.Booking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Kafka adapter implementation of the ScheduleSnapshotPublisher port.
+ * Publishes the full schedule of a day to a log-compacted topic keyed by ISO date,
+ * so the topic retains (at least) the latest snapshot of every day.
+ *
+ * Sends are asynchronous: publish is called after the change has committed, so it never
+ * waits for the broker and never throws. A failed send is logged; the next change of the
+ * day publishes a newer snapshot, and consumers order snapshots by their version.
+ *
+ * Enabled with booking.snapshot.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "booking.snapshot", name = "enabled", havingValue = "true")
+public class ScheduleSnapshotPublisherAdapter implements ScheduleSnapshotPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String snapshotTopic;
+
+    /**
+     * Creates a new schedule snapshot publisher adapter.
+     *
+     * @param kafkaTemplate the Spring Kafka template for publishing messages
+     * @param snapshotTopic the compacted topic for day schedule snapshots
+     * @throws IllegalArgumentException if kafkaTemplate or snapshotTopic is null
+     */
+    public ScheduleSnapshotPublisherAdapter(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${kafka.topic.schedule-snapshots:booking-schedule-snapshots}") String snapshotTopic) {
+        if (kafkaTemplate == null) {
+            throw new IllegalArgumentException("KafkaTemplate cannot be null");
+        }
+        if (snapshotTopic == null || snapshotTopic.isBlank()) {
+            throw new IllegalArgumentException("Snapshot topic cannot be null or blank");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.snapshotTopic = snapshotTopic;
+        log.info("ScheduleSnapshotPublisherAdapter initialized with topic: {}", snapshotTopic);
+    }
+
+    /**
+     * Publishes the day's schedule keyed by its ISO date without waiting for the acknowledgement.
+     *
+     * @param date the day of the schedule
+     * @param version the schedule version of the day at the commit
+     * @param bookings every booking of that day
+     */
+    @Override
+    public void publish(LocalDate date, long version, List<Booking> bookings) {
+        try {
+            DayScheduleSnapshotKafkaEvent snapshot = ScheduleSnapshotMapper.toKafkaSnapshot(date, version, bookings);
+            kafkaTemplate.send(snapshotTopic, date.toString(), snapshot)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            log.debug("Published schedule snapshot for date: {} version: {} with {} bookings",
+                                    date, version, bookings.size());
+                        } else {
+                            log.error("Failed to publish schedule snapshot for date: {} version: {} to topic: {}",
+                                    date, version, snapshotTopic, ex);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.error("Failed to publish schedule snapshot for date: {} version: {} to topic: {}",
+                    date, version, snapshotTopic, e);
+        }
+    }
+}
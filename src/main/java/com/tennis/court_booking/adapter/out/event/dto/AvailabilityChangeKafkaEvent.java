@@ -0,0 +1,41 @@
+package com.tennis.court_booking.adapter.out.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Kafka-specific DTO relaying one availability change (a booked or freed slot) between
+ * instances, so every instance can push it to its own live availability streams.
+ */
+@Getter
+@NoArgsConstructor  // Required for JSON deserialization
+@AllArgsConstructor
+public class AvailabilityChangeKafkaEvent {
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("booking_id")
+    private Long bookingId;
+
+    @JsonProperty("date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    @JsonProperty("start_time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime startTime;
+
+    @JsonProperty("end_time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime endTime;
+
+    @JsonProperty("version")
+    private String version;
+}
@@ -0,0 +1,22 @@
+package com.tennis.court_booking.adapter.out.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Kafka envelope carrying several booking created events in one record.
+ * Published by the batching publisher when it runs in ENVELOPE format; all events
+ * in one envelope share the same message key (and therefore partition).
+ */
+@Getter
+@NoArgsConstructor  // Required for JSON deserialization
+@AllArgsConstructor
+public class BookingCreatedKafkaEventBatch {
+
+    @JsonProperty("events")
+    private List<BookingCreatedKafkaEvent> events;
+}
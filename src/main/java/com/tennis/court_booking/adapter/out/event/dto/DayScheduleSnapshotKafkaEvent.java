@@ -0,0 +1,59 @@
+package com.tennis.court_booking.adapter.out.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Kafka-specific snapshot of one day's schedule, published to the log-compacted
+ * schedule snapshot topic keyed by date.
+ *
+ * The latest record per date carries the complete occupancy of that day, so consumers
+ * can bootstrap by reading one record per day instead of the whole booking event history.
+ * The version is the day's schedule version at the commit the snapshot describes, so a
+ * consumer can discard a snapshot that arrives after a newer one.
+ */
+@Getter
+@NoArgsConstructor  // Required for JSON deserialization
+@AllArgsConstructor
+public class DayScheduleSnapshotKafkaEvent {
+
+    @JsonProperty("date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("occupied_minutes")
+    private int occupiedMinutes;
+
+    @JsonProperty("bookings")
+    private List<Slot> bookings;
+
+    /**
+     * A single booked slot within the snapshot day.
+     */
+    @Getter
+    @NoArgsConstructor  // Required for JSON deserialization
+    @AllArgsConstructor
+    public static class Slot {
+
+        @JsonProperty("booking_id")
+        private Long bookingId;
+
+        @JsonProperty("start_time")
+        @JsonFormat(pattern = "HH:mm:ss")
+        private LocalTime startTime;
+
+        @JsonProperty("end_time")
+        @JsonFormat(pattern = "HH:mm:ss")
+        private LocalTime endTime;
+    }
+}
@@ -0,0 +1,64 @@
+package com.tennis.court_booking.adapter.out.event.mapper;
+
+import com.tennis.court_booking.adapter.out.event.dto.AvailabilityChangeKafkaEvent;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+
+/**
+ * Mapper for converting between availability changes and their Kafka DTOs.
+ *
+ * Following the same pattern as other mappers in the application:
+ * - Static utility class with private constructor
+ * - Input validation with null checks
+ * - Throws IllegalArgumentException for invalid inputs
+ */
+public class AvailabilityChangeMapper {
+
+    private AvailabilityChangeMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Converts an availability change to a Kafka DTO.
+     *
+     * @param change the change
+     * @return a Kafka DTO
+     * @throws IllegalArgumentException if change is null
+     */
+    public static AvailabilityChangeKafkaEvent toKafkaEvent(AvailabilityChange change) {
+        if (change == null) {
+            throw new IllegalArgumentException("Availability change cannot be null");
+        }
+
+        return new AvailabilityChangeKafkaEvent(
+                change.getType().name(),
+                change.getBookingId(),
+                change.getDate(),
+                change.getStartTime(),
+                change.getEndTime(),
+                change.getVersion());
+    }
+
+    /**
+     * Converts a consumed Kafka DTO back to an availability change.
+     *
+     * @param kafkaEvent the consumed DTO
+     * @return the availability change
+     * @throws IllegalArgumentException if kafkaEvent is null, has an unknown type or lacks a field
+     */
+    public static AvailabilityChange toChange(AvailabilityChangeKafkaEvent kafkaEvent) {
+        if (kafkaEvent == null) {
+            throw new IllegalArgumentException("Kafka event cannot be null");
+        }
+        if (kafkaEvent.getType() == null) {
+            throw new IllegalArgumentException("Change type cannot be null");
+        }
+
+        return new AvailabilityChange(
+                AvailabilityChange.Type.valueOf(kafkaEvent.getType()),
+                kafkaEvent.getBookingId(),
+                kafkaEvent.getDate(),
+                kafkaEvent.getStartTime(),
+                kafkaEvent.getEndTime(),
+                kafkaEvent.getVersion());
+    }
+}
@@ -4,7 +4,7 @@ import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
 import com.tennis.court_booking.domain.event.BookingCreatedEvent;
 
 /**
- * Mapper for converting domain events to Kafka-specific event DTOs.
+ * Mapper for converting between domain events and Kafka-specific event DTOs.
  * This mapper keeps the adapter layer separate from the domain layer,
  * allowing the Kafka message format to evolve independently of domain events.
  *
@@ -44,4 +44,25 @@ public class BookingEventMapper {
                 domainEvent.getEndTime()
         );
     }
+
+    /**
+     * Converts a consumed Kafka BookingCreatedKafkaEvent back to a domain BookingCreatedEvent.
+     * Used by inbound event adapters that build read models from the booking-created topic.
+     *
+     * @param kafkaEvent the Kafka event DTO to convert
+     * @return the domain event
+     * @throws IllegalArgumentException if kafkaEvent is null or any of its fields is missing
+     */
+    public static BookingCreatedEvent toDomainEvent(BookingCreatedKafkaEvent kafkaEvent) {
+        if (kafkaEvent == null) {
+            throw new IllegalArgumentException("Kafka event cannot be null");
+        }
+
+        return new BookingCreatedEvent(
+                kafkaEvent.getBookingId(),
+                kafkaEvent.getDate(),
+                kafkaEvent.getStartTime(),
+                kafkaEvent.getEndTime()
+        );
+    }
 }
@@ -0,0 +1,77 @@
+package com.tennis.court_booking.adapter.out.event.mapper;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper for converting between day schedules and Kafka snapshot DTOs.
+ *
+ * Following the same pattern as other mappers in the application:
+ * - Static utility class with private constructor
+ * - Input validation with null checks
+ * - Throws IllegalArgumentException for invalid inputs
+ */
+public class ScheduleSnapshotMapper {
+
+    private ScheduleSnapshotMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Converts a day's bookings to a Kafka snapshot DTO.
+     *
+     * @param date the day of the schedule
+     * @param version the schedule version of the day
+     * @param bookings the bookings of that day
+     * @return a Kafka snapshot DTO
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static DayScheduleSnapshotKafkaEvent toKafkaSnapshot(LocalDate date, long version, List<Booking> bookings) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (bookings == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+
+        int occupiedMinutes = 0;
+        List<DayScheduleSnapshotKafkaEvent.Slot> slots = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            TimeSlot timeSlot = booking.getTimeSlot();
+            slots.add(new DayScheduleSnapshotKafkaEvent.Slot(booking.getId(), timeSlot.getStart(), timeSlot.getEnd()));
+            occupiedMinutes += (int) Duration.between(timeSlot.getStart(), timeSlot.getEnd()).toMinutes();
+        }
+        return new DayScheduleSnapshotKafkaEvent(date, version, occupiedMinutes, slots);
+    }
+
+    /**
+     * Converts a consumed Kafka snapshot DTO back to the day's bookings.
+     *
+     * @param snapshot the consumed snapshot
+     * @return the bookings of the snapshot day
+     * @throws IllegalArgumentException if snapshot is null or has no date
+     */
+    public static List<Booking> toBookings(DayScheduleSnapshotKafkaEvent snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        if (snapshot.getDate() == null) {
+            throw new IllegalArgumentException("Snapshot date cannot be null");
+        }
+        if (snapshot.getBookings() == null) {
+            return List.of();
+        }
+
+        return snapshot.getBookings().stream()
+                .map(slot -> new Booking(
+                        slot.getBookingId(),
+                        new TimeSlot(snapshot.getDate(), slot.getStartTime(), slot.getEndTime())))
+                .toList();
+    }
+}
@@ -1,16 +1,26 @@
 package com.tennis.court_booking.adapter.out.persistence;
 
 import com.tennis.court_booking.adapter.out.persistence.entity.BookingJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
 import com.tennis.court_booking.adapter.out.persistence.mapper.BookingPersistenceMapper;
 import com.tennis.court_booking.adapter.out.persistence.repository.BookingJpaRepository;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.BookingKey;
 import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.BookingSearch;
 import com.tennis.court_booking.domain.entity.Booking;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementation of the BookingRepository port using JPA.
@@ -21,23 +31,31 @@ import java.util.stream.Collectors;
  * - Delegates persistence operations to Spring Data JPA repository
  * - Converts between domain entities and JPA entities using mapper
  * - Maintains separation between domain and persistence concerns
+ * - Keeps the per-day occupancy counters in step with every save and delete
+ * - Records findByDate, save and delete as RepositoryCallEvent flight recorder events
  */
 @Component
 public class BookingRepositoryAdapter implements BookingRepository {
 
     private final BookingJpaRepository jpaRepository;
+    private final DailyOccupancyJpaRepository occupancyRepository;
 
     /**
      * Constructor for dependency injection.
      *
      * @param jpaRepository the Spring Data JPA repository
-     * @throws IllegalArgumentException if jpaRepository is null
+     * @param occupancyRepository the repository of per-day occupancy counters
+     * @throws IllegalArgumentException if any parameter is null
      */
-    public BookingRepositoryAdapter(BookingJpaRepository jpaRepository) {
+    public BookingRepositoryAdapter(BookingJpaRepository jpaRepository, DailyOccupancyJpaRepository occupancyRepository) {
         if (jpaRepository == null) {
             throw new IllegalArgumentException("JPA repository cannot be null");
         }
+        if (occupancyRepository == null) {
+            throw new IllegalArgumentException("Occupancy repository cannot be null");
+        }
         this.jpaRepository = jpaRepository;
+        this.occupancyRepository = occupancyRepository;
     }
 
     @Override
@@ -46,20 +64,95 @@ public class BookingRepositoryAdapter implements BookingRepository {
             throw new IllegalArgumentException("Date cannot be null");
         }
 
-        return jpaRepository.findByDate(date).stream()
-                .map(BookingPersistenceMapper::toDomainEntity)
+        RepositoryCallEvent event = RepositoryCallEvent.start("findByDate", date);
+        try {
+            List<Booking> bookings = jpaRepository.findByDate(date).stream()
+                    .map(BookingPersistenceMapper::toDomainEntity)
+                    .collect(Collectors.toList());
+            event.recordRows(bookings.size());
+            return bookings;
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Streams the range inside a read-only transaction that lasts until the action has
+     * seen the last row; the JDBC cursor is closed on every exit path.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Booking> action) {
+        if (from == null) {
+            throw new IllegalArgumentException("From date cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To date cannot be null");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        try (Stream<BookingRow> rows = jpaRepository.streamByDateBetween(from, to)) {
+            rows.map(BookingPersistenceMapper::fromRow).forEach(action);
+        }
+    }
+
+    /**
+     * An open window side is replaced by the start or end of the day, and the first page
+     * continues after a key preceding every booking of the range, so one query serves
+     * every page.
+     */
+    @Override
+    public List<Booking> findPage(BookingSearch search, BookingKey after, int limit) {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        BookingKey start = after != null ? after : new BookingKey(search.getFrom(), LocalTime.MIN, 0L);
+        return jpaRepository.findPageAfter(
+                        search.getFrom(),
+                        search.getTo(),
+                        search.getWindowStart() != null ? search.getWindowStart() : LocalTime.MIN,
+                        search.getWindowEnd() != null ? search.getWindowEnd() : LocalTime.MAX,
+                        start.getDate(),
+                        start.getStartTime(),
+                        start.getId(),
+                        Limit.of(limit)).stream()
+                .map(BookingPersistenceMapper::fromRow)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Saves the booking and moves its minutes from the previous day's counters (for an
+     * update) to the saved day's, all in one transaction.
+     */
     @Override
+    @Transactional
     public Booking save(Booking booking) {
         if (booking == null) {
             throw new IllegalArgumentException("Booking cannot be null");
         }
 
-        BookingJpaEntity jpaEntity = BookingPersistenceMapper.toJpaEntity(booking);
-        BookingJpaEntity savedEntity = jpaRepository.save(jpaEntity);
-        return BookingPersistenceMapper.toDomainEntity(savedEntity);
+        RepositoryCallEvent event = RepositoryCallEvent.start("save", booking.getTimeSlot().getDate());
+        try {
+            Optional<BookingJpaEntity> previous = booking.getId() == null
+                    ? Optional.empty()
+                    : jpaRepository.findById(booking.getId()).map(this::detachedCopy);
+
+            BookingJpaEntity jpaEntity = BookingPersistenceMapper.toJpaEntity(booking);
+            BookingJpaEntity savedEntity = jpaRepository.save(jpaEntity);
+
+            previous.ifPresent(entity -> adjustOccupancy(entity, -1));
+            adjustOccupancy(savedEntity, 1);
+            event.recordRows(1);
+            return BookingPersistenceMapper.toDomainEntity(savedEntity, booking);
+        } finally {
+            event.complete();
+        }
     }
 
     @Override
@@ -73,11 +166,33 @@ public class BookingRepositoryAdapter implements BookingRepository {
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
         }
 
-        jpaRepository.deleteById(id);
+        RepositoryCallEvent event = RepositoryCallEvent.start("delete", null);
+        try {
+            Optional<BookingJpaEntity> existing = jpaRepository.findById(id).map(this::detachedCopy);
+            jpaRepository.deleteById(id);
+            existing.ifPresent(entity -> adjustOccupancy(entity, -1));
+            event.recordRows(existing.isPresent() ? 1 : 0);
+        } finally {
+            event.complete();
+        }
+    }
+
+    private void adjustOccupancy(BookingJpaEntity entity, int sign) {
+        long minutes = Duration.between(entity.getStartTime(), entity.getEndTime()).toMinutes();
+        occupancyRepository.addOccupancy(entity.getDate(), sign * minutes, sign);
+    }
+
+    /**
+     * Captures the stored values before a write, since the managed entity itself is
+     * updated in place by the merge.
+     */
+    private BookingJpaEntity detachedCopy(BookingJpaEntity entity) {
+        return new BookingJpaEntity(entity.getId(), entity.getDate(), entity.getStartTime(), entity.getEndTime());
     }
 }
@@ -0,0 +1,90 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.DayLock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Adapter implementation of the DayLock port using the day's daily_occupancy row.
+ *
+ * The work runs in a JPA transaction that first reads the day's row with a pessimistic
+ * write lock (SELECT ... FOR UPDATE). The database holds that lock until the transaction
+ * ends, so reservations of one day are serialized across every instance sharing the
+ * database, while different days never wait for each other. The booking save joins the
+ * same transaction and adjusts the same row, so the lock is released exactly when the
+ * booking becomes visible.
+ *
+ * A day without a row gets one first, in a transaction of its own; when two callers
+ * create it at once, the loser's duplicate key violation is ignored.
+ */
+@Component
+public class DayLockAdapter implements DayLock {
+
+    /**
+     * Marks a transaction that found no row to lock and did not run the work.
+     */
+    private static final Object NO_ROW = new Object();
+
+    private final DailyOccupancyJpaRepository occupancyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param occupancyRepository the repository of per-day occupancy rows
+     * @param transactionManager the JPA transaction manager
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public DayLockAdapter(DailyOccupancyJpaRepository occupancyRepository, PlatformTransactionManager transactionManager) {
+        if (occupancyRepository == null) {
+            throw new IllegalArgumentException("Occupancy repository cannot be null");
+        }
+        if (transactionManager == null) {
+            throw new IllegalArgumentException("Transaction manager cannot be null");
+        }
+        this.occupancyRepository = occupancyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T runLocked(LocalDate date, Supplier<T> work) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (work == null) {
+            throw new IllegalArgumentException("Work cannot be null");
+        }
+
+        Object result = lockAndRun(date, work);
+        if (result == NO_ROW) {
+            // First write of the day: create its row, then lock it like any other day
+            createRow(date);
+            result = lockAndRun(date, work);
+            if (result == NO_ROW) {
+                throw new IllegalStateException("No occupancy row to lock for date: " + date);
+            }
+        }
+        return (T) result;
+    }
+
+    private Object lockAndRun(LocalDate date, Supplier<?> work) {
+        return transactionTemplate.execute(status -> occupancyRepository.findForUpdate(date).isPresent()
+                ? work.get()
+                : NO_ROW);
+    }
+
+    private void createRow(LocalDate date) {
+        try {
+            occupancyRepository.insertIfAbsent(date);
+        } catch (DataIntegrityViolationException e) {
+            // Another caller created the row first
+        }
+    }
+}
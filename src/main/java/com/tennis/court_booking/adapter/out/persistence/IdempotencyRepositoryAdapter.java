@@ -0,0 +1,119 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.mapper.IdempotencyPersistenceMapper;
+import com.tennis.court_booking.adapter.out.persistence.repository.IdempotencyRecordJpaRepository;
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.out.IdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of the IdempotencyRepository port using JPA.
+ *
+ * Claims rely on the primary key of the idempotency_keys table: of several instances
+ * inserting a pending record for the same key, only one insert succeeds. An expired record,
+ * such as the claim of an instance that died mid-reservation, is taken over by a single
+ * conditional update instead. Completing and releasing only touch the record while it
+ * still holds the claim token of the request doing so.
+ */
+@Slf4j
+@Component
+public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    private final IdempotencyRecordJpaRepository jpaRepository;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param jpaRepository the Spring Data JPA repository
+     * @throws IllegalArgumentException if jpaRepository is null
+     */
+    public IdempotencyRepositoryAdapter(IdempotencyRecordJpaRepository jpaRepository) {
+        if (jpaRepository == null) {
+            throw new IllegalArgumentException("JPA repository cannot be null");
+        }
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<IdempotentReservation> findByKey(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Idempotency key cannot be null");
+        }
+
+        return jpaRepository.findById(key)
+                .map(IdempotencyPersistenceMapper::toReservation);
+    }
+
+    @Override
+    public boolean claim(IdempotentReservation pending, Instant now) {
+        if (pending == null) {
+            throw new IllegalArgumentException("Pending reservation cannot be null");
+        }
+        if (now == null) {
+            throw new IllegalArgumentException("Current time cannot be null");
+        }
+
+        if (jpaRepository.takeOverExpired(pending.getKey(), pending.getFingerprint(), pending.getClaimToken(),
+                pending.getExpiresAt(), now) > 0) {
+            return true;
+        }
+        try {
+            jpaRepository.insertPending(pending.getKey(), pending.getFingerprint(), pending.getClaimToken(),
+                    pending.getExpiresAt());
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Idempotency key {} is already claimed", pending.getKey());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean complete(IdempotentReservation completed) {
+        if (completed == null || !completed.isCompleted()) {
+            throw new IllegalArgumentException("Completed reservation cannot be null or pending");
+        }
+
+        BookingResponse booking = completed.getBooking();
+        int updated = jpaRepository.complete(
+                completed.getKey(),
+                completed.getClaimToken(),
+                booking == null ? null : booking.getId(),
+                booking == null ? null : booking.getDate(),
+                booking == null ? null : booking.getStartTime(),
+                booking == null ? null : booking.getEndTime(),
+                completed.getRejection(),
+                completed.getExpiresAt()
+        );
+        if (updated == 0) {
+            log.warn("Idempotency key {} was taken over before its outcome was stored", completed.getKey());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void release(IdempotentReservation pending) {
+        if (pending == null) {
+            throw new IllegalArgumentException("Pending reservation cannot be null");
+        }
+
+        if (jpaRepository.deleteClaim(pending.getKey(), pending.getClaimToken()) == 0) {
+            log.debug("Idempotency key {} was taken over before its claim was released", pending.getKey());
+        }
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        if (now == null) {
+            throw new IllegalArgumentException("Current time cannot be null");
+        }
+
+        return jpaRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,107 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
+import com.tennis.court_booking.adapter.out.persistence.repository.BookingJpaRepository;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.DailyOccupancy;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Adapter implementation of the OccupancyRepository port using JPA.
+ *
+ * Reads the daily_occupancy table kept up to date by BookingRepositoryAdapter. A rebuild
+ * zeroes every row rather than deleting it, so schedule versions keep growing, then
+ * streams the bookings ordered by date and adds one day's counters as soon as the day is
+ * complete, so it runs in constant memory.
+ */
+@Component
+public class OccupancyRepositoryAdapter implements OccupancyRepository {
+
+    private final DailyOccupancyJpaRepository occupancyRepository;
+    private final BookingJpaRepository bookingRepository;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param occupancyRepository the repository of per-day occupancy counters
+     * @param bookingRepository the booking repository the counters are rebuilt from
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public OccupancyRepositoryAdapter(
+            DailyOccupancyJpaRepository occupancyRepository,
+            BookingJpaRepository bookingRepository) {
+        if (occupancyRepository == null) {
+            throw new IllegalArgumentException("Occupancy repository cannot be null");
+        }
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("JPA repository cannot be null");
+        }
+        this.occupancyRepository = occupancyRepository;
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public List<DailyOccupancy> findBetween(LocalDate from, LocalDate to) {
+        if (from == null) {
+            throw new IllegalArgumentException("From date cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To date cannot be null");
+        }
+
+        return occupancyRepository.findByDateBetweenOrderByDate(from, to).stream()
+                .map(entity -> new DailyOccupancy(
+                        entity.getDate(), entity.getOccupiedMinutes(), entity.getBookingCount()))
+                .toList();
+    }
+
+    @Override
+    public long findScheduleVersion(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        return occupancyRepository.findScheduleVersion(date).orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        occupancyRepository.resetAll();
+
+        int days = 0;
+        try (Stream<BookingRow> rows = bookingRepository.streamAllOrderedByDate()) {
+            Iterator<BookingRow> iterator = rows.iterator();
+            LocalDate date = null;
+            long minutes = 0;
+            int count = 0;
+            while (iterator.hasNext()) {
+                BookingRow row = iterator.next();
+                if (!row.date().equals(date)) {
+                    if (date != null) {
+                        occupancyRepository.addOccupancy(date, minutes, count);
+                        days++;
+                    }
+                    date = row.date();
+                    minutes = 0;
+                    count = 0;
+                }
+                minutes += Duration.between(row.startTime(), row.endTime()).toMinutes();
+                count++;
+            }
+            if (date != null) {
+                occupancyRepository.addOccupancy(date, minutes, count);
+                days++;
+            }
+        }
+        return days;
+    }
+}
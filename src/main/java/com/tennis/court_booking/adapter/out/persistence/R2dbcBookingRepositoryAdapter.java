@@ -0,0 +1,135 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
+import com.tennis.court_booking.adapter.out.persistence.mapper.BookingPersistenceMapper;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.ReactiveBookingRepository;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Adapter implementation of the ReactiveBookingRepository port using R2DBC.
+ * This is the non-blocking counterpart of BookingRepositoryAdapter and works on the same
+ * bookings and daily_occupancy tables (see BookingJpaEntity and DailyOccupancyJpaEntity for
+ * the schema). Every save adjusts the day's counters with the same MERGE as the JPA
+ * repository, which also increments the day's schedule version, so versions and the
+ * heat-map stay right whichever stack wrote the booking.
+ *
+ * Only active in the reactive web stack (reactive profile).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcBookingRepositoryAdapter implements ReactiveBookingRepository {
+
+    private static final String ADD_OCCUPANCY = "MERGE INTO daily_occupancy d "
+            + "USING (VALUES (CAST(:date AS DATE), CAST(:minutes AS BIGINT), CAST(:count AS INTEGER))) "
+            + "s(booking_date, minutes, bookings) ON d.booking_date = s.booking_date "
+            + "WHEN MATCHED THEN UPDATE SET occupied_minutes = d.occupied_minutes + s.minutes, "
+            + "booking_count = d.booking_count + s.bookings, schedule_version = d.schedule_version + 1 "
+            + "WHEN NOT MATCHED THEN INSERT (booking_date, occupied_minutes, booking_count, schedule_version) "
+            + "VALUES (s.booking_date, s.minutes, s.bookings, " + DailyOccupancyJpaRepository.NEW_VERSION + ")";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param databaseClient the R2DBC database client
+     * @throws IllegalArgumentException if databaseClient is null
+     */
+    public R2dbcBookingRepositoryAdapter(DatabaseClient databaseClient) {
+        if (databaseClient == null) {
+            throw new IllegalArgumentException("DatabaseClient cannot be null");
+        }
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Booking> findByDate(LocalDate date) {
+        if (date == null) {
+            return Flux.error(new IllegalArgumentException("Date cannot be null"));
+        }
+
+        return databaseClient.sql("SELECT id, booking_date, start_time, end_time FROM bookings WHERE booking_date = :date")
+                .bind("date", date)
+                .map(R2dbcBookingRepositoryAdapter::toBookingRow)
+                .all()
+                .map(BookingPersistenceMapper::fromRow);
+    }
+
+    @Override
+    public Mono<Long> findScheduleVersion(LocalDate date) {
+        if (date == null) {
+            return Mono.error(new IllegalArgumentException("Date cannot be null"));
+        }
+
+        return databaseClient.sql("SELECT schedule_version FROM daily_occupancy WHERE booking_date = :date")
+                .bind("date", date)
+                .map(row -> row.get("schedule_version", Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Booking> save(Booking booking) {
+        if (booking == null) {
+            return Mono.error(new IllegalArgumentException("Booking cannot be null"));
+        }
+
+        TimeSlot timeSlot = booking.getTimeSlot();
+        if (booking.getId() != null) {
+            // The previous slot is released from its day's counters before the new one is added
+            return databaseClient.sql("SELECT id, booking_date, start_time, end_time FROM bookings WHERE id = :id")
+                    .bind("id", booking.getId())
+                    .map(R2dbcBookingRepositoryAdapter::toBookingRow)
+                    .one()
+                    .flatMap(previous -> addOccupancy(previous.date(), previous.startTime(), previous.endTime(), -1))
+                    .then(databaseClient.sql("UPDATE bookings SET booking_date = :date, start_time = :start, end_time = :end WHERE id = :id")
+                            .bind("date", timeSlot.getDate())
+                            .bind("start", timeSlot.getStart())
+                            .bind("end", timeSlot.getEnd())
+                            .bind("id", booking.getId())
+                            .then())
+                    .then(addOccupancy(timeSlot.getDate(), timeSlot.getStart(), timeSlot.getEnd(), 1))
+                    .thenReturn(booking);
+        }
+
+        // New booking without ID - let the database generate the ID
+        return databaseClient.sql("INSERT INTO bookings (booking_date, start_time, end_time) VALUES (:date, :start, :end)")
+                .bind("date", timeSlot.getDate())
+                .bind("start", timeSlot.getStart())
+                .bind("end", timeSlot.getEnd())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> addOccupancy(timeSlot.getDate(), timeSlot.getStart(), timeSlot.getEnd(), 1)
+                        .thenReturn(new Booking(id, timeSlot)));
+    }
+
+    private Mono<Void> addOccupancy(LocalDate date, LocalTime start, LocalTime end, int sign) {
+        return databaseClient.sql(ADD_OCCUPANCY)
+                .bind("date", date)
+                .bind("minutes", sign * Duration.between(start, end).toMinutes())
+                .bind("count", sign)
+                .then();
+    }
+
+    private static BookingRow toBookingRow(Row row, RowMetadata metadata) {
+        return new BookingRow(
+                row.get("id", Long.class),
+                row.get("booking_date", LocalDate.class),
+                row.get("start_time", LocalTime.class),
+                row.get("end_time", LocalTime.class));
+    }
+}
@@ -0,0 +1,104 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.ReactiveDayLock;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Adapter implementation of the ReactiveDayLock port using the day's daily_occupancy row.
+ * This is the non-blocking counterpart of DayLockAdapter: the work runs in an R2DBC
+ * transaction that first reads the day's row with SELECT ... FOR UPDATE, and the booking
+ * save joins that transaction through the DatabaseClient.
+ *
+ * The transaction manager is created here rather than declared as a bean, so the
+ * application context only ever holds the JPA transaction manager.
+ *
+ * Only active in the reactive web stack (reactive profile).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcDayLockAdapter implements ReactiveDayLock {
+
+    private static final String LOCK_ROW =
+            "SELECT booking_date FROM daily_occupancy WHERE booking_date = :date FOR UPDATE";
+
+    private static final String INSERT_IF_ABSENT = "MERGE INTO daily_occupancy d "
+            + "USING (VALUES (CAST(:date AS DATE))) s(booking_date) ON d.booking_date = s.booking_date "
+            + "WHEN NOT MATCHED THEN INSERT (booking_date, occupied_minutes, booking_count, schedule_version) "
+            + "VALUES (s.booking_date, 0, 0, " + DailyOccupancyJpaRepository.NEW_VERSION + ")";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param databaseClient the R2DBC database client
+     * @param connectionFactory the connection factory the database client uses
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public R2dbcDayLockAdapter(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        if (databaseClient == null) {
+            throw new IllegalArgumentException("DatabaseClient cannot be null");
+        }
+        if (connectionFactory == null) {
+            throw new IllegalArgumentException("ConnectionFactory cannot be null");
+        }
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Override
+    public <T> Mono<T> runLocked(LocalDate date, Supplier<Mono<T>> work) {
+        if (date == null) {
+            return Mono.error(new IllegalArgumentException("Date cannot be null"));
+        }
+        if (work == null) {
+            return Mono.error(new IllegalArgumentException("Work cannot be null"));
+        }
+
+        return lockAndRun(date, work)
+                // First write of the day: create its row, then lock it like any other day
+                .onErrorResume(NoRowException.class, e -> createRow(date).then(lockAndRun(date, work)))
+                .onErrorMap(NoRowException.class,
+                        e -> new IllegalStateException("No occupancy row to lock for date: " + date));
+    }
+
+    private <T> Mono<T> lockAndRun(LocalDate date, Supplier<Mono<T>> work) {
+        return databaseClient.sql(LOCK_ROW)
+                .bind("date", date)
+                .fetch()
+                .all()
+                .hasElements()
+                .flatMap(locked -> locked ? Mono.defer(work) : Mono.<T>error(new NoRowException()))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> createRow(LocalDate date) {
+        return databaseClient.sql(INSERT_IF_ABSENT)
+                .bind("date", date)
+                .then()
+                // Another caller created the row first
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty());
+    }
+
+    /**
+     * Signals a transaction that found no row to lock and did not run the work.
+     */
+    private static final class NoRowException extends RuntimeException {
+
+        NoRowException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+/**
+ * Flight recorder event covering one call of the booking repository adapter.
+ *
+ * Spans the JDBC statements issued by the call. For transactional operations the commit
+ * happens after the adapter method returns and is not included.
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Booking Repository Call")
+@Category("Court Booking")
+@Description("One booking repository operation and the rows it read or wrote")
+@StackTrace(false)
+class RepositoryCallEvent extends Event {
+
+    static final String NAME = "com.tennis.court_booking.RepositoryCall";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Date")
+    private String date;
+
+    @Label("Rows")
+    private int rows = -1;
+
+    private final transient LocalDate day;
+
+    private RepositoryCallEvent(String operation, LocalDate day) {
+        this.operation = operation;
+        this.day = day;
+    }
+
+    /**
+     * Creates and begins an event.
+     *
+     * @param operation the adapter method
+     * @param day the date the call concerns, or null
+     * @return the started event
+     */
+    static RepositoryCallEvent start(String operation, LocalDate day) {
+        RepositoryCallEvent event = new RepositoryCallEvent(operation, day);
+        event.begin();
+        return event;
+    }
+
+    void recordRows(int rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Ends the event and commits it if a recording wants it. A call that threw keeps rows at -1.
+     */
+    void complete() {
+        end();
+        if (shouldCommit()) {
+            date = day == null ? null : day.toString();
+            commit();
+        }
+    }
+}
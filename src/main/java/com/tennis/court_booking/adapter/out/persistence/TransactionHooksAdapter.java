@@ -0,0 +1,45 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.application.port.out.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adapter implementation of the TransactionHooks port on Spring's transaction synchronization.
+ *
+ * Inside a Spring-managed transaction (e.g., the one DayLockAdapter holds), the action is
+ * registered as an afterCommit callback of that transaction; without one it runs at once.
+ * A failing action is logged instead of thrown, since an exception from afterCommit would
+ * reach the caller of a write that has already committed.
+ */
+@Slf4j
+@Component
+public class TransactionHooksAdapter implements TransactionHooks {
+
+    @Override
+    public void afterCommit(Runnable action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(action);
+            }
+        });
+    }
+
+    private static void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("After-commit action failed", e);
+        }
+    }
+}
@@ -16,9 +16,14 @@ import java.util.Objects;
  *
  * Uses an embedded TimeSlot representation (date, start, end) rather than
  * a separate table to keep the persistence model simple.
+ *
+ * The listing index covers the keyset order (date, start time, ID) and every column a
+ * listing page selects, so pages are answered from the index without touching the table.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = @Index(
+        name = "idx_bookings_listing",
+        columnList = "booking_date, start_time, id, end_time"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,17 @@
+package com.tennis.court_booking.adapter.out.persistence.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of a booking row, produced by JPQL constructor expressions.
+ * Unlike BookingJpaEntity it is never managed by the persistence context, which keeps
+ * long streaming reads from accumulating entities in memory.
+ *
+ * @param id the booking ID
+ * @param date the booking date
+ * @param startTime the start time
+ * @param endTime the end time
+ */
+public record BookingRow(Long id, LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
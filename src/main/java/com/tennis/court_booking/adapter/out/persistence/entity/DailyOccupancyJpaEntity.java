@@ -0,0 +1,65 @@
+package com.tennis.court_booking.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * JPA entity holding the booked minutes and booking count of one day.
+ *
+ * Rows are a denormalized aggregate of the bookings table, adjusted by every booking
+ * save and delete in the same transaction, so a month of counters is a range read of
+ * at most 31 rows. A day without bookings may have no row or a row of zeros.
+ *
+ * The row also carries the day's schedule version, incremented by every statement that
+ * changes the row, so every instance sharing the database sees the same version. A new
+ * row starts from the current epoch milliseconds rather than from 1, so versions handed
+ * out before the table was recreated are not handed out again for a different schedule.
+ */
+@Entity
+@Table(name = "daily_occupancy")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyOccupancyJpaEntity {
+
+    @Id
+    @Column(name = "booking_date")
+    private LocalDate date;
+
+    @Column(name = "occupied_minutes", nullable = false)
+    private long occupiedMinutes;
+
+    @Column(name = "booking_count", nullable = false)
+    private int bookingCount;
+
+    @Column(name = "schedule_version", nullable = false)
+    private long scheduleVersion;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DailyOccupancyJpaEntity that = (DailyOccupancyJpaEntity) o;
+        return Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date);
+    }
+
+    @Override
+    public String toString() {
+        return "DailyOccupancyJpaEntity{" +
+                "date=" + date +
+                ", occupiedMinutes=" + occupiedMinutes +
+                ", bookingCount=" + bookingCount +
+                ", scheduleVersion=" + scheduleVersion +
+                '}';
+    }
+}
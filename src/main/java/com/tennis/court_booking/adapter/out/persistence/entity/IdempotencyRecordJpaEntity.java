@@ -0,0 +1,78 @@
+package com.tennis.court_booking.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * JPA entity for idempotent reservation records shared between instances.
+ *
+ * A row without booking and rejection columns is a pending claim, identified by its claim
+ * token so only the request holding it can complete or release it. The booking is stored
+ * flattened rather than as a reference to the bookings table, so replaying it needs a
+ * single primary key lookup.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecordJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "booking_date")
+    private LocalDate date;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @Column(name = "rejection", length = 500)
+    private String rejection;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecordJpaEntity that = (IdempotencyRecordJpaEntity) o;
+        return Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecordJpaEntity{" +
+                "key=" + key +
+                ", expiresAt=" + expiresAt +
+                ", bookingId=" + bookingId +
+                ", rejected=" + (rejection != null) +
+                '}';
+    }
+}
@@ -1,9 +1,12 @@
 package com.tennis.court_booking.adapter.out.persistence.mapper;
 
 import com.tennis.court_booking.adapter.out.persistence.entity.BookingJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 
+import java.util.Objects;
+
 /**
  * Mapper for converting between domain Booking entities and JPA BookingJpaEntity.
  * This mapper maintains the separation between domain and persistence layers
@@ -73,4 +76,53 @@ public class BookingPersistenceMapper {
 
         return new Booking(jpaEntity.getId(), timeSlot);
     }
+
+    /**
+     * Converts a JPA entity returned by a save back to a domain Booking entity,
+     * sharing the already validated values of the booking that was saved.
+     *
+     * The saved entity carries the same date and times as the booking it was built from,
+     * so the time slot is reused instead of being rebuilt and validated again, and a booking
+     * that already had its ID is returned as is. Only when the stored values differ is the
+     * entity converted from scratch.
+     *
+     * @param savedEntity the JPA entity returned by the repository
+     * @param booking the domain booking that was saved
+     * @return the domain booking entity with its generated ID
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static Booking toDomainEntity(BookingJpaEntity savedEntity, Booking booking) {
+        if (savedEntity == null) {
+            throw new IllegalArgumentException("JPA entity cannot be null");
+        }
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+
+        TimeSlot timeSlot = booking.getTimeSlot();
+        if (!timeSlot.getDate().equals(savedEntity.getDate())
+                || !timeSlot.getStart().equals(savedEntity.getStartTime())
+                || !timeSlot.getEnd().equals(savedEntity.getEndTime())) {
+            return toDomainEntity(savedEntity);
+        }
+        if (Objects.equals(savedEntity.getId(), booking.getId())) {
+            return booking;
+        }
+        return new Booking(savedEntity.getId(), timeSlot);
+    }
+
+    /**
+     * Converts a streamed booking row to a domain Booking entity.
+     *
+     * @param row the projected booking row
+     * @return the domain booking entity
+     * @throws IllegalArgumentException if row is null
+     */
+    public static Booking fromRow(BookingRow row) {
+        if (row == null) {
+            throw new IllegalArgumentException("Booking row cannot be null");
+        }
+
+        return new Booking(row.id(), new TimeSlot(row.date(), row.startTime(), row.endTime()));
+    }
 }
@@ -0,0 +1,46 @@
+package com.tennis.court_booking.adapter.out.persistence.mapper;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.IdempotencyRecordJpaEntity;
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+
+/**
+ * Mapper for converting between IdempotentReservation records and IdempotencyRecordJpaEntity.
+ *
+ * Static utility class with no state.
+ */
+public class IdempotencyPersistenceMapper {
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private IdempotencyPersistenceMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Converts a JPA entity back to an idempotent reservation record.
+     *
+     * @param entity the JPA entity
+     * @return the record (pending if neither booking nor rejection is stored)
+     * @throws IllegalArgumentException if entity is null
+     */
+    public static IdempotentReservation toReservation(IdempotencyRecordJpaEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Idempotency record cannot be null");
+        }
+
+        BookingResponse booking = entity.getBookingId() == null
+                ? null
+                : new BookingResponse(entity.getBookingId(), entity.getDate(), entity.getStartTime(), entity.getEndTime());
+        return new IdempotentReservation(
+                entity.getKey(),
+                entity.getFingerprint(),
+                entity.getClaimToken(),
+                entity.getExpiresAt(),
+                booking,
+                entity.getRejection()
+        );
+    }
+}
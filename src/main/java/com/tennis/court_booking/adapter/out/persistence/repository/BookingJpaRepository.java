@@ -1,11 +1,20 @@
 package com.tennis.court_booking.adapter.out.persistence.repository;
 
 import com.tennis.court_booking.adapter.out.persistence.entity.BookingJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for BookingJpaEntity.
@@ -26,4 +35,85 @@ public interface BookingJpaRepository extends JpaRepository<BookingJpaEntity, Lo
      * @return list of booking entities on the specified date
      */
     List<BookingJpaEntity> findByDate(LocalDate date);
+
+    /**
+     * Streams all bookings between two dates (inclusive), ordered by date and start time.
+     *
+     * Rows are fetched in chunks of EXPORT_FETCH_SIZE through a forward-only cursor and
+     * projected into unmanaged BookingRow instances, so the persistence context does not
+     * grow with the range. Must be called inside a transaction and the stream must be closed.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a stream of booking rows
+     */
+    @Query("select new com.tennis.court_booking.adapter.out.persistence.entity.BookingRow("
+            + "b.id, b.date, b.startTime, b.endTime) "
+            + "from BookingJpaEntity b where b.date between :from and :to "
+            + "order by b.date, b.startTime, b.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingRow> streamByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Streams every booking ordered by date, for rebuilding per-day aggregates.
+     * Same cursor and projection as streamByDateBetween; must be called inside a
+     * transaction and the stream must be closed.
+     *
+     * @return a stream of all booking rows
+     */
+    @Query("select new com.tennis.court_booking.adapter.out.persistence.entity.BookingRow("
+            + "b.id, b.date, b.startTime, b.endTime) "
+            + "from BookingJpaEntity b order by b.date")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingRow> streamAllOrderedByDate();
+
+    /**
+     * Finds the bookings following a key in listing order (date, start time, ID) that fall
+     * in a date range and overlap a time of day window.
+     *
+     * The redundant lower bound on the date lets the database seek into the
+     * idx_bookings_listing index at the key; the remaining key comparison only runs on
+     * rows of that date. Every selected column is part of the index, so pages are read
+     * from the index alone and projected into unmanaged BookingRow instances.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param windowStart bookings must end after this time
+     * @param windowEnd bookings must start before this time
+     * @param afterDate the date of the key to continue after
+     * @param afterStart the start time of the key to continue after
+     * @param afterId the ID of the key to continue after
+     * @param limit the maximum number of rows to return
+     * @return the matching booking rows, in listing order
+     */
+    @Query("select new com.tennis.court_booking.adapter.out.persistence.entity.BookingRow("
+            + "b.id, b.date, b.startTime, b.endTime) "
+            + "from BookingJpaEntity b "
+            + "where b.date between :from and :to "
+            + "and b.date >= :afterDate "
+            + "and (b.date > :afterDate or b.startTime > :afterStart "
+            + "or (b.startTime = :afterStart and b.id > :afterId)) "
+            + "and b.startTime < :windowEnd and b.endTime > :windowStart "
+            + "order by b.date, b.startTime, b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<BookingRow> findPageAfter(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterStart") LocalTime afterStart,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    /**
+     * Number of rows fetched per round trip when streaming exports.
+     */
+    String EXPORT_FETCH_SIZE = "500";
 }
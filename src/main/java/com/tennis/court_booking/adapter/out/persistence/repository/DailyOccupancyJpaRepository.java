@@ -0,0 +1,113 @@
+package com.tennis.court_booking.adapter.out.persistence.repository;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.DailyOccupancyJpaEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for DailyOccupancyJpaEntity.
+ *
+ * Counters are only changed through addOccupancy, a single MERGE statement that
+ * creates the day's row or adds to it. Reading the row and saving it back would lose
+ * increments made by concurrent bookings of the same day. Every statement changing a
+ * row also increments its schedule version; new rows start at the current epoch
+ * milliseconds (see DailyOccupancyJpaEntity).
+ *
+ * The row of a day doubles as that day's write lock (see DayLockAdapter).
+ */
+@Repository
+public interface DailyOccupancyJpaRepository extends JpaRepository<DailyOccupancyJpaEntity, LocalDate> {
+
+    /**
+     * Schedule version of a newly created row: the current epoch milliseconds.
+     */
+    String NEW_VERSION = "cast(extract(epoch from current_timestamp) * 1000 as bigint)";
+
+    /**
+     * Adds to the counters of a day and increments its schedule version, creating the row
+     * if the day has none yet. Joins the caller's transaction, so the change commits or
+     * rolls back with the booking write.
+     *
+     * @param date the day to adjust
+     * @param minutes the booked minutes to add (negative to subtract)
+     * @param count the number of bookings to add (negative to subtract)
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "merge into daily_occupancy d "
+            + "using (values (cast(:date as date), cast(:minutes as bigint), cast(:count as integer))) "
+            + "s(booking_date, minutes, bookings) on d.booking_date = s.booking_date "
+            + "when matched then update set occupied_minutes = d.occupied_minutes + s.minutes, "
+            + "booking_count = d.booking_count + s.bookings, schedule_version = d.schedule_version + 1 "
+            + "when not matched then insert (booking_date, occupied_minutes, booking_count, schedule_version) "
+            + "values (s.booking_date, s.minutes, s.bookings, " + NEW_VERSION + ")", nativeQuery = true)
+    int addOccupancy(@Param("date") LocalDate date,
+                     @Param("minutes") long minutes,
+                     @Param("count") int count);
+
+    /**
+     * Finds the counters of every day between two dates (inclusive) that has any.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the counters, ordered by date
+     */
+    List<DailyOccupancyJpaEntity> findByDateBetweenOrderByDate(LocalDate from, LocalDate to);
+
+    /**
+     * Finds the schedule version of a day.
+     *
+     * @param date the day to look up
+     * @return the version, or empty if the day has no row
+     */
+    @Query("select d.scheduleVersion from DailyOccupancyJpaEntity d where d.date = :date")
+    Optional<Long> findScheduleVersion(@Param("date") LocalDate date);
+
+    /**
+     * Zeroes the counters of every day and increments every schedule version.
+     *
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update DailyOccupancyJpaEntity d set d.occupiedMinutes = 0, d.bookingCount = 0, "
+            + "d.scheduleVersion = d.scheduleVersion + 1")
+    int resetAll();
+
+    /**
+     * Creates a row of zeros for the day unless it already has one.
+     * Two callers creating the same day at once may see a duplicate key violation.
+     *
+     * @param date the day to create
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "merge into daily_occupancy d "
+            + "using (values (cast(:date as date))) s(booking_date) on d.booking_date = s.booking_date "
+            + "when not matched then insert (booking_date, occupied_minutes, booking_count, schedule_version) "
+            + "values (s.booking_date, 0, 0, " + NEW_VERSION + ")", nativeQuery = true)
+    int insertIfAbsent(@Param("date") LocalDate date);
+
+    /**
+     * Reads the row of a day with an exclusive lock held until the surrounding transaction ends.
+     * Must be called inside a transaction.
+     *
+     * @param date the day to lock
+     * @return the locked row, or empty if the day has no row yet
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from DailyOccupancyJpaEntity d where d.date = :date")
+    Optional<DailyOccupancyJpaEntity> findForUpdate(@Param("date") LocalDate date);
+}
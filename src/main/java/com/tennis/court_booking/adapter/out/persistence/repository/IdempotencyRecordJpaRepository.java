@@ -0,0 +1,96 @@
+package com.tennis.court_booking.adapter.out.persistence.repository;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.IdempotencyRecordJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Spring Data JPA repository for IdempotencyRecordJpaEntity.
+ *
+ * Writes are explicit statements rather than save(): save() merges an entity with an
+ * assigned ID, which would silently overwrite a claim held by another instance, whereas
+ * the insert fails on the primary key. Each statement runs in its own transaction.
+ */
+@Repository
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecordJpaEntity, String> {
+
+    /**
+     * Inserts a pending record.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if a record exists for the key
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "insert into idempotency_keys (idempotency_key, fingerprint, claim_token, expires_at) "
+            + "values (:key, :fingerprint, :claimToken, :expiresAt)", nativeQuery = true)
+    int insertPending(@Param("key") String key,
+                      @Param("fingerprint") String fingerprint,
+                      @Param("claimToken") String claimToken,
+                      @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Claims the record of a key if it has expired, pending or completed, resetting it to
+     * a pending record. Of several requests taking over the same record, only one updates it.
+     *
+     * @return the number of updated records (0 if the key has no expired record)
+     */
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecordJpaEntity r set r.fingerprint = :fingerprint, r.claimToken = :claimToken, "
+            + "r.expiresAt = :expiresAt, r.bookingId = null, r.date = null, r.startTime = null, r.endTime = null, "
+            + "r.rejection = null where r.key = :key and r.expiresAt <= :now")
+    int takeOverExpired(@Param("key") String key,
+                        @Param("fingerprint") String fingerprint,
+                        @Param("claimToken") String claimToken,
+                        @Param("expiresAt") Instant expiresAt,
+                        @Param("now") Instant now);
+
+    /**
+     * Stores the outcome of a pending record and how long it is kept, if the record is still
+     * the claim with the given token.
+     *
+     * @return the number of updated records (0 if the claim was taken over or is no longer pending)
+     */
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecordJpaEntity r set r.bookingId = :bookingId, r.date = :date, "
+            + "r.startTime = :startTime, r.endTime = :endTime, r.rejection = :rejection, r.expiresAt = :expiresAt "
+            + "where r.key = :key and r.claimToken = :claimToken and r.bookingId is null and r.rejection is null")
+    int complete(@Param("key") String key,
+                 @Param("claimToken") String claimToken,
+                 @Param("bookingId") Long bookingId,
+                 @Param("date") LocalDate date,
+                 @Param("startTime") LocalTime startTime,
+                 @Param("endTime") LocalTime endTime,
+                 @Param("rejection") String rejection,
+                 @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Deletes a pending record, if it is still the claim with the given token.
+     *
+     * @return the number of deleted records (0 if the claim was taken over or is no longer pending)
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecordJpaEntity r where r.key = :key and r.claimToken = :claimToken "
+            + "and r.bookingId is null and r.rejection is null")
+    int deleteClaim(@Param("key") String key, @Param("claimToken") String claimToken);
+
+    /**
+     * Deletes every expired record.
+     *
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecordJpaEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,99 @@
+package com.tennis.court_booking.application.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical computations into one.
+ *
+ * The first caller for a key runs the computation; callers arriving with the same key
+ * while it is in flight wait for it and receive the same result (or the same exception).
+ * Nothing is cached: once the computation finishes, the next caller starts a new one.
+ *
+ * Keys must implement equals and hashCode. Instances are thread-safe.
+ *
+ * @param <K> the key identifying identical computations
+ * @param <V> the result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * Runs the computation for the key, or joins the one already in flight.
+     *
+     * @param key the key identifying the computation
+     * @param computation computes the result; only invoked when nothing is in flight for the key
+     * @return the result of the computation that ran for this call
+     * @throws IllegalArgumentException if key or computation is null
+     */
+    public V execute(K key, Supplier<V> computation) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (computation == null) {
+            throw new IllegalArgumentException("Computation cannot be null");
+        }
+
+        calls.increment();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        executions.increment();
+        try {
+            V result = computation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * @return how many calls were made
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return how many calls actually ran their computation
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return the share of calls answered by joining another call's computation (0 when idle)
+     */
+    public double coalescingRatio() {
+        long total = calls.sum();
+        return total == 0 ? 0.0 : 1.0 - (double) executions.sum() / total;
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.tennis.court_booking.application.idempotency;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory cache of completed idempotent reservations.
+ *
+ * Entries are kept in insertion order. Since every record gets the same time to live,
+ * that is also expiry order, so expired entries are always at the head and are dropped
+ * there on every write, and the oldest entry is evicted once the cache is full.
+ * Reads ignore entries that have expired but not yet been dropped.
+ *
+ * Guarded by a ReentrantLock rather than a monitor, like the other shared structures on
+ * the request path, so virtual request threads are never pinned while waiting for it.
+ */
+public class IdempotencyCache {
+
+    private final int maxEntries;
+    private final Map<String, IdempotentReservation> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries the maximum number of records kept
+     * @throws IllegalArgumentException if maxEntries is not positive
+     */
+    public IdempotencyCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Looks up a record that has not expired.
+     *
+     * @param key the idempotency key
+     * @param now the current time
+     * @return the record, or null if there is none or it has expired
+     */
+    public IdempotentReservation get(String key, Instant now) {
+        lock.lock();
+        try {
+            IdempotentReservation reservation = entries.get(key);
+            return reservation == null || reservation.isExpiredAt(now) ? null : reservation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a completed record, dropping expired records and evicting the oldest one
+     * when the cache is full.
+     *
+     * @param reservation the completed record
+     * @param now the current time
+     * @throws IllegalArgumentException if reservation is null or not completed
+     */
+    public void put(IdempotentReservation reservation, Instant now) {
+        if (reservation == null || !reservation.isCompleted()) {
+            throw new IllegalArgumentException("Only completed reservations can be cached");
+        }
+
+        lock.lock();
+        try {
+            entries.remove(reservation.getKey());
+            entries.put(reservation.getKey(), reservation);
+
+            Iterator<IdempotentReservation> oldest = entries.values().iterator();
+            while (oldest.hasNext()) {
+                IdempotentReservation head = oldest.next();
+                if (entries.size() <= maxEntries && !head.isExpiredAt(now)) {
+                    break;
+                }
+                oldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of records currently held, including expired ones not yet dropped
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.tennis.court_booking.application.idempotency;
+
+/**
+ * Exception thrown when a reservation ran under an Idempotency-Key whose claim lease ran out
+ * and was taken over by another request before the outcome could be stored.
+ * The outcome is not recorded for the key; a retry with the same key replays whatever the
+ * request that took the key over stored.
+ */
+public class IdempotencyClaimLostException extends RuntimeException {
+
+    public IdempotencyClaimLostException(String key) {
+        super("The claim on idempotency key '" + key + "' expired before the reservation completed");
+    }
+}
@@ -0,0 +1,13 @@
+package com.tennis.court_booking.application.idempotency;
+
+/**
+ * Exception thrown when a request carries an Idempotency-Key whose first request is still
+ * being processed (typically on another instance) and did not finish in time.
+ * The client may retry the request with the same key later.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String key) {
+        super("A request with idempotency key '" + key + "' is still being processed");
+    }
+}
@@ -0,0 +1,142 @@
+package com.tennis.court_booking.application.idempotency;
+
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The recorded outcome of a reservation made under an Idempotency-Key.
+ *
+ * A record starts out pending (claimed, neither booking nor rejection set) and is completed
+ * with either the created booking or the message of the business rejection. Both outcomes
+ * are replayed to later requests with the same key until the record expires. A pending
+ * record only lives for a short lease, so the claim of a request that never completes is
+ * soon taken over; the completed record gets the full time to live.
+ *
+ * The fingerprint identifies the request the key was first used with, so a key reused
+ * for a different reservation can be told apart from a retry.
+ *
+ * Every claim carries a fresh random token, kept by its completed copy. Completing or
+ * releasing a claim is conditional on that token, so a request whose lease ran out and
+ * whose key was taken over can no longer overwrite or delete the new claim.
+ */
+@Value
+public class IdempotentReservation {
+    String key;
+    String fingerprint;
+    String claimToken;
+    Instant expiresAt;
+    BookingResponse booking;
+    String rejection;
+
+    /**
+     * Creates a new idempotent reservation record.
+     *
+     * @param key the idempotency key supplied by the client
+     * @param fingerprint identifies the request the key was first used with
+     * @param claimToken identifies the claim that ran the reservation
+     * @param expiresAt when the record may be forgotten
+     * @param booking the created booking, or null
+     * @param rejection the business rejection message, or null
+     * @throws IllegalArgumentException if key, fingerprint, claimToken or expiresAt is null,
+     *                                  or if both booking and rejection are set
+     */
+    public IdempotentReservation(String key, String fingerprint, String claimToken, Instant expiresAt,
+                                 BookingResponse booking, String rejection) {
+        if (key == null) {
+            throw new IllegalArgumentException("Idempotency key cannot be null");
+        }
+        if (fingerprint == null) {
+            throw new IllegalArgumentException("Fingerprint cannot be null");
+        }
+        if (claimToken == null) {
+            throw new IllegalArgumentException("Claim token cannot be null");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiry cannot be null");
+        }
+        if (booking != null && rejection != null) {
+            throw new IllegalArgumentException("A reservation cannot be both booked and rejected");
+        }
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.claimToken = claimToken;
+        this.expiresAt = expiresAt;
+        this.booking = booking;
+        this.rejection = rejection;
+    }
+
+    /**
+     * Creates a pending record with a new claim token, claiming the key while the reservation runs.
+     */
+    public static IdempotentReservation pending(String key, ReserveCommand command, Instant expiresAt) {
+        return new IdempotentReservation(key, fingerprint(command), UUID.randomUUID().toString(), expiresAt, null, null);
+    }
+
+    /**
+     * @return a completed copy of this record holding the created booking
+     */
+    public IdempotentReservation booked(BookingResponse booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        return new IdempotentReservation(key, fingerprint, claimToken, expiresAt, booking, null);
+    }
+
+    /**
+     * @return a completed copy of this record holding the rejection message
+     */
+    public IdempotentReservation rejected(String rejection) {
+        if (rejection == null) {
+            throw new IllegalArgumentException("Rejection cannot be null");
+        }
+        return new IdempotentReservation(key, fingerprint, claimToken, expiresAt, null, rejection);
+    }
+
+    /**
+     * @return a copy of this record that expires at the given time
+     */
+    public IdempotentReservation expiringAt(Instant expiresAt) {
+        return new IdempotentReservation(key, fingerprint, claimToken, expiresAt, booking, rejection);
+    }
+
+    /**
+     * @return true once the reservation has either been booked or rejected
+     */
+    public boolean isCompleted() {
+        return booking != null || rejection != null;
+    }
+
+    /**
+     * @param now the current time
+     * @return true if the record may no longer be replayed
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * @param command a reservation request
+     * @return true if the command is the one this key was first used with
+     */
+    public boolean matches(ReserveCommand command) {
+        return fingerprint.equals(fingerprint(command));
+    }
+
+    /**
+     * Returns a stable fingerprint of a reservation request.
+     *
+     * @param command the reservation request
+     * @return the fingerprint
+     * @throws IllegalArgumentException if command is null
+     */
+    public static String fingerprint(ReserveCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        return command.getDate() + "T" + command.getStart() + "/" + command.getEnd();
+    }
+}
@@ -0,0 +1,39 @@
+package com.tennis.court_booking.application.mapper;
+
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.readmodel.DayOccupancy;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+
+/**
+ * Mapper for converting DayOccupancy read model entries to AvailabilityResponse DTOs.
+ */
+public class AvailabilityMapper {
+
+    private AvailabilityMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Converts a DayOccupancy to an AvailabilityResponse.
+     * Free windows are limited to the opening hours of the court.
+     *
+     * @param occupancy the occupancy of the day
+     * @param openingHoursPolicy the policy providing opening and closing times
+     * @return an AvailabilityResponse DTO
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static AvailabilityResponse toAvailabilityResponse(DayOccupancy occupancy, OpeningHoursPolicy openingHoursPolicy) {
+        if (occupancy == null) {
+            throw new IllegalArgumentException("DayOccupancy cannot be null");
+        }
+        if (openingHoursPolicy == null) {
+            throw new IllegalArgumentException("OpeningHoursPolicy cannot be null");
+        }
+
+        return new AvailabilityResponse(
+                occupancy.getDate(),
+                occupancy.freeWindows(openingHoursPolicy.getOpeningTime(), openingHoursPolicy.getClosingTime()),
+                occupancy.occupiedWindows()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.tennis.court_booking.application.paging;
+
+import com.tennis.court_booking.application.port.out.BookingKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes booking keys as opaque listing cursors and back.
+ *
+ * A cursor is the URL-safe Base64 form of "date|startTime|id". Clients must treat it
+ * as opaque; the encoding may change without notice.
+ */
+public final class BookingCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = "|";
+
+    private BookingCursor() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Encodes the key of the last booking of a page.
+     *
+     * @param key the key to encode
+     * @return the cursor
+     * @throws IllegalArgumentException if key is null
+     */
+    public static String encode(BookingKey key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Booking key cannot be null");
+        }
+        String plain = key.getDate() + SEPARATOR + key.getStartTime() + SEPARATOR + key.getId();
+        return ENCODER.encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned with a previous page.
+     *
+     * @param cursor the cursor to decode
+     * @return the key the next page continues after
+     * @throws IllegalArgumentException if cursor is null or malformed
+     */
+    public static BookingKey decode(String cursor) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("Cursor cannot be null");
+        }
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return new BookingKey(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
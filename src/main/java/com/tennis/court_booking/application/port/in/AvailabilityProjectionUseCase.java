@@ -0,0 +1,42 @@
+package com.tennis.court_booking.application.port.in;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Inbound port for maintaining the availability read model from booking events.
+ * Driven by event consumers (e.g., the Kafka listener on the booking-created topic).
+ *
+ * Applying an event must be idempotent: at-least-once delivery and replays from
+ * offset zero are expected and must leave the view unchanged.
+ */
+public interface AvailabilityProjectionUseCase {
+
+    /**
+     * Applies a booking created event to the read model.
+     *
+     * @param event the event to apply
+     * @return true if the event changed the view, false if it had already been applied
+     * @throws IllegalArgumentException if event is null
+     */
+    boolean apply(BookingCreatedEvent event);
+
+    /**
+     * Applies a published day schedule snapshot to the read model.
+     * Used to warm the view from the snapshot topic instead of replaying every event.
+     *
+     * A snapshot whose version is not newer than the last one applied for the day is ignored.
+     * Otherwise bookings of the previous snapshot that are missing from this one are released,
+     * and bookings already present are left untouched, so snapshots and events can overlap.
+     *
+     * @param date the day the snapshot belongs to
+     * @param version the schedule version of the day the snapshot was taken at
+     * @param bookings the bookings of that day
+     * @return the number of bookings that were not yet in the view
+     * @throws IllegalArgumentException if date or bookings is null
+     */
+    int applySnapshot(LocalDate date, long version, List<Booking> bookings);
+}
@@ -0,0 +1,40 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response object describing the availability of the court on a single day.
+ * Free windows are limited to opening hours; occupied windows cover every booked period.
+ */
+@Value
+public class AvailabilityResponse {
+    LocalDate date;
+    List<TimeWindow> freeWindows;
+    List<TimeWindow> occupiedWindows;
+
+    /**
+     * Creates a new availability response.
+     *
+     * @param date the day the availability applies to
+     * @param freeWindows the free windows within opening hours, in chronological order
+     * @param occupiedWindows the occupied windows, in chronological order
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public AvailabilityResponse(LocalDate date, List<TimeWindow> freeWindows, List<TimeWindow> occupiedWindows) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (freeWindows == null) {
+            throw new IllegalArgumentException("Free windows cannot be null");
+        }
+        if (occupiedWindows == null) {
+            throw new IllegalArgumentException("Occupied windows cannot be null");
+        }
+        this.date = date;
+        this.freeWindows = List.copyOf(freeWindows);
+        this.occupiedWindows = List.copyOf(occupiedWindows);
+    }
+}
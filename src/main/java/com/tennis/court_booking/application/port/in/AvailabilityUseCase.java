@@ -0,0 +1,20 @@
+package com.tennis.court_booking.application.port.in;
+
+import java.time.LocalDate;
+
+/**
+ * Inbound port (query use case) for reading court availability.
+ * This is the read side of the booking application: implementations may answer
+ * from a materialized view instead of the write database.
+ */
+public interface AvailabilityUseCase {
+
+    /**
+     * Returns the free and occupied windows for the given day.
+     *
+     * @param date the day to query
+     * @return the availability of the court on that day
+     * @throws IllegalArgumentException if date is null
+     */
+    AvailabilityResponse getAvailability(LocalDate date);
+}
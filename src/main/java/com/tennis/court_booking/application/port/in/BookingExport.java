@@ -0,0 +1,18 @@
+package com.tennis.court_booking.application.port.in;
+
+import java.util.function.Consumer;
+
+/**
+ * A validated, not yet executed export of bookings.
+ * Obtaining the export is cheap; the bookings are only read when it is written.
+ */
+@FunctionalInterface
+public interface BookingExport {
+
+    /**
+     * Reads the exported bookings and passes them to the given action one at a time.
+     *
+     * @param action the action receiving each booking
+     */
+    void writeTo(Consumer<BookingResponse> action);
+}
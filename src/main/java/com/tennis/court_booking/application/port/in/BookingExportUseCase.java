@@ -0,0 +1,23 @@
+package com.tennis.court_booking.application.port.in;
+
+import java.time.LocalDate;
+
+/**
+ * Inbound port for exporting bookings over a date range.
+ *
+ * The range is validated when the export is created, so callers can report errors
+ * before they start writing a response; the bookings are streamed later.
+ */
+public interface BookingExportUseCase {
+
+    /**
+     * Prepares an export of every booking between two dates (inclusive),
+     * ordered by date and start time.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the export, to be written by the caller
+     * @throws IllegalArgumentException if any parameter is null or from is after to
+     */
+    BookingExport exportBookings(LocalDate from, LocalDate to);
+}
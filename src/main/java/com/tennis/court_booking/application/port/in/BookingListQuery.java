@@ -0,0 +1,55 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Query object for one page of the booking listing.
+ * Carries the filters, the cursor returned with the previous page and the page size.
+ */
+@Value
+public class BookingListQuery {
+    LocalDate from;
+    LocalDate to;
+    LocalTime windowStart;
+    LocalTime windowEnd;
+    String cursor;
+    int limit;
+
+    /**
+     * Creates a new booking list query.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param windowStart the start of the time of day window, or null for none
+     * @param windowEnd the end of the time of day window, or null for none
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @param limit the maximum number of bookings on the page
+     * @throws IllegalArgumentException if a date is null or limit is not positive
+     */
+    public BookingListQuery(
+            LocalDate from,
+            LocalDate to,
+            LocalTime windowStart,
+            LocalTime windowEnd,
+            String cursor,
+            int limit) {
+        if (from == null) {
+            throw new IllegalArgumentException("From date cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To date cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.from = from;
+        this.to = to;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tennis.court_booking.application.port.in;
+
+/**
+ * Inbound port for paging through bookings ordered by date, start time and ID.
+ *
+ * Pages are chained with opaque cursors instead of page numbers, so a page deep into
+ * the listing is as cheap as the first one and concurrent inserts never shift rows
+ * between pages.
+ */
+public interface BookingListingUseCase {
+
+    /**
+     * Returns one page of bookings matching the query's filters.
+     *
+     * @param query the filters, cursor and page size
+     * @return the page and the cursor of the next one
+     * @throws IllegalArgumentException if query is null, the filters are inconsistent,
+     *                                  the limit is too large or the cursor is malformed
+     */
+    BookingPage listBookings(BookingListQuery query);
+}
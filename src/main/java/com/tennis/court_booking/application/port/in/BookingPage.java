@@ -0,0 +1,30 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Response object holding one page of the booking listing.
+ * The next cursor is opaque to callers and absent on the last page.
+ */
+@Value
+public class BookingPage {
+    List<BookingResponse> bookings;
+    String nextCursor;
+
+    /**
+     * Creates a new booking page.
+     *
+     * @param bookings the bookings of the page, in listing order
+     * @param nextCursor the cursor continuing after this page, or null if it is the last one
+     * @throws IllegalArgumentException if bookings is null
+     */
+    public BookingPage(List<BookingResponse> bookings, String nextCursor) {
+        if (bookings == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        this.bookings = List.copyOf(bookings);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Booked and free capacity of a single day within the opening hours.
+ */
+@Value
+public class DayCapacity {
+    LocalDate date;
+    long occupiedMinutes;
+    int bookingCount;
+    int freePercent;
+
+    /**
+     * Creates a new day capacity.
+     *
+     * @param date the day
+     * @param occupiedMinutes the booked minutes of the day
+     * @param bookingCount the number of bookings of the day
+     * @param freePercent the share of the opening hours still free, from 0 to 100
+     * @throws IllegalArgumentException if date is null
+     */
+    public DayCapacity(LocalDate date, long occupiedMinutes, int bookingCount, int freePercent) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        this.date = date;
+        this.occupiedMinutes = occupiedMinutes;
+        this.bookingCount = bookingCount;
+        this.freePercent = freePercent;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Response object describing the capacity of every day of a month.
+ */
+@Value
+public class HeatmapResponse {
+    YearMonth month;
+    List<DayCapacity> days;
+
+    /**
+     * Creates a new heat-map response.
+     *
+     * @param month the month described
+     * @param days one entry per day of the month, in calendar order
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public HeatmapResponse(YearMonth month, List<DayCapacity> days) {
+        if (month == null) {
+            throw new IllegalArgumentException("Month cannot be null");
+        }
+        if (days == null) {
+            throw new IllegalArgumentException("Days cannot be null");
+        }
+        this.month = month;
+        this.days = List.copyOf(days);
+    }
+}
@@ -0,0 +1,25 @@
+package com.tennis.court_booking.application.port.in;
+
+import java.time.YearMonth;
+
+/**
+ * Inbound port for the monthly capacity heat-map of the calendar view.
+ */
+public interface HeatmapUseCase {
+
+    /**
+     * Returns the booked and free capacity of every day of a month.
+     *
+     * @param month the month to describe
+     * @return the month's heat-map
+     * @throws IllegalArgumentException if month is null
+     */
+    HeatmapResponse getHeatmap(YearMonth month);
+
+    /**
+     * Recomputes the per-day counters behind the heat-map from the stored bookings.
+     *
+     * @return the number of days with bookings
+     */
+    int rebuild();
+}
@@ -0,0 +1,27 @@
+package com.tennis.court_booking.application.port.in;
+
+/**
+ * Inbound port for reservations retried under a client-supplied Idempotency-Key.
+ *
+ * The first request with a key runs the reservation and its outcome is recorded. Later
+ * requests with the same key and the same reservation replay that outcome - the booking,
+ * or the same business rejection - without running the reservation again. Concurrent
+ * requests with the same key wait for the first one to finish.
+ */
+public interface IdempotentBookingUseCase {
+
+    /**
+     * Reserves a court booking at most once per idempotency key.
+     *
+     * @param idempotencyKey the client-supplied key
+     * @param command the reservation command
+     * @return the booking created by the first request with this key
+     * @throws IllegalArgumentException if the key is blank or too long, or was used for a different reservation
+     * @throws com.tennis.court_booking.domain.exception.BusinessException if the first request was rejected
+     * @throws com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException
+     *         if the first request did not finish in time
+     * @throws com.tennis.court_booking.application.idempotency.IdempotencyClaimLostException
+     *         if the key was taken over by another request before this one stored its outcome
+     */
+    BookingResponse reserve(String idempotencyKey, ReserveCommand command);
+}
@@ -0,0 +1,39 @@
+package com.tennis.court_booking.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking inbound port for booking operations.
+ * The reactive counterpart of BookingUseCase and ScheduleUseCase, driven by the WebFlux adapter.
+ *
+ * Business rules are the same: implementations delegate to the unchanged domain service.
+ */
+public interface ReactiveBookingUseCase {
+
+    /**
+     * Reserves a new court booking for the specified time slot.
+     *
+     * @param command the reservation command containing date, start, and end times
+     * @return a Mono emitting the booking response, or signalling
+     *         InvalidTimeSlotException / BusinessException when the reservation is rejected
+     */
+    Mono<BookingResponse> reserve(ReserveCommand command);
+
+    /**
+     * Returns the current schedule version of a day, without reading its bookings.
+     *
+     * @param date the day to look up
+     * @return a Mono emitting an opaque version tag
+     */
+    Mono<String> getScheduleVersion(LocalDate date);
+
+    /**
+     * Returns every booking of a day together with the version it was read at.
+     *
+     * @param date the day to look up
+     * @return a Mono emitting the day's schedule
+     */
+    Mono<ScheduleResponse> getSchedule(LocalDate date);
+}
@@ -0,0 +1,40 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response object describing every booking of a single day.
+ * The version identifies the schedule: equal versions always describe equal bookings.
+ */
+@Value
+public class ScheduleResponse {
+    LocalDate date;
+    String version;
+    List<BookingResponse> bookings;
+
+    /**
+     * Creates a new schedule response.
+     *
+     * @param date the day of the schedule
+     * @param version the schedule version the bookings were read at
+     * @param bookings the day's bookings, ordered by start time
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public ScheduleResponse(LocalDate date, String version, List<BookingResponse> bookings) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        if (bookings == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        this.date = date;
+        this.version = version;
+        this.bookings = List.copyOf(bookings);
+    }
+}
@@ -0,0 +1,30 @@
+package com.tennis.court_booking.application.port.in;
+
+import java.time.LocalDate;
+
+/**
+ * Inbound port for reading a day's schedule.
+ *
+ * The version can be obtained on its own, without touching the repository, so callers
+ * can answer conditional requests before paying for the full query.
+ */
+public interface ScheduleUseCase {
+
+    /**
+     * Returns the current schedule version of a day.
+     *
+     * @param date the day to look up
+     * @return an opaque version tag
+     * @throws IllegalArgumentException if date is null
+     */
+    String getScheduleVersion(LocalDate date);
+
+    /**
+     * Returns every booking of a day together with the version it was read at.
+     *
+     * @param date the day to look up
+     * @return the day's schedule
+     * @throws IllegalArgumentException if date is null
+     */
+    ScheduleResponse getSchedule(LocalDate date);
+}
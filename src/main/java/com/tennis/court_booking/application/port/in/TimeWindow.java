@@ -0,0 +1,33 @@
+package com.tennis.court_booking.application.port.in;
+
+import lombok.Value;
+
+import java.time.LocalTime;
+
+/**
+ * A contiguous window of time within a single day.
+ * Used by availability queries to describe free and occupied periods.
+ */
+@Value
+public class TimeWindow {
+    LocalTime start;
+    LocalTime end;
+
+    /**
+     * Creates a new time window.
+     *
+     * @param start the start of the window (inclusive)
+     * @param end the end of the window (exclusive)
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public TimeWindow(LocalTime start, LocalTime end) {
+        if (start == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (end == null) {
+            throw new IllegalArgumentException("End time cannot be null");
+        }
+        this.start = start;
+        this.end = end;
+    }
+}
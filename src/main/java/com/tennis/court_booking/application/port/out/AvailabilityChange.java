@@ -0,0 +1,86 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A change to the availability of one day: a slot was booked or freed.
+ *
+ * Carries the day's schedule version after the change, so subscribers holding a schedule
+ * read at an older version can tell whether they missed changes.
+ */
+@Value
+public class AvailabilityChange {
+
+    /**
+     * Whether the slot became occupied or free.
+     */
+    public enum Type {
+        BOOKED,
+        FREED
+    }
+
+    Type type;
+    Long bookingId;
+    LocalDate date;
+    LocalTime startTime;
+    LocalTime endTime;
+    String version;
+
+    /**
+     * Creates a new availability change.
+     *
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public AvailabilityChange(Type type, Long bookingId, LocalDate date,
+                              LocalTime startTime, LocalTime endTime, String version) {
+        if (type == null) {
+            throw new IllegalArgumentException("Change type cannot be null");
+        }
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking ID cannot be null");
+        }
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (endTime == null) {
+            throw new IllegalArgumentException("End time cannot be null");
+        }
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        this.type = type;
+        this.bookingId = bookingId;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.version = version;
+    }
+
+    /**
+     * Creates a change for a persisted booking.
+     *
+     * @param type whether the booking's slot became occupied or free
+     * @param booking the booking (must have an ID)
+     * @param version the day's schedule version after the change
+     * @return the change
+     */
+    public static AvailabilityChange of(Type type, Booking booking, String version) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        return new AvailabilityChange(
+                type,
+                booking.getId(),
+                booking.getTimeSlot().getDate(),
+                booking.getTimeSlot().getStart(),
+                booking.getTimeSlot().getEnd(),
+                version);
+    }
+}
@@ -0,0 +1,51 @@
+package com.tennis.court_booking.application.port.out;
+
+import java.time.LocalDate;
+
+/**
+ * Outbound port for pushing availability changes to live subscribers
+ * (e.g., Server-Sent Events streams of open booking screens).
+ *
+ * Implementations must not block the caller: changes are published from the write path,
+ * once the write has committed. The local AvailabilityStreamHub only reaches
+ * subscribers of its own instance; with the Kafka fan-out enabled, changes are relayed
+ * to the streams of every instance instead.
+ *
+ * Tagging a change with its version costs a database read, so the write path first asks
+ * whether anybody follows the date.
+ */
+@FunctionalInterface
+public interface AvailabilityChangePublisher {
+
+    /**
+     * Publisher that drops every change, used when no live subscribers are served.
+     */
+    AvailabilityChangePublisher NONE = new AvailabilityChangePublisher() {
+        @Override
+        public void publish(AvailabilityChange change) {
+        }
+
+        @Override
+        public boolean hasSubscribers(LocalDate date) {
+            return false;
+        }
+    };
+
+    /**
+     * Publishes a change to every subscriber of its date.
+     *
+     * @param change the change to publish
+     */
+    void publish(AvailabilityChange change);
+
+    /**
+     * Tells whether a change of the date could reach anybody. Publishers that cannot tell
+     * (e.g., a relay to other instances) answer true.
+     *
+     * @param date the day of a change
+     * @return false if changes of the date would be dropped
+     */
+    default boolean hasSubscribers(LocalDate date) {
+        return true;
+    }
+}
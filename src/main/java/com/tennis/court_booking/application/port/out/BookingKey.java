@@ -0,0 +1,41 @@
+package com.tennis.court_booking.application.port.out;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Position of a booking in listing order: by date, then start time, then ID.
+ * Pages are continued after the key of the last booking seen, so the database seeks
+ * straight to the next row instead of skipping an offset.
+ */
+@Value
+public class BookingKey {
+    LocalDate date;
+    LocalTime startTime;
+    Long id;
+
+    /**
+     * Creates a new booking key.
+     *
+     * @param date the booking date
+     * @param startTime the booking start time
+     * @param id the booking ID
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public BookingKey(LocalDate date, LocalTime startTime, Long id) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        this.date = date;
+        this.startTime = startTime;
+        this.id = id;
+    }
+}
@@ -5,6 +5,7 @@ import com.tennis.court_booking.domain.entity.Booking;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Outbound port (repository interface) for booking persistence operations.
@@ -25,6 +26,34 @@ public interface BookingRepository {
      */
     List<Booking> findByDate(LocalDate date);
 
+    /**
+     * Passes every booking between two dates (inclusive) to the given action,
+     * ordered by date and start time.
+     *
+     * Bookings are read with a forward-only cursor and handed over one at a time,
+     * so memory use does not depend on the size of the range. The cursor stays open
+     * until the action has seen the last booking.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param action the action receiving each booking
+     */
+    void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Booking> action);
+
+    /**
+     * Finds the next page of bookings matching a search, in listing order
+     * (date, start time, ID).
+     *
+     * Pages are continued from a key rather than an offset, so every page costs the
+     * same however deep into the listing it is.
+     *
+     * @param search the date range and time window to match
+     * @param after the key of the last booking of the previous page, or null for the first page
+     * @param limit the maximum number of bookings to return
+     * @return up to limit bookings following the key
+     */
+    List<Booking> findPage(BookingSearch search, BookingKey after, int limit);
+
     /**
      * Saves a booking to the repository.
      * If the booking has no ID (null), a new booking is created and assigned an ID.
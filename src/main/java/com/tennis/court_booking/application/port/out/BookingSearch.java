@@ -0,0 +1,48 @@
+package com.tennis.court_booking.application.port.out;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Filter of a booking listing: a date range and an optional time of day window.
+ *
+ * A booking matches the window when it overlaps it, i.e. starts before the window
+ * ends and ends after the window starts.
+ */
+@Value
+public class BookingSearch {
+    LocalDate from;
+    LocalDate to;
+    LocalTime windowStart;
+    LocalTime windowEnd;
+
+    /**
+     * Creates a new booking search.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @param windowStart the start of the time window, or null for the start of the day
+     * @param windowEnd the end of the time window, or null for the end of the day
+     * @throws IllegalArgumentException if a date is null, from is after to, or the window is empty
+     */
+    public BookingSearch(LocalDate from, LocalDate to, LocalTime windowStart, LocalTime windowEnd) {
+        if (from == null) {
+            throw new IllegalArgumentException("From date cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To date cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        if (windowStart != null && windowEnd != null && !windowStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("Time window start must be before its end");
+        }
+        this.from = from;
+        this.to = to;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+}
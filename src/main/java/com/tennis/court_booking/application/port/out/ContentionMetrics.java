@@ -0,0 +1,45 @@
+package com.tennis.court_booking.application.port.out;
+
+import java.time.LocalDate;
+
+/**
+ * Outbound port receiving per-date activity of the reservation and availability paths.
+ *
+ * Complements ReservationMetrics, which aggregates over all dates: this port is told which
+ * date each reservation and availability read was for, so an adapter can find the hot days
+ * and tell whether their reservations wait on the date lock or on the database.
+ * Implementations are called on the request thread and must not block.
+ */
+public interface ContentionMetrics {
+
+    /**
+     * Metrics implementation that discards every measurement.
+     */
+    ContentionMetrics NONE = new ContentionMetrics() {
+        @Override
+        public void recordReservation(LocalDate date, boolean conflict, long lockWaitNanos, long ioNanos) {
+        }
+
+        @Override
+        public void recordAvailabilityRead(LocalDate date, boolean shared) {
+        }
+    };
+
+    /**
+     * Records one reservation attempt for a date.
+     *
+     * @param date the requested date
+     * @param conflict whether it was rejected for overlapping an existing booking
+     * @param lockWaitNanos time spent waiting for the date lock
+     * @param ioNanos time spent loading the day and saving the booking
+     */
+    void recordReservation(LocalDate date, boolean conflict, long lockWaitNanos, long ioNanos);
+
+    /**
+     * Records one availability read for a date.
+     *
+     * @param date the requested date
+     * @param shared whether it was answered without its own repository query
+     */
+    void recordAvailabilityRead(LocalDate date, boolean shared);
+}
@@ -0,0 +1,32 @@
+package com.tennis.court_booking.application.port.out;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregated occupancy of one day: the booked minutes and the number of bookings.
+ */
+@Value
+public class DailyOccupancy {
+    LocalDate date;
+    long occupiedMinutes;
+    int bookingCount;
+
+    /**
+     * Creates a new daily occupancy.
+     *
+     * @param date the day
+     * @param occupiedMinutes the booked minutes of the day
+     * @param bookingCount the number of bookings of the day
+     * @throws IllegalArgumentException if date is null
+     */
+    public DailyOccupancy(LocalDate date, long occupiedMinutes, int bookingCount) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        this.date = date;
+        this.occupiedMinutes = occupiedMinutes;
+        this.bookingCount = bookingCount;
+    }
+}
@@ -0,0 +1,38 @@
+package com.tennis.court_booking.application.port.out;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Outbound port running the writes of one day as a single unit, exclusive across instances.
+ *
+ * The work runs in one transaction that holds an exclusive lock on the day until it commits,
+ * so loading the day, validating against it and saving the booking cannot interleave with
+ * another reservation of the same day - on this instance or any other sharing the database.
+ * Repository calls made by the work join that transaction.
+ */
+public interface DayLock {
+
+    /**
+     * Lock implementation that runs the work directly, without any transaction or lock.
+     * Only safe where nothing else writes the same days, e.g. in unit tests.
+     */
+    DayLock NONE = new DayLock() {
+        @Override
+        public <T> T runLocked(LocalDate date, Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    /**
+     * Runs the work in a transaction holding the exclusive lock of the day.
+     * The transaction commits when the work returns and rolls back when it throws.
+     *
+     * @param date the day the work writes
+     * @param work the reads and writes to run under the lock
+     * @param <T> the result type
+     * @return the result of the work
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    <T> T runLocked(LocalDate date, Supplier<T> work);
+}
@@ -0,0 +1,64 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Outbound port for sharing idempotent reservation records between instances.
+ *
+ * A key is claimed by inserting a pending record; the claim is atomic, so of several
+ * instances racing on the same key exactly one runs the reservation. The others see the
+ * pending record and wait until it is completed.
+ *
+ * Completing and releasing are fenced on the claim token of the record: once a lease has
+ * run out and another request took the key over, the old claim can neither store its
+ * outcome nor delete the new claim.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Finds the record stored for a key, pending or completed, expired or not.
+     *
+     * @param key the idempotency key
+     * @return the record, or empty if the key is unknown
+     */
+    Optional<IdempotentReservation> findByKey(String key);
+
+    /**
+     * Atomically stores a pending record unless an unexpired record exists for its key.
+     * An expired record for the key is replaced, including the pending record of a
+     * request whose lease ran out.
+     *
+     * @param pending the pending record
+     * @param now the current time, deciding which records have expired
+     * @return true if the key was claimed, false if another request holds it
+     */
+    boolean claim(IdempotentReservation pending, Instant now);
+
+    /**
+     * Stores the outcome of a claimed reservation, together with its expiry, if the record
+     * is still the pending claim with the same claim token.
+     *
+     * @param completed the completed record
+     * @return true if the outcome was stored, false if the claim was lost in the meantime
+     */
+    boolean complete(IdempotentReservation completed);
+
+    /**
+     * Gives up a claim without an outcome, so a later request with the key runs again.
+     * Does nothing if the record is no longer the pending claim with the same claim token.
+     *
+     * @param pending the pending record that claimed the key
+     */
+    void release(IdempotentReservation pending);
+
+    /**
+     * Deletes every record that has expired.
+     *
+     * @param now the current time
+     * @return the number of deleted records
+     */
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,45 @@
+package com.tennis.court_booking.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outbound port for the per-day occupancy counters.
+ *
+ * Counters are maintained incrementally by the BookingRepository implementation on every
+ * save and delete; this port only reads them and recomputes them from the bookings.
+ *
+ * Each day also has a schedule version, incremented in the same statement as its counters,
+ * so it is shared by every instance using the same database and changes exactly when the
+ * day's bookings do.
+ */
+public interface OccupancyRepository {
+
+    /**
+     * Finds the counters of every day between two dates (inclusive) in a single query.
+     * Days without any counters are omitted.
+     *
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the counters, ordered by date
+     */
+    List<DailyOccupancy> findBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Finds the current schedule version of a day.
+     *
+     * @param date the day to look up
+     * @return the version, 0 if the day was never written
+     */
+    long findScheduleVersion(LocalDate date);
+
+    /**
+     * Discards all counters and recomputes them from the stored bookings.
+     * Schedule versions keep growing across a rebuild.
+     * Bookings written while the rebuild runs may be counted twice or not at all,
+     * so it should run while writes are quiet.
+     *
+     * @return the number of days with bookings
+     */
+    int rebuild();
+}
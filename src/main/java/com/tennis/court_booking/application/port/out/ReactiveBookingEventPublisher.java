@@ -0,0 +1,20 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking outbound port for publishing domain events.
+ * The reactive counterpart of BookingEventPublisher.
+ */
+public interface ReactiveBookingEventPublisher {
+
+    /**
+     * Publishes a booking created event.
+     * Publishing failures are not propagated, matching BookingEventPublisher.
+     *
+     * @param event the domain event to publish
+     * @return a Mono completing once the event has been handed to the broker (or failed)
+     */
+    Mono<Void> publish(BookingCreatedEvent event);
+}
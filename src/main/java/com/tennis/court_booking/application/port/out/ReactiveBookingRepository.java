@@ -0,0 +1,41 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking outbound port for booking persistence.
+ * The reactive counterpart of BookingRepository, implemented by the R2DBC adapter.
+ */
+public interface ReactiveBookingRepository {
+
+    /**
+     * Finds all bookings for a specific date.
+     *
+     * @param date the date to search for
+     * @return the bookings on the specified date (empty if none found)
+     */
+    Flux<Booking> findByDate(LocalDate date);
+
+    /**
+     * Saves a booking to the repository and adjusts the occupancy counters and schedule
+     * version of the days it touches, as BookingRepository does.
+     * If the booking has no ID (null), a new booking is created and assigned an ID.
+     *
+     * @param booking the booking to save
+     * @return a Mono emitting the saved booking with assigned ID
+     */
+    Mono<Booking> save(Booking booking);
+
+    /**
+     * Finds the current schedule version of a day, shared with the blocking stack
+     * (see OccupancyRepository).
+     *
+     * @param date the day to look up
+     * @return a Mono emitting the version, 0 if the day was never written
+     */
+    Mono<Long> findScheduleVersion(LocalDate date);
+}
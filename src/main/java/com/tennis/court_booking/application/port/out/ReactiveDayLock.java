@@ -0,0 +1,36 @@
+package com.tennis.court_booking.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking outbound port running the writes of one day as a single unit, exclusive
+ * across instances. The reactive counterpart of DayLock, locking the same rows, so reactive
+ * and blocking reservations of one day never interleave either.
+ */
+public interface ReactiveDayLock {
+
+    /**
+     * Lock implementation that subscribes to the work directly, without any transaction or lock.
+     * Only safe where nothing else writes the same days, e.g. in unit tests.
+     */
+    ReactiveDayLock NONE = new ReactiveDayLock() {
+        @Override
+        public <T> Mono<T> runLocked(LocalDate date, Supplier<Mono<T>> work) {
+            return Mono.defer(work);
+        }
+    };
+
+    /**
+     * Runs the work in a transaction holding the exclusive lock of the day.
+     * The transaction commits when the work completes and rolls back when it signals an error.
+     *
+     * @param date the day the work writes
+     * @param work supplies the reads and writes to run under the lock
+     * @param <T> the result type
+     * @return a Mono emitting the result of the work
+     */
+    <T> Mono<T> runLocked(LocalDate date, Supplier<Mono<T>> work);
+}
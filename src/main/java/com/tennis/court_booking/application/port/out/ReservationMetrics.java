@@ -0,0 +1,80 @@
+package com.tennis.court_booking.application.port.out;
+
+/**
+ * Outbound port receiving measurements of the reservation pipeline.
+ *
+ * Keeps the application layer free of any metrics library: the service reports raw
+ * durations and counts, and an adapter turns them into timers, counters and histograms.
+ * Implementations are called on the request thread and must not block.
+ */
+public interface ReservationMetrics {
+
+    /**
+     * Metrics implementation that discards every measurement.
+     */
+    ReservationMetrics NONE = new ReservationMetrics() {
+        @Override
+        public void recordStage(Stage stage, long nanos) {
+        }
+
+        @Override
+        public void recordBookingsLoaded(int count) {
+        }
+
+        @Override
+        public void recordOutcome(Outcome outcome) {
+        }
+    };
+
+    /**
+     * Steps of a reservation, in the order they run.
+     */
+    enum Stage {
+        /** Building the time slot from the command (TimeSlotMapper) */
+        MAP,
+        /** Waiting for the lock of the booking's date */
+        LOCK,
+        /** Loading the day's bookings (findByDate) */
+        LOAD,
+        /** Running the business policies (BookingDomainService) */
+        VALIDATE,
+        /** Persisting the new booking */
+        SAVE,
+        /** Publishing the booking created event */
+        PUBLISH
+    }
+
+    /**
+     * How a reservation ended.
+     */
+    enum Outcome {
+        CREATED,
+        OVERLAP_REJECTED,
+        HOURS_REJECTED,
+        INVALID,
+        /** An unexpected error, e.g. from the database or the event broker */
+        FAILED
+    }
+
+    /**
+     * Records how long a stage took, whether it completed or threw.
+     *
+     * @param stage the stage
+     * @param nanos the elapsed time in nanoseconds
+     */
+    void recordStage(Stage stage, long nanos);
+
+    /**
+     * Records the number of existing bookings the day's validation ran against.
+     *
+     * @param count the number of bookings loaded
+     */
+    void recordBookingsLoaded(int count);
+
+    /**
+     * Records how a reservation ended.
+     *
+     * @param outcome the outcome
+     */
+    void recordOutcome(Outcome outcome);
+}
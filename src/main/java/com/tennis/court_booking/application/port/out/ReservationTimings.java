@@ -0,0 +1,49 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+
+/**
+ * Stage timings of one reservation, filled in by the booking service as it runs.
+ *
+ * A plain holder owned by a single request thread, handed to the ReservationTracer port
+ * once the reservation ended. Stages that did not run report 0.
+ */
+public final class ReservationTimings {
+
+    private static final int STAGES = Stage.values().length;
+
+    private final long[] stageNanos = new long[STAGES];
+    private int bookingsLoaded;
+
+    /**
+     * Stores how long a stage took.
+     *
+     * @param stage the stage
+     * @param nanos the elapsed time in nanoseconds
+     */
+    public void recordStage(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] = nanos;
+    }
+
+    /**
+     * @param stage the stage
+     * @return how long the stage took in nanoseconds, or 0 if it did not run
+     */
+    public long stageDuration(Stage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    /**
+     * @param count the number of existing bookings the day's validation ran against
+     */
+    public void recordBookingsLoaded(int count) {
+        bookingsLoaded = count;
+    }
+
+    /**
+     * @return the number of existing bookings loaded, or 0 if the day was not loaded
+     */
+    public int getBookingsLoaded() {
+        return bookingsLoaded;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+
+import java.time.LocalDate;
+
+/**
+ * Outbound port tracing reservations one by one, e.g. as flight recorder events.
+ *
+ * Where ReservationMetrics aggregates, a tracer sees each reservation as a whole: it is
+ * started when the reservation begins, so an implementation can place it on a timeline,
+ * and completed with its outcome and stage timings once it ended. Implementations are
+ * called on the request thread and must not block.
+ */
+public interface ReservationTracer {
+
+    /**
+     * Tracer that traces nothing.
+     */
+    ReservationTracer NONE = () -> (date, outcome, timings) -> { };
+
+    /**
+     * Starts tracing a reservation.
+     *
+     * @return the trace, to be completed exactly once
+     */
+    Trace start();
+
+    /**
+     * Trace of one reservation in progress.
+     */
+    @FunctionalInterface
+    interface Trace {
+
+        /**
+         * Ends the trace.
+         *
+         * @param date the requested date, or null if the command had none
+         * @param outcome how the reservation ended
+         * @param timings the stage timings of the reservation
+         */
+        void complete(LocalDate date, Outcome outcome, ReservationTimings timings);
+    }
+}
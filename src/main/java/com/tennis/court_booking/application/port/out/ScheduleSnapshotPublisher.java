@@ -0,0 +1,40 @@
+package com.tennis.court_booking.application.port.out;
+
+import com.tennis.court_booking.domain.entity.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outbound port for publishing the full schedule of a day after it changes.
+ *
+ * Each snapshot replaces the previous one for the same date, so a consumer only needs
+ * the latest snapshot per date to know the current occupancy (e.g., a log-compacted topic).
+ *
+ * Snapshots are published once the change that produced them has committed, and carry the
+ * schedule version the day had at that commit. Snapshots of concurrent changes may arrive
+ * out of order; consumers keep the one with the highest version and ignore older ones.
+ * Consumers rebuilding their state never publish.
+ *
+ * In hexagonal architecture, this is a secondary/driven port implemented by an
+ * outbound adapter (e.g., Kafka snapshot publisher adapter).
+ */
+public interface ScheduleSnapshotPublisher {
+
+    /**
+     * Publisher that drops every snapshot, used when snapshots are disabled.
+     */
+    ScheduleSnapshotPublisher NONE = (date, version, bookings) -> { };
+
+    /**
+     * Publishes the committed schedule of a day.
+     * Must not block on the broker and must not throw: the change it describes has already
+     * committed, so failures are reported by the implementation and the next change of the
+     * day publishes a newer snapshot.
+     *
+     * @param date the day the schedule belongs to
+     * @param version the schedule version of the day at the commit
+     * @param bookings every booking of that day
+     */
+    void publish(LocalDate date, long version, List<Booking> bookings);
+}
@@ -0,0 +1,29 @@
+package com.tennis.court_booking.application.port.out;
+
+/**
+ * Outbound port deferring work until the surrounding transaction has committed.
+ *
+ * Side effects that others can observe (availability changes, schedule snapshots) must
+ * only describe writes that became visible: announced inside the transaction, they could
+ * describe a write that is then rolled back, and a slow broker would hold the database
+ * locks of the transaction. Outside any transaction the write is already visible, so the
+ * action runs at once.
+ *
+ * Actions run on the committing thread, after the commit, and must not throw: the write
+ * they follow can no longer be undone.
+ */
+public interface TransactionHooks {
+
+    /**
+     * Hooks for callers that never run inside a transaction: every action runs at once.
+     */
+    TransactionHooks NONE = Runnable::run;
+
+    /**
+     * Runs an action once the current transaction has committed, or at once without one.
+     * The action is dropped if the transaction rolls back.
+     *
+     * @param action the action to run
+     */
+    void afterCommit(Runnable action);
+}
@@ -0,0 +1,248 @@
+package com.tennis.court_booking.application.readmodel;
+
+import com.tennis.court_booking.application.port.in.TimeWindow;
+import com.tennis.court_booking.domain.entity.Booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact occupancy structure for a single day, used by the availability read model.
+ *
+ * Occupied time is kept in a bitmap with one bit per minute of the day, so a fully
+ * booked day costs 24 longs no matter how many bookings it holds, and free/occupied
+ * windows are found with a handful of word scans.
+ *
+ * Each applied booking is remembered by ID together with its packed minute range.
+ * This makes applying the same booking twice a no-op (idempotent replays) and lets a
+ * booking be released without rebuilding the day from its events.
+ *
+ * Schedule snapshots are applied by version: the version and booking IDs of the last applied
+ * snapshot are kept, so an older snapshot arriving late is ignored and a newer one can release
+ * the bookings that disappeared from the day in between.
+ *
+ * Instances are thread-safe; all access is synchronized on the instance.
+ */
+public class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDate date;
+    private final BitSet occupiedMinutes = new BitSet(MINUTES_PER_DAY);
+    private final Map<Long, Integer> bookingRanges = new HashMap<>();
+    private long snapshotVersion = Long.MIN_VALUE;
+    private Set<Long> snapshotBookingIds = Set.of();
+
+    /**
+     * Creates an empty occupancy for the given day.
+     *
+     * @param date the day this occupancy describes
+     * @throws IllegalArgumentException if date is null
+     */
+    public DayOccupancy(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        this.date = date;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Marks the booking's time range as occupied.
+     *
+     * @param bookingId the booking identifier
+     * @param start the booking start time
+     * @param end the booking end time
+     * @return true if the booking was added, false if it had already been applied
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public synchronized boolean occupy(Long bookingId, LocalTime start, LocalTime end) {
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking ID cannot be null");
+        }
+        if (start == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (end == null) {
+            throw new IllegalArgumentException("End time cannot be null");
+        }
+
+        int from = toMinuteFloor(start);
+        int to = toMinuteCeil(end);
+        if (bookingRanges.putIfAbsent(bookingId, pack(from, to)) != null) {
+            return false;
+        }
+        occupiedMinutes.set(from, to);
+        return true;
+    }
+
+    /**
+     * Frees the time range held by the given booking.
+     *
+     * @param bookingId the booking identifier
+     * @return true if the booking was released, false if it was unknown
+     * @throws IllegalArgumentException if bookingId is null
+     */
+    public synchronized boolean release(Long bookingId) {
+        if (bookingId == null) {
+            throw new IllegalArgumentException("Booking ID cannot be null");
+        }
+
+        Integer range = bookingRanges.remove(bookingId);
+        if (range == null) {
+            return false;
+        }
+        occupiedMinutes.clear(unpackFrom(range), unpackTo(range));
+        // Re-apply the remaining bookings in case any of them shared minutes with the released one
+        for (int remaining : bookingRanges.values()) {
+            occupiedMinutes.set(unpackFrom(remaining), unpackTo(remaining));
+        }
+        return true;
+    }
+
+    /**
+     * Applies a schedule snapshot of this day.
+     * Ignored unless its version is newer than the last applied snapshot. Bookings of the
+     * previous snapshot that are missing from this one are released; bookings applied from
+     * events only are left untouched, as they may be newer than the snapshot.
+     *
+     * @param version the schedule version the snapshot was taken at
+     * @param bookings the bookings of the snapshot
+     * @return the number of bookings that were added, 0 if the snapshot was outdated
+     * @throws IllegalArgumentException if bookings is null
+     */
+    public synchronized int applySnapshot(long version, List<Booking> bookings) {
+        if (bookings == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        if (version <= snapshotVersion) {
+            return 0;
+        }
+
+        Set<Long> bookingIds = new HashSet<>();
+        for (Booking booking : bookings) {
+            bookingIds.add(booking.getId());
+        }
+        for (Long previous : snapshotBookingIds) {
+            if (!bookingIds.contains(previous)) {
+                release(previous);
+            }
+        }
+
+        int added = 0;
+        for (Booking booking : bookings) {
+            if (occupy(booking.getId(), booking.getTimeSlot().getStart(), booking.getTimeSlot().getEnd())) {
+                added++;
+            }
+        }
+        snapshotVersion = version;
+        snapshotBookingIds = bookingIds;
+        return added;
+    }
+
+    /**
+     * @return the number of distinct bookings applied to this day
+     */
+    public synchronized int bookingCount() {
+        return bookingRanges.size();
+    }
+
+    /**
+     * @return the number of occupied minutes in the day
+     */
+    public synchronized int occupiedMinutes() {
+        return occupiedMinutes.cardinality();
+    }
+
+    /**
+     * Returns the occupied windows of the day. Adjacent bookings are merged into one window.
+     *
+     * @return occupied windows in chronological order
+     */
+    public synchronized List<TimeWindow> occupiedWindows() {
+        List<TimeWindow> windows = new ArrayList<>();
+        int from = occupiedMinutes.nextSetBit(0);
+        while (from >= 0) {
+            int to = occupiedMinutes.nextClearBit(from);
+            windows.add(new TimeWindow(toTime(from), toTime(to)));
+            from = occupiedMinutes.nextSetBit(to);
+        }
+        return windows;
+    }
+
+    /**
+     * Returns the free windows between the given opening and closing times.
+     *
+     * @param openingTime start of the range to scan
+     * @param closingTime end of the range to scan
+     * @return free windows in chronological order
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public synchronized List<TimeWindow> freeWindows(LocalTime openingTime, LocalTime closingTime) {
+        if (openingTime == null) {
+            throw new IllegalArgumentException("Opening time cannot be null");
+        }
+        if (closingTime == null) {
+            throw new IllegalArgumentException("Closing time cannot be null");
+        }
+
+        int limit = toMinuteFloor(closingTime);
+        List<TimeWindow> windows = new ArrayList<>();
+        int from = occupiedMinutes.nextClearBit(toMinuteCeil(openingTime));
+        while (from < limit) {
+            int nextSet = occupiedMinutes.nextSetBit(from);
+            int to = nextSet < 0 ? limit : Math.min(nextSet, limit);
+            windows.add(new TimeWindow(toTime(from), toTime(to)));
+            from = occupiedMinutes.nextClearBit(to);
+        }
+        return windows;
+    }
+
+    /**
+     * Checks whether any minute of the given range is occupied.
+     *
+     * @param start the range start
+     * @param end the range end
+     * @return true if the range intersects an occupied minute
+     */
+    public synchronized boolean isOccupied(LocalTime start, LocalTime end) {
+        int from = toMinuteFloor(start);
+        int next = occupiedMinutes.nextSetBit(from);
+        return next >= 0 && next < toMinuteCeil(end);
+    }
+
+    private static int toMinuteFloor(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static int toMinuteCeil(LocalTime time) {
+        int seconds = time.toSecondOfDay();
+        return (seconds + 59) / 60;
+    }
+
+    private static LocalTime toTime(int minute) {
+        return minute >= MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.ofSecondOfDay(minute * 60L);
+    }
+
+    private static int pack(int from, int to) {
+        return (from << 16) | to;
+    }
+
+    private static int unpackFrom(int range) {
+        return range >>> 16;
+    }
+
+    private static int unpackTo(int range) {
+        return range & 0xFFFF;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tennis.court_booking.application.readmodel;
+
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+
+import java.time.LocalDate;
+
+/**
+ * Per-date, monotonically increasing schedule versions.
+ *
+ * A date's version is incremented by the database in the same statement that adjusts the
+ * day's occupancy counters, so it changes in the transaction of every write touching that
+ * day and two reads carrying the same version are guaranteed to describe the same schedule.
+ * Versions live next to the counters rather than in memory, so every instance sharing the
+ * database hands out the same version for the same schedule.
+ *
+ * Instances are thread-safe.
+ */
+public class ScheduleVersions {
+
+    private final OccupancyRepository occupancyRepository;
+
+    /**
+     * Creates schedule versions read from the occupancy counters.
+     *
+     * @param occupancyRepository the repository holding the versions
+     * @throws IllegalArgumentException if occupancyRepository is null
+     */
+    public ScheduleVersions(OccupancyRepository occupancyRepository) {
+        if (occupancyRepository == null) {
+            throw new IllegalArgumentException("OccupancyRepository cannot be null");
+        }
+        this.occupancyRepository = occupancyRepository;
+    }
+
+    /**
+     * @param date the day to look up
+     * @return the current version of the day (0 if it was never written)
+     * @throws IllegalArgumentException if date is null
+     */
+    public long current(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return occupancyRepository.findScheduleVersion(date);
+    }
+
+    /**
+     * Returns an opaque tag identifying the current version of the day.
+     *
+     * @param date the day to look up
+     * @return the tag, unique per version
+     * @throws IllegalArgumentException if date is null
+     */
+    public String tag(LocalDate date) {
+        return toTag(current(date));
+    }
+
+    /**
+     * Formats a version as the opaque tag handed out to clients.
+     *
+     * @param version the schedule version
+     * @return the tag
+     */
+    public static String toTag(long version) {
+        return Long.toString(version, 36);
+    }
+}
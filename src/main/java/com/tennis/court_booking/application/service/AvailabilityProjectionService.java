@@ -0,0 +1,75 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.AvailabilityMapper;
+import com.tennis.court_booking.application.port.in.AvailabilityProjectionUseCase;
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.readmodel.DayOccupancy;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Application service maintaining the CQRS availability read model.
+ *
+ * The view is a map of per-date DayOccupancy entries built from booking events.
+ * Availability queries are answered from the view only, so they never touch the
+ * write database. Events for different dates are applied without contention,
+ * which lets several partitions be consumed in parallel.
+ *
+ * The view only consumes: applying events or snapshots, live or during a bootstrap replay,
+ * never publishes anything. Day schedule snapshots come from the write path.
+ */
+public class AvailabilityProjectionService implements AvailabilityUseCase, AvailabilityProjectionUseCase {
+
+    private final OpeningHoursPolicy openingHoursPolicy;
+    private final ConcurrentMap<LocalDate, DayOccupancy> days = new ConcurrentHashMap<>();
+
+    public AvailabilityProjectionService(OpeningHoursPolicy openingHoursPolicy) {
+        if (openingHoursPolicy == null) {
+            throw new IllegalArgumentException("OpeningHoursPolicy cannot be null");
+        }
+        this.openingHoursPolicy = openingHoursPolicy;
+    }
+
+    @Override
+    public boolean apply(BookingCreatedEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+
+        DayOccupancy occupancy = days.computeIfAbsent(event.getDate(), DayOccupancy::new);
+        return occupancy.occupy(event.getBookingId(), event.getStartTime(), event.getEndTime());
+    }
+
+    @Override
+    public int applySnapshot(LocalDate date, long version, List<Booking> bookings) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (bookings == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+
+        return days.computeIfAbsent(date, DayOccupancy::new).applySnapshot(version, bookings);
+    }
+
+    @Override
+    public AvailabilityResponse getAvailability(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        DayOccupancy occupancy = days.get(date);
+        if (occupancy == null) {
+            // No events for this day yet - every minute within opening hours is free
+            occupancy = new DayOccupancy(date);
+        }
+        return AvailabilityMapper.toAvailabilityResponse(occupancy, openingHoursPolicy);
+    }
+}
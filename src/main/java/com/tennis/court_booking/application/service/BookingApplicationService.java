@@ -7,27 +7,108 @@ import com.tennis.court_booking.application.port.in.BookingUseCase;
 import com.tennis.court_booking.application.port.in.ReserveCommand;
 import com.tennis.court_booking.application.port.out.BookingEventPublisher;
 import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.port.out.DayLock;
+import com.tennis.court_booking.application.port.out.ReservationMetrics;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+import com.tennis.court_booking.application.port.out.ReservationTimings;
+import com.tennis.court_booking.application.port.out.ReservationTracer;
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import com.tennis.court_booking.domain.exception.BookingRejectedException;
+import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
+import com.tennis.court_booking.domain.exception.RejectionReason;
+import com.tennis.court_booking.domain.policy.ExistingBookings;
 import com.tennis.court_booking.domain.service.BookingDomainService;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Application service implementing the booking use case.
  * Orchestrates domain service and outbound ports to fulfill booking reservations.
+ *
+ * Every stage of a reservation is timed and every reservation's outcome is reported on
+ * the ReservationMetrics port, so a latency spike can be traced to the stage causing it.
+ * The same timings are collected per call and handed to the ReservationTracer port, whose
+ * flight recorder adapter puts a single slow reservation next to the GC pauses and JDBC
+ * waits of a recording.
+ * Per-date lock wait, repository time and overlap conflicts go to the ContentionMetrics port.
+ *
+ * Loading the day, validating against it and saving run as one unit on the DayLock port:
+ * a single transaction holding the day's lock in the database, otherwise two overlapping
+ * requests could both validate against a day without the other and both be saved - on one
+ * instance or on two. Inside an instance, requests for a date first queue on a local lock,
+ * so at most one of them at a time holds a connection waiting for the database lock. Local
+ * locks are striped by epoch day, so consecutive dates never share a lock and the number
+ * of locks stays fixed. They are ReentrantLocks because the repository blocks, and blocking
+ * inside synchronized would pin a virtual thread's carrier. Publishing the event happens
+ * after both locks are released.
+ *
+ * Policies that only look at the time slot (opening hours) run first, before either lock
+ * is taken, so a request they reject costs no lock, no transaction and no database round
+ * trip. The day's bookings then reach the domain service as a lazy view, only queried when
+ * a policy that needs them is reached.
  */
 public class BookingApplicationService implements BookingUseCase {
 
+    private static final int LOCK_STRIPES = 256;
+
     private final BookingRepository bookingRepository;
     private final BookingEventPublisher eventPublisher;
     private final BookingDomainService domainService;
+    private final ReservationMetrics metrics;
+    private final ContentionMetrics contentionMetrics;
+    private final DayLock dayLock;
+    private final ReservationTracer tracer;
+    private final ReentrantLock[] dateLocks = new ReentrantLock[LOCK_STRIPES];
 
     public BookingApplicationService(
             BookingRepository bookingRepository,
             BookingEventPublisher eventPublisher,
             BookingDomainService domainService) {
+        this(bookingRepository, eventPublisher, domainService, ReservationMetrics.NONE, ContentionMetrics.NONE);
+    }
+
+    public BookingApplicationService(
+            BookingRepository bookingRepository,
+            BookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReservationMetrics metrics) {
+        this(bookingRepository, eventPublisher, domainService, metrics, ContentionMetrics.NONE);
+    }
+
+    public BookingApplicationService(
+            BookingRepository bookingRepository,
+            BookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReservationMetrics metrics,
+            ContentionMetrics contentionMetrics) {
+        this(bookingRepository, eventPublisher, domainService, metrics, contentionMetrics, DayLock.NONE);
+    }
+
+    public BookingApplicationService(
+            BookingRepository bookingRepository,
+            BookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReservationMetrics metrics,
+            ContentionMetrics contentionMetrics,
+            DayLock dayLock) {
+        this(bookingRepository, eventPublisher, domainService, metrics, contentionMetrics, dayLock,
+                ReservationTracer.NONE);
+    }
+
+    public BookingApplicationService(
+            BookingRepository bookingRepository,
+            BookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReservationMetrics metrics,
+            ContentionMetrics contentionMetrics,
+            DayLock dayLock,
+            ReservationTracer tracer) {
         if (bookingRepository == null) {
             throw new IllegalArgumentException("BookingRepository cannot be null");
         }
@@ -37,10 +118,29 @@ public class BookingApplicationService implements BookingUseCase {
         if (domainService == null) {
             throw new IllegalArgumentException("BookingDomainService cannot be null");
         }
+        if (metrics == null) {
+            throw new IllegalArgumentException("ReservationMetrics cannot be null");
+        }
+        if (contentionMetrics == null) {
+            throw new IllegalArgumentException("ContentionMetrics cannot be null");
+        }
+        if (dayLock == null) {
+            throw new IllegalArgumentException("DayLock cannot be null");
+        }
+        if (tracer == null) {
+            throw new IllegalArgumentException("ReservationTracer cannot be null");
+        }
 
         this.bookingRepository = bookingRepository;
         this.eventPublisher = eventPublisher;
         this.domainService = domainService;
+        this.metrics = metrics;
+        this.contentionMetrics = contentionMetrics;
+        this.dayLock = dayLock;
+        this.tracer = tracer;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            dateLocks[i] = new ReentrantLock();
+        }
     }
 
     /**
@@ -53,14 +153,135 @@ public class BookingApplicationService implements BookingUseCase {
      */
     @Override
     public BookingResponse reserve(ReserveCommand command) {
-        TimeSlot timeSlot = TimeSlotMapper.toTimeSlot(command);
-        List<Booking> existingBookings = bookingRepository.findByDate(command.getDate());
-        Booking newBooking = domainService.reserve(timeSlot, existingBookings);
-        Booking savedBooking = bookingRepository.save(newBooking);
+        ReservationTracer.Trace trace = tracer.start();
+        ReservationTimings timings = new ReservationTimings();
+        Outcome outcome = Outcome.FAILED;
+        try {
+            long start = System.nanoTime();
+            TimeSlot timeSlot;
+            try {
+                timeSlot = TimeSlotMapper.toTimeSlot(command);
+            } finally {
+                start = recordStage(timings, Stage.MAP, start);
+            }
+
+            // Cheap policies reject before any lock or I/O; their time is part of VALIDATE
+            try {
+                domainService.precheck(timeSlot);
+            } catch (RuntimeException e) {
+                recordStage(timings, Stage.VALIDATE, start);
+                throw e;
+            }
+            long prechecked = System.nanoTime();
+            long precheckNanos = prechecked - start;
+            start = prechecked;
+
+            ReentrantLock lock = lockFor(command.getDate());
+            lock.lock();
+            Booking savedBooking;
+            long lockStart = start;
+            long[] saveStart = new long[1];
+            try {
+                savedBooking = dayLock.runLocked(command.getDate(),
+                        () -> validateAndSave(timeSlot, command.getDate(), timings, precheckNanos, lockStart, saveStart));
+            } finally {
+                lock.unlock();
+                if (saveStart[0] != 0) {
+                    // Includes the commit, which releases the database lock
+                    start = recordStage(timings, Stage.SAVE, saveStart[0]);
+                }
+            }
+
+            try {
+                BookingCreatedEvent createdEvent = BookingMapper.toBookingCreatedEvent(savedBooking);
+                eventPublisher.publish(createdEvent);
+            } finally {
+                recordStage(timings, Stage.PUBLISH, start);
+            }
+
+            outcome = Outcome.CREATED;
+            return BookingMapper.toBookingResponse(savedBooking);
+        } catch (BookingRejectedException e) {
+            outcome = e.getReason() == RejectionReason.OVERLAPS_EXISTING_BOOKING
+                    ? Outcome.OVERLAP_REJECTED
+                    : Outcome.HOURS_REJECTED;
+            throw e;
+        } catch (InvalidTimeSlotException e) {
+            outcome = Outcome.INVALID;
+            throw e;
+        } finally {
+            metrics.recordOutcome(outcome);
+            if (outcome != Outcome.INVALID && command != null) {
+                contentionMetrics.recordReservation(
+                        command.getDate(),
+                        outcome == Outcome.OVERLAP_REJECTED,
+                        timings.stageDuration(Stage.LOCK),
+                        timings.stageDuration(Stage.LOAD) + timings.stageDuration(Stage.SAVE));
+            }
+            trace.complete(command == null ? null : command.getDate(), outcome, timings);
+        }
+    }
+
+    /**
+     * Runs inside the day's database lock: validates against the day and saves the booking.
+     * The time spent waiting for both locks is the LOCK stage;
+     * the precheck's time is added to the VALIDATE stage;
+     * the start of the save is handed back, since the SAVE stage only ends once the
+     * transaction has committed.
+     */
+    private Booking validateAndSave(TimeSlot timeSlot, LocalDate date, ReservationTimings timings,
+                                    long precheckNanos, long lockStart, long[] saveStart) {
+        long start = recordStage(timings, Stage.LOCK, lockStart);
+
+        // Only queried if a policy that needs the day's bookings is reached
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> loadBookings(date, timings));
+
+        Booking newBooking;
+        long validated;
+        try {
+            newBooking = domainService.reserve(timeSlot, existingBookings);
+        } finally {
+            // A load triggered by the policies is timed as its own stage
+            validated = System.nanoTime();
+            recordDuration(timings, Stage.VALIDATE,
+                    precheckNanos + validated - start - timings.stageDuration(Stage.LOAD));
+        }
+        saveStart[0] = validated;
+        return bookingRepository.save(newBooking);
+    }
+
+    private ReentrantLock lockFor(LocalDate date) {
+        return dateLocks[Math.floorMod(date.toEpochDay(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Loads the bookings of the day for the lazy view handed to the domain policies.
+     */
+    private List<Booking> loadBookings(LocalDate date, ReservationTimings timings) {
+        long start = System.nanoTime();
+        List<Booking> bookings;
+        try {
+            bookings = bookingRepository.findByDate(date);
+        } finally {
+            recordStage(timings, Stage.LOAD, start);
+        }
+        metrics.recordBookingsLoaded(bookings.size());
+        timings.recordBookingsLoaded(bookings.size());
+        return bookings;
+    }
 
-        BookingCreatedEvent event = BookingMapper.toBookingCreatedEvent(savedBooking);
-        eventPublisher.publish(event);
+    /**
+     * Reports the time since the given start and returns the current time,
+     * which is where the next stage starts.
+     */
+    private long recordStage(ReservationTimings timings, Stage stage, long start) {
+        long now = System.nanoTime();
+        recordDuration(timings, stage, now - start);
+        return now;
+    }
 
-        return BookingMapper.toBookingResponse(savedBooking);
+    private void recordDuration(ReservationTimings timings, Stage stage, long nanos) {
+        metrics.recordStage(stage, nanos);
+        timings.recordStage(stage, nanos);
     }
 }
@@ -0,0 +1,41 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.BookingMapper;
+import com.tennis.court_booking.application.port.in.BookingExport;
+import com.tennis.court_booking.application.port.in.BookingExportUseCase;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+
+import java.time.LocalDate;
+
+/**
+ * Application service implementing the booking export use case.
+ * Streams bookings from the repository without collecting them, so an export of any
+ * size runs in constant memory.
+ */
+public class BookingExportService implements BookingExportUseCase {
+
+    private final BookingRepository bookingRepository;
+
+    public BookingExportService(BookingRepository bookingRepository) {
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("BookingRepository cannot be null");
+        }
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public BookingExport exportBookings(LocalDate from, LocalDate to) {
+        if (from == null) {
+            throw new IllegalArgumentException("From date cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To date cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+
+        return action -> bookingRepository.forEachInDateRange(
+                from, to, booking -> action.accept(BookingMapper.toBookingResponse(booking)));
+    }
+}
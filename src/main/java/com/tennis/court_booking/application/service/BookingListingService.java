@@ -0,0 +1,64 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.BookingMapper;
+import com.tennis.court_booking.application.paging.BookingCursor;
+import com.tennis.court_booking.application.port.in.BookingListQuery;
+import com.tennis.court_booking.application.port.in.BookingListingUseCase;
+import com.tennis.court_booking.application.port.in.BookingPage;
+import com.tennis.court_booking.application.port.out.BookingKey;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.BookingSearch;
+import com.tennis.court_booking.domain.entity.Booking;
+
+import java.util.List;
+
+/**
+ * Application service implementing the booking listing use case.
+ *
+ * Each page asks the repository for one booking more than requested: if it comes back,
+ * there is a next page and its cursor is the key of the last booking returned. The
+ * extra booking itself is not returned, so the last page never carries a cursor
+ * leading to an empty page.
+ */
+public class BookingListingService implements BookingListingUseCase {
+
+    /**
+     * Largest page a single request may ask for.
+     */
+    public static final int MAX_LIMIT = 500;
+
+    private final BookingRepository bookingRepository;
+
+    public BookingListingService(BookingRepository bookingRepository) {
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("BookingRepository cannot be null");
+        }
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public BookingPage listBookings(BookingListQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        if (query.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit cannot exceed " + MAX_LIMIT);
+        }
+
+        BookingSearch search = new BookingSearch(
+                query.getFrom(), query.getTo(), query.getWindowStart(), query.getWindowEnd());
+        BookingKey after = query.getCursor() == null ? null : BookingCursor.decode(query.getCursor());
+
+        List<Booking> bookings = bookingRepository.findPage(search, after, query.getLimit() + 1);
+
+        boolean hasMore = bookings.size() > query.getLimit();
+        List<Booking> page = hasMore ? bookings.subList(0, query.getLimit()) : bookings;
+        String nextCursor = hasMore ? BookingCursor.encode(keyOf(page.get(page.size() - 1))) : null;
+
+        return new BookingPage(page.stream().map(BookingMapper::toBookingResponse).toList(), nextCursor);
+    }
+
+    private static BookingKey keyOf(Booking booking) {
+        return new BookingKey(booking.getTimeSlot().getDate(), booking.getTimeSlot().getStart(), booking.getId());
+    }
+}
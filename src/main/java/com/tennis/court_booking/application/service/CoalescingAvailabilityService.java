@@ -0,0 +1,79 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.concurrency.SingleFlight;
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+
+import java.time.LocalDate;
+
+/**
+ * Availability query decorator that coalesces concurrent identical reads.
+ *
+ * When a popular day opens, many identical queries arrive within milliseconds. They share
+ * one call to the underlying service - and with it one repository query - per date and
+ * schedule version. Keying by version keeps reads causal: a read that starts after a
+ * booking was written sees the new version and never joins a query that began before it.
+ *
+ * Every read is reported on the ContentionMetrics port, marked shared when it joined a
+ * query already in flight instead of running its own.
+ */
+public class CoalescingAvailabilityService implements AvailabilityUseCase {
+
+    private final AvailabilityUseCase delegate;
+    private final ScheduleVersions scheduleVersions;
+    private final ContentionMetrics contentionMetrics;
+    private final SingleFlight<Query, AvailabilityResponse> singleFlight = new SingleFlight<>();
+
+    public CoalescingAvailabilityService(AvailabilityUseCase delegate, ScheduleVersions scheduleVersions) {
+        this(delegate, scheduleVersions, ContentionMetrics.NONE);
+    }
+
+    public CoalescingAvailabilityService(
+            AvailabilityUseCase delegate,
+            ScheduleVersions scheduleVersions,
+            ContentionMetrics contentionMetrics) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("AvailabilityUseCase cannot be null");
+        }
+        if (scheduleVersions == null) {
+            throw new IllegalArgumentException("ScheduleVersions cannot be null");
+        }
+        if (contentionMetrics == null) {
+            throw new IllegalArgumentException("ContentionMetrics cannot be null");
+        }
+        this.delegate = delegate;
+        this.scheduleVersions = scheduleVersions;
+        this.contentionMetrics = contentionMetrics;
+    }
+
+    @Override
+    public AvailabilityResponse getAvailability(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        Query query = new Query(date, scheduleVersions.current(date));
+        boolean[] executed = new boolean[1];
+        AvailabilityResponse response = singleFlight.execute(query, () -> {
+            executed[0] = true;
+            return delegate.getAvailability(date);
+        });
+        contentionMetrics.recordAvailabilityRead(date, !executed[0]);
+        return response;
+    }
+
+    /**
+     * @return the single-flight group, exposing how many reads were coalesced
+     */
+    public SingleFlight<?, AvailabilityResponse> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Identifies identical availability queries.
+     */
+    private record Query(LocalDate date, long version) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.concurrency.SingleFlight;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+
+import java.time.LocalDate;
+
+/**
+ * Schedule query decorator that coalesces concurrent identical reads.
+ *
+ * Day schedules are always read from the repository, so a burst of polls for a popular day
+ * would otherwise cost one query each. Concurrent reads share one call to the underlying
+ * service per date and schedule version, as CoalescingAvailabilityService does for
+ * availability: a read that starts after a booking was written sees the new version and
+ * never joins a query that began before it.
+ *
+ * Version lookups are passed through; they are a primary key read and answer conditional
+ * requests before any schedule is loaded.
+ */
+public class CoalescingScheduleService implements ScheduleUseCase {
+
+    private final ScheduleUseCase delegate;
+    private final ScheduleVersions scheduleVersions;
+    private final SingleFlight<Query, ScheduleResponse> singleFlight = new SingleFlight<>();
+
+    public CoalescingScheduleService(ScheduleUseCase delegate, ScheduleVersions scheduleVersions) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("ScheduleUseCase cannot be null");
+        }
+        if (scheduleVersions == null) {
+            throw new IllegalArgumentException("ScheduleVersions cannot be null");
+        }
+        this.delegate = delegate;
+        this.scheduleVersions = scheduleVersions;
+    }
+
+    @Override
+    public String getScheduleVersion(LocalDate date) {
+        return delegate.getScheduleVersion(date);
+    }
+
+    @Override
+    public ScheduleResponse getSchedule(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        return singleFlight.execute(new Query(date, scheduleVersions.current(date)), () -> delegate.getSchedule(date));
+    }
+
+    /**
+     * @return the single-flight group, exposing how many reads were coalesced
+     */
+    public SingleFlight<?, ScheduleResponse> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Identifies identical schedule queries.
+     */
+    private record Query(LocalDate date, long version) {
+    }
+}
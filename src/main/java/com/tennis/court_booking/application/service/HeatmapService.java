@@ -0,0 +1,79 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.DayCapacity;
+import com.tennis.court_booking.application.port.in.HeatmapResponse;
+import com.tennis.court_booking.application.port.in.HeatmapUseCase;
+import com.tennis.court_booking.application.port.out.DailyOccupancy;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application service implementing the heat-map use case.
+ *
+ * A month is read from the per-day occupancy counters in a single range query of at
+ * most 31 rows. Nothing is cached: validating a cached month against the shared schedule
+ * versions would take a query of the same size, and a cache validated against anything
+ * local to the instance would miss writes made through other instances.
+ */
+public class HeatmapService implements HeatmapUseCase {
+
+    private final OccupancyRepository occupancyRepository;
+    private final long openMinutes;
+
+    public HeatmapService(
+            OccupancyRepository occupancyRepository,
+            OpeningHoursPolicy openingHoursPolicy) {
+        if (occupancyRepository == null) {
+            throw new IllegalArgumentException("OccupancyRepository cannot be null");
+        }
+        if (openingHoursPolicy == null) {
+            throw new IllegalArgumentException("OpeningHoursPolicy cannot be null");
+        }
+        this.occupancyRepository = occupancyRepository;
+        this.openMinutes = Duration.between(
+                openingHoursPolicy.getOpeningTime(), openingHoursPolicy.getClosingTime()).toMinutes();
+    }
+
+    @Override
+    public HeatmapResponse getHeatmap(YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("Month cannot be null");
+        }
+
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+
+        Map<LocalDate, DailyOccupancy> counters = new HashMap<>();
+        for (DailyOccupancy occupancy : occupancyRepository.findBetween(first, last)) {
+            counters.put(occupancy.getDate(), occupancy);
+        }
+
+        List<DayCapacity> days = new ArrayList<>(month.lengthOfMonth());
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            DailyOccupancy occupancy = counters.get(date);
+            long occupied = occupancy == null ? 0 : occupancy.getOccupiedMinutes();
+            int count = occupancy == null ? 0 : occupancy.getBookingCount();
+            days.add(new DayCapacity(date, occupied, count, freePercent(occupied)));
+        }
+        return new HeatmapResponse(month, days);
+    }
+
+    @Override
+    public int rebuild() {
+        return occupancyRepository.rebuild();
+    }
+
+    private int freePercent(long occupiedMinutes) {
+        long free = Math.max(0, openMinutes - occupiedMinutes);
+        // Rounded down, so a day with any booking never shows as completely free
+        return (int) (free * 100 / openMinutes);
+    }
+}
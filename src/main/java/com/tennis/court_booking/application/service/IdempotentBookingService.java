@@ -0,0 +1,228 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.concurrency.SingleFlight;
+import com.tennis.court_booking.application.idempotency.IdempotencyCache;
+import com.tennis.court_booking.application.idempotency.IdempotencyClaimLostException;
+import com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException;
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.IdempotentBookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.out.IdempotencyRepository;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application service running reservations at most once per Idempotency-Key.
+ *
+ * Lookups go through three tiers:
+ * 1. The in-memory IdempotencyCache - a replay costs a map lookup and never reaches
+ *    the domain or the database
+ * 2. Requests in flight on this instance - concurrent duplicates join the first
+ *    request through a SingleFlight group instead of racing it
+ * 3. The shared IdempotencyRepository - a key claimed on another instance is polled
+ *    until its outcome is stored, up to the wait timeout
+ *
+ * Business rejections are recorded like bookings, so a retried conflicting request gets
+ * the same 400 without revalidating. Any other failure releases the key, so the client
+ * can retry once the failure is resolved.
+ *
+ * A claim is only leased for the claim lease, a few seconds, and the completed outcome is
+ * then kept for the full time to live. The claim of an instance that dies mid-reservation
+ * therefore blocks the key for at most the lease before another request takes it over.
+ * A request outliving its lease may find its key taken over: its outcome is then neither
+ * stored nor cached, and it fails with IdempotencyClaimLostException instead of reporting
+ * a result the key does not record. Claims are fenced by their token, so the late request
+ * cannot overwrite or release the claim that replaced it.
+ */
+public class IdempotentBookingService implements IdempotentBookingUseCase {
+
+    /**
+     * Longest accepted Idempotency-Key, matching the column size of the shared store.
+     */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    private final BookingUseCase bookingUseCase;
+    private final IdempotencyRepository repository;
+    private final IdempotencyCache cache;
+    private final Duration ttl;
+    private final Duration claimLease;
+    private final Duration waitTimeout;
+    private final Clock clock;
+    private final SingleFlight<String, IdempotentReservation> inFlight = new SingleFlight<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    public IdempotentBookingService(
+            BookingUseCase bookingUseCase,
+            IdempotencyRepository repository,
+            IdempotencyCache cache,
+            Duration ttl,
+            Duration claimLease,
+            Duration waitTimeout,
+            Clock clock) {
+        if (bookingUseCase == null) {
+            throw new IllegalArgumentException("BookingUseCase cannot be null");
+        }
+        if (repository == null) {
+            throw new IllegalArgumentException("IdempotencyRepository cannot be null");
+        }
+        if (cache == null) {
+            throw new IllegalArgumentException("IdempotencyCache cannot be null");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (claimLease == null || claimLease.isNegative() || claimLease.isZero()) {
+            throw new IllegalArgumentException("Claim lease must be positive");
+        }
+        if (waitTimeout == null || waitTimeout.isNegative()) {
+            throw new IllegalArgumentException("Wait timeout cannot be null or negative");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.bookingUseCase = bookingUseCase;
+        this.repository = repository;
+        this.cache = cache;
+        this.ttl = ttl;
+        this.claimLease = claimLease;
+        this.waitTimeout = waitTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public BookingResponse reserve(String idempotencyKey, ReserveCommand command) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or blank");
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+
+        IdempotentReservation cached = cache.get(idempotencyKey, clock.instant());
+        if (cached != null) {
+            return replay(cached, command);
+        }
+
+        IdempotentReservation outcome = inFlight.execute(idempotencyKey, () -> resolve(idempotencyKey, command));
+        return replay(outcome, command);
+    }
+
+    /**
+     * Returns the outcome for a key that is not cached: the stored one if another request
+     * already completed it, otherwise the outcome of running the reservation after claiming
+     * the key. Waits while another instance holds the claim.
+     */
+    private IdempotentReservation resolve(String key, ReserveCommand command) {
+        Instant deadline = clock.instant().plus(waitTimeout);
+        while (true) {
+            Instant now = clock.instant();
+            Optional<IdempotentReservation> stored = repository.findByKey(key)
+                    .filter(reservation -> !reservation.isExpiredAt(now));
+            if (stored.isPresent()) {
+                IdempotentReservation reservation = stored.get();
+                if (!reservation.matches(command)) {
+                    throw keyReused();
+                }
+                if (reservation.isCompleted()) {
+                    cache.put(reservation, now);
+                    return reservation;
+                }
+            } else {
+                IdempotentReservation pending = IdempotentReservation.pending(key, command, now.plus(claimLease));
+                if (repository.claim(pending, now)) {
+                    return execute(pending, command);
+                }
+            }
+
+            if (!now.isBefore(deadline)) {
+                throw new IdempotencyKeyInProgressException(key);
+            }
+            pause(key);
+        }
+    }
+
+    /**
+     * Runs the reservation of a claimed key. The claim is completed with the outcome or,
+     * if the reservation ends any other way, released. Fails if the claim was lost.
+     */
+    private IdempotentReservation execute(IdempotentReservation pending, ReserveCommand command) {
+        IdempotentReservation outcome = null;
+        boolean stored = false;
+        try {
+            outcome = run(pending, command);
+        } finally {
+            if (outcome != null) {
+                stored = repository.complete(outcome);
+            } else {
+                repository.release(pending);
+            }
+        }
+        if (!stored) {
+            throw new IdempotencyClaimLostException(pending.getKey());
+        }
+
+        Instant now = clock.instant();
+        cache.put(outcome, now);
+        purgeExpired(now);
+        return outcome;
+    }
+
+    private IdempotentReservation run(IdempotentReservation pending, ReserveCommand command) {
+        IdempotentReservation outcome;
+        try {
+            outcome = pending.booked(bookingUseCase.reserve(command));
+        } catch (BusinessException | InvalidTimeSlotException ex) {
+            outcome = pending.rejected(ex.getMessage());
+        }
+        return outcome.expiringAt(clock.instant().plus(ttl));
+    }
+
+    private BookingResponse replay(IdempotentReservation outcome, ReserveCommand command) {
+        if (!outcome.matches(command)) {
+            throw keyReused();
+        }
+        if (outcome.getRejection() != null) {
+            throw new BusinessException(outcome.getRejection());
+        }
+        return outcome.getBooking();
+    }
+
+    private void pause(String key) {
+        try {
+            Thread.sleep(POLL_INTERVAL);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+
+    /**
+     * Deletes expired records from the shared store, at most once per purge interval
+     * across all request threads.
+     */
+    private void purgeExpired(Instant now) {
+        long due = nextPurgeAt.get();
+        if (now.toEpochMilli() >= due
+                && nextPurgeAt.compareAndSet(due, now.plus(PURGE_INTERVAL).toEpochMilli())) {
+            repository.deleteExpired(now);
+        }
+    }
+
+    private static IllegalArgumentException keyReused() {
+        return new IllegalArgumentException("Idempotency key was already used for a different reservation");
+    }
+}
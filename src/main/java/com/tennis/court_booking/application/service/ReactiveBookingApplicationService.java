@@ -0,0 +1,167 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.BookingMapper;
+import com.tennis.court_booking.application.mapper.TimeSlotMapper;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReactiveBookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingEventPublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingRepository;
+import com.tennis.court_booking.application.port.out.ReactiveDayLock;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Application service implementing the reactive booking use case.
+ *
+ * Orchestrates the same flow as BookingApplicationService and the same BookingDomainService,
+ * but as a non-blocking pipeline: the existing bookings are collected from the reactive
+ * repository, the pure domain check runs on whatever thread delivered them, and the save
+ * and event publication are chained without ever blocking a thread.
+ *
+ * Writes go through the same safeguards as the blocking stack: loading, validating and
+ * saving run under the day's ReactiveDayLock (the same database row DayLock locks), the
+ * save adjusts the day's occupancy counters and schedule version. When the day's snapshot
+ * or change is published, the new version is read under the lock too, so it is exactly the
+ * version the save produced. Both are published once the lock is released and the booking
+ * committed: the day's snapshot on the ScheduleSnapshotPublisher port, and the booking on
+ * the AvailabilityChangePublisher port, which relays it to the availability streams served
+ * by the servlet stack when the fan-out is enabled.
+ */
+public class ReactiveBookingApplicationService implements ReactiveBookingUseCase {
+
+    private final ReactiveBookingRepository bookingRepository;
+    private final ReactiveBookingEventPublisher eventPublisher;
+    private final BookingDomainService domainService;
+    private final ReactiveDayLock dayLock;
+    private final ScheduleSnapshotPublisher snapshotPublisher;
+    private final AvailabilityChangePublisher changePublisher;
+
+    public ReactiveBookingApplicationService(
+            ReactiveBookingRepository bookingRepository,
+            ReactiveBookingEventPublisher eventPublisher,
+            BookingDomainService domainService) {
+        this(bookingRepository, eventPublisher, domainService, ReactiveDayLock.NONE, ScheduleSnapshotPublisher.NONE,
+                AvailabilityChangePublisher.NONE);
+    }
+
+    public ReactiveBookingApplicationService(
+            ReactiveBookingRepository bookingRepository,
+            ReactiveBookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReactiveDayLock dayLock,
+            ScheduleSnapshotPublisher snapshotPublisher,
+            AvailabilityChangePublisher changePublisher) {
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("ReactiveBookingRepository cannot be null");
+        }
+        if (eventPublisher == null) {
+            throw new IllegalArgumentException("ReactiveBookingEventPublisher cannot be null");
+        }
+        if (domainService == null) {
+            throw new IllegalArgumentException("BookingDomainService cannot be null");
+        }
+        if (dayLock == null) {
+            throw new IllegalArgumentException("ReactiveDayLock cannot be null");
+        }
+        if (snapshotPublisher == null) {
+            throw new IllegalArgumentException("ScheduleSnapshotPublisher cannot be null");
+        }
+        if (changePublisher == null) {
+            throw new IllegalArgumentException("AvailabilityChangePublisher cannot be null");
+        }
+        this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainService = domainService;
+        this.dayLock = dayLock;
+        this.snapshotPublisher = snapshotPublisher;
+        this.changePublisher = changePublisher;
+    }
+
+    @Override
+    public Mono<BookingResponse> reserve(ReserveCommand command) {
+        return Mono.fromCallable(() -> TimeSlotMapper.toTimeSlot(command))
+                // Policies that do not need the day's bookings reject before the query
+                .doOnNext(domainService::precheck)
+                .flatMap(timeSlot -> dayLock.runLocked(timeSlot.getDate(), () -> validateAndSave(timeSlot)))
+                .doOnNext(this::publishCommitted)
+                .flatMap(write -> eventPublisher.publish(BookingMapper.toBookingCreatedEvent(write.booking()))
+                        .thenReturn(BookingMapper.toBookingResponse(write.booking())));
+    }
+
+    /**
+     * Loads the day's bookings, validates the slot against them, saves it and, if anything
+     * is published about the day, reads its new version. Runs under the day lock.
+     */
+    private Mono<SavedBooking> validateAndSave(TimeSlot timeSlot) {
+        LocalDate date = timeSlot.getDate();
+        return bookingRepository.findByDate(date)
+                .collectList()
+                .flatMap(existingBookings -> bookingRepository.save(domainService.reserve(timeSlot, existingBookings))
+                        .flatMap(savedBooking -> {
+                            boolean announce = changePublisher.hasSubscribers(date);
+                            if (!announce && snapshotPublisher == ScheduleSnapshotPublisher.NONE) {
+                                return Mono.just(new SavedBooking(savedBooking, List.of(), 0L, false));
+                            }
+                            List<Booking> schedule = new ArrayList<>(existingBookings);
+                            schedule.add(savedBooking);
+                            return bookingRepository.findScheduleVersion(date)
+                                    .map(version -> new SavedBooking(savedBooking, schedule, version, announce));
+                        }));
+    }
+
+    /**
+     * Publishes the day's snapshot and announces the booking once it has committed.
+     */
+    private void publishCommitted(SavedBooking write) {
+        LocalDate date = write.booking().getTimeSlot().getDate();
+        if (snapshotPublisher != ScheduleSnapshotPublisher.NONE) {
+            snapshotPublisher.publish(date, write.version(), write.schedule());
+        }
+        if (write.announce()) {
+            changePublisher.publish(AvailabilityChange.of(
+                    AvailabilityChange.Type.BOOKED, write.booking(), ScheduleVersions.toTag(write.version())));
+        }
+    }
+
+    @Override
+    public Mono<String> getScheduleVersion(LocalDate date) {
+        if (date == null) {
+            return Mono.error(new IllegalArgumentException("Date cannot be null"));
+        }
+
+        return bookingRepository.findScheduleVersion(date).map(ScheduleVersions::toTag);
+    }
+
+    @Override
+    public Mono<ScheduleResponse> getSchedule(LocalDate date) {
+        if (date == null) {
+            return Mono.error(new IllegalArgumentException("Date cannot be null"));
+        }
+
+        // Sample the version before querying, as ScheduleService does
+        return getScheduleVersion(date).flatMap(version -> bookingRepository.findByDate(date)
+                .map(BookingMapper::toBookingResponse)
+                .sort(Comparator.comparing(BookingResponse::getStartTime))
+                .collectList()
+                .map(bookings -> new ScheduleResponse(date, version, bookings)));
+    }
+
+    /**
+     * A saved booking with the day's schedule and version at its commit, when they were read.
+     */
+    private record SavedBooking(Booking booking, List<Booking> schedule, long version, boolean announce) {
+    }
+}
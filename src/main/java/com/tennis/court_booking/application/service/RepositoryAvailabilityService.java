@@ -0,0 +1,45 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.AvailabilityMapper;
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.readmodel.DayOccupancy;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+
+import java.time.LocalDate;
+
+/**
+ * Availability query service that reads directly from the booking repository.
+ * Used when the event-driven read model is disabled (e.g., running without Kafka).
+ */
+public class RepositoryAvailabilityService implements AvailabilityUseCase {
+
+    private final BookingRepository bookingRepository;
+    private final OpeningHoursPolicy openingHoursPolicy;
+
+    public RepositoryAvailabilityService(BookingRepository bookingRepository, OpeningHoursPolicy openingHoursPolicy) {
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("BookingRepository cannot be null");
+        }
+        if (openingHoursPolicy == null) {
+            throw new IllegalArgumentException("OpeningHoursPolicy cannot be null");
+        }
+        this.bookingRepository = bookingRepository;
+        this.openingHoursPolicy = openingHoursPolicy;
+    }
+
+    @Override
+    public AvailabilityResponse getAvailability(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        DayOccupancy occupancy = new DayOccupancy(date);
+        for (Booking booking : bookingRepository.findByDate(date)) {
+            occupancy.occupy(booking.getId(), booking.getTimeSlot().getStart(), booking.getTimeSlot().getEnd());
+        }
+        return AvailabilityMapper.toAvailabilityResponse(occupancy, openingHoursPolicy);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.mapper.BookingMapper;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Application service implementing the schedule use case.
+ * Reads bookings from the repository and versions them with ScheduleVersions.
+ */
+public class ScheduleService implements ScheduleUseCase {
+
+    private final BookingRepository bookingRepository;
+    private final ScheduleVersions scheduleVersions;
+
+    public ScheduleService(BookingRepository bookingRepository, ScheduleVersions scheduleVersions) {
+        if (bookingRepository == null) {
+            throw new IllegalArgumentException("BookingRepository cannot be null");
+        }
+        if (scheduleVersions == null) {
+            throw new IllegalArgumentException("ScheduleVersions cannot be null");
+        }
+        this.bookingRepository = bookingRepository;
+        this.scheduleVersions = scheduleVersions;
+    }
+
+    @Override
+    public String getScheduleVersion(LocalDate date) {
+        return scheduleVersions.tag(date);
+    }
+
+    @Override
+    public ScheduleResponse getSchedule(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        // Sample the version before querying: a concurrent write then yields a newer
+        // schedule under the older version, which the next poll simply refreshes
+        String version = scheduleVersions.tag(date);
+        List<BookingResponse> bookings = bookingRepository.findByDate(date).stream()
+                .map(BookingMapper::toBookingResponse)
+                .sorted(Comparator.comparing(BookingResponse::getStartTime))
+                .toList();
+        return new ScheduleResponse(date, version, bookings);
+    }
+}
@@ -0,0 +1,158 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import com.tennis.court_booking.application.port.out.BookingKey;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.BookingSearch;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.port.out.TransactionHooks;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.domain.entity.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * BookingRepository decorator announcing every write on the AvailabilityChangePublisher
+ * port as booked and freed slots, tagged with the day's new schedule version, and
+ * publishing the new schedule of every day it touched on the ScheduleSnapshotPublisher port.
+ *
+ * The versions themselves are incremented by the delegate, in the statement that adjusts
+ * the day's occupancy counters within the write's transaction, so they are shared by all
+ * instances. The tag is read after the delegate returns, still inside that transaction,
+ * so it is exactly the version the write produced; a snapshot reads the day's bookings
+ * there too. Changes and snapshots are only published once the transaction has committed
+ * (TransactionHooks), so subscribers never see a write that is rolled back and the broker
+ * never holds the day's lock. Nobody following a date means no version read and no change
+ * published; snapshots are skipped entirely when they are disabled.
+ */
+public class VersionTrackingBookingRepository implements BookingRepository {
+
+    private final BookingRepository delegate;
+    private final ScheduleVersions scheduleVersions;
+    private final AvailabilityChangePublisher changePublisher;
+    private final ScheduleSnapshotPublisher snapshotPublisher;
+    private final TransactionHooks transactionHooks;
+
+    public VersionTrackingBookingRepository(BookingRepository delegate, ScheduleVersions scheduleVersions) {
+        this(delegate, scheduleVersions, AvailabilityChangePublisher.NONE);
+    }
+
+    public VersionTrackingBookingRepository(
+            BookingRepository delegate,
+            ScheduleVersions scheduleVersions,
+            AvailabilityChangePublisher changePublisher) {
+        this(delegate, scheduleVersions, changePublisher, TransactionHooks.NONE);
+    }
+
+    public VersionTrackingBookingRepository(
+            BookingRepository delegate,
+            ScheduleVersions scheduleVersions,
+            AvailabilityChangePublisher changePublisher,
+            TransactionHooks transactionHooks) {
+        this(delegate, scheduleVersions, changePublisher, ScheduleSnapshotPublisher.NONE, transactionHooks);
+    }
+
+    public VersionTrackingBookingRepository(
+            BookingRepository delegate,
+            ScheduleVersions scheduleVersions,
+            AvailabilityChangePublisher changePublisher,
+            ScheduleSnapshotPublisher snapshotPublisher,
+            TransactionHooks transactionHooks) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("BookingRepository cannot be null");
+        }
+        if (scheduleVersions == null) {
+            throw new IllegalArgumentException("ScheduleVersions cannot be null");
+        }
+        if (changePublisher == null) {
+            throw new IllegalArgumentException("AvailabilityChangePublisher cannot be null");
+        }
+        if (snapshotPublisher == null) {
+            throw new IllegalArgumentException("ScheduleSnapshotPublisher cannot be null");
+        }
+        if (transactionHooks == null) {
+            throw new IllegalArgumentException("TransactionHooks cannot be null");
+        }
+        this.delegate = delegate;
+        this.scheduleVersions = scheduleVersions;
+        this.changePublisher = changePublisher;
+        this.snapshotPublisher = snapshotPublisher;
+        this.transactionHooks = transactionHooks;
+    }
+
+    @Override
+    public List<Booking> findByDate(LocalDate date) {
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public void forEachInDateRange(LocalDate from, LocalDate to, Consumer<Booking> action) {
+        delegate.forEachInDateRange(from, to, action);
+    }
+
+    @Override
+    public List<Booking> findPage(BookingSearch search, BookingKey after, int limit) {
+        return delegate.findPage(search, after, limit);
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+
+        // An update frees the previous slot and may move the booking to another day
+        Optional<Booking> previous = booking.getId() == null
+                ? Optional.empty()
+                : delegate.findById(booking.getId());
+
+        Booking saved = delegate.save(booking);
+
+        previous.ifPresent(existing -> announce(AvailabilityChange.Type.FREED, existing));
+        announce(AvailabilityChange.Type.BOOKED, saved);
+
+        LocalDate date = saved.getTimeSlot().getDate();
+        previous.map(existing -> existing.getTimeSlot().getDate())
+                .filter(previousDate -> !previousDate.equals(date))
+                .ifPresent(this::publishSnapshot);
+        publishSnapshot(date);
+        return saved;
+    }
+
+    @Override
+    public Optional<Booking> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void delete(Long id) {
+        Optional<Booking> existing = delegate.findById(id);
+        delegate.delete(id);
+        existing.ifPresent(booking -> {
+            announce(AvailabilityChange.Type.FREED, booking);
+            publishSnapshot(booking.getTimeSlot().getDate());
+        });
+    }
+
+    private void announce(AvailabilityChange.Type type, Booking booking) {
+        LocalDate date = booking.getTimeSlot().getDate();
+        if (!changePublisher.hasSubscribers(date)) {
+            return;
+        }
+        AvailabilityChange change = AvailabilityChange.of(type, booking, scheduleVersions.tag(date));
+        transactionHooks.afterCommit(() -> changePublisher.publish(change));
+    }
+
+    private void publishSnapshot(LocalDate date) {
+        if (snapshotPublisher == ScheduleSnapshotPublisher.NONE) {
+            return;
+        }
+        long version = scheduleVersions.current(date);
+        List<Booking> bookings = delegate.findByDate(date);
+        transactionHooks.afterCommit(() -> snapshotPublisher.publish(date, version, bookings));
+    }
+}
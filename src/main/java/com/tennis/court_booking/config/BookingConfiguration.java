@@ -1,16 +1,59 @@
 package com.tennis.court_booking.config;
 
+import com.tennis.court_booking.application.idempotency.IdempotencyCache;
+import com.tennis.court_booking.application.port.in.BookingExportUseCase;
+import com.tennis.court_booking.application.port.in.BookingListingUseCase;
 import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.HeatmapUseCase;
+import com.tennis.court_booking.application.port.in.IdempotentBookingUseCase;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
 import com.tennis.court_booking.application.port.out.BookingEventPublisher;
 import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.port.out.DayLock;
+import com.tennis.court_booking.application.port.out.IdempotencyRepository;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.application.port.out.ReservationMetrics;
+import com.tennis.court_booking.application.port.out.ReservationTracer;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.port.out.TransactionHooks;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.application.service.AvailabilityProjectionService;
+import com.tennis.court_booking.application.service.BookingExportService;
 import com.tennis.court_booking.application.service.BookingApplicationService;
+import com.tennis.court_booking.application.service.BookingListingService;
+import com.tennis.court_booking.application.service.CoalescingAvailabilityService;
+import com.tennis.court_booking.application.service.CoalescingScheduleService;
+import com.tennis.court_booking.application.service.HeatmapService;
+import com.tennis.court_booking.application.service.IdempotentBookingService;
+import com.tennis.court_booking.application.service.RepositoryAvailabilityService;
+import com.tennis.court_booking.application.service.ScheduleService;
+import com.tennis.court_booking.application.service.VersionTrackingBookingRepository;
+import com.tennis.court_booking.domain.policy.BookingPolicy;
 import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
 import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
 import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.monitoring.ContentionEndpoint;
+import com.tennis.court_booking.monitoring.DateContentionTracker;
+import com.tennis.court_booking.monitoring.MicrometerReservationMetrics;
+import com.tennis.court_booking.monitoring.SingleFlightMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalTime;
+import java.util.List;
 
 /**
  * Spring configuration class for the booking domain.
@@ -20,10 +63,17 @@ import java.time.LocalTime;
  * - Defines business policies with configurable parameters
  * - Creates domain service with required policies
  * - Wires the application service that implements the use case
+ * - Wraps it for reservations retried under an Idempotency-Key
+ * - Wires the availability query side (event-driven read model or repository fallback)
+ * - Wires the versioned day schedule query side, the streaming booking export
+ *   and the keyset-paginated booking listing
+ * - Wires the monthly capacity heat-map over the per-day occupancy counters
+ * - Wires the per-date contention tracker behind the contention endpoint
  *
  * Note: Adapter implementations (BookingRepositoryAdapter, BookingEventPublisherAdapter)
  * are auto-detected via @Component scanning and injected automatically.
  */
+@Slf4j
 @Configuration
 public class BookingConfiguration {
 
@@ -56,15 +106,171 @@ public class BookingConfiguration {
      * Configures the booking domain service.
      * Orchestrates business logic and coordinates business policies.
      *
-     * @param openingHoursPolicy the opening hours policy
-     * @param overlappingReservationsPolicy the overlapping reservations policy
+     * Every BookingPolicy bean joins the pipeline; the domain service runs the ones that
+     * do not need existing bookings first, so adding a policy only takes another bean.
+     *
+     * @param policies the booking policies (the opening hours and overlapping reservations policies)
      * @return configured booking domain service
      */
     @Bean
-    public BookingDomainService bookingDomainService(
-            OpeningHoursPolicy openingHoursPolicy,
-            OverlappingReservationsPolicy overlappingReservationsPolicy) {
-        return new BookingDomainService(openingHoursPolicy, overlappingReservationsPolicy);
+    public BookingDomainService bookingDomainService(List<BookingPolicy> policies) {
+        return new BookingDomainService(policies);
+    }
+
+    /**
+     * Configures the per-date schedule versions, read from the occupancy counters.
+     *
+     * @param occupancyRepository the per-day occupancy counters holding the versions (auto-injected)
+     * @return schedule versions shared by the repository decorator and the schedule service
+     */
+    @Bean
+    public ScheduleVersions scheduleVersions(OccupancyRepository occupancyRepository) {
+        return new ScheduleVersions(occupancyRepository);
+    }
+
+    /**
+     * Wraps the repository adapter so every save and delete is announced with the new version
+     * of the day it touches. Registered as the primary BookingRepository, so all application
+     * services write through it.
+     *
+     * Writes are announced to live availability streams when an AvailabilityChangePublisher
+     * adapter is active, and dropped otherwise, once their transaction has committed. The
+     * same goes for the versioned schedule snapshot of every day a write touches, published
+     * when a ScheduleSnapshotPublisher adapter is active (booking.snapshot.enabled).
+     *
+     * @param bookingRepository the repository adapter (auto-injected)
+     * @param scheduleVersions the schedule version counters
+     * @param changePublisher the availability change publisher adapter, if any
+     * @param snapshotPublisher the schedule snapshot publisher adapter, if any
+     * @param transactionHooks the after-commit hooks of the current transaction (auto-injected)
+     * @return the version tracking repository
+     */
+    @Bean
+    @Primary
+    public VersionTrackingBookingRepository versionTrackingBookingRepository(
+            BookingRepository bookingRepository,
+            ScheduleVersions scheduleVersions,
+            ObjectProvider<AvailabilityChangePublisher> changePublisher,
+            ObjectProvider<ScheduleSnapshotPublisher> snapshotPublisher,
+            TransactionHooks transactionHooks) {
+        return new VersionTrackingBookingRepository(
+                bookingRepository,
+                scheduleVersions,
+                changePublisher.getIfAvailable(() -> AvailabilityChangePublisher.NONE),
+                snapshotPublisher.getIfAvailable(() -> ScheduleSnapshotPublisher.NONE),
+                transactionHooks);
+    }
+
+    /**
+     * Configures the day schedule query service.
+     * Concurrent reads of the same day and version are coalesced into one repository query.
+     *
+     * @param bookingRepository the repository for persistence operations (auto-injected)
+     * @param scheduleVersions the schedule version counters keying coalesced queries
+     * @return coalescing schedule service as ScheduleUseCase
+     */
+    @Bean
+    public CoalescingScheduleService scheduleUseCase(
+            BookingRepository bookingRepository,
+            ScheduleVersions scheduleVersions) {
+        return new CoalescingScheduleService(new ScheduleService(bookingRepository, scheduleVersions), scheduleVersions);
+    }
+
+    /**
+     * Publishes the schedule.reads.* metrics of the coalescing schedule service.
+     *
+     * @param scheduleService the coalescing schedule service
+     * @return the meter binder
+     */
+    @Bean
+    public SingleFlightMetrics scheduleReadMetrics(CoalescingScheduleService scheduleService) {
+        return new SingleFlightMetrics("schedule.reads", scheduleService.getSingleFlight());
+    }
+
+    /**
+     * Configures the streaming booking export service.
+     *
+     * @param bookingRepository the repository for persistence operations (auto-injected)
+     * @return configured export service as BookingExportUseCase
+     */
+    @Bean
+    public BookingExportUseCase bookingExportUseCase(BookingRepository bookingRepository) {
+        return new BookingExportService(bookingRepository);
+    }
+
+    /**
+     * Configures the keyset-paginated booking listing service.
+     *
+     * @param bookingRepository the repository for persistence operations (auto-injected)
+     * @return configured listing service as BookingListingUseCase
+     */
+    @Bean
+    public BookingListingUseCase bookingListingUseCase(BookingRepository bookingRepository) {
+        return new BookingListingService(bookingRepository);
+    }
+
+    /**
+     * Configures the monthly capacity heat-map service.
+     *
+     * @param occupancyRepository the per-day occupancy counters (auto-injected)
+     * @param openingHoursPolicy the opening hours policy defining a day's capacity
+     * @return configured heat-map service as HeatmapUseCase
+     */
+    @Bean
+    public HeatmapUseCase heatmapUseCase(
+            OccupancyRepository occupancyRepository,
+            OpeningHoursPolicy openingHoursPolicy) {
+        return new HeatmapService(occupancyRepository, openingHoursPolicy);
+    }
+
+    /**
+     * Recomputes the per-day occupancy counters from the bookings on startup.
+     * Enabled with booking.heatmap.rebuild-on-startup, e.g. after bookings were written
+     * by something other than this application.
+     *
+     * @param heatmapUseCase the heat-map use case owning the counters
+     * @return the startup runner
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.heatmap", name = "rebuild-on-startup", havingValue = "true")
+    public ApplicationRunner heatmapRebuild(HeatmapUseCase heatmapUseCase) {
+        return args -> log.info("Rebuilt occupancy counters for {} days", heatmapUseCase.rebuild());
+    }
+
+    /**
+     * Configures the per-stage timers and outcome counters of the reservation pipeline.
+     *
+     * @param meterRegistry the registry receiving the meters (auto-configured by Actuator)
+     * @return the Micrometer-backed reservation metrics
+     */
+    @Bean
+    public ReservationMetrics reservationMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerReservationMetrics(meterRegistry);
+    }
+
+    /**
+     * Configures the per-date contention tracker, which also publishes its meters.
+     * Reservations and repository-backed availability reads report their dates to it.
+     *
+     * @param trackedDates the number of dates tracked individually (injected from configuration)
+     * @return the contention tracker as ContentionMetrics
+     */
+    @Bean
+    public DateContentionTracker contentionMetrics(
+            @Value("${booking.contention.tracked-dates:100}") int trackedDates) {
+        return new DateContentionTracker(trackedDates);
+    }
+
+    /**
+     * Configures the endpoint listing the busiest dates (GET /actuator/contention).
+     *
+     * @param contentionMetrics the contention tracker
+     * @return the contention endpoint
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public ContentionEndpoint contentionEndpoint(DateContentionTracker contentionMetrics) {
+        return new ContentionEndpoint(contentionMetrics);
     }
 
     /**
@@ -74,16 +280,115 @@ public class BookingConfiguration {
      * The repository and event publisher are injected automatically from their
      * @Component implementations (BookingRepositoryAdapter and BookingEventPublisherAdapter).
      *
+     * The event publisher is injected as a lazy proxy, so with lazy initialization (the
+     * fast-startup profile) the Kafka producer side is built on the first publish rather
+     * than at startup. Without it the publisher bean is created eagerly as before.
+     *
+     * Load, validation and save of a reservation run under the day lock
+     * (DayLockAdapter), which serializes a day's reservations in the database, across
+     * every instance sharing it.
+     *
      * @param bookingRepository the repository for persistence operations (auto-injected)
-     * @param eventPublisher the publisher for domain events (auto-injected)
+     * @param eventPublisher the publisher for domain events (auto-injected, resolved on first use)
      * @param domainService the domain service for business logic
+     * @param reservationMetrics the metrics receiving stage timings and outcomes
+     * @param contentionMetrics the metrics receiving per-date lock waits and conflicts
+     * @param dayLock the database lock of a day (auto-injected)
+     * @param reservationTracer the tracer of individual reservations, if any
      * @return configured booking application service as BookingUseCase
      */
     @Bean
     public BookingUseCase bookingUseCase(
             BookingRepository bookingRepository,
-            BookingEventPublisher eventPublisher,
-            BookingDomainService domainService) {
-        return new BookingApplicationService(bookingRepository, eventPublisher, domainService);
+            @Lazy BookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReservationMetrics reservationMetrics,
+            ContentionMetrics contentionMetrics,
+            DayLock dayLock,
+            ObjectProvider<ReservationTracer> reservationTracer) {
+        return new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, reservationMetrics, contentionMetrics, dayLock,
+                reservationTracer.getIfAvailable(() -> ReservationTracer.NONE));
+    }
+
+    /**
+     * Configures the Idempotency-Key handling around the booking use case.
+     * Completed outcomes are kept in a bounded in-memory cache and in the shared
+     * idempotency_keys table for the configured time to live.
+     *
+     * @param bookingUseCase the booking use case running first requests
+     * @param idempotencyRepository the shared record store (auto-injected)
+     * @param ttlMillis how long outcomes are replayed (injected from configuration)
+     * @param claimLeaseMillis how long a claim holds a key without an outcome (injected from configuration)
+     * @param maxEntries how many outcomes the in-memory cache holds (injected from configuration)
+     * @param waitTimeoutMillis how long a duplicate waits for a request in flight (injected from configuration)
+     * @return configured idempotent booking service as IdempotentBookingUseCase
+     */
+    @Bean
+    public IdempotentBookingUseCase idempotentBookingUseCase(
+            BookingUseCase bookingUseCase,
+            IdempotencyRepository idempotencyRepository,
+            @Value("${booking.idempotency.ttl-ms:86400000}") long ttlMillis,
+            @Value("${booking.idempotency.claim-lease-ms:10000}") long claimLeaseMillis,
+            @Value("${booking.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${booking.idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis) {
+        return new IdempotentBookingService(
+                bookingUseCase,
+                idempotencyRepository,
+                new IdempotencyCache(maxEntries),
+                Duration.ofMillis(ttlMillis),
+                Duration.ofMillis(claimLeaseMillis),
+                Duration.ofMillis(waitTimeoutMillis),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Configures the availability read model maintained from booking events.
+     * Serves as both the AvailabilityUseCase (queries) and the AvailabilityProjectionUseCase
+     * fed by the Kafka listener. Enabled unless booking.read-model.enabled is false.
+     *
+     * @param openingHoursPolicy the opening hours policy bounding free windows
+     * @return the availability projection service
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.read-model", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AvailabilityProjectionService availabilityProjectionService(OpeningHoursPolicy openingHoursPolicy) {
+        return new AvailabilityProjectionService(openingHoursPolicy);
+    }
+
+    /**
+     * Configures availability queries against the booking repository.
+     * Used when the event-driven read model is disabled, e.g. when running without Kafka.
+     * Concurrent identical queries are coalesced into one repository query.
+     *
+     * @param bookingRepository the repository for persistence operations (auto-injected)
+     * @param openingHoursPolicy the opening hours policy bounding free windows
+     * @param scheduleVersions the schedule version counters keying coalesced queries
+     * @param contentionMetrics the metrics receiving per-date reads
+     * @return coalescing, repository-backed availability service as AvailabilityUseCase
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.read-model", name = "enabled", havingValue = "false")
+    public CoalescingAvailabilityService repositoryAvailabilityService(
+            BookingRepository bookingRepository,
+            OpeningHoursPolicy openingHoursPolicy,
+            ScheduleVersions scheduleVersions,
+            ContentionMetrics contentionMetrics) {
+        return new CoalescingAvailabilityService(
+                new RepositoryAvailabilityService(bookingRepository, openingHoursPolicy),
+                scheduleVersions,
+                contentionMetrics);
+    }
+
+    /**
+     * Publishes the availability.reads.* metrics of the coalescing availability service.
+     *
+     * @param availabilityService the coalescing availability service
+     * @return the meter binder
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.read-model", name = "enabled", havingValue = "false")
+    public SingleFlightMetrics availabilityReadMetrics(CoalescingAvailabilityService availabilityService) {
+        return new SingleFlightMetrics("availability.reads", availabilityService.getSingleFlight());
     }
 }
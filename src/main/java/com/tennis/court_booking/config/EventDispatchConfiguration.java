@@ -0,0 +1,96 @@
+package com.tennis.court_booking.config;
+
+import com.tennis.court_booking.adapter.out.event.DispatchingBookingEventPublisher;
+import com.tennis.court_booking.application.port.out.BookingEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spring configuration for off-request-thread event dispatch.
+ *
+ * Enabled with kafka.publishing.dispatch.enabled=true. Wraps whichever Kafka publisher
+ * adapter is active in a DispatchingBookingEventPublisher and makes it the primary
+ * BookingEventPublisher, so the application service enqueues events instead of sending them.
+ *
+ * The executor is either one virtual thread per send (VIRTUAL) or a small bounded platform
+ * pool (PLATFORM) that falls back to running on the caller when its queue is full.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kafka.publishing.dispatch", name = "enabled", havingValue = "true")
+public class EventDispatchConfiguration {
+
+    /**
+     * Executor flavours available for event dispatch.
+     */
+    public enum ExecutorType {
+        VIRTUAL,
+        PLATFORM
+    }
+
+    /**
+     * Configures the dispatching publisher around the active Kafka adapter.
+     *
+     * @param kafkaPublisher the adapter performing the actual send (auto-injected)
+     * @param meterRegistry the registry receiving dispatch metrics
+     * @param executorType the kind of executor to dispatch on
+     * @param poolSize the number of platform threads (PLATFORM only)
+     * @param queueCapacity the queue capacity of the platform pool (PLATFORM only)
+     * @param sendTimeoutMillis the longest time a single send may take
+     * @param shutdownTimeoutMillis the longest time to drain queued sends on shutdown
+     * @return the dispatching publisher, used as the primary BookingEventPublisher
+     */
+    @Bean
+    @Primary
+    public DispatchingBookingEventPublisher dispatchingBookingEventPublisher(
+            BookingEventPublisher kafkaPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.publishing.dispatch.executor:VIRTUAL}") ExecutorType executorType,
+            @Value("${kafka.publishing.dispatch.pool-size:4}") int poolSize,
+            @Value("${kafka.publishing.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${kafka.publishing.dispatch.send-timeout-ms:5000}") long sendTimeoutMillis,
+            @Value("${kafka.publishing.dispatch.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        return new DispatchingBookingEventPublisher(
+                kafkaPublisher,
+                createExecutor(executorType, poolSize, queueCapacity),
+                Duration.ofMillis(sendTimeoutMillis),
+                Duration.ofMillis(shutdownTimeoutMillis),
+                meterRegistry);
+    }
+
+    private static ExecutorService createExecutor(ExecutorType executorType, int poolSize, int queueCapacity) {
+        if (executorType == ExecutorType.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("booking-event-dispatch-", 0).factory());
+        }
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                platformThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "booking-event-dispatch-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.tennis.court_booking.config;
+
+import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.IdempotentBookingUseCase;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Spring configuration for the fast-startup mode.
+ *
+ * Active when spring.main.lazy-initialization=true (see the fast-startup profile). Lazy
+ * initialization defers every bean until it is first used, which moves work off the
+ * startup path but onto the first requests. This configuration keeps the beans a first
+ * reservation needs eager, so the JPA bootstrap still happens before the port opens:
+ * - the booking use cases and, through them, the repository and the database
+ * - the web controllers
+ * - beans with Kafka listeners, which would otherwise never be registered and leave the
+ *   availability read model empty
+ *
+ * The Kafka publisher stays lazy: the booking use case receives it as a lazy proxy, so
+ * the producer side of Kafka is only built when the first event is published.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.main", name = "lazy-initialization", havingValue = "true")
+public class FastStartupConfiguration {
+
+    /**
+     * Configures the filter keeping the reservation path and event consumers eager.
+     * Static, because lazy initialization is applied by a bean factory post-processor
+     * that looks the filters up before regular beans are created.
+     *
+     * @return the lazy initialization exclude filter
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter reservationPathExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                BookingUseCase.class.isAssignableFrom(beanType)
+                        || IdempotentBookingUseCase.class.isAssignableFrom(beanType)
+                        || AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                        || hasKafkaListener(beanType);
+    }
+
+    private static boolean hasKafkaListener(Class<?> beanType) {
+        if (AnnotatedElementUtils.hasAnnotation(beanType, KafkaListener.class)) {
+            return true;
+        }
+        boolean[] found = {false};
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found[0] = true,
+                method -> AnnotatedElementUtils.hasAnnotation(method, KafkaListener.class));
+        return found[0];
+    }
+}
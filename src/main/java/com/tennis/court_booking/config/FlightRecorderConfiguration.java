@@ -0,0 +1,99 @@
+package com.tennis.court_booking.config;
+
+import com.tennis.court_booking.application.port.out.ReservationTracer;
+import com.tennis.court_booking.monitoring.ContinuousProfiler;
+import com.tennis.court_booking.monitoring.FlightRecordingEndpoint;
+import com.tennis.court_booking.monitoring.JfrReservationTracer;
+import com.tennis.court_booking.monitoring.ProfileEndpoint;
+import com.tennis.court_booking.monitoring.RollingStackAggregator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Spring configuration for JDK Flight Recorder support.
+ *
+ * The adapters' flight recorder events (RepositoryCall, BookingPublish) need no wiring;
+ * this configuration adds:
+ * - the tracer emitting a Reservation event per call of the booking use case
+ * - the endpoint controlling a recording, only created when it is exposed, e.g. with
+ *   management.endpoints.web.exposure.include=health,metrics,prometheus,flightrecording
+ *   (it writes files on the server)
+ * - the continuous profiler and its profile endpoint, when booking.profiler.enabled is true
+ */
+@Configuration
+public class FlightRecorderConfiguration {
+
+    /**
+     * Configures the tracer turning each reservation into a flight recorder event.
+     *
+     * @return the flight recorder reservation tracer
+     */
+    @Bean
+    public ReservationTracer reservationTracer() {
+        return new JfrReservationTracer();
+    }
+
+    /**
+     * Configures the endpoint starting, dumping and stopping a flight recording.
+     *
+     * @param dumpDirectory the directory recordings are written to (injected from configuration)
+     * @return the flight recording endpoint
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public FlightRecordingEndpoint flightRecordingEndpoint(
+            @Value("${booking.jfr.dump-directory:${java.io.tmpdir}}") String dumpDirectory) {
+        return new FlightRecordingEndpoint(Path.of(dumpDirectory));
+    }
+
+    /**
+     * Configures the continuous profiler streaming execution, allocation and lock samples.
+     *
+     * @param windowSeconds the length of one aggregation window (injected from configuration)
+     * @param windows the number of windows retained (injected from configuration)
+     * @param maxStacks the distinct stacks tracked per window (injected from configuration)
+     * @param samplePeriodMillis how often running threads are sampled (injected from configuration)
+     * @param lockThresholdMillis the shortest lock wait recorded (injected from configuration)
+     * @param allocationThrottle the allocation sample rate (injected from configuration)
+     * @param stackDepth the innermost frames reported per stack (injected from configuration)
+     * @return the continuous profiler
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.profiler", name = "enabled", havingValue = "true")
+    public ContinuousProfiler continuousProfiler(
+            @Value("${booking.profiler.window-seconds:60}") long windowSeconds,
+            @Value("${booking.profiler.windows:5}") int windows,
+            @Value("${booking.profiler.max-stacks:5000}") int maxStacks,
+            @Value("${booking.profiler.sample-period-ms:20}") long samplePeriodMillis,
+            @Value("${booking.profiler.lock-threshold-ms:10}") long lockThresholdMillis,
+            @Value("${booking.profiler.allocation-throttle:100/s}") String allocationThrottle,
+            @Value("${booking.profiler.stack-depth:16}") int stackDepth) {
+        return new ContinuousProfiler(
+                new RollingStackAggregator(Duration.ofSeconds(windowSeconds), windows, maxStacks),
+                Duration.ofMillis(samplePeriodMillis),
+                Duration.ofMillis(lockThresholdMillis),
+                allocationThrottle,
+                stackDepth,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Configures the endpoint exposing the profiler's top stacks.
+     *
+     * @param continuousProfiler the continuous profiler
+     * @return the profile endpoint
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.profiler", name = "enabled", havingValue = "true")
+    @ConditionalOnAvailableEndpoint
+    public ProfileEndpoint profileEndpoint(ContinuousProfiler continuousProfiler) {
+        return new ProfileEndpoint(continuousProfiler);
+    }
+}
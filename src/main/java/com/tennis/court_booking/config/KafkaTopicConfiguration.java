@@ -0,0 +1,58 @@
+package com.tennis.court_booking.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+import java.time.Duration;
+
+/**
+ * Spring configuration declaring Kafka topics owned by this application.
+ * Declared topics are created on startup by Spring Boot's KafkaAdmin if missing.
+ */
+@Configuration
+public class KafkaTopicConfiguration {
+
+    /**
+     * Declares the log-compacted day schedule snapshot topic.
+     * Compaction keeps the latest snapshot per date key, so the topic size follows the
+     * number of days with bookings rather than the number of changes.
+     *
+     * @param snapshotTopic the snapshot topic name
+     * @param partitions the number of partitions
+     * @return the topic declaration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.snapshot", name = "enabled", havingValue = "true")
+    public NewTopic scheduleSnapshotTopic(
+            @Value("${kafka.topic.schedule-snapshots:booking-schedule-snapshots}") String snapshotTopic,
+            @Value("${booking.snapshot.partitions:3}") int partitions) {
+        return TopicBuilder.name(snapshotTopic)
+                .partitions(partitions)
+                .replicas(1)
+                .compact()
+                .build();
+    }
+
+    /**
+     * Declares the topic relaying availability changes to the streams of every instance.
+     * Changes are only of interest while they are fresh, so it keeps them for an hour.
+     *
+     * @param changesTopic the availability changes topic name
+     * @return the topic declaration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.stream.fan-out", name = "enabled", havingValue = "true")
+    public NewTopic availabilityChangesTopic(
+            @Value("${kafka.topic.availability-changes:availability-changes}") String changesTopic) {
+        return TopicBuilder.name(changesTopic)
+                .partitions(1)
+                .replicas(1)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(Duration.ofHours(1).toMillis()))
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.tennis.court_booking.config;
+
+import com.tennis.court_booking.application.port.in.ReactiveBookingUseCase;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingEventPublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingRepository;
+import com.tennis.court_booking.application.port.out.ReactiveDayLock;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.service.ReactiveBookingApplicationService;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration for the reactive (WebFlux + R2DBC) variant of the booking API.
+ *
+ * Active when the application runs as a reactive web application (reactive profile).
+ * The domain service and policies are the same beans as in the servlet stack; only the
+ * inbound and outbound adapters and the orchestrating application service differ.
+ *
+ * Note: Reactive adapters (R2dbcBookingRepositoryAdapter, R2dbcDayLockAdapter,
+ * ReactiveBookingEventPublisherAdapter) are auto-detected via @Component scanning and
+ * injected automatically. R2DBC auto-configuration is only enabled by the reactive profile,
+ * and without its transaction manager (see R2dbcDayLockAdapter).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingConfiguration {
+
+    /**
+     * Configures the reactive booking application service (use case implementation).
+     *
+     * @param bookingRepository the R2DBC repository adapter (auto-injected)
+     * @param eventPublisher the reactive Kafka publisher adapter (auto-injected)
+     * @param domainService the domain service for business logic
+     * @param dayLock the R2DBC day lock adapter (auto-injected)
+     * @param snapshotPublisher the schedule snapshot publisher, if snapshots are enabled
+     * @param changePublisher the availability change publisher, if the stream fan-out is enabled
+     * @return configured reactive booking application service as ReactiveBookingUseCase
+     */
+    @Bean
+    public ReactiveBookingUseCase reactiveBookingUseCase(
+            ReactiveBookingRepository bookingRepository,
+            ReactiveBookingEventPublisher eventPublisher,
+            BookingDomainService domainService,
+            ReactiveDayLock dayLock,
+            ObjectProvider<ScheduleSnapshotPublisher> snapshotPublisher,
+            ObjectProvider<AvailabilityChangePublisher> changePublisher) {
+        return new ReactiveBookingApplicationService(bookingRepository, eventPublisher, domainService, dayLock,
+                snapshotPublisher.getIfAvailable(() -> ScheduleSnapshotPublisher.NONE),
+                changePublisher.getIfAvailable(() -> AvailabilityChangePublisher.NONE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.tennis.court_booking.config;
+
+import com.tennis.court_booking.monitoring.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Spring configuration for the virtual-thread execution mode.
+ *
+ * Active when spring.threads.virtual.enabled=true (see the virtual-threads profile).
+ * Spring Boot then runs Tomcat requests, @Async methods, the application task executor and
+ * Kafka listener containers on virtual threads; event dispatch is switched to its VIRTUAL
+ * executor by the profile. This configuration adds pinning detection on top.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    /**
+     * Configures the monitor reporting virtual threads pinned to their carrier.
+     *
+     * @param meterRegistry the registry receiving pinning metrics
+     * @param thresholdMillis the shortest pinning worth reporting
+     * @return the pinning monitor
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${booking.virtual-threads.pinning-threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMillis), meterRegistry);
+    }
+}
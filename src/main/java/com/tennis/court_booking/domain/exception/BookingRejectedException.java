@@ -0,0 +1,46 @@
+package com.tennis.court_booking.domain.exception;
+
+/**
+ * Business exception for a reservation rejected by a booking policy.
+ *
+ * Rejections are the most common outcome of a reservation at peak times, so they are made
+ * cheap to throw: no stack trace is captured (the reason identifies where the rejection
+ * comes from) and the message is only formatted, once, when it is first read - typically
+ * when the error response is rendered.
+ */
+public class BookingRejectedException extends BusinessException {
+
+    private final RejectionReason reason;
+    private final Object[] arguments;
+    private String message;
+
+    /**
+     * Creates a new rejection.
+     *
+     * @param reason the rule that rejected the reservation
+     * @param arguments the values referenced by the reason's message template
+     */
+    public BookingRejectedException(RejectionReason reason, Object... arguments) {
+        super(null, null, false);
+        this.reason = reason;
+        this.arguments = arguments;
+    }
+
+    /**
+     * @return the rule that rejected the reservation
+     */
+    public RejectionReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String getMessage() {
+        // Benign race: concurrent readers format identical strings
+        String formatted = message;
+        if (formatted == null) {
+            formatted = reason.format(arguments);
+            message = formatted;
+        }
+        return formatted;
+    }
+}
@@ -12,4 +12,15 @@ public class BusinessException extends RuntimeException {
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructor for subclasses that control stack trace capture.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    protected BusinessException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,31 @@
+package com.tennis.court_booking.domain.exception;
+
+/**
+ * The business rules a reservation can be rejected by, with their message templates.
+ * Templates are only formatted when a rejection's message is actually read.
+ */
+public enum RejectionReason {
+
+    STARTS_BEFORE_OPENING("Booking cannot start before opening time. Start: %s, Opening time: %s"),
+
+    ENDS_AFTER_CLOSING("Booking cannot end after closing time. End: %s, Closing time: %s"),
+
+    OVERLAPS_EXISTING_BOOKING("The requested time slot overlaps with an existing booking. "
+            + "Requested: [%s %s-%s], Existing booking ID: %d [%s %s-%s]");
+
+    private final String template;
+
+    RejectionReason(String template) {
+        this.template = template;
+    }
+
+    /**
+     * Formats the message of a rejection for this reason.
+     *
+     * @param arguments the values referenced by the template
+     * @return the message
+     */
+    public String format(Object... arguments) {
+        return String.format(template, arguments);
+    }
+}
@@ -0,0 +1,31 @@
+package com.tennis.court_booking.domain.policy;
+
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+
+/**
+ * Business rule a requested time slot must satisfy before it is booked.
+ *
+ * Policies declare whether they read the bookings already persisted for the day.
+ * BookingDomainService runs the ones that do not first, so a request they reject is
+ * turned down before the existing bookings are ever loaded.
+ */
+public interface BookingPolicy {
+
+    /**
+     * Tells whether this policy reads the existing bookings of the day.
+     *
+     * @return true if validate loads the existing bookings, false if it only looks at the time slot
+     */
+    boolean requiresExistingBookings();
+
+    /**
+     * Validates the given time slot.
+     * Policies that do not require existing bookings must not load them.
+     *
+     * @param timeSlot         the time slot to validate
+     * @param existingBookings the bookings of the day, loaded on first access
+     * @throws BusinessException if the time slot violates the policy
+     */
+    void validate(TimeSlot timeSlot, ExistingBookings existingBookings);
+}
@@ -0,0 +1,72 @@
+package com.tennis.court_booking.domain.policy;
+
+import com.tennis.court_booking.domain.entity.Booking;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The bookings of the requested day as seen by booking policies.
+ *
+ * A lazy view runs its loader the first time the bookings are read and keeps the result,
+ * so the query behind it is only made when a policy that needs it is reached, and at most
+ * once per reservation. Not thread-safe: a view belongs to a single reservation.
+ */
+public final class ExistingBookings {
+
+    private final Supplier<List<Booking>> loader;
+    private List<Booking> bookings;
+    private boolean loaded;
+
+    private ExistingBookings(Supplier<List<Booking>> loader, List<Booking> bookings, boolean loaded) {
+        this.loader = loader;
+        this.bookings = bookings;
+        this.loaded = loaded;
+    }
+
+    /**
+     * Creates a view of bookings that are already loaded.
+     *
+     * @param bookings the bookings of the day
+     * @return the loaded view
+     */
+    public static ExistingBookings of(List<Booking> bookings) {
+        return new ExistingBookings(null, bookings, true);
+    }
+
+    /**
+     * Creates a view that loads the bookings when they are first read.
+     *
+     * @param loader the query returning the bookings of the day
+     * @return the lazy view
+     * @throws IllegalArgumentException if loader is null
+     */
+    public static ExistingBookings lazy(Supplier<List<Booking>> loader) {
+        if (loader == null) {
+            throw new IllegalArgumentException("Loader cannot be null");
+        }
+        return new ExistingBookings(loader, null, false);
+    }
+
+    /**
+     * Returns the bookings of the day, loading them on the first call.
+     *
+     * @return the bookings of the day
+     */
+    public List<Booking> list() {
+        if (!loaded) {
+            bookings = loader.get();
+            loaded = true;
+        }
+        return bookings;
+    }
+
+    /**
+     * Tells whether the bookings have been loaded.
+     *
+     * @return true once the bookings were read or if the view was created loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
@@ -1,6 +1,8 @@
 package com.tennis.court_booking.domain.policy;
 
+import com.tennis.court_booking.domain.exception.BookingRejectedException;
 import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.exception.RejectionReason;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 import lombok.Value;
 
@@ -11,7 +13,7 @@ import java.time.LocalTime;
  * Ensures that bookings can only be made within the tennis court's operating hours.
  */
 @Value
-public class OpeningHoursPolicy {
+public class OpeningHoursPolicy implements BookingPolicy {
     LocalTime openingTime;
     LocalTime closingTime;
 
@@ -49,17 +51,36 @@ public class OpeningHoursPolicy {
         }
 
         if (timeSlot.getStart().isBefore(openingTime)) {
-            throw new BusinessException(
-                String.format("Booking cannot start before opening time. Start: %s, Opening time: %s",
-                    timeSlot.getStart(), openingTime)
-            );
+            throw new BookingRejectedException(RejectionReason.STARTS_BEFORE_OPENING,
+                timeSlot.getStart(), openingTime);
         }
 
         if (timeSlot.getEnd().isAfter(closingTime)) {
-            throw new BusinessException(
-                String.format("Booking cannot end after closing time. End: %s, Closing time: %s",
-                    timeSlot.getEnd(), closingTime)
-            );
+            throw new BookingRejectedException(RejectionReason.ENDS_AFTER_CLOSING,
+                timeSlot.getEnd(), closingTime);
         }
     }
+
+    /**
+     * Only looks at the time slot, so it runs before any existing bookings are loaded.
+     *
+     * @return false
+     */
+    @Override
+    public boolean requiresExistingBookings() {
+        return false;
+    }
+
+    /**
+     * Validates if the given time slot is within opening hours.
+     * The existing bookings are not read.
+     *
+     * @param timeSlot         the time slot to validate
+     * @param existingBookings the bookings of the day (unused)
+     * @throws BusinessException if the time slot is outside opening hours
+     */
+    @Override
+    public void validate(TimeSlot timeSlot, ExistingBookings existingBookings) {
+        validate(timeSlot);
+    }
 }
@@ -1,7 +1,9 @@
 package com.tennis.court_booking.domain.policy;
 
 import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.exception.BookingRejectedException;
 import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.exception.RejectionReason;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 
 import java.util.List;
@@ -10,7 +12,33 @@ import java.util.List;
  * Business policy that validates if a new booking overlaps with existing bookings.
  * Ensures that there are no conflicting reservations for the same time slot.
  */
-public class OverlappingReservationsPolicy {
+public class OverlappingReservationsPolicy implements BookingPolicy {
+
+    /**
+     * Needs the bookings of the day, so it runs after the policies that do not.
+     *
+     * @return true
+     */
+    @Override
+    public boolean requiresExistingBookings() {
+        return true;
+    }
+
+    /**
+     * Validates if the given time slot overlaps with any existing bookings,
+     * loading them from the view.
+     *
+     * @param timeSlot         the time slot to validate
+     * @param existingBookings the bookings of the day
+     * @throws BusinessException if the time slot overlaps with any existing booking
+     */
+    @Override
+    public void validate(TimeSlot timeSlot, ExistingBookings existingBookings) {
+        if (existingBookings == null) {
+            throw new IllegalArgumentException("Existing bookings cannot be null");
+        }
+        validate(timeSlot, existingBookings.list());
+    }
 
     /**
      * Validates if the given time slot overlaps with any existing bookings.
@@ -29,15 +57,12 @@ public class OverlappingReservationsPolicy {
 
         for (Booking booking : existingBookings) {
             if (timeSlot.overlaps(booking.getTimeSlot())) {
-                throw new BusinessException(
-                    String.format("The requested time slot overlaps with an existing booking. " +
-                        "Requested: [%s %s-%s], Existing booking ID: %d [%s %s-%s]",
-                        timeSlot.getDate(), timeSlot.getStart(), timeSlot.getEnd(),
-                        booking.getId(),
-                        booking.getTimeSlot().getDate(),
-                        booking.getTimeSlot().getStart(),
-                        booking.getTimeSlot().getEnd())
-                );
+                throw new BookingRejectedException(RejectionReason.OVERLAPS_EXISTING_BOOKING,
+                    timeSlot.getDate(), timeSlot.getStart(), timeSlot.getEnd(),
+                    booking.getId(),
+                    booking.getTimeSlot().getDate(),
+                    booking.getTimeSlot().getStart(),
+                    booking.getTimeSlot().getEnd());
             }
         }
     }
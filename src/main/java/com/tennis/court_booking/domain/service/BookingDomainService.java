@@ -2,20 +2,27 @@ package com.tennis.court_booking.domain.service;
 
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.policy.BookingPolicy;
+import com.tennis.court_booking.domain.policy.ExistingBookings;
 import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
 import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Domain service that orchestrates booking reservation logic.
  * Coordinates business policies and creates valid bookings.
  * ID assignment is delegated to the persistence layer.
+ *
+ * Policies run as a pipeline ordered by cost: those that only look at the time slot
+ * (e.g., opening hours) come first, those that read the existing bookings of the day
+ * (e.g., overlaps) last. The first violation ends the pipeline, so a request rejected by
+ * a cheap policy never causes the existing bookings to be loaded.
  */
 public class BookingDomainService {
-    private final OpeningHoursPolicy openingHoursPolicy;
-    private final OverlappingReservationsPolicy overlappingReservationsPolicy;
+    private final List<BookingPolicy> policies;
 
     /**
      * Creates a new BookingDomainService with the specified policies.
@@ -27,15 +34,67 @@ public class BookingDomainService {
     public BookingDomainService(
             OpeningHoursPolicy openingHoursPolicy,
             OverlappingReservationsPolicy overlappingReservationsPolicy) {
+        this(standardPolicies(openingHoursPolicy, overlappingReservationsPolicy));
+    }
+
+    /**
+     * Creates a new BookingDomainService running the given policies.
+     * Policies that do not require existing bookings run first; within each group the
+     * given order is kept.
+     *
+     * @param policies the policies every reservation must satisfy
+     * @throws IllegalArgumentException if policies is null or contains null
+     */
+    public BookingDomainService(List<BookingPolicy> policies) {
+        if (policies == null) {
+            throw new IllegalArgumentException("Policies cannot be null");
+        }
+        for (BookingPolicy policy : policies) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Policy cannot be null");
+            }
+        }
+
+        // Stable sort: false (stateless) before true (reads existing bookings)
+        this.policies = policies.stream()
+                .sorted(Comparator.comparing(BookingPolicy::requiresExistingBookings))
+                .toList();
+    }
+
+    private static List<BookingPolicy> standardPolicies(
+            OpeningHoursPolicy openingHoursPolicy,
+            OverlappingReservationsPolicy overlappingReservationsPolicy) {
         if (openingHoursPolicy == null) {
             throw new IllegalArgumentException("OpeningHoursPolicy cannot be null");
         }
         if (overlappingReservationsPolicy == null) {
             throw new IllegalArgumentException("OverlappingReservationsPolicy cannot be null");
         }
+        return List.of(openingHoursPolicy, overlappingReservationsPolicy);
+    }
 
-        this.openingHoursPolicy = openingHoursPolicy;
-        this.overlappingReservationsPolicy = overlappingReservationsPolicy;
+    /**
+     * Runs only the policies that do not require existing bookings.
+     * Lets callers that cannot hand over a lazy view (e.g., a non-blocking pipeline)
+     * reject a request before querying the bookings of the day.
+     *
+     * @param timeSlot the time slot to check
+     * @throws IllegalArgumentException if timeSlot is null
+     * @throws BusinessException if any of these policies is violated
+     */
+    public void precheck(TimeSlot timeSlot) {
+        if (timeSlot == null) {
+            throw new IllegalArgumentException("TimeSlot cannot be null");
+        }
+
+        ExistingBookings unavailable = ExistingBookings.lazy(() -> {
+            throw new IllegalStateException("Existing bookings are not available during the precheck");
+        });
+        for (BookingPolicy policy : policies) {
+            if (!policy.requiresExistingBookings()) {
+                policy.validate(timeSlot, unavailable);
+            }
+        }
     }
 
     /**
@@ -49,11 +108,31 @@ public class BookingDomainService {
      * @throws BusinessException if any business rule is violated
      */
     public Booking reserve(TimeSlot timeSlot, List<Booking> existingBookings) {
-        // Validate against opening hours policy (also validates timeSlot != null)
-        openingHoursPolicy.validate(timeSlot);
+        return reserve(timeSlot, ExistingBookings.of(existingBookings));
+    }
 
-        // Validate against overlapping reservations policy (also validates existingBookings != null)
-        overlappingReservationsPolicy.validate(timeSlot, existingBookings);
+    /**
+     * Attempts to reserve a booking for the given time slot, reading the existing bookings
+     * only if a policy that requires them is reached.
+     * Returns a Booking without an ID - ID will be assigned by the persistence layer.
+     *
+     * @param timeSlot         the time slot to reserve
+     * @param existingBookings the bookings of the day, typically a lazy view over the repository
+     * @return a new Booking with null ID if validation passes
+     * @throws IllegalArgumentException if timeSlot or existingBookings is null
+     * @throws BusinessException if any business rule is violated
+     */
+    public Booking reserve(TimeSlot timeSlot, ExistingBookings existingBookings) {
+        if (timeSlot == null) {
+            throw new IllegalArgumentException("TimeSlot cannot be null");
+        }
+        if (existingBookings == null) {
+            throw new IllegalArgumentException("Existing bookings cannot be null");
+        }
+
+        for (BookingPolicy policy : policies) {
+            policy.validate(timeSlot, existingBookings);
+        }
 
         // If all validations pass, create and return the booking without ID
         // ID will be assigned by the persistence layer upon save
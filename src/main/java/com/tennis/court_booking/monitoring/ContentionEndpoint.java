@@ -0,0 +1,42 @@
+package com.tennis.court_booking.monitoring;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint exposing the busiest dates of the DateContentionTracker.
+ *
+ * GET /actuator/contention?limit=10 returns the totals over all dates and, for the dates
+ * with the most reservation attempts and availability reads, their conflict rate, date lock
+ * wait versus repository time, and availability hit rate.
+ */
+@Endpoint(id = "contention")
+public class ContentionEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+
+    private final DateContentionTracker tracker;
+
+    /**
+     * Creates a new contention endpoint.
+     *
+     * @param tracker the tracker collecting per-date activity
+     * @throws IllegalArgumentException if tracker is null
+     */
+    public ContentionEndpoint(DateContentionTracker tracker) {
+        if (tracker == null) {
+            throw new IllegalArgumentException("DateContentionTracker cannot be null");
+        }
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public DateContentionTracker.ContentionReport contention(@OptionalParameter Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new InvalidEndpointRequestException("Invalid limit: " + limit, "Limit must be positive");
+        }
+        return tracker.report(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
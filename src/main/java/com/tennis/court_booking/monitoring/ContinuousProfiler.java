@@ -0,0 +1,188 @@
+package com.tennis.court_booking.monitoring;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Continuous in-process profiler built on a flight recorder stream.
+ *
+ * Streams three kinds of JDK events and sums their stacks in a RollingStackAggregator:
+ * - jdk.ExecutionSample every sample period: where the CPU time goes
+ * - jdk.ObjectAllocationSample at a throttled rate, weighted by sampled bytes: who allocates
+ * - jdk.JavaMonitorEnter and jdk.ThreadPark above a threshold, weighted by the wait:
+ *   where threads queue for locks (synchronized and java.util.concurrent alike)
+ *
+ * A park only counts as a lock wait when the thread parked on a lock: an AQS-based lock,
+ * semaphore or latch (whose blockers are their Sync classes) or a StampedLock. Pool
+ * workers waiting for work park on a condition, a queue or the pool itself, and stay out
+ * of the lock profile however long they idle.
+ *
+ * Stacks are recorded whole, so a frame filter such as the booking use case matches
+ * however deep it sits, and are cut to the innermost frames when a profile is read;
+ * allocation and lock stacks start with a pseudo-frame naming the allocated class or the
+ * lock, which is kept on top of the innermost frames. The top stacks are read through
+ * ProfileEndpoint, so a regression such as a slower Hibernate flush or heavier Jackson
+ * serialization shows up from live traffic without attaching an external profiler.
+ *
+ * Runs for the lifetime of the application context; only active with booking.profiler.enabled.
+ */
+@Slf4j
+public class ContinuousProfiler implements SmartLifecycle {
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private final RollingStackAggregator aggregator;
+    private final Duration samplePeriod;
+    private final Duration lockThreshold;
+    private final String allocationThrottle;
+    private final int stackDepth;
+    private final Clock clock;
+    private volatile RecordingStream recordingStream;
+
+    /**
+     * Creates a new continuous profiler.
+     *
+     * @param aggregator the aggregator receiving the stacks
+     * @param samplePeriod how often running threads are sampled
+     * @param lockThreshold the shortest lock wait recorded
+     * @param allocationThrottle the allocation sample rate, e.g. 100/s
+     * @param stackDepth the number of innermost frames reported per stack
+     * @param clock the clock deciding the current window of a profile
+     * @throws IllegalArgumentException if any parameter is null, or a duration or the depth is not positive
+     */
+    public ContinuousProfiler(
+            RollingStackAggregator aggregator,
+            Duration samplePeriod,
+            Duration lockThreshold,
+            String allocationThrottle,
+            int stackDepth,
+            Clock clock) {
+        if (aggregator == null) {
+            throw new IllegalArgumentException("Aggregator cannot be null");
+        }
+        if (samplePeriod == null || samplePeriod.isNegative() || samplePeriod.isZero()) {
+            throw new IllegalArgumentException("Sample period must be positive");
+        }
+        if (lockThreshold == null || lockThreshold.isNegative()) {
+            throw new IllegalArgumentException("Lock threshold cannot be null or negative");
+        }
+        if (allocationThrottle == null || allocationThrottle.isBlank()) {
+            throw new IllegalArgumentException("Allocation throttle cannot be null or blank");
+        }
+        if (stackDepth <= 0) {
+            throw new IllegalArgumentException("Stack depth must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.aggregator = aggregator;
+        this.samplePeriod = samplePeriod;
+        this.lockThreshold = lockThreshold;
+        this.allocationThrottle = allocationThrottle;
+        this.stackDepth = stackDepth;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(EXECUTION_SAMPLE).withPeriod(samplePeriod).withStackTrace();
+        stream.enable(ALLOCATION_SAMPLE).with("throttle", allocationThrottle).withStackTrace();
+        stream.enable(MONITOR_ENTER).withThreshold(lockThreshold).withStackTrace();
+        stream.enable(THREAD_PARK).withThreshold(lockThreshold).withStackTrace();
+        stream.onEvent(EXECUTION_SAMPLE, event -> record(ProfileKind.CPU, event, null, 1));
+        stream.onEvent(ALLOCATION_SAMPLE, event -> record(ProfileKind.ALLOCATION, event,
+                "[allocates " + className(event.getClass("objectClass")) + "]", event.getLong("weight")));
+        stream.onEvent(MONITOR_ENTER, event -> record(ProfileKind.LOCK, event,
+                "[monitor " + className(event.getClass("monitorClass")) + "]", event.getDuration().toNanos()));
+        stream.onEvent(THREAD_PARK, event -> {
+            String parkedClass = className(event.getClass("parkedClass"));
+            if (isLockWait(parkedClass)) {
+                record(ProfileKind.LOCK, event, "[park " + parkedClass + "]", event.getDuration().toNanos());
+            }
+        });
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Continuous profiler started with sample period: {} ms, lock threshold: {} ms, allocation throttle: {}",
+                samplePeriod.toMillis(), lockThreshold.toMillis(), allocationThrottle);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * Returns the heaviest stacks of the retained windows.
+     *
+     * @param kind the profile kind
+     * @param limit the maximum number of stacks returned
+     * @param frameFilter only stacks with a frame containing this text are returned, or null for all
+     * @return the top stacks
+     */
+    public StackProfile top(ProfileKind kind, int limit, String frameFilter) {
+        // Allocation and lock stacks carry their pseudo-frame on top of the innermost frames
+        int depth = kind == ProfileKind.CPU ? stackDepth : stackDepth + 1;
+        return aggregator.top(kind, limit, frameFilter, depth, clock.instant());
+    }
+
+    private void record(ProfileKind kind, RecordedEvent event, String pseudoFrame, long weight) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || weight <= 0) {
+            return;
+        }
+        aggregator.add(kind, frames(stackTrace, pseudoFrame), weight, event.getStartTime());
+    }
+
+    /**
+     * Tells whether a park was a wait for a lock rather than for work or a signal.
+     *
+     * @param parkedClass the name of the object the thread parked on
+     * @return true for AQS-based locks, semaphores and latches, and StampedLock
+     */
+    static boolean isLockWait(String parkedClass) {
+        return parkedClass.endsWith("Sync") || parkedClass.equals("java.util.concurrent.locks.StampedLock");
+    }
+
+    /**
+     * Formats every frame of a stack as Type.method:line, innermost first, after the pseudo-frame if any.
+     */
+    static List<String> frames(RecordedStackTrace stackTrace, String pseudoFrame) {
+        List<RecordedFrame> recorded = stackTrace.getFrames();
+        List<String> frames = new ArrayList<>(recorded.size() + 1);
+        if (pseudoFrame != null) {
+            frames.add(pseudoFrame);
+        }
+        for (RecordedFrame frame : recorded) {
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""));
+        }
+        return List.copyOf(frames);
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass == null ? "unknown" : recordedClass.getName();
+    }
+}
@@ -0,0 +1,249 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adapter for the ContentionMetrics port that finds the hottest dates in fixed memory.
+ *
+ * Every reservation attempt and availability read counts as activity on its date. Dates
+ * are ranked in a SpaceSavingSketch, which keeps attempts, overlap conflicts, date lock
+ * waits, repository time and shared availability reads for the tracked dates only. Totals
+ * over all dates are kept exactly. Per date and overall:
+ * - conflict rate: share of attempts rejected by OverlappingReservationsPolicy
+ * - lock wait ratio: share of lock wait in lock wait plus repository time; near 1 the
+ *   reserve path is contention-bound, near 0 it is I/O-bound
+ * - availability hit rate: share of reads answered without their own repository query
+ *
+ * Meters:
+ * - booking.contention.attempts and booking.contention.conflicts (counters)
+ * - booking.contention.lock.wait.ratio (gauge, cumulative)
+ * - booking.contention.hottest.date.share (gauge): activity share of the busiest date
+ * Dates are not used as tags, which would give every date its own time series.
+ */
+public class DateContentionTracker implements ContentionMetrics, MeterBinder {
+
+    private final SpaceSavingSketch<LocalDate, DateActivity> sketch;
+    private final LongAdder activity = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final LongAdder ioNanos = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder sharedReads = new LongAdder();
+
+    /**
+     * Creates a tracker.
+     *
+     * @param trackedDates the number of dates tracked individually
+     * @throws IllegalArgumentException if trackedDates is not positive
+     */
+    public DateContentionTracker(int trackedDates) {
+        this.sketch = new SpaceSavingSketch<>(trackedDates, DateActivity::new);
+    }
+
+    @Override
+    public void recordReservation(LocalDate date, boolean conflict, long lockWait, long io) {
+        if (date == null) {
+            return;
+        }
+        activity.increment();
+        attempts.increment();
+        if (conflict) {
+            conflicts.increment();
+        }
+        lockWaitNanos.add(lockWait);
+        ioNanos.add(io);
+        sketch.offer(date, stats -> {
+            stats.attempts++;
+            if (conflict) {
+                stats.conflicts++;
+            }
+            stats.lockWaitNanos += lockWait;
+            stats.ioNanos += io;
+        });
+    }
+
+    @Override
+    public void recordAvailabilityRead(LocalDate date, boolean shared) {
+        if (date == null) {
+            return;
+        }
+        activity.increment();
+        reads.increment();
+        if (shared) {
+            sharedReads.increment();
+        }
+        sketch.offer(date, stats -> {
+            stats.reads++;
+            if (shared) {
+                stats.sharedReads++;
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("booking.contention.attempts", attempts, LongAdder::sum)
+                .description("Reservation attempts counted by the contention tracker")
+                .register(registry);
+        FunctionCounter.builder("booking.contention.conflicts", conflicts, LongAdder::sum)
+                .description("Reservation attempts rejected for overlapping an existing booking")
+                .register(registry);
+        Gauge.builder("booking.contention.lock.wait.ratio", this, tracker -> ratio(tracker.lockWaitNanos.sum(), tracker.ioNanos.sum()))
+                .description("Share of date lock wait in lock wait plus repository time of reservations")
+                .register(registry);
+        Gauge.builder("booking.contention.hottest.date.share", this, DateContentionTracker::hottestShare)
+                .description("Share of all activity that went to the busiest tracked date")
+                .register(registry);
+    }
+
+    /**
+     * Returns the totals and the dates with the most activity.
+     *
+     * @param limit the maximum number of dates returned
+     * @return the contention report
+     */
+    public ContentionReport report(int limit) {
+        List<DateContention> dates = sketch.top(limit, DateActivity::copy).stream()
+                .map(hitter -> DateContention.of(hitter.key(), hitter.count(), hitter.error(), hitter.stats()))
+                .toList();
+        long totalAttempts = attempts.sum();
+        long totalReads = reads.sum();
+        return new ContentionReport(
+                activity.sum(),
+                totalAttempts,
+                conflicts.sum(),
+                share(conflicts.sum(), totalAttempts),
+                millis(lockWaitNanos.sum()),
+                millis(ioNanos.sum()),
+                ratio(lockWaitNanos.sum(), ioNanos.sum()),
+                totalReads,
+                share(sharedReads.sum(), totalReads),
+                sketch.capacity(),
+                dates);
+    }
+
+    private double hottestShare() {
+        List<SpaceSavingSketch.HeavyHitter<LocalDate, DateActivity>> hottest = sketch.top(1, DateActivity::copy);
+        return hottest.isEmpty() ? 0.0 : share(hottest.get(0).count(), activity.sum());
+    }
+
+    private static double share(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+
+    private static double ratio(long lockWait, long io) {
+        return share(lockWait, lockWait + io);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Mutable statistics of one tracked date, only touched while the sketch holds the date's lock.
+     */
+    static final class DateActivity {
+
+        private long attempts;
+        private long conflicts;
+        private long lockWaitNanos;
+        private long ioNanos;
+        private long reads;
+        private long sharedReads;
+
+        private DateActivity copy() {
+            DateActivity copy = new DateActivity();
+            copy.attempts = attempts;
+            copy.conflicts = conflicts;
+            copy.lockWaitNanos = lockWaitNanos;
+            copy.ioNanos = ioNanos;
+            copy.reads = reads;
+            copy.sharedReads = sharedReads;
+            return copy;
+        }
+    }
+
+    /**
+     * Contention totals over all dates and the busiest dates.
+     *
+     * @param activity reservation attempts and availability reads
+     * @param attempts reservation attempts
+     * @param conflicts attempts rejected for overlapping an existing booking
+     * @param conflictRate conflicts per attempt
+     * @param lockWaitMillis time reservations waited for date locks
+     * @param ioMillis time reservations spent loading and saving
+     * @param lockWaitRatio lock wait / (lock wait + repository time)
+     * @param availabilityReads availability reads
+     * @param availabilityHitRate share of reads answered without their own repository query
+     * @param trackedDates how many dates are tracked individually at most
+     * @param dates the busiest dates, busiest first
+     */
+    public record ContentionReport(
+            long activity,
+            long attempts,
+            long conflicts,
+            double conflictRate,
+            double lockWaitMillis,
+            double ioMillis,
+            double lockWaitRatio,
+            long availabilityReads,
+            double availabilityHitRate,
+            int trackedDates,
+            List<DateContention> dates) {
+    }
+
+    /**
+     * Contention of one tracked date. Activity may overestimate by up to activityError;
+     * the other figures are exact since the date was last admitted to the sketch.
+     *
+     * @param date the date
+     * @param activity estimated reservation attempts and availability reads
+     * @param activityError the most the activity may overestimate
+     * @param attempts reservation attempts
+     * @param conflicts attempts rejected for overlapping an existing booking
+     * @param conflictRate conflicts per attempt
+     * @param meanLockWaitMillis mean date lock wait per attempt
+     * @param meanIoMillis mean repository time per attempt
+     * @param lockWaitRatio lock wait / (lock wait + repository time)
+     * @param availabilityReads availability reads
+     * @param availabilityHitRate share of reads answered without their own repository query
+     */
+    public record DateContention(
+            LocalDate date,
+            long activity,
+            long activityError,
+            long attempts,
+            long conflicts,
+            double conflictRate,
+            double meanLockWaitMillis,
+            double meanIoMillis,
+            double lockWaitRatio,
+            long availabilityReads,
+            double availabilityHitRate) {
+
+        private static DateContention of(LocalDate date, long activity, long error, DateActivity stats) {
+            return new DateContention(
+                    date,
+                    activity,
+                    error,
+                    stats.attempts,
+                    stats.conflicts,
+                    share(stats.conflicts, stats.attempts),
+                    stats.attempts == 0 ? 0.0 : millis(stats.lockWaitNanos) / stats.attempts,
+                    stats.attempts == 0 ? 0.0 : millis(stats.ioNanos) / stats.attempts,
+                    ratio(stats.lockWaitNanos, stats.ioNanos),
+                    stats.reads,
+                    share(stats.sharedReads, stats.reads));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.tennis.court_booking.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Actuator endpoint starting, dumping and stopping a flight recording of the running service.
+ *
+ * The recording uses the JDK's "profile" settings (GC, locks, socket and file I/O, method
+ * sampling) plus the application's own events (Reservation, RepositoryCall, BookingPublish),
+ * which are enabled by default. Old data is dropped after the maximum age, so a recording
+ * can be left running and dumped after an incident.
+ *
+ * - GET  /actuator/flightrecording - state of the recording
+ * - POST /actuator/flightrecording/start - starts it (optional maxAgeSeconds, default 600)
+ * - POST /actuator/flightrecording/dump - writes what was recorded so far to a .jfr file
+ * - POST /actuator/flightrecording/stop - writes the recording to a .jfr file and discards it
+ *
+ * Only one recording is managed at a time. Without the endpoint, the same recording can be
+ * started from the command line with -XX:StartFlightRecording=settings=profile,maxage=10m.
+ */
+@Slf4j
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(10);
+
+    private static final String RECORDING_NAME = "court-booking";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+
+    /**
+     * Creates a new flight recording endpoint.
+     *
+     * @param dumpDirectory the directory recordings are written to
+     * @throws IllegalArgumentException if dumpDirectory is null
+     */
+    public FlightRecordingEndpoint(Path dumpDirectory) {
+        if (dumpDirectory == null) {
+            throw new IllegalArgumentException("Dump directory cannot be null");
+        }
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            return describe(recording, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector String action, @OptionalParameter Long maxAgeSeconds) {
+        return switch (action) {
+            case "start" -> start(maxAgeSeconds == null ? DEFAULT_MAX_AGE : Duration.ofSeconds(maxAgeSeconds));
+            case "dump" -> dump();
+            case "stop" -> stop();
+            default -> throw new InvalidEndpointRequestException(
+                    "Unknown action: " + action, "Action must be start, dump or stop");
+        };
+    }
+
+    /**
+     * Starts the recording unless one is already running.
+     *
+     * @param maxAge how long recorded data is kept
+     * @return the state of the recording
+     */
+    Map<String, Object> start(Duration maxAge) {
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new InvalidEndpointRequestException("Max age must be positive", "Max age must be positive");
+        }
+        lock.lock();
+        try {
+            if (recording == null) {
+                Recording started = new Recording(Configuration.getConfiguration("profile"));
+                started.setName(RECORDING_NAME);
+                started.setToDisk(true);
+                started.setMaxAge(maxAge);
+                started.start();
+                recording = started;
+                log.info("Flight recording started with max age: {} s", maxAge.toSeconds());
+            }
+            return describe(recording, null);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Flight recorder settings could not be loaded", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes what was recorded so far to a new file; the recording keeps running.
+     *
+     * @return the state of the recording and the written file
+     */
+    Map<String, Object> dump() {
+        lock.lock();
+        try {
+            requireRecording();
+            Path file = writeRecording();
+            return describe(recording, file);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the recording, writes it to a new file and discards it.
+     *
+     * @return the final state of the recording and the written file
+     */
+    Map<String, Object> stop() {
+        lock.lock();
+        try {
+            requireRecording();
+            recording.stop();
+            Path file = writeRecording();
+            Map<String, Object> status = describe(recording, file);
+            recording.close();
+            recording = null;
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requireRecording() {
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("No flight recording is running", "Start a recording first");
+        }
+    }
+
+    private Path writeRecording() {
+        Path file = dumpDirectory.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Flight recording could not be written to " + file, e);
+        }
+        log.info("Flight recording written to: {}", file);
+        return file;
+    }
+
+    private static Map<String, Object> describe(Recording recording, Path file) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        RecordingState state = recording == null ? RecordingState.CLOSED : recording.getState();
+        status.put("state", state.name());
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAgeSeconds", recording.getMaxAge() == null ? null : recording.getMaxAge().toSeconds());
+        }
+        if (file != null) {
+            status.put("file", file.toString());
+        }
+        return status;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationTracer;
+
+/**
+ * Adapter implementation of the ReservationTracer port emitting a ReservationEvent per
+ * reservation.
+ *
+ * The event begins when the reservation starts, so in a recording it spans the GC pauses,
+ * lock waits and JDBC calls of the request. While no recording wants the event, a trace
+ * costs one small allocation.
+ */
+public class JfrReservationTracer implements ReservationTracer {
+
+    @Override
+    public Trace start() {
+        ReservationEvent event = new ReservationEvent();
+        event.begin();
+        return event::complete;
+    }
+}
@@ -0,0 +1,78 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer adapter for the ReservationMetrics port:
+ * - booking.reserve.stage (timer, tag stage): time spent in each stage of a reservation
+ * - booking.reserve.outcomes (counter, tag outcome): reservations by how they ended
+ * - booking.reserve.bookings.loaded (summary): existing bookings validated against per reservation
+ *
+ * Stage timers publish percentile histograms, so p99 per stage can be aggregated across
+ * instances by the monitoring backend (e.g. histogram_quantile in Prometheus).
+ * All meters are registered up front; recording is a map lookup and an atomic update.
+ */
+public class MicrometerReservationMetrics implements ReservationMetrics {
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+    private final DistributionSummary bookingsLoaded;
+
+    /**
+     * Creates the reservation metrics and registers their meters.
+     *
+     * @param registry the registry receiving the meters
+     * @throws IllegalArgumentException if registry is null
+     */
+    public MicrometerReservationMetrics(MeterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("booking.reserve.stage")
+                    .description("Time spent in one stage of a reservation")
+                    .tag("stage", tagValue(stage))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("booking.reserve.outcomes")
+                    .description("Reservations by outcome")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        this.bookingsLoaded = DistributionSummary.builder("booking.reserve.bookings.loaded")
+                .description("Existing bookings of the day a reservation was validated against")
+                .baseUnit("bookings")
+                .serviceLevelObjectives(0, 1, 5, 10, 25, 50, 100, 250, 500, 1000)
+                .register(registry);
+    }
+
+    @Override
+    public void recordStage(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBookingsLoaded(int count) {
+        bookingsLoaded.record(count);
+    }
+
+    @Override
+    public void recordOutcome(Outcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
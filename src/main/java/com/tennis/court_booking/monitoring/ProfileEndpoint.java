@@ -0,0 +1,73 @@
+package com.tennis.court_booking.monitoring;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the top stacks collected by the ContinuousProfiler.
+ *
+ * - GET /actuator/profile - the top stacks of every kind
+ * - GET /actuator/profile/{cpu|allocation|lock} - the top stacks of one kind
+ *
+ * Both accept limit (default 10, at most 100) and filter, which keeps only stacks with a
+ * frame containing the text, e.g. filter=BookingApplicationService.reserve.
+ */
+@Endpoint(id = "profile")
+public class ProfileEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private final ContinuousProfiler profiler;
+
+    /**
+     * Creates a new profile endpoint.
+     *
+     * @param profiler the profiler collecting the stacks
+     * @throws IllegalArgumentException if profiler is null
+     */
+    public ProfileEndpoint(ContinuousProfiler profiler) {
+        if (profiler == null) {
+            throw new IllegalArgumentException("ContinuousProfiler cannot be null");
+        }
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<ProfileKind, StackProfile> all(@OptionalParameter Integer limit, @OptionalParameter String filter) {
+        int top = limit(limit);
+        Map<ProfileKind, StackProfile> profiles = new EnumMap<>(ProfileKind.class);
+        for (ProfileKind kind : ProfileKind.values()) {
+            profiles.put(kind, profiler.top(kind, top, filter));
+        }
+        return profiles;
+    }
+
+    @ReadOperation
+    public StackProfile kind(@Selector String kind, @OptionalParameter Integer limit, @OptionalParameter String filter) {
+        ProfileKind profileKind;
+        try {
+            profileKind = ProfileKind.valueOf(kind.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Unknown profile: " + kind, "Profile must be cpu, allocation or lock");
+        }
+        return profiler.top(profileKind, limit(limit), filter);
+    }
+
+    private static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidEndpointRequestException("Invalid limit: " + limit, "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
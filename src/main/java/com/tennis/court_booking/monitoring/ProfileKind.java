@@ -0,0 +1,23 @@
+package com.tennis.court_booking.monitoring;
+
+/**
+ * What a profiled stack was weighted by.
+ */
+public enum ProfileKind {
+    /** Execution samples: where threads were running Java code */
+    CPU("samples"),
+    /** Allocation samples: where objects were allocated, by sampled bytes */
+    ALLOCATION("bytes"),
+    /** Contended monitor entries and parks: where threads waited for locks, by waiting time */
+    LOCK("nanoseconds");
+
+    private final String unit;
+
+    ProfileKind(String unit) {
+        this.unit = unit;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,88 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+import com.tennis.court_booking.application.port.out.ReservationTimings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.time.LocalDate;
+
+/**
+ * Flight recorder event covering one reservation, from the command to the published event.
+ *
+ * Recorded on the request thread by JfrReservationTracer, so in a recording it lines up
+ * with the GC pauses, lock waits, socket reads and repository calls that happened while
+ * it ran. The fields are only filled in from the reservation's timings when the event is
+ * going to be committed, which keeps the cost close to zero while no recording is running.
+ */
+@Name(ReservationEvent.NAME)
+@Label("Reservation")
+@Category("Court Booking")
+@Description("One call of the booking use case with the time spent in each stage")
+@StackTrace(false)
+public class ReservationEvent extends Event {
+
+    public static final String NAME = "com.tennis.court_booking.Reservation";
+
+    @Label("Date")
+    private String date;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Bookings Loaded")
+    private int bookingsLoaded;
+
+    @Label("Map")
+    @Timespan
+    private long mapDuration;
+
+    @Label("Lock Wait")
+    @Timespan
+    private long lockDuration;
+
+    @Label("Load")
+    @Timespan
+    private long loadDuration;
+
+    @Label("Validate")
+    @Timespan
+    private long validateDuration;
+
+    @Label("Save")
+    @Timespan
+    private long saveDuration;
+
+    @Label("Publish")
+    @Timespan
+    private long publishDuration;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param date the requested date, or null if the command had none
+     * @param outcome how the reservation ended
+     * @param timings the stage timings of the reservation
+     */
+    public void complete(LocalDate date, Outcome outcome, ReservationTimings timings) {
+        end();
+        if (shouldCommit()) {
+            this.date = date == null ? null : date.toString();
+            this.outcome = outcome.name();
+            this.bookingsLoaded = timings.getBookingsLoaded();
+            this.mapDuration = timings.stageDuration(Stage.MAP);
+            this.lockDuration = timings.stageDuration(Stage.LOCK);
+            this.loadDuration = timings.stageDuration(Stage.LOAD);
+            this.validateDuration = timings.stageDuration(Stage.VALIDATE);
+            this.saveDuration = timings.stageDuration(Stage.SAVE);
+            this.publishDuration = timings.stageDuration(Stage.PUBLISH);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.tennis.court_booking.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sums stack weights per profile kind over a fixed number of rolling time windows.
+ *
+ * Samples go into the window their timestamp falls in; windows older than the retained
+ * span are dropped as new ones open, so memory is bounded by the number of windows times
+ * the distinct stacks kept per window. Stacks beyond that limit are not tracked, only
+ * their weight is counted as dropped, so a burst of unique stacks cannot exhaust the heap.
+ *
+ * Stacks are kept whole and only cut when a profile is read, so a frame filter also
+ * matches frames far from the innermost ones, such as the use case a stack runs under.
+ */
+public class RollingStackAggregator {
+
+    private final long windowMillis;
+    private final int windows;
+    private final int maxStacksPerWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeMap<Long, Window> history = new TreeMap<>();
+
+    /**
+     * Creates a new aggregator.
+     *
+     * @param windowLength the length of one window
+     * @param windows the number of windows retained
+     * @param maxStacksPerWindow the number of distinct stacks tracked per window
+     * @throws IllegalArgumentException if windowLength is null or not positive, or a count is not positive
+     */
+    public RollingStackAggregator(Duration windowLength, int windows, int maxStacksPerWindow) {
+        if (windowLength == null || windowLength.toMillis() <= 0) {
+            throw new IllegalArgumentException("Window length must be positive");
+        }
+        if (windows <= 0) {
+            throw new IllegalArgumentException("Number of windows must be positive");
+        }
+        if (maxStacksPerWindow <= 0) {
+            throw new IllegalArgumentException("Max stacks per window must be positive");
+        }
+        this.windowMillis = windowLength.toMillis();
+        this.windows = windows;
+        this.maxStacksPerWindow = maxStacksPerWindow;
+    }
+
+    /**
+     * Adds weight to a stack.
+     *
+     * @param kind what the weight measures
+     * @param stack the frames, innermost first
+     * @param weight the weight to add
+     * @param time when the sample was taken
+     */
+    public void add(ProfileKind kind, List<String> stack, long weight, Instant time) {
+        long windowStart = windowStart(time);
+        lock.lock();
+        try {
+            Window window = windowFor(windowStart);
+            if (window == null) {
+                // Older than every retained window
+                return;
+            }
+            window.add(kind, stack, weight, maxStacksPerWindow);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the heaviest stacks of the retained windows, with all their frames.
+     *
+     * @param kind the profile kind
+     * @param limit the maximum number of stacks returned
+     * @param frameFilter only stacks with a frame containing this text are returned, or null for all
+     * @param now the current time, which decides the windows still retained
+     * @return the top stacks with their share of the total weight
+     */
+    public StackProfile top(ProfileKind kind, int limit, String frameFilter, Instant now) {
+        return top(kind, limit, frameFilter, Integer.MAX_VALUE, now);
+    }
+
+    /**
+     * Returns the heaviest stacks of the retained windows, cut to their innermost frames.
+     *
+     * The filter is matched against the whole stack before it is cut; stacks left with
+     * the same frames after the cut are reported as one.
+     *
+     * @param kind the profile kind
+     * @param limit the maximum number of stacks returned
+     * @param frameFilter only stacks with a frame containing this text are returned, or null for all
+     * @param depth the number of innermost frames kept per stack
+     * @param now the current time, which decides the windows still retained
+     * @return the top stacks with their share of the total weight
+     */
+    public StackProfile top(ProfileKind kind, int limit, String frameFilter, int depth, Instant now) {
+        long oldestRetained = windowStart(now) - (windows - 1) * windowMillis;
+        Map<List<String>, Long> merged = new HashMap<>();
+        long total = 0;
+        long dropped = 0;
+        Instant from = null;
+
+        lock.lock();
+        try {
+            evictBefore(oldestRetained);
+            for (Window window : history.values()) {
+                if (from == null) {
+                    from = Instant.ofEpochMilli(window.start);
+                }
+                for (Map.Entry<List<String>, long[]> entry : window.weights.get(kind).entrySet()) {
+                    merged.merge(entry.getKey(), entry.getValue()[0], Long::sum);
+                }
+                total += window.totals.get(kind)[0];
+                dropped += window.dropped.get(kind)[0];
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Map<List<String>, Long> cut = new HashMap<>();
+        for (Map.Entry<List<String>, Long> entry : merged.entrySet()) {
+            List<String> stack = entry.getKey();
+            if (frameFilter == null || stack.stream().anyMatch(frame -> frame.contains(frameFilter))) {
+                cut.merge(stack.size() > depth ? List.copyOf(stack.subList(0, depth)) : stack, entry.getValue(), Long::sum);
+            }
+        }
+
+        long sum = total;
+        List<StackProfile.StackWeight> stacks = cut.entrySet().stream()
+                .sorted(Map.Entry.<List<String>, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new StackProfile.StackWeight(entry.getKey(), entry.getValue(),
+                        sum == 0 ? 0.0 : 100.0 * entry.getValue() / sum))
+                .toList();
+        return new StackProfile(kind, kind.getUnit(), from, now, total, dropped, stacks);
+    }
+
+    private long windowStart(Instant time) {
+        long millis = time.toEpochMilli();
+        return millis - Math.floorMod(millis, windowMillis);
+    }
+
+    private Window windowFor(long windowStart) {
+        long newest = history.isEmpty() ? windowStart : Math.max(history.lastKey(), windowStart);
+        long oldestRetained = newest - (windows - 1) * windowMillis;
+        if (windowStart < oldestRetained) {
+            return null;
+        }
+        // Samples arrive in chunks, so a late one may still open or find an earlier window
+        Window window = history.computeIfAbsent(windowStart, Window::new);
+        evictBefore(oldestRetained);
+        return window;
+    }
+
+    private void evictBefore(long oldestRetained) {
+        history.headMap(oldestRetained).clear();
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final Map<ProfileKind, Map<List<String>, long[]>> weights = new EnumMap<>(ProfileKind.class);
+        private final Map<ProfileKind, long[]> totals = new EnumMap<>(ProfileKind.class);
+        private final Map<ProfileKind, long[]> dropped = new EnumMap<>(ProfileKind.class);
+        private int stacks;
+
+        private Window(long start) {
+            this.start = start;
+            for (ProfileKind kind : ProfileKind.values()) {
+                weights.put(kind, new HashMap<>());
+                totals.put(kind, new long[1]);
+                dropped.put(kind, new long[1]);
+            }
+        }
+
+        private void add(ProfileKind kind, List<String> stack, long weight, int maxStacks) {
+            totals.get(kind)[0] += weight;
+            Map<List<String>, long[]> kindWeights = weights.get(kind);
+            long[] cell = kindWeights.get(stack);
+            if (cell == null) {
+                if (stacks >= maxStacks) {
+                    dropped.get(kind)[0] += weight;
+                    return;
+                }
+                cell = new long[1];
+                kindWeights.put(stack, cell);
+                stacks++;
+            }
+            cell[0] += weight;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.concurrency.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the counters of a SingleFlight group as metrics:
+ * - {name}.calls - every call made
+ * - {name}.executions - calls that ran their own computation
+ * - {name}.coalescing.ratio - share of calls that joined another call's computation
+ *
+ * The ratio is cumulative since startup; the rate of coalesced calls over a window is
+ * 1 - rate(executions) / rate(calls).
+ */
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final String name;
+    private final SingleFlight<?, ?> singleFlight;
+
+    /**
+     * Creates a binder for one single-flight group.
+     *
+     * @param name the metric name prefix
+     * @param singleFlight the group to observe
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public SingleFlightMetrics(String name, SingleFlight<?, ?> singleFlight) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Metric name cannot be null or blank");
+        }
+        if (singleFlight == null) {
+            throw new IllegalArgumentException("SingleFlight cannot be null");
+        }
+        this.name = name;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(name + ".calls", singleFlight, SingleFlight::calls)
+                .description("Calls made, including coalesced ones")
+                .register(registry);
+        FunctionCounter.builder(name + ".executions", singleFlight, SingleFlight::executions)
+                .description("Calls that ran their own computation")
+                .register(registry);
+        Gauge.builder(name + ".coalescing.ratio", singleFlight, SingleFlight::coalescingRatio)
+                .description("Share of calls answered by joining a computation already in flight")
+                .register(registry);
+    }
+}
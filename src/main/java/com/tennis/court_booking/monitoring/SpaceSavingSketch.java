@@ -0,0 +1,196 @@
+package com.tennis.court_booking.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Space-Saving heavy hitters sketch with per-key statistics, in fixed memory.
+ *
+ * At most capacity keys are tracked. An unseen key arriving when the sketch is full
+ * replaces the key with the smallest count and inherits that count as its error, so any
+ * key whose true count exceeds total / capacity is guaranteed to be tracked and a tracked
+ * key's count overestimates its true count by at most its error. Statistics start fresh
+ * when a key is admitted, so they are exact from that moment on.
+ *
+ * Updates of tracked keys take a lookup in a concurrent map and the key's own lock, so
+ * offers for different keys never wait for each other. Only admitting an unseen key takes
+ * the sketch-wide lock; when the sketch is full it scans the tracked keys for the smallest
+ * count and evicts it. An update racing with the eviction of its key finds the key marked
+ * evicted and retries through admission, so no occurrence is lost. Instances are thread-safe.
+ *
+ * @param <K> the key type; must implement equals and hashCode
+ * @param <S> the mutable per-key statistics
+ */
+public class SpaceSavingSketch<K, S> {
+
+    private final int capacity;
+    private final Supplier<S> statsFactory;
+    private final ConcurrentHashMap<K, Counter<S>> counters;
+    private final ReentrantLock admissionLock = new ReentrantLock();
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param capacity the number of keys tracked
+     * @param statsFactory creates the statistics of a newly admitted key
+     * @throws IllegalArgumentException if capacity is not positive or statsFactory is null
+     */
+    public SpaceSavingSketch(int capacity, Supplier<S> statsFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (statsFactory == null) {
+            throw new IllegalArgumentException("Stats factory cannot be null");
+        }
+        this.capacity = capacity;
+        this.statsFactory = statsFactory;
+        this.counters = new ConcurrentHashMap<>(capacity * 2);
+    }
+
+    /**
+     * Counts one occurrence of a key and updates its statistics.
+     *
+     * @param key the key
+     * @param update applied to the key's statistics while the key is locked; must be quick
+     */
+    public void offer(K key, Consumer<S> update) {
+        Counter<S> counter = counters.get(key);
+        if (counter != null && counter.increment(update)) {
+            return;
+        }
+        admissionLock.lock();
+        try {
+            // Admitted by another caller meanwhile, or evicted since the lookup
+            counter = counters.get(key);
+            if (counter == null || !counter.increment(update)) {
+                admit(key).increment(update);
+            }
+        } finally {
+            admissionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the tracked keys with the highest counts.
+     *
+     * @param limit the maximum number of keys returned
+     * @param snapshot copies statistics, so callers never see them change
+     * @return the heavy hitters, highest count first
+     */
+    public List<HeavyHitter<K, S>> top(int limit, UnaryOperator<S> snapshot) {
+        List<HeavyHitter<K, S>> hitters = new ArrayList<>();
+        for (Map.Entry<K, Counter<S>> entry : counters.entrySet()) {
+            HeavyHitter<K, S> hitter = entry.getValue().snapshot(entry.getKey(), snapshot);
+            if (hitter != null) {
+                hitters.add(hitter);
+            }
+        }
+        hitters.sort(Comparator.comparingLong((HeavyHitter<K, S> hitter) -> hitter.count()).reversed());
+        return hitters.size() > limit ? List.copyOf(hitters.subList(0, limit)) : List.copyOf(hitters);
+    }
+
+    /**
+     * @return the number of keys tracked at most
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Tracks an unseen key, evicting the key with the smallest count if the sketch is full.
+     * Runs under the admission lock, so the number of tracked keys never exceeds capacity.
+     */
+    private Counter<S> admit(K key) {
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            K minimumKey = null;
+            Counter<S> minimum = null;
+            for (Map.Entry<K, Counter<S>> entry : counters.entrySet()) {
+                if (minimum == null || entry.getValue().count < minimum.count) {
+                    minimumKey = entry.getKey();
+                    minimum = entry.getValue();
+                }
+            }
+            inherited = minimum.evict();
+            counters.remove(minimumKey);
+        }
+        Counter<S> counter = new Counter<>(statsFactory.get(), inherited);
+        counters.put(key, counter);
+        return counter;
+    }
+
+    /**
+     * A tracked key.
+     *
+     * @param key the key
+     * @param count the estimated number of occurrences, at most error above the true number
+     * @param error the count inherited from the key it replaced
+     * @param stats the key's statistics since it was admitted
+     */
+    public record HeavyHitter<K, S>(K key, long count, long error, S stats) {
+    }
+
+    private static final class Counter<S> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final S stats;
+        private final long error;
+        // Written under the counter's lock, read without it when looking for the minimum
+        private volatile long count;
+        private boolean evicted;
+
+        private Counter(S stats, long inherited) {
+            this.stats = stats;
+            this.error = inherited;
+            this.count = inherited;
+        }
+
+        /**
+         * Counts one occurrence, unless the counter was evicted.
+         *
+         * @return false if the counter no longer tracks its key
+         */
+        private boolean increment(Consumer<S> update) {
+            lock.lock();
+            try {
+                if (evicted) {
+                    return false;
+                }
+                count++;
+                update.accept(stats);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stops counting and returns the final count.
+         */
+        private long evict() {
+            lock.lock();
+            try {
+                evicted = true;
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private <K> HeavyHitter<K, S> snapshot(K key, UnaryOperator<S> snapshot) {
+            lock.lock();
+            try {
+                return evicted ? null : new HeavyHitter<>(key, count, error, snapshot.apply(stats));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
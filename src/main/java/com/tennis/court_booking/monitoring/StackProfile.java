@@ -0,0 +1,35 @@
+package com.tennis.court_booking.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The heaviest stacks of one profile kind over the retained windows.
+ *
+ * @param kind what the stacks were weighted by
+ * @param unit the unit of the weights
+ * @param from the start of the oldest retained window, or null if nothing was recorded
+ * @param to the time the profile was taken
+ * @param total the weight of every sample in the windows, including untracked stacks
+ * @param dropped the weight of samples whose stack was not tracked (per-window stack limit)
+ * @param stacks the heaviest stacks, heaviest first
+ */
+public record StackProfile(
+        ProfileKind kind,
+        String unit,
+        Instant from,
+        Instant to,
+        long total,
+        long dropped,
+        List<StackWeight> stacks) {
+
+    /**
+     * One stack and its weight.
+     *
+     * @param frames the frames, innermost first
+     * @param weight the summed weight
+     * @param percent the share of the total weight
+     */
+    public record StackWeight(List<String> frames, long weight, double percent) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.tennis.court_booking.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread.
+ *
+ * A virtual thread is pinned when it blocks inside a synchronized block or method (or a
+ * native frame); the carrier cannot run other virtual threads meanwhile, which quietly
+ * caps throughput at the size of the carrier pool. The monitor streams the JDK's
+ * jdk.VirtualThreadPinned flight recorder events above a threshold and turns each one into:
+ * - a warning naming the first application frame of the pinned stack
+ * - the virtual.threads.pinned timer (count and duration)
+ *
+ * Runs for the lifetime of the application context; only active with virtual threads.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.tennis.court_booking.";
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Counter unattributedCounter;
+    private volatile RecordingStream recordingStream;
+
+    /**
+     * Creates a new pinning monitor.
+     *
+     * @param threshold the shortest pinning worth reporting
+     * @param meterRegistry the registry receiving pinning metrics
+     * @throws IllegalArgumentException if any parameter is null or threshold is negative
+     */
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Pinning threshold cannot be null or negative");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("virtual.threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.unattributedCounter = Counter.builder("virtual.threads.pinned.unattributed")
+                .description("Pinning events without an application frame on the stack")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> record(event.getDuration(), applicationFrame(event)));
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning monitor started with threshold: {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * Records one pinning occurrence.
+     *
+     * @param duration how long the virtual thread stayed pinned
+     * @param frame the first application frame of the pinned stack, or null if there was none
+     */
+    void record(Duration duration, String frame) {
+        pinnedTimer.record(duration);
+        if (frame == null) {
+            unattributedCounter.increment();
+            log.warn("Virtual thread pinned for {} ms outside application code", duration.toMillis());
+        } else {
+            log.warn("Virtual thread pinned for {} ms at {}", duration.toMillis(), frame);
+        }
+    }
+
+    private static String applicationFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return null;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+}
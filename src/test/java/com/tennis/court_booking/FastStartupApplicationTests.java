@@ -0,0 +1,48 @@
+package com.tennis.court_booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application with the fast-startup profile and checks which beans exist
+ * right after startup: the reservation path and the event consumers must, the Kafka
+ * publisher must not.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fast-startup"
+})
+@ActiveProfiles("fast-startup")
+class FastStartupApplicationTests {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("Should create the reservation path eagerly with lazy initialization")
+    void shouldCreateReservationPathEagerly() {
+        // Then
+        assertTrue(beanFactory.containsSingleton("bookingUseCase"));
+        assertTrue(beanFactory.containsSingleton("bookingRepositoryAdapter"));
+        assertTrue(beanFactory.containsSingleton("bookingController"));
+    }
+
+    @Test
+    @DisplayName("Should register Kafka listeners eagerly with lazy initialization")
+    void shouldCreateKafkaListenersEagerly() {
+        // Then
+        assertTrue(beanFactory.containsSingleton("bookingCreatedEventListener"));
+    }
+
+    @Test
+    @DisplayName("Should defer the Kafka publisher until the first event is published")
+    void shouldDeferKafkaPublisher() {
+        // Then
+        assertFalse(beanFactory.containsSingleton("bookingEventPublisherAdapter"));
+    }
+}
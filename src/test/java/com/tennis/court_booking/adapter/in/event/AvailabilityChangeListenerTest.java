@@ -0,0 +1,61 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.in.web.sse.AvailabilityStreamHub;
+import com.tennis.court_booking.adapter.out.event.dto.AvailabilityChangeKafkaEvent;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityChangeListener Tests")
+class AvailabilityChangeListenerTest {
+
+    @Mock
+    private AvailabilityStreamHub streamHub;
+
+    private AvailabilityChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AvailabilityChangeListener(streamHub);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the hub is null")
+    void shouldThrowExceptionWhenHubIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new AvailabilityChangeListener(null)
+        );
+        assertEquals("AvailabilityStreamHub cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should push a relayed change to the local subscribers")
+    void shouldPushRelayedChangeToHub() {
+        // Given
+        AvailabilityChangeKafkaEvent kafkaEvent = new AvailabilityChangeKafkaEvent("BOOKED", 7L,
+                LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0), "v3");
+
+        // When
+        listener.onAvailabilityChange(kafkaEvent);
+
+        // Then
+        ArgumentCaptor<AvailabilityChange> changeCaptor = ArgumentCaptor.forClass(AvailabilityChange.class);
+        verify(streamHub).publish(changeCaptor.capture());
+        assertEquals(AvailabilityChange.Type.BOOKED, changeCaptor.getValue().getType());
+        assertEquals(LocalDate.of(2024, 1, 15), changeCaptor.getValue().getDate());
+        assertEquals("v3", changeCaptor.getValue().getVersion());
+    }
+}
@@ -0,0 +1,124 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
+import com.tennis.court_booking.application.port.in.AvailabilityProjectionUseCase;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingCreatedEventListener Tests")
+class BookingCreatedEventListenerTest {
+
+    @Mock
+    private AvailabilityProjectionUseCase projectionUseCase;
+
+    @Mock
+    private ConsumerSeekCallback seekCallback;
+
+    private BookingCreatedEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new BookingCreatedEventListener(projectionUseCase);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when projection use case is null")
+    void shouldThrowExceptionWhenProjectionUseCaseIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingCreatedEventListener(null)
+        );
+        assertEquals("AvailabilityProjectionUseCase cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should apply consumed event to the projection")
+    void shouldApplyConsumedEventToProjection() {
+        // Given
+        BookingCreatedKafkaEvent kafkaEvent = new BookingCreatedKafkaEvent(
+                3L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(projectionUseCase.apply(any(BookingCreatedEvent.class))).thenReturn(true);
+        ArgumentCaptor<BookingCreatedEvent> captor = ArgumentCaptor.forClass(BookingCreatedEvent.class);
+
+        // When
+        listener.onBookingCreated(kafkaEvent);
+
+        // Then
+        verify(projectionUseCase).apply(captor.capture());
+        assertEquals(3L, captor.getValue().getBookingId());
+        assertEquals(LocalDate.of(2024, 1, 15), captor.getValue().getDate());
+    }
+
+    @Test
+    @DisplayName("Should not fail on redelivered event")
+    void shouldNotFailOnRedeliveredEvent() {
+        BookingCreatedKafkaEvent kafkaEvent = new BookingCreatedKafkaEvent(
+                3L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(projectionUseCase.apply(any(BookingCreatedEvent.class))).thenReturn(false);
+
+        assertDoesNotThrow(() -> listener.onBookingCreated(kafkaEvent));
+    }
+
+    @Test
+    @DisplayName("Should seek assigned partitions to the beginning")
+    void shouldSeekAssignedPartitionsToBeginning() {
+        // Given
+        Map<TopicPartition, Long> assignments = Map.of(
+                new TopicPartition("booking-created", 0), 42L,
+                new TopicPartition("booking-created", 1), 17L);
+
+        // When
+        listener.onPartitionsAssigned(assignments, seekCallback);
+
+        // Then
+        verify(seekCallback).seekToBeginning(assignments.keySet());
+    }
+
+    @Test
+    @DisplayName("Should only replay the overlap window when bootstrapping from snapshots")
+    void shouldReplayOverlapWindowWhenBootstrappingFromSnapshots() {
+        // Given
+        BookingCreatedEventListener snapshotListener =
+                new BookingCreatedEventListener(projectionUseCase, ReadModelBootstrap.SNAPSHOT, 60_000L);
+        Map<TopicPartition, Long> assignments = Map.of(new TopicPartition("booking-created", 0), 42L);
+        long before = System.currentTimeMillis();
+
+        // When
+        snapshotListener.onPartitionsAssigned(assignments, seekCallback);
+
+        // Then
+        ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(seekCallback).seekToTimestamp(eq(assignments.keySet()), timestampCaptor.capture());
+        verify(seekCallback, never()).seekToBeginning(anyCollection());
+        assertTrue(timestampCaptor.getValue() <= before - 60_000L + 1000L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when bootstrap is null")
+    void shouldThrowExceptionWhenBootstrapIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingCreatedEventListener(projectionUseCase, null, 0L)
+        );
+        assertEquals("Read model bootstrap cannot be null", exception.getMessage());
+    }
+}
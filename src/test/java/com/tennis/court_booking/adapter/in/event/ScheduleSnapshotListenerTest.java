@@ -0,0 +1,98 @@
+package com.tennis.court_booking.adapter.in.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.application.port.in.AvailabilityProjectionUseCase;
+import com.tennis.court_booking.domain.entity.Booking;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleSnapshotListener Tests")
+class ScheduleSnapshotListenerTest {
+
+    @Mock
+    private AvailabilityProjectionUseCase projectionUseCase;
+
+    @Mock
+    private ConsumerSeekCallback seekCallback;
+
+    private ScheduleSnapshotListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ScheduleSnapshotListener(projectionUseCase, true);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when projection use case is null")
+    void shouldThrowExceptionWhenProjectionUseCaseIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ScheduleSnapshotListener(null, true)
+        );
+        assertEquals("AvailabilityProjectionUseCase cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should refuse to bootstrap from snapshots that are not published")
+    void shouldThrowExceptionWhenSnapshotsAreDisabled() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ScheduleSnapshotListener(projectionUseCase, false)
+        );
+        assertEquals("booking.read-model.bootstrap=SNAPSHOT requires booking.snapshot.enabled=true",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should apply consumed snapshot with its version to the projection")
+    @SuppressWarnings("unchecked")
+    void shouldApplyConsumedSnapshotWithVersionToProjection() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        DayScheduleSnapshotKafkaEvent snapshot = new DayScheduleSnapshotKafkaEvent(date, 3L, 60, List.of(
+                new DayScheduleSnapshotKafkaEvent.Slot(1L, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        ArgumentCaptor<List<Booking>> captor = ArgumentCaptor.forClass(List.class);
+
+        // When
+        listener.onSnapshot(snapshot);
+
+        // Then
+        verify(projectionUseCase).applySnapshot(eq(date), eq(3L), captor.capture());
+        assertEquals(1L, captor.getValue().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should ignore tombstones")
+    void shouldIgnoreTombstones() {
+        listener.onSnapshot(null);
+
+        verifyNoInteractions(projectionUseCase);
+    }
+
+    @Test
+    @DisplayName("Should read the snapshot topic from the beginning")
+    void shouldReadSnapshotTopicFromBeginning() {
+        Map<TopicPartition, Long> assignments = Map.of(new TopicPartition("booking-schedule-snapshots", 0), 5L);
+
+        listener.onPartitionsAssigned(assignments, seekCallback);
+
+        verify(seekCallback).seekToBeginning(assignments.keySet());
+    }
+}
@@ -0,0 +1,65 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.port.in.TimeWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for AvailabilityController.
+ */
+@WebMvcTest(AvailabilityController.class)
+class AvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvailabilityUseCase availabilityUseCase;
+
+    @Test
+    @DisplayName("Constructor should throw exception when AvailabilityUseCase is null")
+    void constructorShouldThrowExceptionWhenUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AvailabilityController(null),
+                "AvailabilityUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/availability should return free and occupied windows")
+    void getAvailabilityShouldReturnWindows() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        AvailabilityResponse response = new AvailabilityResponse(
+                date,
+                List.of(new TimeWindow(LocalTime.of(8, 0), LocalTime.of(10, 0)),
+                        new TimeWindow(LocalTime.of(11, 0), LocalTime.of(20, 0))),
+                List.of(new TimeWindow(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+        );
+        when(availabilityUseCase.getAvailability(date)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/availability").param("date", "2024-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2024-01-15"))
+                .andExpect(jsonPath("$.free.length()").value(2))
+                .andExpect(jsonPath("$.free[0].start").value("08:00:00"))
+                .andExpect(jsonPath("$.occupied[0].start").value("10:00:00"))
+                .andExpect(jsonPath("$.occupied[0].end").value("11:00:00"));
+    }
+}
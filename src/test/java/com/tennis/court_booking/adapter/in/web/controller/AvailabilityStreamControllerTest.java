@@ -0,0 +1,69 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.sse.AvailabilityStreamHub;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for AvailabilityStreamController.
+ */
+@WebMvcTest(AvailabilityStreamController.class)
+class AvailabilityStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvailabilityStreamHub streamHub;
+
+    @MockBean
+    private ScheduleUseCase scheduleUseCase;
+
+    @Test
+    @DisplayName("Constructor should throw exception when AvailabilityStreamHub is null")
+    void constructorShouldThrowExceptionWhenHubIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AvailabilityStreamController(null, scheduleUseCase),
+                "AvailabilityStreamHub cannot be null");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/stream should open an event stream for the day")
+    void streamShouldStartAsyncResponse() throws Exception {
+        // Given
+        when(streamHub.subscribe(eq(LocalDate.of(2024, 1, 15)), any())).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/stream").param("date", "2024-01-15"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/stream should return 503 when the hub is full")
+    void streamShouldReturn503WhenHubIsFull() throws Exception {
+        // Given
+        when(streamHub.subscribe(eq(LocalDate.of(2024, 1, 15)), any())).thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/stream").param("date", "2024-01-15"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -2,9 +2,16 @@ package com.tennis.court_booking.adapter.in.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingRequest;
+import com.tennis.court_booking.application.port.in.BookingListQuery;
+import com.tennis.court_booking.application.port.in.BookingListingUseCase;
+import com.tennis.court_booking.application.port.in.BookingPage;
 import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException;
 import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.IdempotentBookingUseCase;
 import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
 import com.tennis.court_booking.domain.exception.BusinessException;
 import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +24,17 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,14 +54,144 @@ class BookingControllerTest {
     @MockBean
     private BookingUseCase bookingUseCase;
 
+    @MockBean
+    private IdempotentBookingUseCase idempotentBookingUseCase;
+
+    @MockBean
+    private ScheduleUseCase scheduleUseCase;
+
+    @MockBean
+    private BookingListingUseCase listingUseCase;
+
     @Test
     @DisplayName("Constructor should throw exception when BookingUseCase is null")
     void constructorShouldThrowExceptionWhenUseCaseIsNull() {
         assertThrows(IllegalArgumentException.class,
-                () -> new BookingController(null),
+                () -> new BookingController(null, idempotentBookingUseCase, scheduleUseCase, listingUseCase),
                 "BookingUseCase cannot be null");
     }
 
+    @Test
+    @DisplayName("Constructor should throw exception when IdempotentBookingUseCase is null")
+    void constructorShouldThrowExceptionWhenIdempotentUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingController(bookingUseCase, null, scheduleUseCase, listingUseCase),
+                "IdempotentBookingUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("Constructor should throw exception when ScheduleUseCase is null")
+    void constructorShouldThrowExceptionWhenScheduleUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingController(bookingUseCase, idempotentBookingUseCase, null, listingUseCase),
+                "ScheduleUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("Constructor should throw exception when BookingListingUseCase is null")
+    void constructorShouldThrowExceptionWhenListingUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingController(bookingUseCase, idempotentBookingUseCase, scheduleUseCase, null),
+                "BookingListingUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?from=&to= should return a page with the next cursor")
+    void listBookingsShouldReturnPageWithNextCursor() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        BookingListQuery query = new BookingListQuery(
+                from, to, LocalTime.of(10, 0), LocalTime.of(12, 0), "abc", 2);
+        when(listingUseCase.listBookings(query)).thenReturn(new BookingPage(List.of(
+                new BookingResponse(1L, from, LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                new BookingResponse(2L, from, LocalTime.of(11, 0), LocalTime.of(12, 0))
+        ), "next"));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("fromTime", "10:00")
+                        .param("toTime", "12:00")
+                        .param("cursor", "abc")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings.length()").value(2))
+                .andExpect(jsonPath("$.bookings[1].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings should return 400 for a malformed cursor")
+    void listBookingsShouldReturnBadRequestForMalformedCursor() throws Exception {
+        // Given
+        when(listingUseCase.listBookings(any(BookingListQuery.class)))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?date= should return the day's bookings with an ETag")
+    void getScheduleShouldReturnBookingsWithETag() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        ScheduleResponse response = new ScheduleResponse(date, "epoch.2", List.of(
+                new BookingResponse(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                new BookingResponse(2L, date, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        when(scheduleUseCase.getScheduleVersion(date)).thenReturn("epoch.2");
+        when(scheduleUseCase.getSchedule(date)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings").param("date", "2024-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"epoch.2\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.date").value("2024-01-15"))
+                .andExpect(jsonPath("$.bookings.length()").value(2))
+                .andExpect(jsonPath("$.bookings[0].id").value(1))
+                .andExpect(jsonPath("$.bookings[1].startTime").value("14:00:00"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?date= should return 304 without querying when the ETag matches")
+    void getScheduleShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(scheduleUseCase.getScheduleVersion(date)).thenReturn("epoch.2");
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings").param("date", "2024-01-15")
+                        .header("If-None-Match", "\"epoch.2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"epoch.2\""));
+
+        verify(scheduleUseCase, never()).getSchedule(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?date= should return 200 when the ETag is stale")
+    void getScheduleShouldReturnOkWhenETagIsStale() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(scheduleUseCase.getScheduleVersion(date)).thenReturn("epoch.3");
+        when(scheduleUseCase.getSchedule(date)).thenReturn(new ScheduleResponse(date, "epoch.3", List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings").param("date", "2024-01-15")
+                        .header("If-None-Match", "\"epoch.2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"epoch.3\""))
+                .andExpect(jsonPath("$.bookings.length()").value(0));
+    }
+
     @Test
     @DisplayName("POST /api/bookings should create booking and return 201 Created")
     void reserveBookingShouldReturnCreatedStatus() throws Exception {
@@ -211,4 +354,43 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.timestamp").exists());
     }
+
+    @Test
+    @DisplayName("POST /api/bookings with Idempotency-Key should go through the idempotent use case")
+    void reserveBookingWithIdempotencyKeyShouldUseIdempotentUseCase() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        ReserveBookingRequest request = new ReserveBookingRequest(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(idempotentBookingUseCase.reserve(eq("key-1"), any(ReserveCommand.class)))
+                .thenReturn(new BookingResponse(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(bookingUseCase, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings should return 409 while the Idempotency-Key is still in progress")
+    void reserveBookingShouldReturnConflictWhenKeyInProgress() throws Exception {
+        // Given
+        ReserveBookingRequest request = new ReserveBookingRequest(
+                LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(idempotentBookingUseCase.reserve(eq("key-1"), any(ReserveCommand.class)))
+                .thenThrow(new IdempotencyKeyInProgressException("key-1"));
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("A request with idempotency key 'key-1' is still being processed"));
+    }
 }
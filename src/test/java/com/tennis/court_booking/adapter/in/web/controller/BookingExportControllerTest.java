@@ -0,0 +1,93 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.court_booking.application.port.in.BookingExportUseCase;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for BookingExportController.
+ */
+@WebMvcTest(BookingExportController.class)
+class BookingExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private BookingExportUseCase exportUseCase;
+
+    @Test
+    @DisplayName("Constructor should throw exception when BookingExportUseCase is null")
+    void constructorShouldThrowExceptionWhenUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingExportController(null, objectMapper),
+                "BookingExportUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/export should stream one JSON document per line")
+    void exportShouldStreamNdjson() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(exportUseCase.exportBookings(from, to)).thenReturn(action -> {
+            action.accept(new BookingResponse(1L, from, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+            action.accept(new BookingResponse(2L, to, LocalTime.of(12, 0), LocalTime.of(13, 0)));
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/bookings/export")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"date\":\"2024-01-01\",\"startTime\":\"10:00:00\",\"endTime\":\"11:00:00\"}\n"
+                                + "{\"id\":2,\"date\":\"2024-01-31\",\"startTime\":\"12:00:00\",\"endTime\":\"13:00:00\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/export should return 400 before streaming when the range is invalid")
+    void exportShouldReturnBadRequestForInvalidRange() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2024, 2, 1);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+        when(exportUseCase.exportBookings(from, to))
+                .thenThrow(new IllegalArgumentException("From date cannot be after to date"));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/export")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("From date cannot be after to date"));
+    }
+}
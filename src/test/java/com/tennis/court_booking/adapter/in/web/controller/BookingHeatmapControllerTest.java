@@ -0,0 +1,61 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.application.port.in.DayCapacity;
+import com.tennis.court_booking.application.port.in.HeatmapResponse;
+import com.tennis.court_booking.application.port.in.HeatmapUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for BookingHeatmapController.
+ */
+@WebMvcTest(BookingHeatmapController.class)
+class BookingHeatmapControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HeatmapUseCase heatmapUseCase;
+
+    @Test
+    @DisplayName("Constructor should throw exception when HeatmapUseCase is null")
+    void constructorShouldThrowExceptionWhenUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingHeatmapController(null),
+                "HeatmapUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/heatmap?month= should return the month's day capacities")
+    void getHeatmapShouldReturnDayCapacities() throws Exception {
+        // Given
+        YearMonth month = YearMonth.of(2024, 2);
+        when(heatmapUseCase.getHeatmap(month)).thenReturn(new HeatmapResponse(month, List.of(
+                new DayCapacity(LocalDate.of(2024, 2, 1), 180L, 2, 75),
+                new DayCapacity(LocalDate.of(2024, 2, 2), 0L, 0, 100))));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/heatmap").param("month", "2024-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.month").value("2024-02"))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].date").value("2024-02-01"))
+                .andExpect(jsonPath("$.days[0].occupiedMinutes").value(180))
+                .andExpect(jsonPath("$.days[0].freePercent").value(75));
+    }
+}
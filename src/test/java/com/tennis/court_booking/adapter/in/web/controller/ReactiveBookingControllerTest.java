@@ -0,0 +1,122 @@
+package com.tennis.court_booking.adapter.in.web.controller;
+
+import com.tennis.court_booking.adapter.in.web.dto.ReserveBookingRequest;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReactiveBookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReactiveBookingController.
+ * Mirrors BookingControllerTest for the WebFlux stack.
+ */
+@WebFluxTest(ReactiveBookingController.class)
+class ReactiveBookingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveBookingUseCase bookingUseCase;
+
+    @Test
+    @DisplayName("Constructor should throw exception when ReactiveBookingUseCase is null")
+    void constructorShouldThrowExceptionWhenUseCaseIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReactiveBookingController(null),
+                "ReactiveBookingUseCase cannot be null");
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings should create booking and return 201 Created")
+    void reserveBookingShouldReturnCreatedStatus() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(bookingUseCase.reserve(any(ReserveCommand.class)))
+                .thenReturn(Mono.just(new BookingResponse(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        // When & Then
+        webTestClient.post().uri("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ReserveBookingRequest(date, LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.date").isEqualTo("2024-01-15")
+                .jsonPath("$.startTime").isEqualTo("10:00:00");
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings should return 400 when BusinessException is signalled")
+    void reserveBookingShouldReturnBadRequestOnBusinessException() {
+        // Given
+        when(bookingUseCase.reserve(any(ReserveCommand.class)))
+                .thenReturn(Mono.error(new BusinessException("The requested time slot overlaps with an existing booking")));
+
+        // When & Then
+        webTestClient.post().uri("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ReserveBookingRequest(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("The requested time slot overlaps with an existing booking")
+                .jsonPath("$.path").isEqualTo("/api/bookings");
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?date= should return 304 without querying when the ETag matches")
+    void getScheduleShouldReturnNotModifiedWhenETagMatches() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(bookingUseCase.getScheduleVersion(date)).thenReturn(Mono.just("epoch.4"));
+
+        // When & Then
+        webTestClient.get().uri("/api/bookings?date=2024-01-15")
+                .header("If-None-Match", "\"epoch.4\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        verify(bookingUseCase, never()).getSchedule(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings?date= should return the day's bookings with an ETag")
+    void getScheduleShouldReturnBookingsWithETag() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(bookingUseCase.getScheduleVersion(date)).thenReturn(Mono.just("epoch.4"));
+        when(bookingUseCase.getSchedule(date)).thenReturn(Mono.just(new ScheduleResponse(date, "epoch.4", List.of(
+                new BookingResponse(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0))))));
+
+        // When & Then
+        webTestClient.get().uri("/api/bookings?date=2024-01-15")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"epoch.4\"")
+                .expectBody()
+                .jsonPath("$.bookings.length()").isEqualTo(1)
+                .jsonPath("$.bookings[0].id").isEqualTo(1);
+    }
+}
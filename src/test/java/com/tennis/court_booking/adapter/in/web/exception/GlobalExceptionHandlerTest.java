@@ -1,6 +1,8 @@
 package com.tennis.court_booking.adapter.in.web.exception;
 
 import com.tennis.court_booking.adapter.in.web.dto.ErrorResponse;
+import com.tennis.court_booking.application.idempotency.IdempotencyClaimLostException;
+import com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException;
 import com.tennis.court_booking.domain.exception.BusinessException;
 import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,6 +50,39 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().getTimestamp());
     }
 
+    @Test
+    @DisplayName("Should handle IdempotencyKeyInProgressException and return 409 Conflict")
+    void shouldHandleIdempotencyKeyInProgressException() {
+        // Given
+        IdempotencyKeyInProgressException exception = new IdempotencyKeyInProgressException("key-1");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleIdempotencyKeyInProgressException(exception, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().getStatus());
+        assertEquals("Conflict", response.getBody().getError());
+        assertEquals("A request with idempotency key 'key-1' is still being processed", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle IdempotencyClaimLostException and return 409 Conflict")
+    void shouldHandleIdempotencyClaimLostException() {
+        // Given
+        IdempotencyClaimLostException exception = new IdempotencyClaimLostException("key-1");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleIdempotencyClaimLostException(exception, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("The claim on idempotency key 'key-1' expired before the reservation completed",
+                response.getBody().getMessage());
+    }
+
     @Test
     @DisplayName("Should handle InvalidTimeSlotException and return 400 Bad Request")
     void shouldHandleInvalidTimeSlotException() {
@@ -0,0 +1,222 @@
+package com.tennis.court_booking.adapter.in.web.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AvailabilityStreamHub Tests")
+class AvailabilityStreamHubTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private AvailabilityStreamHub hub;
+
+    private AvailabilityStreamHub newHub(int queueCapacity, int maxSubscribers, CountDownLatch sendGate) {
+        return newHub(queueCapacity, maxSubscribers, sendGate, 60_000);
+    }
+
+    private AvailabilityStreamHub newHub(int queueCapacity, int maxSubscribers, CountDownLatch sendGate,
+                                         long sendTimeoutMillis) {
+        return new AvailabilityStreamHub(new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry, queueCapacity, maxSubscribers, 60_000, 60_000, sendTimeoutMillis) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(sendGate);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send the current version first and then the day's changes")
+    void shouldSendVersionThenChanges() throws Exception {
+        // Given
+        hub = newHub(8, 10, new CountDownLatch(0));
+        hub.subscribe(TEST_DATE, () -> "epoch.3");
+        hub.subscribe(TEST_DATE.plusDays(1), () -> "epoch.0");
+
+        // When
+        hub.publish(change(AvailabilityChange.Type.BOOKED, TEST_DATE, "epoch.4"));
+
+        // Then
+        RecordingEmitter sameDay = emitters.get(0);
+        assertTrue(sameDay.awaitSends(2));
+        assertTrue(sameDay.sent.get(0).contains("event:subscribed"));
+        assertTrue(sameDay.sent.get(1).contains("event:booked"));
+        assertTrue(sameDay.sent.get(1).contains("id:epoch.4"));
+        assertTrue(sameDay.sent.get(1).contains("\"bookingId\":1"));
+
+        RecordingEmitter otherDay = emitters.get(1);
+        assertTrue(otherDay.awaitSends(1));
+        Thread.sleep(50);
+        assertEquals(1, otherDay.sent.size());
+    }
+
+    @Test
+    @DisplayName("Should evict a subscriber that falls behind")
+    void shouldEvictSlowSubscriber() {
+        // Given - sends block, so the queue fills up
+        CountDownLatch sendGate = new CountDownLatch(1);
+        hub = newHub(2, 10, sendGate);
+        hub.subscribe(TEST_DATE, () -> "epoch.0");
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            hub.publish(change(AvailabilityChange.Type.BOOKED, TEST_DATE, "epoch." + i));
+        }
+        sendGate.countDown();
+
+        // Then
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("availability.stream.evictions").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should refuse subscriptions beyond the maximum")
+    void shouldRefuseSubscriptionsBeyondMaximum() {
+        // Given
+        hub = newHub(8, 1, new CountDownLatch(0));
+
+        // When & Then
+        assertNotNull(hub.subscribe(TEST_DATE, () -> "epoch.0"));
+        assertNull(hub.subscribe(TEST_DATE, () -> "epoch.0"));
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose connection failed")
+    void shouldDropFailedSubscriber() throws Exception {
+        // Given
+        hub = newHub(8, 10, new CountDownLatch(0));
+        hub.subscribe(TEST_DATE, () -> "epoch.0");
+        RecordingEmitter emitter = emitters.get(0);
+        assertTrue(emitter.awaitSends(1));
+        emitter.failing = true;
+
+        // When
+        hub.publish(change(AvailabilityChange.Type.FREED, TEST_DATE, "epoch.1"));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should evict a subscriber whose send stalls without holding up the others")
+    void shouldEvictStalledSubscriber() throws Exception {
+        // Given
+        hub = newHub(8, 10, new CountDownLatch(0), 100);
+        hub.subscribe(TEST_DATE, () -> "epoch.0");
+        hub.subscribe(TEST_DATE, () -> "epoch.0");
+        RecordingEmitter stalled = emitters.get(0);
+        RecordingEmitter healthy = emitters.get(1);
+        assertTrue(stalled.awaitSends(1));
+        assertTrue(healthy.awaitSends(1));
+        stalled.stalled = true;
+
+        // When
+        hub.publish(change(AvailabilityChange.Type.BOOKED, TEST_DATE, "epoch.1"));
+
+        // Then
+        assertTrue(healthy.awaitSends(2));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.getSubscriberCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, hub.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("availability.stream.evictions").counter().count());
+
+        hub.publish(change(AvailabilityChange.Type.FREED, TEST_DATE, "epoch.2"));
+        assertTrue(healthy.awaitSends(3));
+        assertEquals(1, stalled.sent.size());
+    }
+
+    @Test
+    @DisplayName("Should withdraw a subscription whose version cannot be read")
+    void shouldWithdrawSubscriptionWhenVersionFails() {
+        // Given
+        hub = newHub(8, 10, new CountDownLatch(0));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(TEST_DATE, () -> {
+            throw new IllegalStateException("Version store unavailable");
+        }));
+        assertEquals(0, hub.getSubscriberCount());
+        assertFalse(hub.hasSubscribers(TEST_DATE));
+    }
+
+    private static AvailabilityChange change(AvailabilityChange.Type type, LocalDate date, String version) {
+        return new AvailabilityChange(type, 1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0), version);
+    }
+
+    /**
+     * Emitter recording the rendered events instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch sendGate;
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile boolean stalled;
+
+        RecordingEmitter(CountDownLatch sendGate) {
+            this.sendGate = sendGate;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                sendGate.await(5, TimeUnit.SECONDS);
+                if (stalled) {
+                    // A client that stopped reading: the write only ends when interrupted
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing", ex);
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        boolean awaitSends(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return sent.size() >= count;
+        }
+    }
+}
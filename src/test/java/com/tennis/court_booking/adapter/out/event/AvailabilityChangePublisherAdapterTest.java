@@ -0,0 +1,82 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.AvailabilityChangeKafkaEvent;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityChangePublisherAdapter Tests")
+class AvailabilityChangePublisherAdapterTest {
+
+    private static final String TOPIC = "availability-changes";
+    private static final AvailabilityChange CHANGE = new AvailabilityChange(AvailabilityChange.Type.FREED, 7L,
+            LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0), "v2");
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private AvailabilityChangePublisherAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new AvailabilityChangePublisherAdapter(kafkaTemplate, TOPIC);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when KafkaTemplate is null")
+    void shouldThrowExceptionWhenKafkaTemplateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new AvailabilityChangePublisherAdapter(null, TOPIC)
+        );
+        assertEquals("KafkaTemplate cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should relay the change keyed by date")
+    void shouldRelayChangeKeyedByDate() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // When
+        adapter.publish(CHANGE);
+
+        // Then
+        verify(kafkaTemplate).send(eq(TOPIC), eq("2024-01-15"), valueCaptor.capture());
+        AvailabilityChangeKafkaEvent kafkaEvent = (AvailabilityChangeKafkaEvent) valueCaptor.getValue();
+        assertEquals("FREED", kafkaEvent.getType());
+        assertEquals(7L, kafkaEvent.getBookingId());
+        assertEquals("v2", kafkaEvent.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not throw when the send fails")
+    void shouldNotThrowWhenSendFails() {
+        // Given
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Kafka connection failed"));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(failed);
+
+        // When & Then
+        assertDoesNotThrow(() -> adapter.publish(CHANGE));
+    }
+}
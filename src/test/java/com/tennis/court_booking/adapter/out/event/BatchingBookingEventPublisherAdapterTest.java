@@ -0,0 +1,238 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEventBatch;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BatchingBookingEventPublisherAdapter.
+ * The batch window is set far beyond the test duration so flushes are driven
+ * by batch size or explicit flush calls only.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchingBookingEventPublisherAdapter Tests")
+class BatchingBookingEventPublisherAdapterTest {
+
+    private static final String TOPIC = "booking-created";
+    private static final String BATCH_TOPIC = "booking-created-batch";
+    private static final long LONG_WINDOW_MS = 60_000;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private BatchingBookingEventPublisherAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should buffer events until the batch is full")
+    void shouldBufferEventsUntilBatchIsFull() {
+        // Given
+        adapter = createAdapter(BatchFormat.ENVELOPE, 3);
+        stubSend();
+
+        // When
+        adapter.publish(event(1L, 10));
+        adapter.publish(event(2L, 11));
+
+        // Then
+        verifyNoInteractions(kafkaTemplate);
+
+        adapter.publish(event(3L, 12));
+        verify(kafkaTemplate, timeout(1000).times(1))
+                .send(eq(BATCH_TOPIC), eq("2024-01-15"), any(BookingCreatedKafkaEventBatch.class));
+    }
+
+    @Test
+    @DisplayName("Should send one envelope per message key")
+    void shouldSendOneEnvelopePerMessageKey() {
+        // Given
+        adapter = createAdapter(BatchFormat.ENVELOPE, 100);
+        stubSend();
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // When
+        adapter.publish(event(1L, 10));
+        adapter.publish(event(2L, 11));
+        adapter.publish(new BookingCreatedEvent(3L, LocalDate.of(2024, 1, 16), LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        adapter.flush();
+
+        // Then
+        verify(kafkaTemplate, times(2)).send(eq(BATCH_TOPIC), anyString(), valueCaptor.capture());
+        BookingCreatedKafkaEventBatch firstBatch = (BookingCreatedKafkaEventBatch) valueCaptor.getAllValues().get(0);
+        assertEquals(2, firstBatch.getEvents().size());
+    }
+
+    @Test
+    @DisplayName("Should send individual records and flush once in BURST format")
+    void shouldSendIndividualRecordsAndFlushOnceInBurstFormat() {
+        // Given
+        adapter = createAdapter(BatchFormat.BURST, 100);
+        stubSend();
+
+        // When
+        adapter.publish(event(1L, 10));
+        adapter.publish(event(2L, 11));
+        adapter.flush();
+
+        // Then
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any(BookingCreatedKafkaEvent.class));
+        verify(kafkaTemplate, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("Should flush buffered events on shutdown")
+    void shouldFlushBufferedEventsOnShutdown() {
+        // Given
+        adapter = createAdapter(BatchFormat.ENVELOPE, 100);
+        stubSend();
+        adapter.publish(event(1L, 10));
+
+        // When
+        adapter.destroy();
+
+        // Then
+        verify(kafkaTemplate, times(1)).send(eq(BATCH_TOPIC), anyString(), any(BookingCreatedKafkaEventBatch.class));
+    }
+
+    @Test
+    @DisplayName("Should not send anything when flushing an empty buffer")
+    void shouldNotSendWhenFlushingEmptyBuffer() {
+        adapter = createAdapter(BatchFormat.ENVELOPE, 100);
+
+        adapter.flush();
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Should not throw exception when batch send fails")
+    void shouldNotThrowExceptionWhenBatchSendFails() {
+        // Given
+        adapter = createAdapter(BatchFormat.ENVELOPE, 1);
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Kafka connection failed"));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(failed);
+
+        // When & Then
+        assertDoesNotThrow(() -> adapter.publish(event(1L, 10)));
+        verify(kafkaTemplate, timeout(1000)).send(eq(BATCH_TOPIC), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should send a full batch from the batcher thread, not the publishing one")
+    void shouldSendFullBatchFromBatcherThread() {
+        // Given
+        adapter = createAdapter(BatchFormat.BURST, 2);
+        List<String> sendingThreads = new CopyOnWriteArrayList<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            sendingThreads.add(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // When
+        adapter.publish(event(1L, 10));
+        adapter.publish(event(2L, 11));
+
+        // Then
+        verify(kafkaTemplate, timeout(1000)).flush();
+        assertEquals(List.of("booking-event-batcher", "booking-event-batcher"), sendingThreads);
+    }
+
+    @Test
+    @DisplayName("Should still send the rest of the batch when the producer refuses a record")
+    void shouldSendRestOfBatchWhenRecordIsRefused() {
+        // Given
+        adapter = createAdapter(BatchFormat.BURST, 100);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("Record too large"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        adapter.publish(event(1L, 10));
+        adapter.publish(event(2L, 11));
+        assertDoesNotThrow(() -> adapter.flush());
+
+        // Then
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any(BookingCreatedKafkaEvent.class));
+        verify(kafkaTemplate).flush();
+    }
+
+    @Test
+    @DisplayName("Should send batches handed to the batcher before shutting down")
+    void shouldSendHandedOverBatchesOnShutdown() {
+        // Given
+        adapter = createAdapter(BatchFormat.ENVELOPE, 1);
+        stubSend();
+        adapter.publish(event(1L, 10));
+
+        // When
+        adapter.destroy();
+
+        // Then
+        verify(kafkaTemplate, times(1)).send(eq(BATCH_TOPIC), anyString(), any(BookingCreatedKafkaEventBatch.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when event is null")
+    void shouldThrowExceptionWhenEventIsNull() {
+        adapter = createAdapter(BatchFormat.ENVELOPE, 100);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> adapter.publish(null)
+        );
+        assertEquals("Event cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when max batch size is not positive")
+    void shouldThrowExceptionWhenMaxBatchSizeIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> createAdapter(BatchFormat.ENVELOPE, 0)
+        );
+        assertEquals("Max batch size must be positive", exception.getMessage());
+    }
+
+    private BatchingBookingEventPublisherAdapter createAdapter(BatchFormat format, int maxBatchSize) {
+        return new BatchingBookingEventPublisherAdapter(
+                kafkaTemplate, TOPIC, BATCH_TOPIC, EventPartitioningStrategy.DATE, format, maxBatchSize, LONG_WINDOW_MS);
+    }
+
+    private void stubSend() {
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private static BookingCreatedEvent event(Long id, int startHour) {
+        return new BookingCreatedEvent(id, LocalDate.of(2024, 1, 15),
+                LocalTime.of(startHour, 0), LocalTime.of(startHour + 1, 0));
+    }
+}
@@ -152,6 +152,47 @@ class BookingEventPublisherAdapterTest {
         assertEquals(expectedBookingId.toString(), keyCaptor.getValue());
     }
 
+    @Test
+    @DisplayName("Should use booking date as message key with DATE partitioning")
+    void shouldUseBookingDateAsMessageKeyWithDatePartitioning() {
+        // Given
+        BookingEventPublisherAdapter dateKeyedAdapter =
+                new BookingEventPublisherAdapter(kafkaTemplate, TEST_TOPIC, EventPartitioningStrategy.DATE);
+        BookingCreatedEvent domainEvent = new BookingCreatedEvent(
+                42L,
+                LocalDate.of(2024, 1, 15),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0)
+        );
+
+        CompletableFuture<SendResult<String, BookingCreatedKafkaEvent>> future =
+                CompletableFuture.completedFuture(createSuccessfulSendResult());
+
+        when(kafkaTemplate.send(anyString(), anyString(), any(BookingCreatedKafkaEvent.class)))
+                .thenReturn(future);
+
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+
+        // When
+        dateKeyedAdapter.publish(domainEvent);
+
+        // Then
+        verify(kafkaTemplate).send(anyString(), keyCaptor.capture(), any(BookingCreatedKafkaEvent.class));
+        assertEquals("2024-01-15", keyCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when partitioning strategy is null")
+    void shouldThrowExceptionWhenPartitioningStrategyIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingEventPublisherAdapter(kafkaTemplate, TEST_TOPIC, null)
+        );
+
+        assertEquals("Partitioning strategy cannot be null", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Should publish to correct topic")
     void shouldPublishToCorrectTopic() {
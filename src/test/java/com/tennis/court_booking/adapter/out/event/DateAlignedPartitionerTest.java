@@ -0,0 +1,94 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DateAlignedPartitioner Tests")
+class DateAlignedPartitionerTest {
+
+    private static final String TOPIC = "booking-created";
+    private static final int PARTITIONS = 6;
+
+    private DateAlignedPartitioner partitioner;
+    private Cluster cluster;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new DateAlignedPartitioner();
+        cluster = clusterWithPartitions(PARTITIONS);
+    }
+
+    @Test
+    @DisplayName("Should place every event of a date on the same partition")
+    void shouldPlaceEveryEventOfDateOnSamePartition() {
+        String key = "2024-01-15";
+
+        int first = partition(key);
+        int second = partition(key);
+
+        assertEquals(first, second);
+        assertEquals(DateAlignedPartitioner.partitionForDate(LocalDate.of(2024, 1, 15), PARTITIONS), first);
+    }
+
+    @Test
+    @DisplayName("Should spread consecutive days round-robin across partitions")
+    void shouldSpreadConsecutiveDaysAcrossPartitions() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        Set<Integer> used = new HashSet<>();
+
+        for (int day = 0; day < PARTITIONS; day++) {
+            used.add(partition(start.plusDays(day).toString()));
+        }
+
+        assertEquals(PARTITIONS, used.size());
+    }
+
+    @Test
+    @DisplayName("Should fall back to hash partitioning for non-date keys")
+    void shouldFallBackToHashPartitioningForNonDateKeys() {
+        int partition = partition("42");
+
+        assertTrue(partition >= 0 && partition < PARTITIONS);
+        assertEquals(partition, partition("42"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to hash partitioning for ten character non-date keys")
+    void shouldFallBackForTenCharacterNonDateKeys() {
+        assertDoesNotThrow(() -> partition("1234567890"));
+    }
+
+    @Test
+    @DisplayName("Should use partition zero for single partition topic")
+    void shouldUsePartitionZeroForSinglePartitionTopic() {
+        cluster = clusterWithPartitions(1);
+
+        assertEquals(0, partition("2024-01-15"));
+    }
+
+    private int partition(String key) {
+        return partitioner.partition(TOPIC, key, key.getBytes(StandardCharsets.UTF_8), null, null, cluster);
+    }
+
+    private static Cluster clusterWithPartitions(int count) {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = new ArrayList<>();
+        IntStream.range(0, count).forEach(i ->
+                partitions.add(new PartitionInfo(TOPIC, i, node, new Node[]{node}, new Node[]{node})));
+        return new Cluster("test-cluster", List.of(node), partitions, Set.of(), Set.of());
+    }
+}
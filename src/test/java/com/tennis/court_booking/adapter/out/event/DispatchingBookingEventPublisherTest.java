@@ -0,0 +1,165 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.application.port.out.BookingEventPublisher;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DispatchingBookingEventPublisher Tests")
+class DispatchingBookingEventPublisherTest {
+
+    @Mock
+    private BookingEventPublisher delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private DispatchingBookingEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newSingleThreadExecutor();
+        publisher = new DispatchingBookingEventPublisher(
+                delegate, executor, Duration.ofMillis(200), Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should publish on the dispatch executor, not the caller thread")
+    void shouldPublishOnDispatchExecutor() throws Exception {
+        // Given
+        Thread caller = Thread.currentThread();
+        CountDownLatch published = new CountDownLatch(1);
+        Thread[] publishingThread = new Thread[1];
+        doAnswer(invocation -> {
+            publishingThread[0] = Thread.currentThread();
+            published.countDown();
+            return null;
+        }).when(delegate).publish(any(BookingCreatedEvent.class));
+
+        // When
+        publisher.publish(event());
+
+        // Then
+        assertTrue(published.await(2, TimeUnit.SECONDS));
+        assertNotSame(caller, publishingThread[0]);
+    }
+
+    @Test
+    @DisplayName("Should return before a slow send completes")
+    void shouldReturnBeforeSlowSendCompletes() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(2, TimeUnit.SECONDS)).when(delegate).publish(any(BookingCreatedEvent.class));
+
+        // When
+        publisher.publish(event());
+
+        // Then
+        assertEquals(1, publisher.getInFlight());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should count sends exceeding the send timeout")
+    void shouldCountSendsExceedingSendTimeout() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(delegate).publish(any(BookingCreatedEvent.class));
+
+        // When
+        publisher.publish(event());
+
+        // Then
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.counter("booking.events.dispatch.timeouts").count() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, meterRegistry.counter("booking.events.dispatch.timeouts").count());
+        assertEquals(0, publisher.getInFlight());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should drain queued events on shutdown")
+    void shouldDrainQueuedEventsOnShutdown() throws Exception {
+        // When
+        publisher.publish(event());
+        publisher.publish(event());
+        publisher.destroy();
+
+        // Then
+        verify(delegate, times(2)).publish(any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should publish on caller thread after executor shutdown")
+    void shouldPublishOnCallerThreadAfterExecutorShutdown() {
+        // Given
+        executor.shutdown();
+
+        // When
+        publisher.publish(event());
+
+        // Then
+        verify(delegate).publish(any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should record dispatch lag")
+    void shouldRecordDispatchLag() throws Exception {
+        publisher.publish(event());
+        publisher.destroy();
+
+        assertEquals(1, meterRegistry.timer("booking.events.dispatch.lag").count());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when event is null")
+    void shouldThrowExceptionWhenEventIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> publisher.publish(null)
+        );
+        assertEquals("Event cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when delegate is null")
+    void shouldThrowExceptionWhenDelegateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DispatchingBookingEventPublisher(
+                        null, executor, Duration.ofSeconds(1), Duration.ofSeconds(1), meterRegistry)
+        );
+        assertEquals("Delegate publisher cannot be null", exception.getMessage());
+    }
+
+    private static BookingCreatedEvent event() {
+        return new BookingCreatedEvent(1L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+}
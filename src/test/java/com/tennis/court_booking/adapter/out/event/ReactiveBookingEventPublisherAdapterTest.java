@@ -0,0 +1,91 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.BookingCreatedKafkaEvent;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveBookingEventPublisherAdapter Tests")
+class ReactiveBookingEventPublisherAdapterTest {
+
+    private static final String TOPIC = "booking-created";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private ReactiveBookingEventPublisherAdapter adapter;
+    private BookingCreatedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ReactiveBookingEventPublisherAdapter(kafkaTemplate, TOPIC, EventPartitioningStrategy.DATE);
+        event = new BookingCreatedEvent(1L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when KafkaTemplate is null")
+    void shouldThrowExceptionWhenKafkaTemplateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ReactiveBookingEventPublisherAdapter(null, TOPIC, EventPartitioningStrategy.DATE)
+        );
+        assertEquals("KafkaTemplate cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not send anything until subscribed")
+    void shouldNotSendUntilSubscribed() {
+        adapter.publish(event);
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Should send the Kafka event keyed by the partitioning strategy")
+    void shouldSendKafkaEventKeyedByStrategy() {
+        // Given
+        CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(pending);
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // When & Then - completes only when the send future does
+        StepVerifier.create(adapter.publish(event))
+                .then(() -> pending.complete(null))
+                .verifyComplete();
+
+        verify(kafkaTemplate).send(eq(TOPIC), eq("2024-01-15"), valueCaptor.capture());
+        assertEquals(1L, ((BookingCreatedKafkaEvent) valueCaptor.getValue()).getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should complete without error when the send fails")
+    void shouldCompleteWhenSendFails() {
+        // Given
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Kafka connection failed"));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(failed);
+
+        // When & Then
+        StepVerifier.create(adapter.publish(event))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,103 @@
+package com.tennis.court_booking.adapter.out.event;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleSnapshotPublisherAdapter Tests")
+class ScheduleSnapshotPublisherAdapterTest {
+
+    private static final String TOPIC = "booking-schedule-snapshots";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private ScheduleSnapshotPublisherAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ScheduleSnapshotPublisherAdapter(kafkaTemplate, TOPIC);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when KafkaTemplate is null")
+    void shouldThrowExceptionWhenKafkaTemplateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ScheduleSnapshotPublisherAdapter(null, TOPIC)
+        );
+        assertEquals("KafkaTemplate cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should publish snapshot keyed by date")
+    void shouldPublishSnapshotKeyedByDate() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        List<Booking> bookings = List.of(
+                new Booking(1L, new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0))),
+                new Booking(2L, new TimeSlot(date, LocalTime.of(12, 0), LocalTime.of(12, 30))));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // When
+        adapter.publish(date, 7L, bookings);
+
+        // Then
+        verify(kafkaTemplate).send(eq(TOPIC), eq("2024-01-15"), valueCaptor.capture());
+        DayScheduleSnapshotKafkaEvent snapshot = (DayScheduleSnapshotKafkaEvent) valueCaptor.getValue();
+        assertEquals(date, snapshot.getDate());
+        assertEquals(7L, snapshot.getVersion());
+        assertEquals(90, snapshot.getOccupiedMinutes());
+        assertEquals(2, snapshot.getBookings().size());
+    }
+
+    @Test
+    @DisplayName("Should not throw when snapshot send fails")
+    void shouldNotThrowWhenSendFails() {
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Kafka connection failed"));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(failed);
+
+        assertDoesNotThrow(() -> adapter.publish(LocalDate.of(2024, 1, 15), 1L, List.of()));
+    }
+
+    @Test
+    @DisplayName("Should not wait for the broker to acknowledge the snapshot")
+    void shouldNotWaitForAcknowledgement() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> adapter.publish(LocalDate.of(2024, 1, 15), 1L, List.of()));
+    }
+
+    @Test
+    @DisplayName("Should not throw when the producer rejects the snapshot")
+    void shouldNotThrowWhenProducerRejectsSnapshot() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new IllegalStateException("Producer closed"));
+
+        assertDoesNotThrow(() -> adapter.publish(LocalDate.of(2024, 1, 15), 1L, List.of()));
+    }
+}
@@ -204,4 +204,47 @@ class BookingEventMapperTest {
         assertEquals(kafkaEvent1.getStartTime(), kafkaEvent2.getStartTime());
         assertEquals(kafkaEvent1.getEndTime(), kafkaEvent2.getEndTime());
     }
+
+    @Test
+    @DisplayName("Should convert consumed Kafka event back to domain event")
+    void shouldConvertKafkaEventToDomainEvent() {
+        // Given
+        BookingCreatedKafkaEvent kafkaEvent = new BookingCreatedKafkaEvent(
+                7L,
+                LocalDate.of(2024, 1, 15),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0)
+        );
+
+        // When
+        BookingCreatedEvent domainEvent = BookingEventMapper.toDomainEvent(kafkaEvent);
+
+        // Then
+        assertEquals(7L, domainEvent.getBookingId());
+        assertEquals(LocalDate.of(2024, 1, 15), domainEvent.getDate());
+        assertEquals(LocalTime.of(10, 0), domainEvent.getStartTime());
+        assertEquals(LocalTime.of(11, 0), domainEvent.getEndTime());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when Kafka event is null")
+    void shouldThrowExceptionWhenKafkaEventIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BookingEventMapper.toDomainEvent(null)
+        );
+
+        assertEquals("Kafka event cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject Kafka event with missing booking ID")
+    void shouldRejectKafkaEventWithMissingBookingId() {
+        // Given
+        BookingCreatedKafkaEvent kafkaEvent = new BookingCreatedKafkaEvent();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> BookingEventMapper.toDomainEvent(kafkaEvent));
+    }
 }
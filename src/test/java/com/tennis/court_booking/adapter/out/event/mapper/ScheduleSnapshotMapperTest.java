@@ -0,0 +1,63 @@
+package com.tennis.court_booking.adapter.out.event.mapper;
+
+import com.tennis.court_booking.adapter.out.event.dto.DayScheduleSnapshotKafkaEvent;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScheduleSnapshotMapper Tests")
+class ScheduleSnapshotMapperTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Test
+    @DisplayName("Should round-trip bookings through the Kafka snapshot")
+    void shouldRoundTripBookingsThroughSnapshot() {
+        List<Booking> bookings = List.of(
+                new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))),
+                new Booking(2L, new TimeSlot(TEST_DATE, LocalTime.of(14, 0), LocalTime.of(16, 0))));
+
+        DayScheduleSnapshotKafkaEvent snapshot = ScheduleSnapshotMapper.toKafkaSnapshot(TEST_DATE, 4L, bookings);
+        List<Booking> restored = ScheduleSnapshotMapper.toBookings(snapshot);
+
+        assertEquals(4L, snapshot.getVersion());
+        assertEquals(180, snapshot.getOccupiedMinutes());
+        assertEquals(bookings, restored);
+        assertEquals(bookings.get(1).getTimeSlot(), restored.get(1).getTimeSlot());
+    }
+
+    @Test
+    @DisplayName("Should return no bookings for snapshot without booking list")
+    void shouldReturnNoBookingsForSnapshotWithoutBookingList() {
+        DayScheduleSnapshotKafkaEvent snapshot = new DayScheduleSnapshotKafkaEvent(TEST_DATE, 1L, 0, null);
+
+        assertTrue(ScheduleSnapshotMapper.toBookings(snapshot).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when date is null")
+    void shouldThrowExceptionWhenDateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ScheduleSnapshotMapper.toKafkaSnapshot(null, 1L, List.of())
+        );
+        assertEquals("Date cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when snapshot is null")
+    void shouldThrowExceptionWhenSnapshotIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ScheduleSnapshotMapper.toBookings(null)
+        );
+        assertEquals("Snapshot cannot be null", exception.getMessage());
+    }
+}
@@ -1,7 +1,11 @@
 package com.tennis.court_booking.adapter.out.persistence;
 
 import com.tennis.court_booking.adapter.out.persistence.entity.BookingJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
 import com.tennis.court_booking.adapter.out.persistence.repository.BookingJpaRepository;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.BookingKey;
+import com.tennis.court_booking.application.port.out.BookingSearch;
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 import org.junit.jupiter.api.Test;
@@ -9,12 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +34,9 @@ class BookingRepositoryAdapterTest {
     @Mock
     private BookingJpaRepository jpaRepository;
 
+    @Mock
+    private DailyOccupancyJpaRepository occupancyRepository;
+
     @InjectMocks
     private BookingRepositoryAdapter adapter;
 
@@ -34,12 +45,23 @@ class BookingRepositoryAdapterTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> new BookingRepositoryAdapter(null)
+                () -> new BookingRepositoryAdapter(null, occupancyRepository)
         );
 
         assertEquals("JPA repository cannot be null", exception.getMessage());
     }
 
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullOccupancyRepository() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingRepositoryAdapter(jpaRepository, null)
+        );
+
+        assertEquals("Occupancy repository cannot be null", exception.getMessage());
+    }
+
     @Test
     void shouldFindBookingsByDate() {
         // Given
@@ -122,7 +144,7 @@ class BookingRepositoryAdapterTest {
         // Then
         assertNotNull(savedBooking);
         assertEquals(1L, savedBooking.getId());
-        assertEquals(timeSlot, savedBooking.getTimeSlot());
+        assertSame(timeSlot, savedBooking.getTimeSlot());
         verify(jpaRepository, times(1)).save(any(BookingJpaEntity.class));
     }
 
@@ -287,4 +309,151 @@ class BookingRepositoryAdapterTest {
         assertEquals(start, booking.getTimeSlot().getStart());
         assertEquals(end, booking.getTimeSlot().getEnd());
     }
+
+    @Test
+    void shouldStreamBookingsInDateRangeAndCloseCursor() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<BookingRow> rows = Stream.of(
+                new BookingRow(1L, from, LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                new BookingRow(2L, to, LocalTime.of(12, 0), LocalTime.of(13, 0))
+        ).onClose(() -> closed.set(true));
+        when(jpaRepository.streamByDateBetween(from, to)).thenReturn(rows);
+        List<Booking> received = new ArrayList<>();
+
+        // When
+        adapter.forEachInDateRange(from, to, received::add);
+
+        // Then
+        assertEquals(2, received.size());
+        assertEquals(1L, received.get(0).getId());
+        assertEquals(to, received.get(1).getTimeSlot().getDate());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStreamingWithNullDate() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> adapter.forEachInDateRange(null, LocalDate.of(2024, 1, 31), booking -> { })
+        );
+
+        assertEquals("From date cannot be null", exception.getMessage());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldStartFirstPageBeforeEveryBookingOfTheRange() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(jpaRepository.findPageAfter(from, to, LocalTime.MIN, LocalTime.MAX, from, LocalTime.MIN, 0L, Limit.of(3)))
+                .thenReturn(List.of(new BookingRow(1L, from, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        // When
+        List<Booking> page = adapter.findPage(new BookingSearch(from, to, null, null), null, 3);
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals(1L, page.get(0).getId());
+    }
+
+    @Test
+    void shouldContinuePageAfterKeyWithinTimeWindow() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        LocalDate keyDate = LocalDate.of(2024, 1, 10);
+        BookingSearch search = new BookingSearch(from, to, LocalTime.of(9, 0), LocalTime.of(12, 0));
+        BookingKey after = new BookingKey(keyDate, LocalTime.of(10, 0), 42L);
+        when(jpaRepository.findPageAfter(from, to, LocalTime.of(9, 0), LocalTime.of(12, 0),
+                keyDate, LocalTime.of(10, 0), 42L, Limit.of(2)))
+                .thenReturn(List.of());
+
+        // When
+        List<Booking> page = adapter.findPage(search, after, 2);
+
+        // Then
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPagingWithNonPositiveLimit() {
+        // Given
+        BookingSearch search = new BookingSearch(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, null);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> adapter.findPage(search, null, 0)
+        );
+
+        assertEquals("Limit must be positive", exception.getMessage());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldAddBookedMinutesToDayWhenSavingNewBooking() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        Booking newBooking = new Booking(null, new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 30)));
+        when(jpaRepository.save(any(BookingJpaEntity.class)))
+                .thenReturn(new BookingJpaEntity(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 30)));
+
+        // When
+        adapter.save(newBooking);
+
+        // Then
+        verify(occupancyRepository).addOccupancy(date, 90L, 1);
+        verifyNoMoreInteractions(occupancyRepository);
+    }
+
+    @Test
+    void shouldMoveBookedMinutesWhenUpdateChangesDay() {
+        // Given
+        LocalDate oldDate = LocalDate.of(2024, 1, 15);
+        LocalDate newDate = LocalDate.of(2024, 1, 16);
+        Booking moved = new Booking(1L, new TimeSlot(newDate, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        when(jpaRepository.findById(1L))
+                .thenReturn(Optional.of(new BookingJpaEntity(1L, oldDate, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        when(jpaRepository.save(any(BookingJpaEntity.class)))
+                .thenReturn(new BookingJpaEntity(1L, newDate, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+        // When
+        adapter.save(moved);
+
+        // Then
+        verify(occupancyRepository).addOccupancy(oldDate, -120L, -1);
+        verify(occupancyRepository).addOccupancy(newDate, 60L, 1);
+    }
+
+    @Test
+    void shouldSubtractBookedMinutesWhenDeletingBooking() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(jpaRepository.findById(1L))
+                .thenReturn(Optional.of(new BookingJpaEntity(1L, date, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        // When
+        adapter.delete(1L);
+
+        // Then
+        verify(jpaRepository).deleteById(1L);
+        verify(occupancyRepository).addOccupancy(date, -60L, -1);
+    }
+
+    @Test
+    void shouldNotTouchCountersWhenDeletingUnknownBooking() {
+        // Given
+        when(jpaRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When
+        adapter.delete(99L);
+
+        // Then
+        verifyNoInteractions(occupancyRepository);
+    }
 }
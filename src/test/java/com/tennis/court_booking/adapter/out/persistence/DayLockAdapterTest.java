@@ -0,0 +1,137 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.DailyOccupancyJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DayLockAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private DailyOccupancyJpaRepository occupancyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DayLockAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new DayLockAdapter(occupancyRepository, transactionManager);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullOccupancyRepository() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DayLockAdapter(null, transactionManager)
+        );
+
+        assertEquals("Occupancy repository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullTransactionManager() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DayLockAdapter(occupancyRepository, null)
+        );
+
+        assertEquals("Transaction manager cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldRunWorkAfterLockingRowInOneTransaction() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(occupancyRepository.findForUpdate(DAY)).thenReturn(Optional.of(new DailyOccupancyJpaEntity(DAY, 0L, 0, 1L)));
+
+        // When
+        String result = adapter.runLocked(DAY, () -> "saved");
+
+        // Then
+        assertEquals("saved", result);
+        verify(transactionManager).commit(any());
+        verify(occupancyRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void shouldCreateMissingRowThenLockIt() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(occupancyRepository.findForUpdate(DAY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new DailyOccupancyJpaEntity(DAY, 0L, 0, 1L)));
+
+        // When
+        String result = adapter.runLocked(DAY, () -> "saved");
+
+        // Then
+        assertEquals("saved", result);
+        InOrder inOrder = inOrder(occupancyRepository);
+        inOrder.verify(occupancyRepository).findForUpdate(DAY);
+        inOrder.verify(occupancyRepository).insertIfAbsent(DAY);
+        inOrder.verify(occupancyRepository).findForUpdate(DAY);
+    }
+
+    @Test
+    void shouldLockRowCreatedByAnotherCaller() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(occupancyRepository.findForUpdate(DAY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new DailyOccupancyJpaEntity(DAY, 0L, 0, 1L)));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(occupancyRepository).insertIfAbsent(DAY);
+
+        // When
+        String result = adapter.runLocked(DAY, () -> "saved");
+
+        // Then
+        assertEquals("saved", result);
+    }
+
+    @Test
+    void shouldRollBackWhenWorkThrows() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(occupancyRepository.findForUpdate(DAY)).thenReturn(Optional.of(new DailyOccupancyJpaEntity(DAY, 0L, 0, 1L)));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> adapter.runLocked(DAY, () -> {
+            throw new IllegalStateException("rejected");
+        }));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDateIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> adapter.runLocked(null, () -> "saved")
+        );
+
+        assertEquals("Date cannot be null", exception.getMessage());
+    }
+}
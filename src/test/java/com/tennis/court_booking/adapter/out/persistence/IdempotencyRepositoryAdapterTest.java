@@ -0,0 +1,150 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.IdempotencyRecordJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.repository.IdempotencyRecordJpaRepository;
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T08:00:00Z");
+    private static final Instant EXPIRES_AT = NOW.plusSeconds(3600);
+    private static final ReserveCommand COMMAND =
+            new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+    @Mock
+    private IdempotencyRecordJpaRepository jpaRepository;
+
+    @InjectMocks
+    private IdempotencyRepositoryAdapter adapter;
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullRepository() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new IdempotencyRepositoryAdapter(null)
+        );
+
+        assertEquals("JPA repository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldClaimUnknownKeyByInsertingPendingRecord() {
+        // Given
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, EXPIRES_AT);
+
+        // When
+        boolean claimed = adapter.claim(pending, NOW);
+
+        // Then
+        assertTrue(claimed);
+        verify(jpaRepository).takeOverExpired("key-1", pending.getFingerprint(), pending.getClaimToken(), EXPIRES_AT, NOW);
+        verify(jpaRepository).insertPending("key-1", pending.getFingerprint(), pending.getClaimToken(), EXPIRES_AT);
+    }
+
+    @Test
+    void shouldClaimKeyByTakingOverExpiredRecord() {
+        // Given
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, EXPIRES_AT);
+        when(jpaRepository.takeOverExpired("key-1", pending.getFingerprint(), pending.getClaimToken(), EXPIRES_AT, NOW))
+                .thenReturn(1);
+
+        // When
+        boolean claimed = adapter.claim(pending, NOW);
+
+        // Then
+        assertTrue(claimed);
+        verify(jpaRepository, never()).insertPending(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotClaimKeyHeldByAnotherRequest() {
+        // Given
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, EXPIRES_AT);
+        when(jpaRepository.insertPending("key-1", pending.getFingerprint(), pending.getClaimToken(), EXPIRES_AT))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation"));
+
+        // When & Then
+        assertFalse(adapter.claim(pending, NOW));
+    }
+
+    @Test
+    void shouldCompleteWithBookingFencedByClaimToken() {
+        // Given
+        BookingResponse booking = new BookingResponse(7L, COMMAND.getDate(), COMMAND.getStart(), COMMAND.getEnd());
+        IdempotentReservation completed = IdempotentReservation.pending("key-1", COMMAND, NOW).booked(booking)
+                .expiringAt(EXPIRES_AT);
+        when(jpaRepository.complete("key-1", completed.getClaimToken(), 7L, COMMAND.getDate(), COMMAND.getStart(),
+                COMMAND.getEnd(), null, EXPIRES_AT)).thenReturn(1);
+
+        // When & Then
+        assertTrue(adapter.complete(completed));
+    }
+
+    @Test
+    void shouldReportLostClaimWhenCompleteUpdatesNothing() {
+        // Given - the key was taken over, so the claim token no longer matches
+        IdempotentReservation completed = IdempotentReservation.pending("key-1", COMMAND, NOW)
+                .rejected("The requested time slot overlaps with an existing booking");
+        when(jpaRepository.complete(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertFalse(adapter.complete(completed));
+    }
+
+    @Test
+    void shouldReleaseOnlyOwnClaim() {
+        // Given
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, EXPIRES_AT);
+
+        // When
+        adapter.release(pending);
+
+        // Then
+        verify(jpaRepository).deleteClaim("key-1", pending.getClaimToken());
+        verify(jpaRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldRefuseToCompletePendingRecord() {
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, EXPIRES_AT);
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.complete(pending));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldMapStoredRejection() {
+        // Given
+        IdempotencyRecordJpaEntity entity = new IdempotencyRecordJpaEntity(
+                "key-1", IdempotentReservation.fingerprint(COMMAND), "claim-1", EXPIRES_AT,
+                null, null, null, null, "The requested time slot overlaps with an existing booking");
+        when(jpaRepository.findById("key-1")).thenReturn(Optional.of(entity));
+
+        // When
+        IdempotentReservation reservation = adapter.findByKey("key-1").orElseThrow();
+
+        // Then
+        assertTrue(reservation.isCompleted());
+        assertNull(reservation.getBooking());
+        assertTrue(reservation.matches(COMMAND));
+        assertEquals("The requested time slot overlaps with an existing booking", reservation.getRejection());
+    }
+}
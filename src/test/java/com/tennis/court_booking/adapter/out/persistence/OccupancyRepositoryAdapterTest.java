@@ -0,0 +1,113 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
+import com.tennis.court_booking.adapter.out.persistence.entity.DailyOccupancyJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.repository.BookingJpaRepository;
+import com.tennis.court_booking.adapter.out.persistence.repository.DailyOccupancyJpaRepository;
+import com.tennis.court_booking.application.port.out.DailyOccupancy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyRepositoryAdapterTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2024, 1, 15);
+    private static final LocalDate DAY_TWO = LocalDate.of(2024, 1, 16);
+
+    @Mock
+    private DailyOccupancyJpaRepository occupancyRepository;
+
+    @Mock
+    private BookingJpaRepository bookingRepository;
+
+    @InjectMocks
+    private OccupancyRepositoryAdapter adapter;
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullOccupancyRepository() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new OccupancyRepositoryAdapter(null, bookingRepository)
+        );
+
+        assertEquals("Occupancy repository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldMapCountersInRange() {
+        // Given
+        when(occupancyRepository.findByDateBetweenOrderByDate(DAY_ONE, DAY_TWO))
+                .thenReturn(List.of(new DailyOccupancyJpaEntity(DAY_ONE, 90L, 2, 1L)));
+
+        // When
+        List<DailyOccupancy> counters = adapter.findBetween(DAY_ONE, DAY_TWO);
+
+        // Then
+        assertEquals(List.of(new DailyOccupancy(DAY_ONE, 90L, 2)), counters);
+    }
+
+    @Test
+    void shouldReadScheduleVersionOfDay() {
+        // Given
+        when(occupancyRepository.findScheduleVersion(DAY_ONE)).thenReturn(Optional.of(7L));
+        when(occupancyRepository.findScheduleVersion(DAY_TWO)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertEquals(7L, adapter.findScheduleVersion(DAY_ONE));
+        assertEquals(0L, adapter.findScheduleVersion(DAY_TWO));
+    }
+
+    @Test
+    void shouldRebuildOneCounterPerDayAndCloseCursor() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamAllOrderedByDate()).thenReturn(Stream.of(
+                new BookingRow(1L, DAY_ONE, LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                new BookingRow(2L, DAY_ONE, LocalTime.of(12, 0), LocalTime.of(12, 30)),
+                new BookingRow(3L, DAY_TWO, LocalTime.of(8, 0), LocalTime.of(10, 0))
+        ).onClose(() -> closed.set(true)));
+
+        // When
+        int days = adapter.rebuild();
+
+        // Then
+        assertEquals(2, days);
+        assertTrue(closed.get());
+        InOrder inOrder = inOrder(occupancyRepository);
+        inOrder.verify(occupancyRepository).resetAll();
+        inOrder.verify(occupancyRepository).addOccupancy(DAY_ONE, 90L, 2);
+        inOrder.verify(occupancyRepository).addOccupancy(DAY_TWO, 120L, 1);
+    }
+
+    @Test
+    void shouldRebuildNothingWithoutBookings() {
+        // Given
+        when(bookingRepository.streamAllOrderedByDate()).thenReturn(Stream.empty());
+
+        // When
+        int days = adapter.rebuild();
+
+        // Then
+        assertEquals(0, days);
+        verify(occupancyRepository).resetAll();
+        verify(occupancyRepository, never()).addOccupancy(any(), anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,137 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for R2dbcBookingRepositoryAdapter against an in-memory H2 database over R2DBC.
+ */
+class R2dbcBookingRepositoryAdapterTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    private DatabaseClient databaseClient;
+    private R2dbcBookingRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE TABLE bookings (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                        + "booking_date DATE NOT NULL, start_time TIME NOT NULL, end_time TIME NOT NULL)")
+                .then()
+                .block();
+        databaseClient.sql("CREATE TABLE daily_occupancy (booking_date DATE PRIMARY KEY, "
+                        + "occupied_minutes BIGINT NOT NULL, booking_count INTEGER NOT NULL, "
+                        + "schedule_version BIGINT NOT NULL)")
+                .then()
+                .block();
+        adapter = new R2dbcBookingRepositoryAdapter(databaseClient);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullClient() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new R2dbcBookingRepositoryAdapter(null)
+        );
+
+        assertEquals("DatabaseClient cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldInsertNewBookingAndAssignId() {
+        // Given
+        Booking booking = new Booking(null, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // When & Then
+        StepVerifier.create(adapter.save(booking))
+                .assertNext(saved -> {
+                    assertNotNull(saved.getId());
+                    assertEquals(booking.getTimeSlot(), saved.getTimeSlot());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindSavedBookingsByDate() {
+        // Given
+        adapter.save(new Booking(null, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)))).block();
+        adapter.save(new Booking(null, new TimeSlot(TEST_DATE, LocalTime.of(12, 0), LocalTime.of(13, 0)))).block();
+        adapter.save(new Booking(null, new TimeSlot(TEST_DATE.plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0)))).block();
+
+        // When & Then
+        StepVerifier.create(adapter.findByDate(TEST_DATE))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldUpdateExistingBooking() {
+        // Given
+        Booking saved = adapter.save(new Booking(null,
+                new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)))).block();
+        TimeSlot moved = new TimeSlot(TEST_DATE, LocalTime.of(15, 0), LocalTime.of(16, 0));
+
+        // When
+        adapter.save(new Booking(saved.getId(), moved)).block();
+
+        // Then
+        StepVerifier.create(adapter.findByDate(TEST_DATE))
+                .assertNext(booking -> assertEquals(moved, booking.getTimeSlot()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAdjustCountersAndVersionOfTheDay() {
+        // Given
+        adapter.save(new Booking(null, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)))).block();
+        long first = adapter.findScheduleVersion(TEST_DATE).block();
+
+        // When
+        Booking saved = adapter.save(new Booking(null,
+                new TimeSlot(TEST_DATE, LocalTime.of(12, 0), LocalTime.of(12, 30)))).block();
+        adapter.save(new Booking(saved.getId(),
+                new TimeSlot(TEST_DATE.plusDays(1), LocalTime.of(12, 0), LocalTime.of(13, 0)))).block();
+
+        // Then
+        assertTrue(first > 0);
+        assertEquals(first + 2, adapter.findScheduleVersion(TEST_DATE).block());
+        assertEquals(60L, occupiedMinutes(TEST_DATE));
+        assertEquals(60L, occupiedMinutes(TEST_DATE.plusDays(1)));
+    }
+
+    @Test
+    void shouldReturnVersionZeroForDayNeverWritten() {
+        StepVerifier.create(adapter.findScheduleVersion(TEST_DATE))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalErrorWhenDateIsNull() {
+        StepVerifier.create(adapter.findByDate(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private long occupiedMinutes(LocalDate date) {
+        return databaseClient.sql("SELECT occupied_minutes FROM daily_occupancy WHERE booking_date = :date")
+                .bind("date", date)
+                .map(row -> row.get("occupied_minutes", Long.class))
+                .one()
+                .block();
+    }
+}
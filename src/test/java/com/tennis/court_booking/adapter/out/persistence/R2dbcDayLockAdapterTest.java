@@ -0,0 +1,134 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for R2dbcDayLockAdapter against an in-memory H2 database over R2DBC.
+ */
+class R2dbcDayLockAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+
+    private ConnectionFactory connectionFactory;
+    private DatabaseClient databaseClient;
+    private R2dbcDayLockAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE daily_occupancy (booking_date DATE PRIMARY KEY, "
+                        + "occupied_minutes BIGINT NOT NULL, booking_count INTEGER NOT NULL, "
+                        + "schedule_version BIGINT NOT NULL)")
+                .then()
+                .block();
+        adapter = new R2dbcDayLockAdapter(databaseClient, connectionFactory);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullClient() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new R2dbcDayLockAdapter(null, connectionFactory)
+        );
+
+        assertEquals("DatabaseClient cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenConstructedWithNullConnectionFactory() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new R2dbcDayLockAdapter(databaseClient, null)
+        );
+
+        assertEquals("ConnectionFactory cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldCreateMissingRowThenRunWork() {
+        // When & Then
+        StepVerifier.create(adapter.runLocked(DAY, () -> Mono.just("saved")))
+                .expectNext("saved")
+                .verifyComplete();
+
+        assertEquals(1L, rowCount());
+        assertEquals(0, bookingCount());
+    }
+
+    @Test
+    void shouldLockExistingRowWithoutCreatingAnother() {
+        // Given
+        adapter.runLocked(DAY, () -> Mono.just("first")).block();
+
+        // When & Then
+        StepVerifier.create(adapter.runLocked(DAY, () -> Mono.just("second")))
+                .expectNext("second")
+                .verifyComplete();
+
+        assertEquals(1L, rowCount());
+    }
+
+    @Test
+    void shouldCommitWritesOfWork() {
+        // When
+        adapter.runLocked(DAY, () -> incrementBookingCount().thenReturn("saved")).block();
+
+        // Then
+        assertEquals(1, bookingCount());
+    }
+
+    @Test
+    void shouldRollBackWritesWhenWorkSignalsError() {
+        // When & Then
+        StepVerifier.create(adapter.runLocked(DAY, () -> incrementBookingCount()
+                        .then(Mono.error(new IllegalStateException("rejected")))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, bookingCount());
+    }
+
+    @Test
+    void shouldSignalErrorWhenDateIsNull() {
+        // When & Then
+        StepVerifier.create(adapter.runLocked(null, () -> Mono.just("saved")))
+                .expectErrorMessage("Date cannot be null")
+                .verify();
+    }
+
+    private Mono<Void> incrementBookingCount() {
+        return databaseClient.sql("UPDATE daily_occupancy SET booking_count = booking_count + 1 WHERE booking_date = :date")
+                .bind("date", DAY)
+                .then();
+    }
+
+    private long rowCount() {
+        return databaseClient.sql("SELECT COUNT(*) AS c FROM daily_occupancy")
+                .map(row -> row.get("c", Long.class))
+                .one()
+                .block();
+    }
+
+    private int bookingCount() {
+        return databaseClient.sql("SELECT booking_count FROM daily_occupancy WHERE booking_date = :date")
+                .bind("date", DAY)
+                .map(row -> row.get("booking_count", Integer.class))
+                .one()
+                .block();
+    }
+}
@@ -0,0 +1,73 @@
+package com.tennis.court_booking.adapter.out.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionHooksAdapterTest {
+
+    private final TransactionHooksAdapter adapter = new TransactionHooksAdapter();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRunActionAtOnceOutsideTransaction() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        adapter.afterCommit(runs::incrementAndGet);
+
+        // Then
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldRunActionOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        adapter.afterCommit(runs::incrementAndGet);
+
+        // Then
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldNotThrowWhenActionFailsAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.afterCommit(() -> {
+            throw new IllegalStateException("Broker unavailable");
+        });
+
+        // When & Then
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenActionIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> adapter.afterCommit(null)
+        );
+
+        assertEquals("Action cannot be null", exception.getMessage());
+    }
+}
@@ -1,6 +1,7 @@
 package com.tennis.court_booking.adapter.out.persistence.mapper;
 
 import com.tennis.court_booking.adapter.out.persistence.entity.BookingJpaEntity;
+import com.tennis.court_booking.adapter.out.persistence.entity.BookingRow;
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
@@ -123,6 +124,77 @@ class BookingPersistenceMapperTest {
         assertEquals("JPA entity cannot be null", exception.getMessage());
     }
 
+    @Test
+    void shouldShareTimeSlotOfSavedBookingWhenAttachingGeneratedId() {
+        // Given
+        TimeSlot timeSlot = new TimeSlot(
+                LocalDate.of(2024, 1, 15),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0)
+        );
+        Booking newBooking = new Booking(null, timeSlot);
+        BookingJpaEntity savedEntity = new BookingJpaEntity(
+                7L, timeSlot.getDate(), timeSlot.getStart(), timeSlot.getEnd());
+
+        // When
+        Booking savedBooking = BookingPersistenceMapper.toDomainEntity(savedEntity, newBooking);
+
+        // Then
+        assertEquals(7L, savedBooking.getId());
+        assertSame(timeSlot, savedBooking.getTimeSlot());
+    }
+
+    @Test
+    void shouldReturnSavedBookingAsIsWhenItAlreadyHasItsId() {
+        // Given
+        Booking existingBooking = new Booking(7L, new TimeSlot(
+                LocalDate.of(2024, 1, 15),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0)
+        ));
+        BookingJpaEntity savedEntity = BookingPersistenceMapper.toJpaEntity(existingBooking);
+
+        // When
+        Booking savedBooking = BookingPersistenceMapper.toDomainEntity(savedEntity, existingBooking);
+
+        // Then
+        assertSame(existingBooking, savedBooking);
+    }
+
+    @Test
+    void shouldRebuildTimeSlotWhenSavedEntityDiffersFromBooking() {
+        // Given
+        Booking booking = new Booking(null, new TimeSlot(
+                LocalDate.of(2024, 1, 15),
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0)
+        ));
+        BookingJpaEntity savedEntity = new BookingJpaEntity(
+                7L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 30));
+
+        // When
+        Booking savedBooking = BookingPersistenceMapper.toDomainEntity(savedEntity, booking);
+
+        // Then
+        assertEquals(7L, savedBooking.getId());
+        assertEquals(LocalTime.of(11, 30), savedBooking.getTimeSlot().getEnd());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAttachingIdToNullBooking() {
+        // Given
+        BookingJpaEntity savedEntity = new BookingJpaEntity(
+                7L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BookingPersistenceMapper.toDomainEntity(savedEntity, null)
+        );
+
+        assertEquals("Booking cannot be null", exception.getMessage());
+    }
+
     @Test
     void shouldPropagateInvalidTimeSlotExceptionWhenConvertingJpaEntityWithInvalidData() {
         // Given - end time before start time
@@ -248,4 +320,28 @@ class BookingPersistenceMapperTest {
         assertEquals(domainBooking.getId(), convertedBooking.getId());
         assertEquals(domainBooking.getTimeSlot(), convertedBooking.getTimeSlot());
     }
+
+    @Test
+    void shouldConvertBookingRowToDomainEntity() {
+        // Given
+        BookingRow row = new BookingRow(7L, LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        // When
+        Booking booking = BookingPersistenceMapper.fromRow(row);
+
+        // Then
+        assertEquals(7L, booking.getId());
+        assertEquals(new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                booking.getTimeSlot());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBookingRowIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BookingPersistenceMapper.fromRow(null)
+        );
+
+        assertEquals("Booking row cannot be null", exception.getMessage());
+    }
 }
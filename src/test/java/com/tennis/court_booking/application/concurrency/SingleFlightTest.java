@@ -0,0 +1,130 @@
+package com.tennis.court_booking.application.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Should reject null key and computation")
+    void shouldRejectNullArguments() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(IllegalArgumentException.class, () -> singleFlight.execute(null, () -> "value"));
+        assertThrows(IllegalArgumentException.class, () -> singleFlight.execute("key", null));
+    }
+
+    @Test
+    @DisplayName("Should run sequential calls separately")
+    void shouldRunSequentialCallsSeparately() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        // When
+        int first = singleFlight.execute("key", counter::incrementAndGet);
+        int second = singleFlight.execute("key", counter::incrementAndGet);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(2, singleFlight.executions());
+        assertEquals(0.0, singleFlight.coalescingRatio());
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight computation between concurrent identical calls")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int waiters = 7;
+
+        ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+        try {
+            // When
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                entered.countDown();
+                await(release);
+                return counter.incrementAndGet();
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("key", counter::incrementAndGet)));
+            }
+            while (singleFlight.calls() < waiters + 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, counter.get());
+            assertEquals(8, singleFlight.calls());
+            assertEquals(1, singleFlight.executions());
+            assertEquals(7.0 / 8.0, singleFlight.coalescingRatio(), 1e-9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand the leader's exception to every waiting caller")
+    void shouldPropagateExceptionToWaiters() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // When
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                entered.countDown();
+                await(release);
+                throw new IllegalStateException("Database unavailable");
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<Integer> follower = executor.submit(() -> singleFlight.execute("key", () -> 42));
+            while (singleFlight.calls() < 2) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.tennis.court_booking.application.idempotency;
+
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyCache Tests")
+class IdempotencyCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final ReserveCommand COMMAND =
+            new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+    private static IdempotentReservation booked(String key, Instant createdAt) {
+        return IdempotentReservation.pending(key, COMMAND, createdAt.plus(TTL))
+                .booked(new BookingResponse(1L, COMMAND.getDate(), COMMAND.getStart(), COMMAND.getEnd()));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive capacity")
+    void shouldRejectNonPositiveCapacity() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new IdempotencyCache(0));
+        assertEquals("Max entries must be positive", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return stored records until they expire")
+    void shouldReturnStoredRecordsUntilExpiry() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(10);
+        IdempotentReservation reservation = booked("key-1", NOW);
+
+        // When
+        cache.put(reservation, NOW);
+
+        // Then
+        assertSame(reservation, cache.get("key-1", NOW.plus(TTL).minusMillis(1)));
+        assertNull(cache.get("key-1", NOW.plus(TTL)));
+        assertNull(cache.get("unknown", NOW));
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest record when full")
+    void shouldEvictOldestRecordWhenFull() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(2);
+
+        // When
+        cache.put(booked("key-1", NOW), NOW);
+        cache.put(booked("key-2", NOW.plusSeconds(1)), NOW.plusSeconds(1));
+        cache.put(booked("key-3", NOW.plusSeconds(2)), NOW.plusSeconds(2));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertNull(cache.get("key-1", NOW.plusSeconds(2)));
+        assertNotNull(cache.get("key-2", NOW.plusSeconds(2)));
+        assertNotNull(cache.get("key-3", NOW.plusSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("Should drop expired records on write")
+    void shouldDropExpiredRecordsOnWrite() {
+        // Given
+        IdempotencyCache cache = new IdempotencyCache(10);
+        cache.put(booked("key-1", NOW), NOW);
+        cache.put(booked("key-2", NOW.plusSeconds(1)), NOW.plusSeconds(1));
+
+        // When
+        Instant later = NOW.plus(TTL).plusSeconds(1);
+        cache.put(booked("key-3", later), later);
+
+        // Then
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should refuse pending records")
+    void shouldRefusePendingRecords() {
+        IdempotencyCache cache = new IdempotencyCache(10);
+        IdempotentReservation pending = IdempotentReservation.pending("key-1", COMMAND, NOW.plus(TTL));
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put(pending, NOW));
+    }
+}
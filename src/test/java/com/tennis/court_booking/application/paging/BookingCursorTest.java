@@ -0,0 +1,49 @@
+package com.tennis.court_booking.application.paging;
+
+import com.tennis.court_booking.application.port.out.BookingKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookingCursor Tests")
+class BookingCursorTest {
+
+    @Test
+    @DisplayName("Should decode what it encoded")
+    void shouldRoundTrip() {
+        BookingKey key = new BookingKey(LocalDate.of(2024, 1, 15), LocalTime.of(10, 30), 123L);
+
+        String cursor = BookingCursor.encode(key);
+
+        assertEquals(key, BookingCursor.decode(cursor));
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "cursor should be URL-safe");
+    }
+
+    @Test
+    @DisplayName("Should reject input that is not Base64")
+    void shouldRejectNonBase64() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BookingCursor.decode("not a cursor")
+        );
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject well-formed Base64 that does not hold a key")
+    void shouldRejectForeignPayload() {
+        String cursor = Base64.getUrlEncoder().encodeToString("2024-01-15|later|x".getBytes(StandardCharsets.UTF_8));
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BookingCursor.decode(cursor)
+        );
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
@@ -0,0 +1,135 @@
+package com.tennis.court_booking.application.readmodel;
+
+import com.tennis.court_booking.application.port.in.TimeWindow;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DayOccupancy Tests")
+class DayOccupancyTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final LocalTime CLOSING = LocalTime.of(20, 0);
+
+    private DayOccupancy occupancy;
+
+    @BeforeEach
+    void setUp() {
+        occupancy = new DayOccupancy(TEST_DATE);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when date is null")
+    void shouldThrowExceptionWhenDateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DayOccupancy(null)
+        );
+        assertEquals("Date cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report whole opening hours as free when empty")
+    void shouldReportWholeOpeningHoursAsFreeWhenEmpty() {
+        List<TimeWindow> free = occupancy.freeWindows(OPENING, CLOSING);
+
+        assertEquals(List.of(new TimeWindow(OPENING, CLOSING)), free);
+        assertTrue(occupancy.occupiedWindows().isEmpty());
+        assertEquals(0, occupancy.occupiedMinutes());
+    }
+
+    @Test
+    @DisplayName("Should split free windows around occupied ranges")
+    void shouldSplitFreeWindowsAroundOccupiedRanges() {
+        occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancy.occupy(2L, LocalTime.of(14, 30), LocalTime.of(16, 0));
+
+        assertEquals(List.of(
+                new TimeWindow(OPENING, LocalTime.of(10, 0)),
+                new TimeWindow(LocalTime.of(11, 0), LocalTime.of(14, 30)),
+                new TimeWindow(LocalTime.of(16, 0), CLOSING)
+        ), occupancy.freeWindows(OPENING, CLOSING));
+        assertEquals(150, occupancy.occupiedMinutes());
+    }
+
+    @Test
+    @DisplayName("Should merge adjacent bookings into one occupied window")
+    void shouldMergeAdjacentBookingsIntoOneOccupiedWindow() {
+        occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancy.occupy(2L, LocalTime.of(11, 0), LocalTime.of(12, 0));
+
+        assertEquals(List.of(new TimeWindow(LocalTime.of(10, 0), LocalTime.of(12, 0))), occupancy.occupiedWindows());
+        assertEquals(2, occupancy.bookingCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore a booking that was already applied")
+    void shouldIgnoreBookingAlreadyApplied() {
+        assertTrue(occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        assertFalse(occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        assertEquals(1, occupancy.bookingCount());
+        assertEquals(60, occupancy.occupiedMinutes());
+    }
+
+    @Test
+    @DisplayName("Should release a booking and keep the remaining ones occupied")
+    void shouldReleaseBookingAndKeepRemainingOccupied() {
+        occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancy.occupy(2L, LocalTime.of(10, 30), LocalTime.of(12, 0));
+
+        assertTrue(occupancy.release(1L));
+        assertFalse(occupancy.release(1L));
+
+        assertEquals(List.of(new TimeWindow(LocalTime.of(10, 30), LocalTime.of(12, 0))), occupancy.occupiedWindows());
+    }
+
+    @Test
+    @DisplayName("Should detect occupied minutes within a range")
+    void shouldDetectOccupiedMinutesWithinRange() {
+        occupancy.occupy(1L, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertTrue(occupancy.isOccupied(LocalTime.of(10, 30), LocalTime.of(11, 30)));
+        assertFalse(occupancy.isOccupied(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+        assertFalse(occupancy.isOccupied(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot older than the last applied one")
+    void shouldIgnoreOutdatedSnapshot() {
+        occupancy.applySnapshot(5L, List.of(booking(1L, 10), booking(2L, 14)));
+
+        assertEquals(0, occupancy.applySnapshot(4L, List.of(booking(1L, 10))));
+        assertEquals(0, occupancy.applySnapshot(5L, List.of(booking(3L, 16))));
+
+        assertEquals(2, occupancy.bookingCount());
+    }
+
+    @Test
+    @DisplayName("Should release bookings that disappeared from a newer snapshot")
+    void shouldReleaseBookingsMissingFromNewerSnapshot() {
+        occupancy.applySnapshot(1L, List.of(booking(1L, 10), booking(2L, 14)));
+        occupancy.occupy(3L, LocalTime.of(16, 0), LocalTime.of(17, 0));
+
+        int added = occupancy.applySnapshot(2L, List.of(booking(2L, 14)));
+
+        assertEquals(0, added);
+        assertEquals(List.of(
+                new TimeWindow(LocalTime.of(14, 0), LocalTime.of(15, 0)),
+                new TimeWindow(LocalTime.of(16, 0), LocalTime.of(17, 0))
+        ), occupancy.occupiedWindows(), "Bookings known only from events should be kept");
+    }
+
+    private static Booking booking(long id, int hour) {
+        return new Booking(id, new TimeSlot(TEST_DATE, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.tennis.court_booking.application.readmodel;
+
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ScheduleVersions Tests")
+class ScheduleVersionsTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    private OccupancyRepository occupancyRepository;
+    private ScheduleVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        occupancyRepository = mock(OccupancyRepository.class);
+        versions = new ScheduleVersions(occupancyRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the version of the day from the repository")
+    void shouldReadVersionFromRepository() {
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(1_700_000_000_002L);
+
+        assertEquals(1_700_000_000_002L, versions.current(TEST_DATE));
+        assertEquals(Long.toString(1_700_000_000_002L, 36), versions.tag(TEST_DATE));
+    }
+
+    @Test
+    @DisplayName("Should produce different tags for different versions")
+    void shouldProduceDifferentTagsForDifferentVersions() {
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(0L, 1L);
+
+        assertNotEquals(versions.tag(TEST_DATE), versions.tag(TEST_DATE));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ScheduleVersions(null)
+        );
+        assertEquals("OccupancyRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when date is null")
+    void shouldThrowExceptionWhenDateIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> versions.current(null));
+    }
+}
@@ -0,0 +1,125 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.TimeWindow;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AvailabilityProjectionService Tests")
+class AvailabilityProjectionServiceTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    private static final OpeningHoursPolicy OPENING_HOURS = new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0));
+
+    private AvailabilityProjectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AvailabilityProjectionService(OPENING_HOURS);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when OpeningHoursPolicy is null")
+    void shouldThrowExceptionWhenOpeningHoursPolicyIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new AvailabilityProjectionService(null)
+        );
+        assertEquals("OpeningHoursPolicy cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should merge snapshots into applied events")
+    void shouldMergeSnapshotsIntoAppliedEvents() {
+        // Given
+        service.apply(new BookingCreatedEvent(1L, TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        List<Booking> snapshot = List.of(
+                new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))),
+                new Booking(2L, new TimeSlot(TEST_DATE, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+
+        // When
+        int added = service.applySnapshot(TEST_DATE, 1L, snapshot);
+
+        // Then
+        assertEquals(1, added);
+        assertEquals(2, service.getAvailability(TEST_DATE).getOccupiedWindows().size());
+    }
+
+    @Test
+    @DisplayName("Should keep the newest snapshot when an older one arrives late")
+    void shouldKeepNewestSnapshotWhenOlderOneArrivesLate() {
+        // Given
+        Booking cancelled = new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        Booking kept = new Booking(2L, new TimeSlot(TEST_DATE, LocalTime.of(14, 0), LocalTime.of(15, 0)));
+        service.applySnapshot(TEST_DATE, 1L, List.of(cancelled, kept));
+
+        // When
+        service.applySnapshot(TEST_DATE, 3L, List.of(kept));
+        int added = service.applySnapshot(TEST_DATE, 2L, List.of(cancelled, kept));
+
+        // Then
+        assertEquals(0, added);
+        assertEquals(List.of(new TimeWindow(LocalTime.of(14, 0), LocalTime.of(15, 0))),
+                service.getAvailability(TEST_DATE).getOccupiedWindows());
+    }
+
+    @Test
+    @DisplayName("Should return whole opening hours as free for a day without events")
+    void shouldReturnWholeOpeningHoursAsFreeForDayWithoutEvents() {
+        AvailabilityResponse response = service.getAvailability(TEST_DATE);
+
+        assertEquals(TEST_DATE, response.getDate());
+        assertEquals(List.of(new TimeWindow(LocalTime.of(8, 0), LocalTime.of(20, 0))), response.getFreeWindows());
+        assertTrue(response.getOccupiedWindows().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect applied events in availability")
+    void shouldReflectAppliedEventsInAvailability() {
+        service.apply(new BookingCreatedEvent(1L, TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        AvailabilityResponse response = service.getAvailability(TEST_DATE);
+
+        assertEquals(List.of(new TimeWindow(LocalTime.of(10, 0), LocalTime.of(11, 0))), response.getOccupiedWindows());
+        assertEquals(2, response.getFreeWindows().size());
+    }
+
+    @Test
+    @DisplayName("Should apply the same event only once")
+    void shouldApplySameEventOnlyOnce() {
+        BookingCreatedEvent event = new BookingCreatedEvent(1L, TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertTrue(service.apply(event));
+        assertFalse(service.apply(event));
+    }
+
+    @Test
+    @DisplayName("Should keep days independent")
+    void shouldKeepDaysIndependent() {
+        service.apply(new BookingCreatedEvent(1L, TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        assertTrue(service.getAvailability(TEST_DATE.plusDays(1)).getOccupiedWindows().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when event is null")
+    void shouldThrowExceptionWhenEventIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.apply(null)
+        );
+        assertEquals("Event cannot be null", exception.getMessage());
+    }
+}
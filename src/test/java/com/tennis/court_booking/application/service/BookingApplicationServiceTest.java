@@ -4,10 +4,22 @@ import com.tennis.court_booking.application.port.in.BookingResponse;
 import com.tennis.court_booking.application.port.in.ReserveCommand;
 import com.tennis.court_booking.application.port.out.BookingEventPublisher;
 import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.port.out.DayLock;
+import com.tennis.court_booking.application.port.out.ReservationMetrics;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+import com.tennis.court_booking.application.port.out.ReservationTimings;
+import com.tennis.court_booking.application.port.out.ReservationTracer;
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import com.tennis.court_booking.domain.exception.BookingRejectedException;
 import com.tennis.court_booking.domain.exception.BusinessException;
 import com.tennis.court_booking.domain.exception.InvalidTimeSlotException;
+import com.tennis.court_booking.domain.exception.RejectionReason;
+import com.tennis.court_booking.domain.policy.ExistingBookings;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
 import com.tennis.court_booking.domain.service.BookingDomainService;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,14 +29,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +56,12 @@ class BookingApplicationServiceTest {
     @Mock
     private BookingDomainService domainService;
 
+    @Mock
+    private ReservationMetrics metrics;
+
+    @Mock
+    private ContentionMetrics contentionMetrics;
+
     private BookingApplicationService applicationService;
 
     @BeforeEach
@@ -102,7 +124,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         BookingResponse response = applicationService.reserve(command);
@@ -114,7 +137,7 @@ class BookingApplicationServiceTest {
         assertEquals(endTime, response.getEndTime());
 
         verify(bookingRepository).findByDate(date);
-        verify(domainService).reserve(any(TimeSlot.class), eq(existingBookings));
+        verify(domainService).reserve(any(TimeSlot.class), any(ExistingBookings.class));
         verify(bookingRepository).save(unsavedBooking);
         verify(eventPublisher).publish(any(BookingCreatedEvent.class));
     }
@@ -134,13 +157,14 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         applicationService.reserve(command);
 
         ArgumentCaptor<TimeSlot> timeSlotCaptor = ArgumentCaptor.forClass(TimeSlot.class);
-        verify(domainService).reserve(timeSlotCaptor.capture(), eq(existingBookings));
+        verify(domainService).reserve(timeSlotCaptor.capture(), any(ExistingBookings.class));
 
         TimeSlot capturedTimeSlot = timeSlotCaptor.getValue();
         assertEquals(date, capturedTimeSlot.getDate());
@@ -168,13 +192,14 @@ class BookingApplicationServiceTest {
         );
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         applicationService.reserve(command);
 
         verify(bookingRepository).findByDate(date);
-        verify(domainService).reserve(any(TimeSlot.class), eq(existingBookings));
+        verify(domainService).reserve(any(TimeSlot.class), any(ExistingBookings.class));
     }
 
     @Test
@@ -192,7 +217,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         applicationService.reserve(command);
@@ -215,7 +241,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         applicationService.reserve(command);
@@ -245,7 +272,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         BookingResponse response = applicationService.reserve(command);
@@ -281,8 +309,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings)))
-                .thenThrow(new BusinessException("Opening hours violation"));
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(throwingAfterLoad(existingBookings, new BusinessException("Opening hours violation")));
 
         BusinessException exception = assertThrows(
                 BusinessException.class,
@@ -291,7 +319,7 @@ class BookingApplicationServiceTest {
         assertEquals("Opening hours violation", exception.getMessage());
 
         verify(bookingRepository).findByDate(date);
-        verify(domainService).reserve(any(TimeSlot.class), eq(existingBookings));
+        verify(domainService).reserve(any(TimeSlot.class), any(ExistingBookings.class));
         verify(bookingRepository, never()).save(any());
         verifyNoInteractions(eventPublisher);
     }
@@ -310,7 +338,8 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(RuntimeException.class, () -> applicationService.reserve(command));
@@ -334,14 +363,16 @@ class BookingApplicationServiceTest {
         List<Booking> existingBookings = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(existingBookings);
-        when(domainService.reserve(any(TimeSlot.class), eq(existingBookings))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existingBookings, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         BookingResponse response = applicationService.reserve(command);
 
+        // The day's bookings are loaded by the policies, inside the domain service call
         var inOrder = inOrder(bookingRepository, domainService, eventPublisher);
+        inOrder.verify(domainService).reserve(any(TimeSlot.class), any(ExistingBookings.class));
         inOrder.verify(bookingRepository).findByDate(date);
-        inOrder.verify(domainService).reserve(any(TimeSlot.class), eq(existingBookings));
         inOrder.verify(bookingRepository).save(unsavedBooking);
         inOrder.verify(eventPublisher).publish(any(BookingCreatedEvent.class));
 
@@ -364,12 +395,324 @@ class BookingApplicationServiceTest {
         List<Booking> emptyList = new ArrayList<>();
 
         when(bookingRepository.findByDate(date)).thenReturn(emptyList);
-        when(domainService.reserve(any(TimeSlot.class), eq(emptyList))).thenReturn(unsavedBooking);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(emptyList, unsavedBooking));
         when(bookingRepository.save(unsavedBooking)).thenReturn(savedBooking);
 
         BookingResponse response = applicationService.reserve(command);
 
         assertNotNull(response);
-        verify(domainService).reserve(any(TimeSlot.class), eq(emptyList));
+        verify(domainService).reserve(any(TimeSlot.class), any(ExistingBookings.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a slot outside opening hours without querying the repository")
+    void shouldRejectOutsideOpeningHoursWithoutQuery() {
+        // Given - the real policy pipeline
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, new BookingDomainService(
+                        new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)),
+                        new OverlappingReservationsPolicy()));
+
+        // When & Then
+        assertThrows(BookingRejectedException.class, () -> service.reserve(
+                new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(6, 0), LocalTime.of(7, 0))));
+        verifyNoInteractions(bookingRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject a slot outside opening hours without taking the day lock")
+    void shouldRejectOutsideOpeningHoursWithoutDayLock() {
+        // Given - the real policy pipeline behind a database day lock
+        DayLock dayLock = mock(DayLock.class);
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, new BookingDomainService(
+                        new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)),
+                        new OverlappingReservationsPolicy()),
+                metrics, contentionMetrics, dayLock);
+
+        // When & Then
+        assertThrows(BookingRejectedException.class, () -> service.reserve(
+                new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(22, 0), LocalTime.of(23, 0))));
+        verifyNoInteractions(dayLock);
+        verifyNoInteractions(bookingRepository);
+        verify(metrics).recordStage(eq(Stage.VALIDATE), anyLong());
+        verify(metrics, never()).recordStage(eq(Stage.LOCK), anyLong());
+        verify(metrics).recordOutcome(Outcome.HOURS_REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should query the day's bookings once when the overlap policy is reached")
+    void shouldQueryBookingsOnceWhenOverlapPolicyIsReached() {
+        // Given - the real policy pipeline
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, new BookingDomainService(
+                        new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)),
+                        new OverlappingReservationsPolicy()));
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(bookingRepository.findByDate(date)).thenReturn(List.of());
+        when(bookingRepository.save(any(Booking.class))).thenReturn(new Booking(1L, timeSlot));
+
+        // When
+        service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // Then
+        verify(bookingRepository, times(1)).findByDate(date);
+    }
+
+    @Test
+    @DisplayName("Should time every stage and count a created reservation")
+    void shouldTimeEveryStageAndCountCreatedReservation() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        List<Booking> existing = List.of(new Booking(7L, new TimeSlot(date, LocalTime.of(8, 0), LocalTime.of(9, 0))));
+        when(bookingRepository.findByDate(date)).thenReturn(existing);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existing, new Booking(null, timeSlot)));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(new Booking(1L, timeSlot));
+
+        // When
+        service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // Then
+        for (Stage stage : Stage.values()) {
+            verify(metrics).recordStage(eq(stage), anyLong());
+        }
+        verify(metrics).recordBookingsLoaded(1);
+        verify(metrics).recordOutcome(Outcome.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should count an overlap rejection and still time the validation stage")
+    void shouldCountOverlapRejection() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(bookingRepository.findByDate(date)).thenReturn(List.of());
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(throwingAfterLoad(List.of(),
+                        new BookingRejectedException(RejectionReason.OVERLAPS_EXISTING_BOOKING)));
+
+        // When & Then
+        assertThrows(BookingRejectedException.class,
+                () -> service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        verify(metrics).recordStage(eq(Stage.VALIDATE), anyLong());
+        verify(metrics, never()).recordStage(eq(Stage.SAVE), anyLong());
+        verify(metrics).recordOutcome(Outcome.OVERLAP_REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should count an opening hours rejection")
+    void shouldCountOpeningHoursRejection() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        doThrow(new BookingRejectedException(RejectionReason.ENDS_AFTER_CLOSING, LocalTime.of(21, 0), LocalTime.of(20, 0)))
+                .when(domainService).precheck(any(TimeSlot.class));
+
+        // When & Then
+        assertThrows(BookingRejectedException.class,
+                () -> service.reserve(new ReserveCommand(date, LocalTime.of(19, 0), LocalTime.of(21, 0))));
+        verify(metrics).recordOutcome(Outcome.HOURS_REJECTED);
+        verify(metrics, never()).recordStage(eq(Stage.LOAD), anyLong());
+        verify(domainService, never()).reserve(any(TimeSlot.class), any(ExistingBookings.class));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should count an invalid time slot before touching the repository")
+    void shouldCountInvalidTimeSlot() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics);
+
+        // When & Then
+        assertThrows(InvalidTimeSlotException.class, () -> service.reserve(
+                new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(11, 0), LocalTime.of(10, 0))));
+        verify(metrics).recordStage(eq(Stage.MAP), anyLong());
+        verify(metrics).recordOutcome(Outcome.INVALID);
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should count an unexpected save failure")
+    void shouldCountUnexpectedFailure() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(bookingRepository.findByDate(date)).thenReturn(List.of());
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(List.of(), new Booking(null, timeSlot)));
+        when(bookingRepository.save(any(Booking.class))).thenThrow(new RuntimeException("Database error"));
+
+        // When & Then
+        assertThrows(RuntimeException.class,
+                () -> service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        verify(metrics).recordStage(eq(Stage.SAVE), anyLong());
+        verify(metrics).recordOutcome(Outcome.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should trace the reservation with its date, outcome and stage timings")
+    void shouldTraceReservation() {
+        // Given
+        ReservationTracer.Trace trace = mock(ReservationTracer.Trace.class);
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, ReservationMetrics.NONE, ContentionMetrics.NONE,
+                DayLock.NONE, () -> trace);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        List<Booking> existing = List.of(new Booking(7L, new TimeSlot(date, LocalTime.of(8, 0), LocalTime.of(9, 0))));
+        when(bookingRepository.findByDate(date)).thenReturn(existing);
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(existing, new Booking(null, timeSlot)));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(new Booking(1L, timeSlot));
+
+        // When
+        service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // Then
+        ArgumentCaptor<ReservationTimings> timingsCaptor = ArgumentCaptor.forClass(ReservationTimings.class);
+        verify(trace).complete(eq(date), eq(Outcome.CREATED), timingsCaptor.capture());
+        ReservationTimings timings = timingsCaptor.getValue();
+        assertEquals(1, timings.getBookingsLoaded());
+        assertTrue(timings.stageDuration(Stage.SAVE) >= 0);
+        assertTrue(timings.stageDuration(Stage.PUBLISH) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when ReservationTracer is null")
+    void shouldThrowExceptionWhenReservationTracerIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingApplicationService(bookingRepository, eventPublisher, domainService,
+                        ReservationMetrics.NONE, ContentionMetrics.NONE, DayLock.NONE, null)
+        );
+        assertEquals("ReservationTracer cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report the date of an overlap conflict with its lock wait")
+    void shouldReportDateContention() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics, contentionMetrics);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(bookingRepository.findByDate(date)).thenReturn(List.of());
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(throwingAfterLoad(List.of(),
+                        new BookingRejectedException(RejectionReason.OVERLAPS_EXISTING_BOOKING)));
+
+        // When
+        assertThrows(BookingRejectedException.class,
+                () -> service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        // Then
+        verify(contentionMetrics).recordReservation(eq(date), eq(true), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not report the date of an invalid time slot")
+    void shouldNotReportInvalidTimeSlotContention() {
+        // Given
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics, contentionMetrics);
+
+        // When
+        assertThrows(InvalidTimeSlotException.class, () -> service.reserve(
+                new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(11, 0), LocalTime.of(10, 0))));
+
+        // Then
+        verify(contentionMetrics, never()).recordReservation(any(), anyBoolean(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when DayLock is null")
+    void shouldThrowExceptionWhenDayLockIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingApplicationService(
+                        bookingRepository, eventPublisher, domainService, metrics, contentionMetrics, null)
+        );
+        assertEquals("DayLock cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should load, validate and save under the day lock and publish after it")
+    void shouldLoadAndSaveUnderDayLock() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        Booking savedBooking = new Booking(1L, timeSlot);
+        boolean[] locked = new boolean[1];
+        List<LocalDate> lockedDates = new ArrayList<>();
+        DayLock dayLock = new DayLock() {
+            @Override
+            public <T> T runLocked(LocalDate lockedDate, Supplier<T> work) {
+                lockedDates.add(lockedDate);
+                locked[0] = true;
+                try {
+                    return work.get();
+                } finally {
+                    locked[0] = false;
+                }
+            }
+        };
+        BookingApplicationService service = new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService, metrics, contentionMetrics, dayLock);
+        when(bookingRepository.findByDate(date)).thenAnswer(invocation -> {
+            assertTrue(locked[0]);
+            return List.of();
+        });
+        when(domainService.reserve(any(TimeSlot.class), any(ExistingBookings.class)))
+                .thenAnswer(returningAfterLoad(List.of(), new Booking(null, timeSlot)));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            assertTrue(locked[0]);
+            return savedBooking;
+        });
+        doAnswer(invocation -> {
+            assertFalse(locked[0]);
+            return null;
+        }).when(eventPublisher).publish(any(BookingCreatedEvent.class));
+
+        // When
+        service.reserve(new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        // Then
+        assertEquals(List.of(date), lockedDates);
+        verify(eventPublisher).publish(any(BookingCreatedEvent.class));
+    }
+
+    /**
+     * Answers like a policy pipeline that reaches a policy reading the day's bookings:
+     * the lazy view is loaded, and must hold the expected bookings, before the booking is returned.
+     */
+    private static Answer<Booking> returningAfterLoad(List<Booking> expected, Booking booking) {
+        return invocation -> {
+            ExistingBookings existingBookings = invocation.getArgument(1);
+            assertEquals(expected, existingBookings.list());
+            return booking;
+        };
+    }
+
+    /**
+     * Answers like a policy reading the day's bookings and then rejecting the request.
+     */
+    private static Answer<Booking> throwingAfterLoad(List<Booking> expected, RuntimeException exception) {
+        return invocation -> {
+            ExistingBookings existingBookings = invocation.getArgument(1);
+            assertEquals(expected, existingBookings.list());
+            throw exception;
+        };
     }
 }
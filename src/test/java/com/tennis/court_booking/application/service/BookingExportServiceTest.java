@@ -0,0 +1,93 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.BookingExport;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingExportService Tests")
+class BookingExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BookingExportService(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingExportService(null)
+        );
+        assertEquals("BookingRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.exportBookings(TO, FROM)
+        );
+        assertEquals("From date cannot be after to date", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not read the repository until the export is written")
+    void shouldNotReadRepositoryUntilWritten() {
+        service.exportBookings(FROM, TO);
+
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should stream every booking of the range as a response")
+    @SuppressWarnings("unchecked")
+    void shouldStreamBookingsAsResponses() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Booking> action = invocation.getArgument(2);
+            action.accept(new Booking(1L, new TimeSlot(FROM, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+            action.accept(new Booking(2L, new TimeSlot(TO, LocalTime.of(12, 0), LocalTime.of(13, 0))));
+            return null;
+        }).when(bookingRepository).forEachInDateRange(eq(FROM), eq(TO), any(Consumer.class));
+        BookingExport export = service.exportBookings(FROM, TO);
+        List<BookingResponse> received = new ArrayList<>();
+
+        // When
+        export.writeTo(received::add);
+
+        // Then
+        assertEquals(2, received.size());
+        assertEquals(1L, received.get(0).getId());
+        assertEquals(TO, received.get(1).getDate());
+    }
+}
@@ -0,0 +1,141 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.paging.BookingCursor;
+import com.tennis.court_booking.application.port.in.BookingListQuery;
+import com.tennis.court_booking.application.port.in.BookingPage;
+import com.tennis.court_booking.application.port.out.BookingKey;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.BookingSearch;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingListingService Tests")
+class BookingListingServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+    private static final BookingSearch SEARCH = new BookingSearch(FROM, TO, null, null);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingListingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BookingListingService(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingListingService(null)
+        );
+        assertEquals("BookingRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return a cursor pointing at the last booking when more bookings follow")
+    void shouldReturnCursorWhenMoreBookingsFollow() {
+        // Given - one booking more than the limit comes back
+        when(bookingRepository.findPage(SEARCH, null, 3)).thenReturn(List.of(
+                booking(1L, FROM, 10), booking(2L, FROM, 12), booking(3L, FROM.plusDays(1), 9)));
+
+        // When
+        BookingPage page = service.listBookings(new BookingListQuery(FROM, TO, null, null, null, 2));
+
+        // Then
+        assertEquals(2, page.getBookings().size());
+        assertEquals(2L, page.getBookings().get(1).getId());
+        assertEquals(new BookingKey(FROM, LocalTime.of(12, 0), 2L), BookingCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor on the last page")
+    void shouldNotReturnCursorOnLastPage() {
+        // Given
+        when(bookingRepository.findPage(SEARCH, null, 3)).thenReturn(List.of(booking(1L, FROM, 10)));
+
+        // When
+        BookingPage page = service.listBookings(new BookingListQuery(FROM, TO, null, null, null, 2));
+
+        // Then
+        assertEquals(1, page.getBookings().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should continue after the key carried by the cursor")
+    void shouldContinueAfterCursorKey() {
+        // Given
+        BookingKey key = new BookingKey(FROM.plusDays(3), LocalTime.of(14, 0), 17L);
+        when(bookingRepository.findPage(SEARCH, key, 11)).thenReturn(List.of());
+
+        // When
+        BookingPage page = service.listBookings(
+                new BookingListQuery(FROM, TO, null, null, BookingCursor.encode(key), 10));
+
+        // Then
+        assertTrue(page.getBookings().isEmpty());
+        verify(bookingRepository).findPage(SEARCH, key, 11);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor without querying")
+    void shouldRejectMalformedCursor() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.listBookings(new BookingListQuery(FROM, TO, null, null, "not a cursor", 10))
+        );
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject pages larger than the maximum")
+    void shouldRejectTooLargeLimit() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.listBookings(new BookingListQuery(
+                        FROM, TO, null, null, null, BookingListingService.MAX_LIMIT + 1))
+        );
+        assertEquals("Limit cannot exceed " + BookingListingService.MAX_LIMIT, exception.getMessage());
+        verify(bookingRepository, never()).findPage(any(), isNull(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty time window")
+    void shouldRejectEmptyTimeWindow() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.listBookings(new BookingListQuery(
+                        FROM, TO, LocalTime.of(12, 0), LocalTime.of(10, 0), null, 10))
+        );
+        assertEquals("Time window start must be before its end", exception.getMessage());
+        verify(bookingRepository, never()).findPage(eq(SEARCH), any(), anyInt());
+    }
+
+    private static Booking booking(Long id, LocalDate date, int startHour) {
+        return new Booking(id, new TimeSlot(date, LocalTime.of(startHour, 0), LocalTime.of(startHour + 1, 0)));
+    }
+}
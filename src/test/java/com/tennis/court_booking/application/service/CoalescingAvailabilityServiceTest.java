@@ -0,0 +1,173 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.AvailabilityResponse;
+import com.tennis.court_booking.application.port.in.AvailabilityUseCase;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingAvailabilityService Tests")
+class CoalescingAvailabilityServiceTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private AvailabilityUseCase delegate;
+
+    @Mock
+    private ContentionMetrics contentionMetrics;
+
+    @Mock
+    private OccupancyRepository occupancyRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private ScheduleVersions scheduleVersions;
+    private CoalescingAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(occupancyRepository.findScheduleVersion(any())).thenAnswer(invocation -> version.get());
+        scheduleVersions = new ScheduleVersions(occupancyRepository);
+        service = new CoalescingAvailabilityService(delegate, scheduleVersions);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when delegate is null")
+    void shouldThrowExceptionWhenDelegateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new CoalescingAvailabilityService(null, scheduleVersions)
+        );
+        assertEquals("AvailabilityUseCase cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when date is null")
+    void shouldThrowExceptionWhenDateIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> service.getAvailability(null));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should answer concurrent reads of the same day with one delegate call")
+    void shouldCoalesceConcurrentReads() throws Exception {
+        // Given
+        AvailabilityResponse response = new AvailabilityResponse(TEST_DATE, List.of(), List.of());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAvailability(TEST_DATE)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // When
+            Future<AvailabilityResponse> first = executor.submit(() -> service.getAvailability(TEST_DATE));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<AvailabilityResponse> second = executor.submit(() -> service.getAvailability(TEST_DATE));
+            Future<AvailabilityResponse> third = executor.submit(() -> service.getAvailability(TEST_DATE));
+            while (service.getSingleFlight().calls() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertSame(response, first.get(5, TimeUnit.SECONDS));
+            assertSame(response, second.get(5, TimeUnit.SECONDS));
+            assertSame(response, third.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(1)).getAvailability(TEST_DATE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not join a read that started before the day was written")
+    void shouldNotJoinReadOfOlderVersion() throws Exception {
+        // Given
+        AvailabilityResponse before = new AvailabilityResponse(TEST_DATE, List.of(), List.of());
+        AvailabilityResponse after = new AvailabilityResponse(TEST_DATE, List.of(), List.of());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAvailability(TEST_DATE))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return before;
+                })
+                .thenReturn(after);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // When
+            Future<AvailabilityResponse> stale = executor.submit(() -> service.getAvailability(TEST_DATE));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            version.incrementAndGet();
+            AvailabilityResponse fresh = service.getAvailability(TEST_DATE);
+            release.countDown();
+
+            // Then
+            assertSame(after, fresh);
+            assertSame(before, stale.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(2)).getAvailability(TEST_DATE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report reads that joined a query in flight as shared")
+    void shouldReportSharedReads() throws Exception {
+        // Given
+        CoalescingAvailabilityService measured = new CoalescingAvailabilityService(delegate, scheduleVersions, contentionMetrics);
+        AvailabilityResponse response = new AvailabilityResponse(TEST_DATE, List.of(), List.of());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAvailability(TEST_DATE)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // When
+            Future<AvailabilityResponse> first = executor.submit(() -> measured.getAvailability(TEST_DATE));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<AvailabilityResponse> second = executor.submit(() -> measured.getAvailability(TEST_DATE));
+            while (measured.getSingleFlight().calls() < 2) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            // Then
+            verify(contentionMetrics).recordAvailabilityRead(TEST_DATE, false);
+            verify(contentionMetrics).recordAvailabilityRead(TEST_DATE, true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.in.ScheduleUseCase;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingScheduleService Tests")
+class CoalescingScheduleServiceTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private ScheduleUseCase delegate;
+
+    @Mock
+    private OccupancyRepository occupancyRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private ScheduleVersions scheduleVersions;
+    private CoalescingScheduleService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(occupancyRepository.findScheduleVersion(any())).thenAnswer(invocation -> version.get());
+        scheduleVersions = new ScheduleVersions(occupancyRepository);
+        service = new CoalescingScheduleService(delegate, scheduleVersions);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when delegate is null")
+    void shouldThrowExceptionWhenDelegateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new CoalescingScheduleService(null, scheduleVersions)
+        );
+        assertEquals("ScheduleUseCase cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should pass version lookups through to the delegate")
+    void shouldPassVersionLookupsThrough() {
+        when(delegate.getScheduleVersion(TEST_DATE)).thenReturn("v1");
+
+        assertEquals("v1", service.getScheduleVersion(TEST_DATE));
+        assertEquals(0, service.getSingleFlight().calls());
+    }
+
+    @Test
+    @DisplayName("Should answer concurrent reads of the same day with one delegate call")
+    void shouldCoalesceConcurrentReads() throws Exception {
+        // Given
+        ScheduleResponse response = new ScheduleResponse(TEST_DATE, ScheduleVersions.toTag(0L), List.of());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getSchedule(TEST_DATE)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // When
+            Future<ScheduleResponse> first = executor.submit(() -> service.getSchedule(TEST_DATE));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<ScheduleResponse> second = executor.submit(() -> service.getSchedule(TEST_DATE));
+            Future<ScheduleResponse> third = executor.submit(() -> service.getSchedule(TEST_DATE));
+            while (service.getSingleFlight().calls() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertSame(response, first.get(5, TimeUnit.SECONDS));
+            assertSame(response, second.get(5, TimeUnit.SECONDS));
+            assertSame(response, third.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(1)).getSchedule(TEST_DATE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not join a read that started before the day was written")
+    void shouldNotJoinReadOfOlderVersion() throws Exception {
+        // Given
+        ScheduleResponse before = new ScheduleResponse(TEST_DATE, ScheduleVersions.toTag(0L), List.of());
+        ScheduleResponse after = new ScheduleResponse(TEST_DATE, ScheduleVersions.toTag(1L), List.of());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getSchedule(TEST_DATE))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return before;
+                })
+                .thenReturn(after);
+
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            // When
+            Future<ScheduleResponse> stale = executor.submit(() -> service.getSchedule(TEST_DATE));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            version.incrementAndGet();
+            ScheduleResponse fresh = service.getSchedule(TEST_DATE);
+            release.countDown();
+
+            // Then
+            assertSame(after, fresh);
+            assertSame(before, stale.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(2)).getSchedule(TEST_DATE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
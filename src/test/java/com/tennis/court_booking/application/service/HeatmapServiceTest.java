@@ -0,0 +1,115 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.DayCapacity;
+import com.tennis.court_booking.application.port.in.HeatmapResponse;
+import com.tennis.court_booking.application.port.out.DailyOccupancy;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HeatmapService Tests")
+class HeatmapServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 2);
+    private static final LocalDate FIRST = MONTH.atDay(1);
+    private static final LocalDate LAST = MONTH.atEndOfMonth();
+
+    @Mock
+    private OccupancyRepository occupancyRepository;
+
+    private HeatmapService service;
+
+    @BeforeEach
+    void setUp() {
+        // 12 opening hours: 720 minutes of capacity per day
+        service = new HeatmapService(occupancyRepository,
+                new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new HeatmapService(null,
+                        new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)))
+        );
+        assertEquals("OccupancyRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should describe every day of the month from one range read")
+    void shouldDescribeEveryDayOfMonth() {
+        // Given
+        when(occupancyRepository.findBetween(FIRST, LAST)).thenReturn(List.of(
+                new DailyOccupancy(FIRST.plusDays(1), 180L, 2),
+                new DailyOccupancy(FIRST.plusDays(2), 720L, 6)));
+
+        // When
+        HeatmapResponse heatmap = service.getHeatmap(MONTH);
+
+        // Then
+        assertEquals(29, heatmap.getDays().size());
+        assertEquals(new DayCapacity(FIRST, 0L, 0, 100), heatmap.getDays().get(0));
+        assertEquals(new DayCapacity(FIRST.plusDays(1), 180L, 2, 75), heatmap.getDays().get(1));
+        assertEquals(new DayCapacity(FIRST.plusDays(2), 720L, 6, 0), heatmap.getDays().get(2));
+        verify(occupancyRepository, times(1)).findBetween(FIRST, LAST);
+    }
+
+    @Test
+    @DisplayName("Should round free capacity down so a booked day never shows as fully free")
+    void shouldRoundFreeCapacityDown() {
+        // Given
+        when(occupancyRepository.findBetween(FIRST, LAST)).thenReturn(List.of(new DailyOccupancy(FIRST, 1L, 1)));
+
+        // When
+        HeatmapResponse heatmap = service.getHeatmap(MONTH);
+
+        // Then
+        assertEquals(99, heatmap.getDays().get(0).getFreePercent());
+    }
+
+    @Test
+    @DisplayName("Should read every request from the shared counters")
+    void shouldReadEveryRequestFromCounters() {
+        // Given
+        when(occupancyRepository.findBetween(FIRST, LAST))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new DailyOccupancy(FIRST.plusDays(10), 60L, 1)));
+
+        // When
+        service.getHeatmap(MONTH);
+        HeatmapResponse second = service.getHeatmap(MONTH);
+
+        // Then
+        assertEquals(new DayCapacity(FIRST.plusDays(10), 60L, 1, 91), second.getDays().get(10));
+        verify(occupancyRepository, times(2)).findBetween(FIRST, LAST);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the counters")
+    void shouldRebuildCounters() {
+        // Given
+        when(occupancyRepository.rebuild()).thenReturn(3);
+
+        // When
+        int days = service.rebuild();
+
+        // Then
+        assertEquals(3, days);
+    }
+}
@@ -0,0 +1,312 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.idempotency.IdempotencyCache;
+import com.tennis.court_booking.application.idempotency.IdempotencyClaimLostException;
+import com.tennis.court_booking.application.idempotency.IdempotencyKeyInProgressException;
+import com.tennis.court_booking.application.idempotency.IdempotentReservation;
+import com.tennis.court_booking.application.port.in.BookingResponse;
+import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.out.IdempotencyRepository;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentBookingService Tests")
+class IdempotentBookingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T08:00:00Z");
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration LEASE = Duration.ofSeconds(10);
+    private static final ReserveCommand COMMAND =
+            new ReserveCommand(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    private static final BookingResponse BOOKING =
+            new BookingResponse(1L, COMMAND.getDate(), COMMAND.getStart(), COMMAND.getEnd());
+
+    @Mock
+    private BookingUseCase bookingUseCase;
+
+    @Mock
+    private IdempotencyRepository repository;
+
+    private IdempotentBookingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(Duration.ZERO);
+    }
+
+    private IdempotentBookingService newService(Duration waitTimeout) {
+        return new IdempotentBookingService(bookingUseCase, repository, new IdempotencyCache(100),
+                TTL, LEASE, waitTimeout, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when BookingUseCase is null")
+    void shouldThrowExceptionWhenBookingUseCaseIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new IdempotentBookingService(null, repository, new IdempotencyCache(1),
+                        TTL, LEASE, Duration.ZERO, Clock.systemUTC())
+        );
+        assertEquals("BookingUseCase cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the claim lease is not positive")
+    void shouldThrowExceptionWhenClaimLeaseIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new IdempotentBookingService(bookingUseCase, repository, new IdempotencyCache(1),
+                        TTL, Duration.ZERO, Duration.ZERO, Clock.systemUTC())
+        );
+        assertEquals("Claim lease must be positive", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should claim the key for the lease and keep the outcome for the TTL")
+    void shouldClaimForLeaseAndCompleteForTtl() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(repository.complete(any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenReturn(BOOKING);
+
+        // When
+        service.reserve("key-1", COMMAND);
+
+        // Then
+        verify(repository).claim(argThat(pending -> pending.getExpiresAt().equals(NOW.plus(LEASE))), eq(NOW));
+        verify(repository).complete(argThat(outcome -> outcome.getExpiresAt().equals(NOW.plus(TTL))));
+    }
+
+    @Test
+    @DisplayName("Should take over a claim whose lease ran out")
+    void shouldTakeOverExpiredClaim() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(
+                Optional.of(IdempotentReservation.pending("key-1", COMMAND, NOW.minusMillis(1))));
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(repository.complete(any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenReturn(BOOKING);
+
+        // When
+        BookingResponse response = service.reserve("key-1", COMMAND);
+
+        // Then
+        assertEquals(BOOKING, response);
+        verify(bookingUseCase).reserve(COMMAND);
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized keys")
+    void shouldRejectInvalidKeys() {
+        assertThrows(IllegalArgumentException.class, () -> service.reserve(" ", COMMAND));
+        assertThrows(IllegalArgumentException.class, () -> service.reserve("k".repeat(256), COMMAND));
+        verifyNoInteractions(bookingUseCase, repository);
+    }
+
+    @Test
+    @DisplayName("Should reserve once, then replay from memory without touching the database")
+    void shouldReplayFromMemory() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(repository.complete(any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenReturn(BOOKING);
+
+        // When
+        BookingResponse first = service.reserve("key-1", COMMAND);
+        BookingResponse retry = service.reserve("key-1", COMMAND);
+
+        // Then
+        assertSame(first, retry);
+        verify(bookingUseCase, times(1)).reserve(COMMAND);
+        verify(repository, times(1)).findByKey("key-1");
+        verify(repository).complete(argThat(reservation -> BOOKING.equals(reservation.getBooking())));
+    }
+
+    @Test
+    @DisplayName("Should record and replay business rejections")
+    void shouldReplayRejections() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(repository.complete(any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND))
+                .thenThrow(new BusinessException("The requested time slot overlaps with an existing booking"));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> service.reserve("key-1", COMMAND));
+        BusinessException replayed = assertThrows(BusinessException.class, () -> service.reserve("key-1", COMMAND));
+
+        assertEquals("The requested time slot overlaps with an existing booking", replayed.getMessage());
+        verify(bookingUseCase, times(1)).reserve(COMMAND);
+        verify(repository).complete(argThat(reservation -> reservation.getRejection() != null));
+    }
+
+    @Test
+    @DisplayName("Should release the key when the reservation fails unexpectedly")
+    void shouldReleaseKeyOnUnexpectedFailure() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.reserve("key-1", COMMAND));
+        verify(repository).release(argThat(pending -> pending.getKey().equals("key-1")));
+        verify(repository, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the reservation ends with an error")
+    void shouldReleaseKeyOnError() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenThrow(new StackOverflowError());
+
+        // When & Then
+        assertThrows(StackOverflowError.class, () -> service.reserve("key-1", COMMAND));
+        verify(repository).release(argThat(pending -> pending.getKey().equals("key-1")));
+        verify(repository, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("Should release the claim it made, fenced by its claim token")
+    void shouldReleaseOwnClaim() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> service.reserve("key-1", COMMAND));
+
+        // Then
+        ArgumentCaptor<IdempotentReservation> claimed = ArgumentCaptor.forClass(IdempotentReservation.class);
+        verify(repository).claim(claimed.capture(), eq(NOW));
+        verify(repository).release(claimed.getValue());
+    }
+
+    @Test
+    @DisplayName("Should fail without caching the outcome when the claim was taken over")
+    void shouldFailWhenClaimWasLost() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenReturn(BOOKING);
+        when(repository.complete(any())).thenReturn(false);
+
+        // When & Then
+        IdempotencyClaimLostException exception = assertThrows(
+                IdempotencyClaimLostException.class, () -> service.reserve("key-1", COMMAND));
+        assertEquals("The claim on idempotency key 'key-1' expired before the reservation completed",
+                exception.getMessage());
+
+        // A retry reads the shared store again instead of replaying the unrecorded outcome
+        assertThrows(IdempotencyClaimLostException.class, () -> service.reserve("key-1", COMMAND));
+        verify(repository, times(2)).findByKey("key-1");
+    }
+
+    @Test
+    @DisplayName("Should replay an outcome stored by another instance")
+    void shouldReplayOutcomeStoredByAnotherInstance() {
+        // Given
+        IdempotentReservation stored = IdempotentReservation.pending("key-1", COMMAND, NOW.plus(TTL)).booked(BOOKING);
+        when(repository.findByKey("key-1")).thenReturn(Optional.of(stored));
+
+        // When
+        BookingResponse response = service.reserve("key-1", COMMAND);
+
+        // Then
+        assertEquals(BOOKING, response);
+        verifyNoInteractions(bookingUseCase);
+        verify(repository, never()).claim(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different reservation")
+    void shouldRejectKeyReusedForDifferentReservation() {
+        // Given
+        IdempotentReservation stored = IdempotentReservation.pending("key-1", COMMAND, NOW.plus(TTL)).booked(BOOKING);
+        when(repository.findByKey("key-1")).thenReturn(Optional.of(stored));
+        ReserveCommand other = new ReserveCommand(COMMAND.getDate(), LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class, () -> service.reserve("key-1", other));
+        assertEquals("Idempotency key was already used for a different reservation", exception.getMessage());
+        verifyNoInteractions(bookingUseCase);
+    }
+
+    @Test
+    @DisplayName("Should give up with 'in progress' when another instance holds the key past the wait timeout")
+    void shouldGiveUpWhenKeyHeldElsewhere() {
+        // Given
+        when(repository.findByKey("key-1")).thenReturn(
+                Optional.of(IdempotentReservation.pending("key-1", COMMAND, NOW.plus(TTL))));
+
+        // When & Then
+        assertThrows(IdempotencyKeyInProgressException.class, () -> service.reserve("key-1", COMMAND));
+        verifyNoInteractions(bookingUseCase);
+    }
+
+    @Test
+    @DisplayName("Should make concurrent duplicates wait on the request in flight")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        // Given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByKey(anyString())).thenReturn(Optional.empty());
+        when(repository.claim(any(), any())).thenReturn(true);
+        when(repository.complete(any())).thenReturn(true);
+        when(bookingUseCase.reserve(COMMAND)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return BOOKING;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // When
+            Future<BookingResponse> first = executor.submit(() -> service.reserve("key-1", COMMAND));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<BookingResponse> duplicate = executor.submit(() -> service.reserve("key-1", COMMAND));
+            release.countDown();
+
+            // Then
+            assertEquals(BOOKING, first.get(5, TimeUnit.SECONDS));
+            assertEquals(BOOKING, duplicate.get(5, TimeUnit.SECONDS));
+            verify(bookingUseCase, times(1)).reserve(COMMAND);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
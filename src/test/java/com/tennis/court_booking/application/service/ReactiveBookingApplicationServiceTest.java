@@ -0,0 +1,270 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingEventPublisher;
+import com.tennis.court_booking.application.port.out.ReactiveBookingRepository;
+import com.tennis.court_booking.application.port.out.ReactiveDayLock;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.event.BookingCreatedEvent;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveBookingApplicationService Tests")
+class ReactiveBookingApplicationServiceTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private ReactiveBookingRepository bookingRepository;
+
+    @Mock
+    private ReactiveBookingEventPublisher eventPublisher;
+
+    @Mock
+    private ReactiveDayLock dayLock;
+
+    @Mock
+    private ScheduleSnapshotPublisher snapshotPublisher;
+
+    private BookingDomainService domainService;
+    private ReactiveBookingApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        // The real domain service - the reactive stack must reuse it unchanged
+        domainService = new BookingDomainService(
+                new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)),
+                new OverlappingReservationsPolicy());
+        service = new ReactiveBookingApplicationService(bookingRepository, eventPublisher, domainService);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ReactiveBookingApplicationService(null, eventPublisher,
+                        mock(BookingDomainService.class))
+        );
+        assertEquals("ReactiveBookingRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when day lock is null")
+    void shouldThrowExceptionWhenDayLockIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ReactiveBookingApplicationService(bookingRepository, eventPublisher,
+                        domainService, null, ScheduleSnapshotPublisher.NONE, AvailabilityChangePublisher.NONE)
+        );
+        assertEquals("ReactiveDayLock cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when snapshot publisher is null")
+    void shouldThrowExceptionWhenSnapshotPublisherIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ReactiveBookingApplicationService(bookingRepository, eventPublisher,
+                        domainService, ReactiveDayLock.NONE, null, AvailabilityChangePublisher.NONE)
+        );
+        assertEquals("ScheduleSnapshotPublisher cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should publish the snapshot with the version read under the day lock once it is released")
+    @SuppressWarnings("unchecked")
+    void shouldPublishSnapshotAfterDayLock() {
+        // Given
+        service = new ReactiveBookingApplicationService(bookingRepository, eventPublisher, domainService,
+                dayLock, snapshotPublisher, AvailabilityChangePublisher.NONE);
+        Booking existing = new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+        when(dayLock.runLocked(eq(TEST_DATE), any())).thenAnswer(invocation ->
+                Mono.defer(invocation.<Supplier<Mono<Object>>>getArgument(1))
+                        .doOnSubscribe(subscription -> verifyNoInteractions(bookingRepository))
+                        .doOnSuccess(written -> {
+                            verify(bookingRepository).findScheduleVersion(TEST_DATE);
+                            verifyNoInteractions(snapshotPublisher);
+                        }));
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.just(existing));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return Mono.just(new Booking(7L, booking.getTimeSlot()));
+        });
+        when(bookingRepository.findScheduleVersion(TEST_DATE)).thenReturn(Mono.just(12L));
+        when(eventPublisher.publish(any(BookingCreatedEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))))
+                .assertNext(response -> assertEquals(7L, response.getId()))
+                .verifyComplete();
+
+        ArgumentCaptor<List<Booking>> scheduleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotPublisher).publish(eq(TEST_DATE), eq(12L), scheduleCaptor.capture());
+        assertEquals(List.of(1L, 7L), scheduleCaptor.getValue().stream().map(Booking::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should announce the saved booking with the day's new schedule version")
+    void shouldAnnounceSavedBooking() {
+        // Given
+        AvailabilityChangePublisher changePublisher = mock(AvailabilityChangePublisher.class);
+        service = new ReactiveBookingApplicationService(bookingRepository, eventPublisher, domainService,
+                ReactiveDayLock.NONE, ScheduleSnapshotPublisher.NONE, changePublisher);
+        when(changePublisher.hasSubscribers(TEST_DATE)).thenReturn(true);
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.empty());
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return Mono.just(new Booking(7L, booking.getTimeSlot()));
+        });
+        when(bookingRepository.findScheduleVersion(TEST_DATE)).thenReturn(Mono.just(5L));
+        when(eventPublisher.publish(any(BookingCreatedEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))))
+                .assertNext(response -> assertEquals(7L, response.getId()))
+                .verifyComplete();
+
+        ArgumentCaptor<AvailabilityChange> changeCaptor = ArgumentCaptor.forClass(AvailabilityChange.class);
+        verify(changePublisher).publish(changeCaptor.capture());
+        assertEquals(AvailabilityChange.Type.BOOKED, changeCaptor.getValue().getType());
+        assertEquals(7L, changeCaptor.getValue().getBookingId());
+        assertEquals(ScheduleVersions.toTag(5L), changeCaptor.getValue().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not read the version when nothing is published about the day")
+    void shouldNotReadVersionWhenNothingIsPublished() {
+        // Given
+        AvailabilityChangePublisher changePublisher = mock(AvailabilityChangePublisher.class);
+        service = new ReactiveBookingApplicationService(bookingRepository, eventPublisher, domainService,
+                ReactiveDayLock.NONE, ScheduleSnapshotPublisher.NONE, changePublisher);
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.empty());
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return Mono.just(new Booking(7L, booking.getTimeSlot()));
+        });
+        when(eventPublisher.publish(any(BookingCreatedEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))))
+                .assertNext(response -> assertEquals(7L, response.getId()))
+                .verifyComplete();
+
+        verify(bookingRepository, never()).findScheduleVersion(any());
+        verify(changePublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should reserve, save and publish")
+    void shouldReserveSaveAndPublish() {
+        // Given
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.empty());
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return Mono.just(new Booking(7L, booking.getTimeSlot()));
+        });
+        when(eventPublisher.publish(any(BookingCreatedEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))))
+                .assertNext(response -> {
+                    assertEquals(7L, response.getId());
+                    assertEquals(LocalTime.of(10, 0), response.getStartTime());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<BookingCreatedEvent> eventCaptor = ArgumentCaptor.forClass(BookingCreatedEvent.class);
+        verify(eventPublisher).publish(eventCaptor.capture());
+        assertEquals(7L, eventCaptor.getValue().getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should signal BusinessException without saving when slots overlap")
+    void shouldSignalBusinessExceptionWhenSlotsOverlap() {
+        // Given
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.just(
+                new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(10, 0), LocalTime.of(11, 0)))));
+
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(10, 30), LocalTime.of(11, 30))))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verify(bookingRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject a slot outside opening hours without querying the repository")
+    void shouldRejectOutsideOpeningHoursWithoutQuery() {
+        // When & Then
+        StepVerifier.create(service.reserve(new ReserveCommand(TEST_DATE, LocalTime.of(6, 0), LocalTime.of(7, 0))))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verifyNoInteractions(bookingRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should return the day's schedule ordered by start time")
+    void shouldReturnScheduleOrderedByStartTime() {
+        // Given
+        when(bookingRepository.findScheduleVersion(TEST_DATE)).thenReturn(Mono.just(4L));
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(Flux.just(
+                new Booking(2L, new TimeSlot(TEST_DATE, LocalTime.of(14, 0), LocalTime.of(15, 0))),
+                new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+
+        // When & Then
+        StepVerifier.create(service.getSchedule(TEST_DATE))
+                .assertNext(schedule -> {
+                    assertEquals(ScheduleVersions.toTag(4L), schedule.getVersion());
+                    assertEquals(1L, schedule.getBookings().get(0).getId());
+                    assertEquals(2L, schedule.getBookings().get(1).getId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read the schedule version of the day from the repository")
+    void shouldReadScheduleVersionFromRepository() {
+        // Given
+        when(bookingRepository.findScheduleVersion(TEST_DATE)).thenReturn(Mono.just(0L));
+
+        // When & Then
+        StepVerifier.create(service.getScheduleVersion(TEST_DATE))
+                .expectNext(ScheduleVersions.toTag(0L))
+                .verifyComplete();
+
+        verify(bookingRepository, never()).findByDate(any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.in.ScheduleResponse;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleService Tests")
+class ScheduleServiceTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private OccupancyRepository occupancyRepository;
+
+    private ScheduleVersions scheduleVersions;
+    private ScheduleService service;
+
+    @BeforeEach
+    void setUp() {
+        scheduleVersions = new ScheduleVersions(occupancyRepository);
+        service = new ScheduleService(bookingRepository, scheduleVersions);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ScheduleService(null, scheduleVersions)
+        );
+        assertEquals("BookingRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return the version without querying the bookings")
+    void shouldReturnVersionWithoutQueryingBookings() {
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(1L);
+
+        assertEquals(ScheduleVersions.toTag(1L), service.getScheduleVersion(TEST_DATE));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the day's bookings ordered by start time")
+    void shouldReturnBookingsOrderedByStartTime() {
+        // Given
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(1L);
+        when(bookingRepository.findByDate(TEST_DATE)).thenReturn(List.of(
+                new Booking(2L, new TimeSlot(TEST_DATE, LocalTime.of(14, 0), LocalTime.of(15, 0))),
+                new Booking(1L, new TimeSlot(TEST_DATE, LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+
+        // When
+        ScheduleResponse response = service.getSchedule(TEST_DATE);
+
+        // Then
+        assertEquals(TEST_DATE, response.getDate());
+        assertEquals(ScheduleVersions.toTag(1L), response.getVersion());
+        assertEquals(2, response.getBookings().size());
+        assertEquals(1L, response.getBookings().get(0).getId());
+        assertEquals(2L, response.getBookings().get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when date is null")
+    void shouldThrowExceptionWhenDateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getSchedule(null)
+        );
+        assertEquals("Date cannot be null", exception.getMessage());
+    }
+}
@@ -0,0 +1,261 @@
+package com.tennis.court_booking.application.service;
+
+import com.tennis.court_booking.application.port.out.AvailabilityChange;
+import com.tennis.court_booking.application.port.out.AvailabilityChangePublisher;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.OccupancyRepository;
+import com.tennis.court_booking.application.port.out.ScheduleSnapshotPublisher;
+import com.tennis.court_booking.application.readmodel.ScheduleVersions;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VersionTrackingBookingRepository Tests")
+class VersionTrackingBookingRepositoryTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private BookingRepository delegate;
+
+    @Mock
+    private OccupancyRepository occupancyRepository;
+
+    private ScheduleVersions scheduleVersions;
+    private List<AvailabilityChange> changes;
+    private VersionTrackingBookingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        scheduleVersions = new ScheduleVersions(occupancyRepository);
+        changes = new ArrayList<>();
+        repository = new VersionTrackingBookingRepository(delegate, scheduleVersions, changes::add);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when delegate is null")
+    void shouldThrowExceptionWhenDelegateIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new VersionTrackingBookingRepository(null, scheduleVersions)
+        );
+        assertEquals("BookingRepository cannot be null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not announce anything when deleting an unknown booking")
+    void shouldNotAnnounceWhenDeletingUnknownBooking() {
+        // Given
+        when(delegate.findById(99L)).thenReturn(Optional.empty());
+
+        // When
+        repository.delete(99L);
+
+        // Then
+        verify(delegate).delete(99L);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should announce a booked slot tagged with the version read after the write")
+    void shouldAnnounceBookedSlot() {
+        // Given
+        Booking booking = booking(null, TEST_DATE);
+        Booking saved = booking(1L, TEST_DATE);
+        when(delegate.save(booking)).thenReturn(saved);
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(41L);
+
+        // When
+        Booking result = repository.save(booking);
+
+        // Then
+        assertEquals(saved, result);
+        verify(delegate, never()).findById(any());
+        InOrder inOrder = inOrder(delegate, occupancyRepository);
+        inOrder.verify(delegate).save(booking);
+        inOrder.verify(occupancyRepository).findScheduleVersion(TEST_DATE);
+        assertEquals(1, changes.size());
+        assertEquals(AvailabilityChange.Type.BOOKED, changes.get(0).getType());
+        assertEquals(1L, changes.get(0).getBookingId());
+        assertEquals(ScheduleVersions.toTag(41L), changes.get(0).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should announce the freed and the booked slot when an update moves a booking")
+    void shouldAnnounceFreedAndBookedSlotsOnMove() {
+        // Given
+        LocalDate newDate = TEST_DATE.plusDays(1);
+        Booking moved = booking(1L, newDate);
+        when(delegate.findById(1L)).thenReturn(Optional.of(booking(1L, TEST_DATE)));
+        when(delegate.save(moved)).thenReturn(moved);
+
+        // When
+        repository.save(moved);
+
+        // Then
+        assertEquals(2, changes.size());
+        assertEquals(AvailabilityChange.Type.FREED, changes.get(0).getType());
+        assertEquals(TEST_DATE, changes.get(0).getDate());
+        assertEquals(AvailabilityChange.Type.BOOKED, changes.get(1).getType());
+        assertEquals(newDate, changes.get(1).getDate());
+    }
+
+    @Test
+    @DisplayName("Should announce a freed slot when deleting a booking")
+    void shouldAnnounceFreedSlotWhenDeleting() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(booking(1L, TEST_DATE)));
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(42L);
+
+        // When
+        repository.delete(1L);
+
+        // Then
+        verify(delegate).delete(1L);
+        assertEquals(1, changes.size());
+        assertEquals(AvailabilityChange.Type.FREED, changes.get(0).getType());
+        assertEquals(ScheduleVersions.toTag(42L), changes.get(0).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should publish a change only once the write's transaction has committed")
+    void shouldPublishOnlyAfterCommit() {
+        // Given - hooks holding the actions until the test commits
+        List<Runnable> afterCommit = new ArrayList<>();
+        repository = new VersionTrackingBookingRepository(delegate, scheduleVersions, changes::add, afterCommit::add);
+        Booking booking = booking(null, TEST_DATE);
+        when(delegate.save(booking)).thenReturn(booking(1L, TEST_DATE));
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(41L);
+
+        // When
+        repository.save(booking);
+
+        // Then - the version was read in the transaction, the change waits for the commit
+        verify(occupancyRepository).findScheduleVersion(TEST_DATE);
+        assertTrue(changes.isEmpty());
+        afterCommit.forEach(Runnable::run);
+        assertEquals(1, changes.size());
+        assertEquals(ScheduleVersions.toTag(41L), changes.get(0).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should neither read the version nor publish when nobody follows the date")
+    void shouldSkipVersionReadWithoutSubscribers() {
+        // Given
+        AvailabilityChangePublisher changePublisher = mock(AvailabilityChangePublisher.class);
+        repository = new VersionTrackingBookingRepository(delegate, scheduleVersions, changePublisher);
+        Booking booking = booking(null, TEST_DATE);
+        when(delegate.save(booking)).thenReturn(booking(1L, TEST_DATE));
+
+        // When
+        repository.save(booking);
+
+        // Then
+        verify(changePublisher).hasSubscribers(TEST_DATE);
+        verifyNoMoreInteractions(changePublisher);
+        verifyNoInteractions(occupancyRepository);
+    }
+
+    @Test
+    @DisplayName("Should publish the saved day's versioned snapshot only after commit")
+    void shouldPublishSnapshotAfterCommitOnSave() {
+        // Given
+        ScheduleSnapshotPublisher snapshotPublisher = mock(ScheduleSnapshotPublisher.class);
+        List<Runnable> afterCommit = new ArrayList<>();
+        repository = new VersionTrackingBookingRepository(
+                delegate, scheduleVersions, AvailabilityChangePublisher.NONE, snapshotPublisher, afterCommit::add);
+        Booking booking = booking(null, TEST_DATE);
+        Booking saved = booking(1L, TEST_DATE);
+        List<Booking> schedule = List.of(booking(7L, TEST_DATE), saved);
+        when(delegate.save(booking)).thenReturn(saved);
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(41L);
+        when(delegate.findByDate(TEST_DATE)).thenReturn(schedule);
+
+        // When
+        repository.save(booking);
+
+        // Then - version and schedule were read in the transaction, the snapshot waits for the commit
+        verifyNoInteractions(snapshotPublisher);
+        afterCommit.forEach(Runnable::run);
+        verify(snapshotPublisher).publish(TEST_DATE, 41L, schedule);
+    }
+
+    @Test
+    @DisplayName("Should publish the day's snapshot when deleting a booking")
+    void shouldPublishSnapshotOnDelete() {
+        // Given
+        ScheduleSnapshotPublisher snapshotPublisher = mock(ScheduleSnapshotPublisher.class);
+        repository = new VersionTrackingBookingRepository(
+                delegate, scheduleVersions, AvailabilityChangePublisher.NONE, snapshotPublisher, Runnable::run);
+        when(delegate.findById(1L)).thenReturn(Optional.of(booking(1L, TEST_DATE)));
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(42L);
+        when(delegate.findByDate(TEST_DATE)).thenReturn(List.of());
+
+        // When
+        repository.delete(1L);
+
+        // Then
+        InOrder inOrder = inOrder(delegate, snapshotPublisher);
+        inOrder.verify(delegate).delete(1L);
+        inOrder.verify(delegate).findByDate(TEST_DATE);
+        inOrder.verify(snapshotPublisher).publish(TEST_DATE, 42L, List.of());
+    }
+
+    @Test
+    @DisplayName("Should publish the snapshots of both days when an update moves a booking")
+    void shouldPublishSnapshotsOfBothDaysOnMove() {
+        // Given
+        ScheduleSnapshotPublisher snapshotPublisher = mock(ScheduleSnapshotPublisher.class);
+        repository = new VersionTrackingBookingRepository(
+                delegate, scheduleVersions, AvailabilityChangePublisher.NONE, snapshotPublisher, Runnable::run);
+        LocalDate newDate = TEST_DATE.plusDays(1);
+        Booking moved = booking(1L, newDate);
+        when(delegate.findById(1L)).thenReturn(Optional.of(booking(1L, TEST_DATE)));
+        when(delegate.save(moved)).thenReturn(moved);
+        when(occupancyRepository.findScheduleVersion(TEST_DATE)).thenReturn(8L);
+        when(occupancyRepository.findScheduleVersion(newDate)).thenReturn(3L);
+        when(delegate.findByDate(TEST_DATE)).thenReturn(List.of());
+        when(delegate.findByDate(newDate)).thenReturn(List.of(moved));
+
+        // When
+        repository.save(moved);
+
+        // Then
+        verify(snapshotPublisher).publish(TEST_DATE, 8L, List.of());
+        verify(snapshotPublisher).publish(newDate, 3L, List.of(moved));
+    }
+
+    @Test
+    @DisplayName("Should not read the day for a snapshot when snapshots are disabled")
+    void shouldNotReadDayWhenSnapshotsAreDisabled() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(booking(1L, TEST_DATE)));
+
+        // When
+        repository.delete(1L);
+
+        // Then
+        verify(delegate, never()).findByDate(any());
+    }
+
+    private static Booking booking(Long id, LocalDate date) {
+        return new Booking(id, new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+    }
+}
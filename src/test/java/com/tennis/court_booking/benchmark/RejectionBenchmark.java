@@ -0,0 +1,116 @@
+package com.tennis.court_booking.benchmark;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
+import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Measures CPU time and heap allocation per rejected reservation.
+ *
+ * Compares the previous rejection path (an eagerly formatted BusinessException with a full
+ * stack trace) with the stackless, lazily formatted rejections thrown by the policies,
+ * both with and without reading the message. Rejections are thrown below a configurable
+ * number of frames, since stack trace capture scales with the depth of the request stack.
+ *
+ * Run with: ./gradlew rejectionBenchmark --args='[iterations] [stack-depth]'
+ */
+public final class RejectionBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 15);
+    private static final TimeSlot REQUESTED = new TimeSlot(DATE, LocalTime.of(10, 30), LocalTime.of(11, 30));
+    private static final List<Booking> EXISTING = List.of(
+            new Booking(1L, new TimeSlot(DATE, LocalTime.of(8, 0), LocalTime.of(9, 0))),
+            new Booking(2L, new TimeSlot(DATE, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+    private static final BookingDomainService DOMAIN_SERVICE = new BookingDomainService(
+            new OpeningHoursPolicy(LocalTime.of(8, 0), LocalTime.of(20, 0)),
+            new OverlappingReservationsPolicy());
+
+    private static volatile Object sink;
+
+    private RejectionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+
+        System.out.printf("Rejected reservations: %d per scenario, stack depth: %d%n%n", iterations, depth);
+        System.out.printf("%-40s %12s %14s%n", "scenario", "cpu ns/op", "bytes/op");
+        run("eager message + stack trace (before)", iterations, depth, RejectionBenchmark::eagerRejection);
+        run("stackless, message never read", iterations, depth, RejectionBenchmark::lazyRejection);
+        run("stackless, message rendered", iterations, depth, RejectionBenchmark::renderedRejection);
+    }
+
+    private static void eagerRejection() {
+        // The previous policy code: format first, then throw with a stack trace
+        try {
+            Booking existing = EXISTING.get(1);
+            throw new BusinessException(
+                    String.format("The requested time slot overlaps with an existing booking. " +
+                                    "Requested: [%s %s-%s], Existing booking ID: %d [%s %s-%s]",
+                            REQUESTED.getDate(), REQUESTED.getStart(), REQUESTED.getEnd(),
+                            existing.getId(),
+                            existing.getTimeSlot().getDate(),
+                            existing.getTimeSlot().getStart(),
+                            existing.getTimeSlot().getEnd()));
+        } catch (BusinessException ex) {
+            sink = ex;
+        }
+    }
+
+    private static void lazyRejection() {
+        try {
+            DOMAIN_SERVICE.reserve(REQUESTED, EXISTING);
+        } catch (BusinessException ex) {
+            sink = ex;
+        }
+    }
+
+    private static void renderedRejection() {
+        try {
+            DOMAIN_SERVICE.reserve(REQUESTED, EXISTING);
+        } catch (BusinessException ex) {
+            sink = ex.getMessage();
+        }
+    }
+
+    private static void run(String scenario, int iterations, int depth, Runnable rejection) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // Warm-up so the measured loop runs JIT-compiled code
+        atDepth(depth, () -> repeat(iterations, rejection));
+
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        atDepth(depth, () -> repeat(iterations, rejection));
+        long cpu = threads.getCurrentThreadCpuTime() - cpuBefore;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-40s %12.1f %14.1f%n", scenario, (double) cpu / iterations, (double) bytes / iterations);
+    }
+
+    private static void repeat(int iterations, Runnable rejection) {
+        for (int i = 0; i < iterations; i++) {
+            rejection.run();
+        }
+    }
+
+    private static void atDepth(int depth, Runnable action) {
+        if (depth <= 0) {
+            action.run();
+        } else {
+            atDepth(depth - 1, action);
+        }
+    }
+}
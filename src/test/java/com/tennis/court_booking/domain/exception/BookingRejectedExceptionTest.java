@@ -0,0 +1,42 @@
+package com.tennis.court_booking.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookingRejectedException Tests")
+class BookingRejectedExceptionTest {
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void shouldNotCaptureStackTrace() {
+        BookingRejectedException exception = new BookingRejectedException(
+                RejectionReason.STARTS_BEFORE_OPENING, LocalTime.of(7, 0), LocalTime.of(8, 0));
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("Should format the message from the reason's template")
+    void shouldFormatMessageFromTemplate() {
+        BookingRejectedException exception = new BookingRejectedException(
+                RejectionReason.ENDS_AFTER_CLOSING, LocalTime.of(21, 0), LocalTime.of(20, 0));
+
+        assertEquals("Booking cannot end after closing time. End: 21:00, Closing time: 20:00", exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage());
+        assertEquals(RejectionReason.ENDS_AFTER_CLOSING, exception.getReason());
+    }
+
+    @Test
+    @DisplayName("Should be a BusinessException")
+    void shouldBeBusinessException() {
+        BusinessException exception = new BookingRejectedException(
+                RejectionReason.STARTS_BEFORE_OPENING, LocalTime.of(7, 0), LocalTime.of(8, 0));
+
+        assertTrue(exception.getMessage().startsWith("Booking cannot start before opening time"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.tennis.court_booking.domain.policy;
+
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExistingBookings Tests")
+class ExistingBookingsTest {
+
+    private static final List<Booking> BOOKINGS = List.of(new Booking(1L, new TimeSlot(
+            LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+    @Test
+    @DisplayName("Should not run the loader until the bookings are read")
+    void shouldNotLoadUntilRead() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> {
+            loads.incrementAndGet();
+            return BOOKINGS;
+        });
+
+        // Then
+        assertFalse(existingBookings.isLoaded());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should run the loader once however often the bookings are read")
+    void shouldLoadOnce() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> {
+            loads.incrementAndGet();
+            return BOOKINGS;
+        });
+
+        // When
+        existingBookings.list();
+        List<Booking> bookings = existingBookings.list();
+
+        // Then
+        assertSame(BOOKINGS, bookings);
+        assertTrue(existingBookings.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should create a loaded view of given bookings")
+    void shouldCreateLoadedView() {
+        // When
+        ExistingBookings existingBookings = ExistingBookings.of(BOOKINGS);
+
+        // Then
+        assertTrue(existingBookings.isLoaded());
+        assertSame(BOOKINGS, existingBookings.list());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when loader is null")
+    void shouldThrowExceptionWhenLoaderIsNull() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ExistingBookings.lazy(null)
+        );
+        assertEquals("Loader cannot be null", exception.getMessage());
+    }
+}
@@ -289,7 +289,7 @@ class OverlappingReservationsPolicyTest {
 
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> policy.validate(timeSlot, null)
+            () -> policy.validate(timeSlot, (List<Booking>) null)
         );
         assertEquals("Existing bookings list cannot be null", exception.getMessage());
     }
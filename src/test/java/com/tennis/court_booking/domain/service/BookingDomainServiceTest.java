@@ -2,6 +2,8 @@ package com.tennis.court_booking.domain.service;
 
 import com.tennis.court_booking.domain.entity.Booking;
 import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.policy.BookingPolicy;
+import com.tennis.court_booking.domain.policy.ExistingBookings;
 import com.tennis.court_booking.domain.policy.OpeningHoursPolicy;
 import com.tennis.court_booking.domain.policy.OverlappingReservationsPolicy;
 import com.tennis.court_booking.domain.valueobject.TimeSlot;
@@ -138,7 +140,7 @@ class BookingDomainServiceTest {
         // When & Then - OverlappingReservationsPolicy will validate and throw
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> bookingDomainService.reserve(timeSlot, null)
+                () -> bookingDomainService.reserve(timeSlot, (List<Booking>) null)
         );
         assertEquals("Existing bookings list cannot be null", exception.getMessage());
     }
@@ -311,4 +313,105 @@ class BookingDomainServiceTest {
         assertTrue(exception.getMessage().contains("overlaps with an existing booking"));
     }
 
+    @Test
+    @DisplayName("Should reject outside opening hours without loading existing bookings")
+    void shouldRejectOutsideOpeningHoursWithoutLoadingExistingBookings() {
+        // Given
+        TimeSlot timeSlot = new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(6, 0), LocalTime.of(7, 0));
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> fail("Existing bookings must not be loaded"));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> bookingDomainService.reserve(timeSlot, existingBookings));
+        assertFalse(existingBookings.isLoaded());
+    }
+
+    @Test
+    @DisplayName("Should load existing bookings when the overlap policy is reached")
+    void shouldLoadExistingBookingsWhenOverlapPolicyIsReached() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        TimeSlot timeSlot = new TimeSlot(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        List<Booking> bookings = List.of(new Booking(1L, new TimeSlot(date, LocalTime.of(12, 0), LocalTime.of(13, 0))));
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> bookings);
+
+        // When
+        Booking booking = bookingDomainService.reserve(timeSlot, existingBookings);
+
+        // Then
+        assertEquals(timeSlot, booking.getTimeSlot());
+        assertTrue(existingBookings.isLoaded());
+    }
+
+    @Test
+    @DisplayName("Should run policies without existing bookings first whatever their configured order")
+    void shouldRunStatelessPoliciesFirst() {
+        // Given - the overlap policy configured first
+        BookingDomainService service = new BookingDomainService(List.of(overlappingReservationsPolicy, openingHoursPolicy));
+        TimeSlot timeSlot = new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(22, 0), LocalTime.of(23, 0));
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> fail("Existing bookings must not be loaded"));
+
+        // When & Then
+        BusinessException exception = assertThrows(
+                BusinessException.class,
+                () -> service.reserve(timeSlot, existingBookings)
+        );
+        assertTrue(exception.getMessage().contains("Booking cannot end after closing time"));
+    }
+
+    @Test
+    @DisplayName("Should run additional policies in the pipeline")
+    void shouldRunAdditionalPolicies() {
+        // Given - a policy allowing only full hours
+        BookingPolicy fullHoursOnly = new BookingPolicy() {
+            @Override
+            public boolean requiresExistingBookings() {
+                return false;
+            }
+
+            @Override
+            public void validate(TimeSlot timeSlot, ExistingBookings existingBookings) {
+                if (timeSlot.getStart().getMinute() != 0) {
+                    throw new BusinessException("Bookings must start on the hour");
+                }
+            }
+        };
+        BookingDomainService service = new BookingDomainService(
+                List.of(openingHoursPolicy, overlappingReservationsPolicy, fullHoursOnly));
+        TimeSlot timeSlot = new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(10, 30), LocalTime.of(11, 30));
+        ExistingBookings existingBookings = ExistingBookings.lazy(() -> fail("Existing bookings must not be loaded"));
+
+        // When & Then
+        BusinessException exception = assertThrows(
+                BusinessException.class,
+                () -> service.reserve(timeSlot, existingBookings)
+        );
+        assertEquals("Bookings must start on the hour", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should run only policies without existing bookings in the precheck")
+    void shouldRunOnlyStatelessPoliciesInPrecheck() {
+        // Given
+        TimeSlot early = new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(6, 0), LocalTime.of(7, 0));
+        TimeSlot valid = new TimeSlot(LocalDate.of(2024, 1, 15), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> bookingDomainService.precheck(early));
+        assertDoesNotThrow(() -> bookingDomainService.precheck(valid));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a policy is null")
+    void shouldThrowExceptionWhenPolicyIsNull() {
+        List<BookingPolicy> policies = new ArrayList<>();
+        policies.add(openingHoursPolicy);
+        policies.add(null);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new BookingDomainService(policies)
+        );
+        assertEquals("Policy cannot be null", exception.getMessage());
+    }
+
 }
@@ -0,0 +1,109 @@
+package com.tennis.court_booking.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects latencies and status counts of the requests sent by the load generator.
+ *
+ * Two histograms are kept. Response time is measured from when the request was supposed
+ * to be sent according to the schedule, so time spent queued behind a slow response is
+ * counted (coordinated omission correction). Service time is measured from when the
+ * request was actually sent, which is what a naive client reports. A large gap between
+ * the two means the server could not keep up with the schedule.
+ */
+final class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Recorder responseTimes = new Recorder(3);
+    private final Recorder serviceTimes = new Recorder(3);
+    private final LongAdder created = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Records a completed request.
+     *
+     * @param status the HTTP status code
+     * @param responseNanos nanoseconds from the intended send time to the response
+     * @param serviceNanos nanoseconds from the actual send time to the response
+     */
+    void record(int status, long responseNanos, long serviceNanos) {
+        responseTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(responseNanos));
+        serviceTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+        if (status >= 200 && status < 300) {
+            created.increment();
+        } else if (status < 500) {
+            rejected.increment();
+        } else {
+            serverErrors.increment();
+        }
+    }
+
+    /**
+     * Records a request that timed out. Its latencies are recorded up to the moment it was
+     * given up on, so a server that stops answering raises the percentiles instead of
+     * dropping out of them.
+     *
+     * @param responseNanos nanoseconds from the intended send time to the timeout
+     * @param serviceNanos nanoseconds from the actual send time to the timeout
+     */
+    void recordTimeout(long responseNanos, long serviceNanos) {
+        responseTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(responseNanos));
+        serviceTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+        timeouts.increment();
+    }
+
+    /**
+     * Records a request that did not get a response (connection refused, reset).
+     */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Discards everything recorded so far, used at the end of the warm-up.
+     */
+    void reset() {
+        responseTimes.reset();
+        serviceTimes.reset();
+        created.reset();
+        rejected.reset();
+        serverErrors.reset();
+        timeouts.reset();
+        failures.reset();
+    }
+
+    long completed() {
+        return created.sum() + rejected.sum() + serverErrors.sum();
+    }
+
+    void report(PrintStream out, double elapsedSeconds, boolean corrected) {
+        long completed = completed();
+        out.printf("%nRequests: %d completed in %.1f s (%.1f req/s)%n", completed, elapsedSeconds, completed / elapsedSeconds);
+        out.printf("  2xx: %d, 4xx: %d, 5xx: %d, timed out: %d, no response: %d%n",
+                created.sum(), rejected.sum(), serverErrors.sum(), timeouts.sum(), failures.sum());
+
+        Histogram response = responseTimes.getIntervalHistogram();
+        Histogram service = serviceTimes.getIntervalHistogram();
+        out.printf("%n%-12s %18s %18s%n", "percentile",
+                corrected ? "response ms (CO)" : "response ms", "service ms");
+        for (double percentile : PERCENTILES) {
+            out.printf("%-12s %18.3f %18.3f%n", "p" + percentile,
+                    response.getValueAtPercentile(percentile) / 1000.0,
+                    service.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf("%-12s %18.3f %18.3f%n", "max", response.getMaxValue() / 1000.0, service.getMaxValue() / 1000.0);
+        out.printf("%-12s %18.3f %18.3f%n", "mean", response.getMean() / 1000.0, service.getMean() / 1000.0);
+        if (!corrected) {
+            out.println("\nNo target rate: response time equals service time (coordinated omission not corrected).");
+        }
+    }
+}
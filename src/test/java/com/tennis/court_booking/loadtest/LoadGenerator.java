@@ -0,0 +1,215 @@
+package com.tennis.court_booking.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load generator for a running instance of the service.
+ *
+ * Two workload models are supported:
+ * - open: requests are started at a constant arrival rate regardless of how fast the
+ *   server answers, each on its own virtual thread, like independent clients would
+ * - closed: a fixed number of users send one request after another; with a rate the
+ *   users are paced so that together they target it, without one they send back to back
+ *
+ * Whenever there is a schedule (open model, or closed model with a rate), latency is
+ * measured from the scheduled send time, so a stalled server cannot hide its queueing
+ * delay by slowing the client down (coordinated omission). See LatencyRecorder.
+ *
+ * Requests come from a recorded JSONL log (--replay) or are synthesized with a skew
+ * towards the next few evenings (--days, --skew).
+ *
+ * Run with: ./gradlew loadTest --args='--mode=open --rate=500 --duration=60'
+ *
+ * Options (--name=value):
+ *   url        base URL of the service (default http://localhost:8080)
+ *   mode       open or closed (default open)
+ *   rate       target requests per second (required for open, optional for closed)
+ *   users      concurrent users in the closed model (default 32)
+ *   duration   measured seconds (default 30)
+ *   warmup     seconds sent before measuring starts (default 5)
+ *   replay     JSONL request log to replay instead of synthesizing requests
+ *   days       number of days synthesized requests are spread over (default 30)
+ *   skew       Zipf exponent of the date and start time distribution (default 1.0)
+ *   timeout    request timeout in seconds (default 10)
+ */
+public final class LoadGenerator {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final RequestSource source;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Duration timeout;
+
+    private LoadGenerator(HttpClient client, URI baseUri, RequestSource source, Duration timeout) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.source = source;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        String mode = options.getOrDefault("mode", "open");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+        int users = Integer.parseInt(options.getOrDefault("users", "32"));
+        long duration = Long.parseLong(options.getOrDefault("duration", "30"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "5"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "10")));
+
+        if (!mode.equals("open") && !mode.equals("closed")) {
+            throw new IllegalArgumentException("Mode must be open or closed: " + mode);
+        }
+        if (mode.equals("open") && rate <= 0) {
+            throw new IllegalArgumentException("The open model needs a positive --rate");
+        }
+        if (users < 1) {
+            throw new IllegalArgumentException("Users must be positive");
+        }
+
+        RequestSource source;
+        if (options.containsKey("replay")) {
+            ReplayRequestSource replay = ReplayRequestSource.fromFile(Path.of(options.get("replay")));
+            System.out.printf("Replaying %d recorded requests%n", replay.size());
+            source = replay;
+        } else {
+            source = new SkewedRequestSource(LocalDate.now().plusDays(1),
+                    Integer.parseInt(options.getOrDefault("days", "30")),
+                    Double.parseDouble(options.getOrDefault("skew", "1.0")));
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(timeout)
+                .build();
+        LoadGenerator generator = new LoadGenerator(
+                client, URI.create(options.getOrDefault("url", "http://localhost:8080")), source, timeout);
+
+        boolean corrected = mode.equals("open") || rate > 0;
+        System.out.printf("Model: %s, rate: %s, users: %s, warm-up: %d s, duration: %d s%n",
+                mode, rate > 0 ? rate + " req/s" : "unpaced", mode.equals("closed") ? users : "-", warmup, duration);
+
+        if (warmup > 0) {
+            generator.run(mode, rate, users, TimeUnit.SECONDS.toNanos(warmup));
+            generator.recorder.reset();
+        }
+        long started = System.nanoTime();
+        generator.run(mode, rate, users, TimeUnit.SECONDS.toNanos(duration));
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        generator.recorder.report(System.out, elapsed, corrected);
+    }
+
+    private void run(String mode, double rate, int users, long durationNanos) {
+        if (mode.equals("open")) {
+            runOpen(rate, durationNanos);
+        } else {
+            runClosed(rate, users, durationNanos);
+        }
+    }
+
+    /**
+     * Starts one request every 1/rate seconds until the duration has passed, then waits
+     * for the ones still in flight. Each request gets its own virtual thread, so a slow
+     * server grows the number of requests in flight instead of delaying later arrivals.
+     */
+    private void runOpen(double rate, long durationNanos) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended - start >= durationNanos) {
+                    break;
+                }
+                parkUntil(intended);
+                LoadRequest request = source.next();
+                executor.execute(() -> send(request, intended));
+            }
+        }
+    }
+
+    /**
+     * Runs a fixed number of users, each sending one request at a time. Paced users start
+     * staggered and aim at start + n * users / rate; a user that falls behind sends its next
+     * request immediately and the delay is charged to that request.
+     */
+    private void runClosed(double rate, int users, long durationNanos) {
+        boolean paced = rate > 0;
+        long userIntervalNanos = paced ? (long) (TimeUnit.SECONDS.toNanos(1) * users / rate) : 0L;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (int user = 0; user < users; user++) {
+                long firstSend = start + (paced ? userIntervalNanos * user / users : 0L);
+                executor.execute(() -> {
+                    long next = firstSend;
+                    while (true) {
+                        long intended = paced ? next : System.nanoTime();
+                        if (intended - start >= durationNanos) {
+                            break;
+                        }
+                        parkUntil(intended);
+                        send(source.next(), intended);
+                        next += userIntervalNanos;
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(LoadRequest request, long intendedNanos) {
+        HttpRequest.BodyPublisher body = request.body() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(request.body());
+        HttpRequest httpRequest = HttpRequest.newBuilder(baseUri.resolve(request.path()))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method(request.method(), body)
+                .build();
+
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+            long received = System.nanoTime();
+            recorder.record(response.statusCode(), received - intendedNanos, received - sent);
+        } catch (HttpTimeoutException e) {
+            long gaveUp = System.nanoTime();
+            recorder.recordTimeout(gaveUp - intendedNanos, gaveUp - sent);
+        } catch (IOException e) {
+            recorder.recordFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must look like --name=value: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tennis.court_booking.loadtest;
+
+/**
+ * One HTTP request issued by the load generator.
+ *
+ * @param method the HTTP method
+ * @param path the path, relative to the target base URL
+ * @param body the JSON body, or null for requests without a body
+ */
+record LoadRequest(String method, String path, String body) {
+
+    static LoadRequest reserve(String body) {
+        return new LoadRequest("POST", "/api/bookings", body);
+    }
+}
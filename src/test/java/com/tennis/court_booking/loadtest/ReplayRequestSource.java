@@ -0,0 +1,68 @@
+package com.tennis.court_booking.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a recorded JSONL request log, cycling through it until the run ends.
+ *
+ * Each line is either a request record {"method": ..., "path": ..., "body": {...}}
+ * or a bare reservation body {"date": ..., "start": ..., "end": ...}, which is sent
+ * as POST /api/bookings. Blank lines and lines starting with # are skipped.
+ */
+final class ReplayRequestSource implements RequestSource {
+
+    private final List<LoadRequest> requests;
+    private final AtomicLong position = new AtomicLong();
+
+    ReplayRequestSource(List<LoadRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Request log cannot be empty");
+        }
+        this.requests = List.copyOf(requests);
+    }
+
+    static ReplayRequestSource fromFile(Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<LoadRequest> requests = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file)) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            try {
+                requests.add(parse(mapper.readTree(trimmed)));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid request on line " + lineNumber + " of " + file, e);
+            }
+        }
+        return new ReplayRequestSource(requests);
+    }
+
+    private static LoadRequest parse(JsonNode node) {
+        if (!node.has("path")) {
+            return LoadRequest.reserve(node.toString());
+        }
+        String method = node.path("method").asText("POST");
+        JsonNode body = node.get("body");
+        return new LoadRequest(method, node.get("path").asText(), body == null || body.isNull() ? null : body.toString());
+    }
+
+    int size() {
+        return requests.size();
+    }
+
+    @Override
+    public LoadRequest next() {
+        return requests.get((int) (position.getAndIncrement() % requests.size()));
+    }
+}
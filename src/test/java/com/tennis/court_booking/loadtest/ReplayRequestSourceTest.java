@@ -0,0 +1,79 @@
+package com.tennis.court_booking.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayRequestSourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read request records and bare reservation bodies, skipping comments")
+    void shouldReadRecordsAndBareBodies() throws IOException {
+        // Given
+        Path log = Files.writeString(directory.resolve("requests.jsonl"), String.join("\n",
+                "# recorded on staging",
+                "{\"date\":\"2030-01-15\",\"start\":\"10:00\",\"end\":\"11:00\"}",
+                "",
+                "{\"method\":\"GET\",\"path\":\"/api/bookings/availability?date=2030-01-15\"}"));
+
+        // When
+        ReplayRequestSource source = ReplayRequestSource.fromFile(log);
+
+        // Then
+        assertEquals(2, source.size());
+        LoadRequest reserve = source.next();
+        assertEquals("POST", reserve.method());
+        assertEquals("/api/bookings", reserve.path());
+        assertEquals("{\"date\":\"2030-01-15\",\"start\":\"10:00\",\"end\":\"11:00\"}", reserve.body());
+        LoadRequest availability = source.next();
+        assertEquals("GET", availability.method());
+        assertEquals("/api/bookings/availability?date=2030-01-15", availability.path());
+        assertNull(availability.body());
+    }
+
+    @Test
+    @DisplayName("Should cycle through the log")
+    void shouldCycleThroughLog() {
+        // Given
+        LoadRequest first = LoadRequest.reserve("{}");
+        LoadRequest second = new LoadRequest("GET", "/api/bookings", null);
+        ReplayRequestSource source = new ReplayRequestSource(List.of(first, second));
+
+        // When & Then
+        assertSame(first, source.next());
+        assertSame(second, source.next());
+        assertSame(first, source.next());
+    }
+
+    @Test
+    @DisplayName("Should report the line of an invalid request")
+    void shouldReportInvalidLine() throws IOException {
+        // Given
+        Path log = Files.writeString(directory.resolve("broken.jsonl"), "{\"date\":\"2030-01-15\"}\n{not json");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReplayRequestSource.fromFile(log));
+        assertTrue(exception.getMessage().startsWith("Invalid request on line 2"));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty log")
+    void shouldRejectEmptyLog() throws IOException {
+        // Given
+        Path log = Files.writeString(directory.resolve("empty.jsonl"), "# nothing recorded\n");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ReplayRequestSource.fromFile(log));
+    }
+}
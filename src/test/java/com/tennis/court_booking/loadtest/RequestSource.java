@@ -0,0 +1,13 @@
+package com.tennis.court_booking.loadtest;
+
+/**
+ * Supplies the requests issued by the load generator.
+ * Called concurrently from every sending thread, so implementations must be thread-safe.
+ */
+interface RequestSource {
+
+    /**
+     * @return the next request to send
+     */
+    LoadRequest next();
+}
@@ -0,0 +1,84 @@
+package com.tennis.court_booking.loadtest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Synthesizes one hour reservations with a Zipf-like skew over dates and start times.
+ *
+ * Dates are ranked by distance from the first day and start times by distance from
+ * PEAK_START, and rank k is drawn with probability proportional to 1 / k^skew. A skew of 0
+ * spreads requests uniformly; larger values concentrate them on the next few evenings,
+ * which is where overlap rejections and contention on a single date come from.
+ */
+final class SkewedRequestSource implements RequestSource {
+
+    private static final LocalTime FIRST_START = LocalTime.of(8, 0);
+    private static final LocalTime LAST_START = LocalTime.of(19, 0);
+    private static final LocalTime PEAK_START = LocalTime.of(18, 0);
+    private static final int STEP_MINUTES = 30;
+
+    private final LocalDate[] dates;
+    private final LocalTime[] starts;
+    private final double[] dateWeights;
+    private final double[] startWeights;
+
+    SkewedRequestSource(LocalDate firstDay, int days, double skew) {
+        if (firstDay == null) {
+            throw new IllegalArgumentException("First day cannot be null");
+        }
+        if (days < 1) {
+            throw new IllegalArgumentException("Days must be positive");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("Skew cannot be negative");
+        }
+
+        this.dates = new LocalDate[days];
+        for (int i = 0; i < days; i++) {
+            dates[i] = firstDay.plusDays(i);
+        }
+
+        int slots = (LAST_START.toSecondOfDay() - FIRST_START.toSecondOfDay()) / (STEP_MINUTES * 60) + 1;
+        LocalTime[] byTime = new LocalTime[slots];
+        for (int i = 0; i < slots; i++) {
+            byTime[i] = FIRST_START.plusMinutes((long) i * STEP_MINUTES);
+        }
+        Arrays.sort(byTime, Comparator.comparingInt(
+                start -> Math.abs(start.toSecondOfDay() - PEAK_START.toSecondOfDay())));
+        this.starts = byTime;
+
+        this.dateWeights = cumulativeZipf(days, skew);
+        this.startWeights = cumulativeZipf(slots, skew);
+    }
+
+    private static double[] cumulativeZipf(int ranks, double skew) {
+        double[] cumulative = new double[ranks];
+        double sum = 0;
+        for (int k = 0; k < ranks; k++) {
+            sum += 1.0 / Math.pow(k + 1, skew);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < ranks; k++) {
+            cumulative[k] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    @Override
+    public LoadRequest next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate date = dates[sample(dateWeights, random.nextDouble())];
+        LocalTime start = starts[sample(startWeights, random.nextDouble())];
+        return LoadRequest.reserve(String.format(
+                "{\"date\":\"%s\",\"start\":\"%s\",\"end\":\"%s\"}", date, start, start.plusHours(1)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.tennis.court_booking.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkewedRequestSourceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 15);
+
+    @Test
+    @DisplayName("Should synthesize one hour reservations within opening hours and the date range")
+    void shouldSynthesizeValidReservations() {
+        // Given
+        SkewedRequestSource source = new SkewedRequestSource(FIRST_DAY, 7, 1.0);
+
+        for (int i = 0; i < 1_000; i++) {
+            // When
+            LoadRequest request = source.next();
+
+            // Then
+            assertEquals("POST", request.method());
+            assertEquals("/api/bookings", request.path());
+            assertTrue(request.body().matches(
+                    "\\{\"date\":\"2030-01-(1[5-9]|2[01])\",\"start\":\"(0[89]|1[0-9]):[03]0\",\"end\":\"(09|1[0-9]|20):[03]0\"}"),
+                    request.body());
+        }
+    }
+
+    @Test
+    @DisplayName("Should favour the first day when skewed")
+    void shouldFavourFirstDayWhenSkewed() {
+        // Given
+        SkewedRequestSource source = new SkewedRequestSource(FIRST_DAY, 30, 1.5);
+        Map<Boolean, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            boolean firstDay = source.next().body().contains("\"date\":\"" + FIRST_DAY + "\"");
+            counts.merge(firstDay, 1, Integer::sum);
+        }
+
+        // Then - rank 1 of 30 with exponent 1.5 is drawn with probability ~0.42, uniform would be ~0.03
+        assertTrue(counts.getOrDefault(true, 0) > 3_000, "first day drawn " + counts.get(true) + " times");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new SkewedRequestSource(null, 7, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SkewedRequestSource(FIRST_DAY, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SkewedRequestSource(FIRST_DAY, 7, -1.0));
+    }
+}
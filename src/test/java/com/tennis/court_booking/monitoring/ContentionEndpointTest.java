@@ -0,0 +1,36 @@
+package com.tennis.court_booking.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentionEndpointTest {
+
+    @Test
+    @DisplayName("Should return at most the requested number of dates")
+    void shouldLimitDates() {
+        // Given
+        DateContentionTracker tracker = new DateContentionTracker(10);
+        for (int day = 1; day <= 5; day++) {
+            tracker.recordReservation(LocalDate.of(2030, 1, day), false, 0, 1);
+        }
+        ContentionEndpoint endpoint = new ContentionEndpoint(tracker);
+
+        // When & Then
+        assertEquals(2, endpoint.contention(2).dates().size());
+        assertEquals(5, endpoint.contention(null).dates().size());
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.contention(0));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when tracker is null")
+    void shouldThrowExceptionWhenTrackerIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ContentionEndpoint(null));
+        assertEquals("DateContentionTracker cannot be null", exception.getMessage());
+    }
+}
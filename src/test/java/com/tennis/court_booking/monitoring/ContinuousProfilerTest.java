@@ -0,0 +1,72 @@
+package com.tennis.court_booking.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContinuousProfiler Tests")
+class ContinuousProfilerTest {
+
+    private static ContinuousProfiler profiler(Duration samplePeriod, int stackDepth) {
+        return new ContinuousProfiler(
+                new RollingStackAggregator(Duration.ofMinutes(1), 5, 1000),
+                samplePeriod, Duration.ofMillis(10), "100/s", stackDepth, Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("Should start and stop the flight recorder stream")
+    void shouldStartAndStopRecordingStream() {
+        ContinuousProfiler profiler = profiler(Duration.ofMillis(20), 16);
+        assertFalse(profiler.isRunning());
+
+        profiler.start();
+        assertTrue(profiler.isRunning());
+
+        profiler.stop();
+        assertFalse(profiler.isRunning());
+    }
+
+    @Test
+    @DisplayName("Should return an empty profile before any sample arrived")
+    void shouldReturnEmptyProfile() {
+        StackProfile profile = profiler(Duration.ofMillis(20), 16).top(ProfileKind.LOCK, 10, null);
+
+        assertEquals(ProfileKind.LOCK, profile.kind());
+        assertEquals(0, profile.total());
+        assertTrue(profile.stacks().isEmpty());
+        assertNull(profile.from());
+    }
+
+    @Test
+    @DisplayName("Should only count parks on locks as lock waits")
+    void shouldOnlyCountParksOnLocks() {
+        assertTrue(ContinuousProfiler.isLockWait("java.util.concurrent.locks.ReentrantLock$NonfairSync"));
+        assertTrue(ContinuousProfiler.isLockWait("java.util.concurrent.locks.ReentrantReadWriteLock$FairSync"));
+        assertTrue(ContinuousProfiler.isLockWait("java.util.concurrent.locks.StampedLock"));
+        // Idle pool workers waiting for a task
+        assertFalse(ContinuousProfiler.isLockWait("java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject"));
+        assertFalse(ContinuousProfiler.isLockWait("java.util.concurrent.ForkJoinPool"));
+        assertFalse(ContinuousProfiler.isLockWait("java.util.concurrent.SynchronousQueue$TransferStack"));
+        assertFalse(ContinuousProfiler.isLockWait("unknown"));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when sample period is not positive")
+    void shouldThrowExceptionWhenSamplePeriodIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> profiler(Duration.ZERO, 16));
+        assertEquals("Sample period must be positive", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when stack depth is not positive")
+    void shouldThrowExceptionWhenStackDepthIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> profiler(Duration.ofMillis(20), 0));
+        assertEquals("Stack depth must be positive", exception.getMessage());
+    }
+}
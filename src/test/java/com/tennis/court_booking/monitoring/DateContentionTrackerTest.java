@@ -0,0 +1,108 @@
+package com.tennis.court_booking.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DateContentionTracker Tests")
+class DateContentionTrackerTest {
+
+    private static final LocalDate HOT = LocalDate.of(2030, 1, 15);
+    private static final LocalDate COLD = LocalDate.of(2030, 1, 16);
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private DateContentionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new DateContentionTracker(10);
+    }
+
+    @Test
+    @DisplayName("Should report conflicts, lock wait and read hit rate per date, busiest first")
+    void shouldReportPerDate() {
+        // Given
+        tracker.recordReservation(HOT, false, 3 * MILLISECOND, MILLISECOND);
+        tracker.recordReservation(HOT, true, 5 * MILLISECOND, MILLISECOND);
+        tracker.recordAvailabilityRead(HOT, true);
+        tracker.recordAvailabilityRead(HOT, false);
+        tracker.recordReservation(COLD, false, 0, 2 * MILLISECOND);
+
+        // When
+        DateContentionTracker.ContentionReport report = tracker.report(10);
+
+        // Then
+        assertEquals(5, report.activity());
+        assertEquals(3, report.attempts());
+        assertEquals(1, report.conflicts());
+        assertEquals(8.0, report.lockWaitMillis(), 0.001);
+        assertEquals(4.0, report.ioMillis(), 0.001);
+        assertEquals(2.0 / 3, report.lockWaitRatio(), 0.001);
+        assertEquals(0.5, report.availabilityHitRate(), 0.001);
+
+        assertEquals(2, report.dates().size());
+        DateContentionTracker.DateContention hot = report.dates().get(0);
+        assertEquals(HOT, hot.date());
+        assertEquals(4, hot.activity());
+        assertEquals(2, hot.attempts());
+        assertEquals(0.5, hot.conflictRate(), 0.001);
+        assertEquals(4.0, hot.meanLockWaitMillis(), 0.001);
+        assertEquals(1.0, hot.meanIoMillis(), 0.001);
+        assertEquals(0.8, hot.lockWaitRatio(), 0.001);
+        assertEquals(0.5, hot.availabilityHitRate(), 0.001);
+        DateContentionTracker.DateContention cold = report.dates().get(1);
+        assertEquals(COLD, cold.date());
+        assertEquals(0.0, cold.lockWaitRatio(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should keep totals over dates that are no longer tracked")
+    void shouldKeepTotalsBeyondTrackedDates() {
+        // Given
+        DateContentionTracker small = new DateContentionTracker(1);
+        small.recordReservation(HOT, false, 0, MILLISECOND);
+        small.recordReservation(COLD, false, 0, MILLISECOND);
+
+        // When
+        DateContentionTracker.ContentionReport report = small.report(10);
+
+        // Then
+        assertEquals(2, report.attempts());
+        assertEquals(1, report.dates().size());
+        assertEquals(COLD, report.dates().get(0).date());
+        assertEquals(2, report.dates().get(0).activity());
+        assertEquals(1, report.dates().get(0).activityError());
+        assertEquals(1, report.dates().get(0).attempts());
+    }
+
+    @Test
+    @DisplayName("Should publish totals and ratios as meters")
+    void shouldPublishMeters() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tracker.bindTo(registry);
+        tracker.recordReservation(HOT, true, 3 * MILLISECOND, MILLISECOND);
+        tracker.recordAvailabilityRead(COLD, false);
+
+        // When & Then
+        assertEquals(1.0, registry.get("booking.contention.attempts").functionCounter().count());
+        assertEquals(1.0, registry.get("booking.contention.conflicts").functionCounter().count());
+        assertEquals(0.75, registry.get("booking.contention.lock.wait.ratio").gauge().value(), 0.001);
+        assertEquals(0.5, registry.get("booking.contention.hottest.date.share").gauge().value(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should ignore activity without a date")
+    void shouldIgnoreActivityWithoutDate() {
+        tracker.recordReservation(null, false, 0, 0);
+        tracker.recordAvailabilityRead(null, true);
+
+        assertEquals(0, tracker.report(10).activity());
+    }
+}
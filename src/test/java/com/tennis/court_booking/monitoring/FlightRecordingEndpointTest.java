@@ -0,0 +1,128 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationTimings;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null && "RUNNING".equals(endpoint.status().get("state"))) {
+            endpoint.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report no recording before one is started")
+    void shouldReportNoRecording() {
+        // Given
+        endpoint = new FlightRecordingEndpoint(directory);
+
+        // When
+        Map<String, Object> status = endpoint.status();
+
+        // Then
+        assertEquals("CLOSED", status.get("state"));
+    }
+
+    @Test
+    @DisplayName("Should dump reservation events recorded since the start")
+    void shouldDumpReservationEvents() throws IOException {
+        // Given
+        endpoint = new FlightRecordingEndpoint(directory);
+        Map<String, Object> started = endpoint.control("start", 60L);
+        ReservationTimings timings = new ReservationTimings();
+        timings.recordBookingsLoaded(3);
+        new JfrReservationTracer().start().complete(LocalDate.of(2030, 1, 15), Outcome.CREATED, timings);
+
+        // When
+        Map<String, Object> dumped = endpoint.control("dump", null);
+
+        // Then
+        assertEquals("RUNNING", started.get("state"));
+        assertEquals(60L, started.get("maxAgeSeconds"));
+        assertEquals("RUNNING", dumped.get("state"));
+        Path file = Path.of((String) dumped.get("file"));
+        assertTrue(Files.exists(file));
+        List<RecordedEvent> reservations = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals(ReservationEvent.NAME))
+                .toList();
+        assertEquals(1, reservations.size());
+        assertEquals("2030-01-15", reservations.get(0).getString("date"));
+        assertEquals("CREATED", reservations.get(0).getString("outcome"));
+        assertEquals(3, reservations.get(0).getInt("bookingsLoaded"));
+    }
+
+    @Test
+    @DisplayName("Should write the recording and discard it on stop")
+    void shouldWriteAndDiscardOnStop() {
+        // Given
+        endpoint = new FlightRecordingEndpoint(directory);
+        endpoint.control("start", null);
+
+        // When
+        Map<String, Object> stopped = endpoint.control("stop", null);
+
+        // Then
+        assertEquals("STOPPED", stopped.get("state"));
+        assertTrue(Files.exists(Path.of((String) stopped.get("file"))));
+        assertEquals("CLOSED", endpoint.status().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should keep the running recording when started twice")
+    void shouldKeepRunningRecording() {
+        // Given
+        endpoint = new FlightRecordingEndpoint(directory);
+        Map<String, Object> first = endpoint.control("start", 60L);
+
+        // When
+        Map<String, Object> second = endpoint.control("start", 120L);
+
+        // Then
+        assertEquals(first.get("startTime"), second.get("startTime"));
+        assertEquals(60L, second.get("maxAgeSeconds"));
+    }
+
+    @Test
+    @DisplayName("Should reject dumping without a recording and unknown actions")
+    void shouldRejectInvalidRequests() {
+        // Given
+        endpoint = new FlightRecordingEndpoint(directory);
+
+        // When & Then
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("dump", null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("stop", null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("pause", null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("start", 0L));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when dump directory is null")
+    void shouldThrowExceptionWhenDumpDirectoryIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FlightRecordingEndpoint(null));
+        assertEquals("Dump directory cannot be null", exception.getMessage());
+    }
+}
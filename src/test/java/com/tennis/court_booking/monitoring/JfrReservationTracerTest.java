@@ -0,0 +1,57 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+import com.tennis.court_booking.application.port.out.ReservationTimings;
+import com.tennis.court_booking.application.port.out.ReservationTracer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JfrReservationTracer Tests")
+class JfrReservationTracerTest {
+
+    @Test
+    @DisplayName("Should emit a flight recorder event with the date, outcome and stage timings")
+    void shouldEmitFlightRecorderEvent(@TempDir Path directory) throws IOException {
+        // Given
+        JfrReservationTracer tracer = new JfrReservationTracer();
+        ReservationTimings timings = new ReservationTimings();
+        timings.recordBookingsLoaded(1);
+        timings.recordStage(Stage.SAVE, Duration.ofMillis(3).toNanos());
+        Path file = directory.resolve("reservation.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(ReservationEvent.NAME);
+            recording.start();
+            ReservationTracer.Trace trace = tracer.start();
+            trace.complete(LocalDate.of(2024, 1, 15), Outcome.CREATED, timings);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ReservationEvent.NAME))
+                .toList();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("2024-01-15", event.getString("date"));
+        assertEquals("CREATED", event.getString("outcome"));
+        assertEquals(1, event.getInt("bookingsLoaded"));
+        assertEquals(Duration.ofMillis(3), event.getDuration("saveDuration"));
+        assertEquals(Duration.ZERO, event.getDuration("publishDuration"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Outcome;
+import com.tennis.court_booking.application.port.out.ReservationMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MicrometerReservationMetrics Tests")
+class MicrometerReservationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerReservationMetrics metrics = new MicrometerReservationMetrics(registry);
+
+    @Test
+    @DisplayName("Should register a timer per stage and a counter per outcome up front")
+    void shouldRegisterAllMetersUpFront() {
+        assertEquals(Stage.values().length, registry.find("booking.reserve.stage").timers().size());
+        assertEquals(Outcome.values().length, registry.find("booking.reserve.outcomes").counters().size());
+        assertNotNull(registry.find("booking.reserve.bookings.loaded").summary());
+    }
+
+    @Test
+    @DisplayName("Should record stage durations under the stage tag")
+    void shouldRecordStageDurations() {
+        // When
+        metrics.recordStage(Stage.LOAD, TimeUnit.MILLISECONDS.toNanos(3));
+
+        // Then
+        assertEquals(1, registry.get("booking.reserve.stage").tag("stage", "load").timer().count());
+        assertEquals(3.0, registry.get("booking.reserve.stage").tag("stage", "load").timer()
+                .totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, registry.get("booking.reserve.stage").tag("stage", "save").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count outcomes under the outcome tag")
+    void shouldCountOutcomes() {
+        // When
+        metrics.recordOutcome(Outcome.OVERLAP_REJECTED);
+        metrics.recordOutcome(Outcome.OVERLAP_REJECTED);
+
+        // Then
+        assertEquals(2.0, registry.get("booking.reserve.outcomes").tag("outcome", "overlap-rejected").counter().count());
+        assertEquals(0.0, registry.get("booking.reserve.outcomes").tag("outcome", "created").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record the number of bookings loaded")
+    void shouldRecordBookingsLoaded() {
+        // When
+        metrics.recordBookingsLoaded(12);
+
+        // Then
+        assertEquals(12.0, registry.get("booking.reserve.bookings.loaded").summary().totalAmount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.tennis.court_booking.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileEndpointTest {
+
+    @Mock
+    private ContinuousProfiler profiler;
+
+    @InjectMocks
+    private ProfileEndpoint endpoint;
+
+    private static StackProfile empty(ProfileKind kind) {
+        return new StackProfile(kind, kind.getUnit(), null, Instant.EPOCH, 0, 0, List.of());
+    }
+
+    @Test
+    @DisplayName("Should return every kind with the default limit")
+    void shouldReturnEveryKind() {
+        // Given
+        when(profiler.top(any(ProfileKind.class), eq(ProfileEndpoint.DEFAULT_LIMIT), isNull()))
+                .thenAnswer(invocation -> empty(invocation.getArgument(0)));
+
+        // When
+        Map<ProfileKind, StackProfile> profiles = endpoint.all(null, null);
+
+        // Then
+        assertEquals(ProfileKind.values().length, profiles.size());
+        assertEquals(ProfileKind.ALLOCATION, profiles.get(ProfileKind.ALLOCATION).kind());
+    }
+
+    @Test
+    @DisplayName("Should return one kind selected case-insensitively, with limit and filter")
+    void shouldReturnOneKind() {
+        // Given
+        StackProfile lock = empty(ProfileKind.LOCK);
+        when(profiler.top(ProfileKind.LOCK, 5, "reserve")).thenReturn(lock);
+
+        // When
+        StackProfile profile = endpoint.kind("lock", 5, "reserve");
+
+        // Then
+        assertSame(lock, profile);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown kinds and limits out of range")
+    void shouldRejectInvalidRequests() {
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.kind("heap", null, null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.kind("cpu", 0, null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.all(ProfileEndpoint.MAX_LIMIT + 1, null));
+        verifyNoInteractions(profiler);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when profiler is null")
+    void shouldThrowExceptionWhenProfilerIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ProfileEndpoint(null));
+        assertEquals("ContinuousProfiler cannot be null", exception.getMessage());
+    }
+}
@@ -0,0 +1,181 @@
+package com.tennis.court_booking.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RollingStackAggregator Tests")
+class RollingStackAggregatorTest {
+
+    private static final Instant START = Instant.parse("2030-01-15T10:00:00Z");
+    private static final List<String> FLUSH = List.of(
+            "org.hibernate.event.internal.DefaultFlushEventListener.onFlush:40",
+            "com.tennis.court_booking.adapter.out.persistence.BookingRepositoryAdapter.save:140");
+    private static final List<String> SERIALIZE = List.of(
+            "com.fasterxml.jackson.databind.ObjectMapper.writeValue:100",
+            "com.tennis.court_booking.adapter.in.web.controller.BookingController.reserve:110");
+
+    private RollingStackAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new RollingStackAggregator(Duration.ofMinutes(1), 3, 100);
+    }
+
+    @Test
+    @DisplayName("Should rank stacks by weight with their share of the total")
+    void shouldRankStacksByWeight() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 3, START);
+        aggregator.add(ProfileKind.CPU, SERIALIZE, 1, START.plusSeconds(5));
+        aggregator.add(ProfileKind.CPU, FLUSH, 4, START.plusSeconds(70));
+
+        // When
+        StackProfile profile = aggregator.top(ProfileKind.CPU, 10, null, START.plusSeconds(90));
+
+        // Then
+        assertEquals(8, profile.total());
+        assertEquals(START, profile.from());
+        assertEquals("samples", profile.unit());
+        assertEquals(2, profile.stacks().size());
+        assertEquals(FLUSH, profile.stacks().get(0).frames());
+        assertEquals(7, profile.stacks().get(0).weight());
+        assertEquals(87.5, profile.stacks().get(0).percent(), 0.001);
+        assertEquals(SERIALIZE, profile.stacks().get(1).frames());
+    }
+
+    @Test
+    @DisplayName("Should keep kinds apart")
+    void shouldKeepKindsApart() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 3, START);
+        aggregator.add(ProfileKind.ALLOCATION, SERIALIZE, 4096, START);
+
+        // When
+        StackProfile allocation = aggregator.top(ProfileKind.ALLOCATION, 10, null, START);
+
+        // Then
+        assertEquals(4096, allocation.total());
+        assertEquals(1, allocation.stacks().size());
+        assertEquals(SERIALIZE, allocation.stacks().get(0).frames());
+        assertEquals(0, aggregator.top(ProfileKind.LOCK, 10, null, START).total());
+    }
+
+    @Test
+    @DisplayName("Should drop windows older than the retained span")
+    void shouldDropOldWindows() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 5, START);
+        aggregator.add(ProfileKind.CPU, SERIALIZE, 1, START.plusSeconds(180));
+
+        // When
+        StackProfile profile = aggregator.top(ProfileKind.CPU, 10, null, START.plusSeconds(180));
+
+        // Then - windows 10:01, 10:02 and 10:03 are retained
+        assertEquals(1, profile.total());
+        assertEquals(List.of(SERIALIZE), profile.stacks().stream().map(StackProfile.StackWeight::frames).toList());
+    }
+
+    @Test
+    @DisplayName("Should add late samples to their own window")
+    void shouldAddLateSamplesToTheirWindow() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 1, START.plusSeconds(70));
+        aggregator.add(ProfileKind.CPU, FLUSH, 1, START.plusSeconds(10));
+        aggregator.add(ProfileKind.CPU, FLUSH, 1, START.minusSeconds(600));
+
+        // When
+        StackProfile profile = aggregator.top(ProfileKind.CPU, 10, null, START.plusSeconds(70));
+
+        // Then - the sample older than every retained window is ignored
+        assertEquals(2, profile.total());
+        assertEquals(START, profile.from());
+    }
+
+    @Test
+    @DisplayName("Should only return stacks with a frame matching the filter")
+    void shouldFilterByFrame() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 3, START);
+        aggregator.add(ProfileKind.CPU, SERIALIZE, 1, START);
+
+        // When
+        StackProfile profile = aggregator.top(ProfileKind.CPU, 10, "BookingController", START);
+
+        // Then
+        assertEquals(1, profile.stacks().size());
+        assertEquals(SERIALIZE, profile.stacks().get(0).frames());
+        assertEquals(25.0, profile.stacks().get(0).percent(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should match the filter on the whole stack before cutting it to depth")
+    void shouldFilterBeforeCuttingToDepth() {
+        // Given
+        List<String> deepFlush = List.of(FLUSH.get(0), FLUSH.get(1),
+                "com.tennis.court_booking.application.service.BookingApplicationService.reserve:180");
+        List<String> otherFlush = List.of(FLUSH.get(0), FLUSH.get(1),
+                "com.tennis.court_booking.application.service.HeatmapService.rebuild:60");
+        aggregator.add(ProfileKind.CPU, deepFlush, 3, START);
+        aggregator.add(ProfileKind.CPU, otherFlush, 2, START);
+
+        // When
+        StackProfile filtered = aggregator.top(ProfileKind.CPU, 10, "BookingApplicationService.reserve", 2, START);
+        StackProfile all = aggregator.top(ProfileKind.CPU, 10, null, 2, START);
+
+        // Then
+        assertEquals(1, filtered.stacks().size());
+        assertEquals(FLUSH, filtered.stacks().get(0).frames());
+        assertEquals(3, filtered.stacks().get(0).weight());
+        assertEquals(1, all.stacks().size());
+        assertEquals(5, all.stacks().get(0).weight());
+    }
+
+    @Test
+    @DisplayName("Should count the weight of stacks beyond the limit as dropped")
+    void shouldCountStacksBeyondLimitAsDropped() {
+        // Given
+        RollingStackAggregator small = new RollingStackAggregator(Duration.ofMinutes(1), 3, 1);
+        small.add(ProfileKind.CPU, FLUSH, 3, START);
+        small.add(ProfileKind.CPU, SERIALIZE, 2, START);
+        small.add(ProfileKind.CPU, FLUSH, 1, START);
+
+        // When
+        StackProfile profile = small.top(ProfileKind.CPU, 10, null, START);
+
+        // Then
+        assertEquals(6, profile.total());
+        assertEquals(2, profile.dropped());
+        assertEquals(1, profile.stacks().size());
+        assertEquals(4, profile.stacks().get(0).weight());
+    }
+
+    @Test
+    @DisplayName("Should limit the number of stacks returned")
+    void shouldLimitStacks() {
+        // Given
+        aggregator.add(ProfileKind.CPU, FLUSH, 3, START);
+        aggregator.add(ProfileKind.CPU, SERIALIZE, 1, START);
+
+        // When
+        StackProfile profile = aggregator.top(ProfileKind.CPU, 1, null, START);
+
+        // Then
+        assertEquals(1, profile.stacks().size());
+        assertEquals(FLUSH, profile.stacks().get(0).frames());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new RollingStackAggregator(Duration.ZERO, 3, 100));
+        assertThrows(IllegalArgumentException.class, () -> new RollingStackAggregator(Duration.ofMinutes(1), 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new RollingStackAggregator(Duration.ofMinutes(1), 3, 0));
+    }
+}
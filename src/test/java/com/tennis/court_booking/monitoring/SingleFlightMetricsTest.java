@@ -0,0 +1,36 @@
+package com.tennis.court_booking.monitoring;
+
+import com.tennis.court_booking.application.concurrency.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlightMetrics Tests")
+class SingleFlightMetricsTest {
+
+    @Test
+    @DisplayName("Should reject a blank metric name")
+    void shouldRejectBlankName() {
+        assertThrows(IllegalArgumentException.class, () -> new SingleFlightMetrics(" ", new SingleFlight<>()));
+    }
+
+    @Test
+    @DisplayName("Should publish calls, executions and the coalescing ratio")
+    void shouldPublishCounters() {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new SingleFlightMetrics("availability.reads", singleFlight).bindTo(registry);
+
+        // When
+        singleFlight.execute("key", () -> "value");
+        singleFlight.execute("key", () -> "value");
+
+        // Then
+        assertEquals(2.0, registry.get("availability.reads.calls").functionCounter().count());
+        assertEquals(2.0, registry.get("availability.reads.executions").functionCounter().count());
+        assertEquals(0.0, registry.get("availability.reads.coalescing.ratio").gauge().value());
+    }
+}
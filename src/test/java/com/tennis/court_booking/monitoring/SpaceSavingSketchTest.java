@@ -0,0 +1,147 @@
+package com.tennis.court_booking.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSavingSketch Tests")
+class SpaceSavingSketchTest {
+
+    private static void offer(SpaceSavingSketch<String, AtomicLong> sketch, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.offer(key, AtomicLong::incrementAndGet);
+        }
+    }
+
+    private static AtomicLong copy(AtomicLong stats) {
+        return new AtomicLong(stats.get());
+    }
+
+    @Test
+    @DisplayName("Should count exactly while the keys fit")
+    void shouldCountExactlyWhileKeysFit() {
+        // Given
+        SpaceSavingSketch<String, AtomicLong> sketch = new SpaceSavingSketch<>(3, AtomicLong::new);
+        offer(sketch, "a", 5);
+        offer(sketch, "b", 2);
+        offer(sketch, "c", 7);
+
+        // When
+        List<SpaceSavingSketch.HeavyHitter<String, AtomicLong>> top = sketch.top(10, SpaceSavingSketchTest::copy);
+
+        // Then
+        assertEquals(List.of("c", "a", "b"), top.stream().map(SpaceSavingSketch.HeavyHitter::key).toList());
+        assertEquals(7, top.get(0).count());
+        assertEquals(0, top.get(0).error());
+        assertEquals(7, top.get(0).stats().get());
+    }
+
+    @Test
+    @DisplayName("Should replace the smallest key and inherit its count as error")
+    void shouldReplaceSmallestKey() {
+        // Given
+        SpaceSavingSketch<String, AtomicLong> sketch = new SpaceSavingSketch<>(2, AtomicLong::new);
+        offer(sketch, "a", 5);
+        offer(sketch, "b", 2);
+
+        // When
+        offer(sketch, "c", 1);
+
+        // Then
+        List<SpaceSavingSketch.HeavyHitter<String, AtomicLong>> top = sketch.top(10, SpaceSavingSketchTest::copy);
+        assertEquals(List.of("a", "c"), top.stream().map(SpaceSavingSketch.HeavyHitter::key).toList());
+        assertEquals(3, top.get(1).count());
+        assertEquals(2, top.get(1).error());
+        assertEquals(1, top.get(1).stats().get());
+    }
+
+    @Test
+    @DisplayName("Should keep a heavy hitter in a long tail of unique keys")
+    void shouldKeepHeavyHitter() {
+        // Given
+        SpaceSavingSketch<String, AtomicLong> sketch = new SpaceSavingSketch<>(10, AtomicLong::new);
+
+        // When - "hot" is a fifth of the stream, far above total / capacity
+        for (int i = 0; i < 1_000; i++) {
+            offer(sketch, i % 5 == 0 ? "hot" : "cold-" + i, 1);
+        }
+
+        // Then
+        SpaceSavingSketch.HeavyHitter<String, AtomicLong> first = sketch.top(1, SpaceSavingSketchTest::copy).get(0);
+        assertEquals("hot", first.key());
+        assertTrue(first.count() - first.error() <= 200 && first.count() >= 200);
+    }
+
+    @Test
+    @DisplayName("Should return snapshots that do not change with later offers")
+    void shouldReturnSnapshots() {
+        // Given
+        SpaceSavingSketch<String, AtomicLong> sketch = new SpaceSavingSketch<>(2, AtomicLong::new);
+        offer(sketch, "a", 1);
+        AtomicLong snapshot = sketch.top(1, SpaceSavingSketchTest::copy).get(0).stats();
+
+        // When
+        offer(sketch, "a", 3);
+
+        // Then
+        assertEquals(1, snapshot.get());
+    }
+
+    @Test
+    @DisplayName("Should not lose occurrences offered concurrently while keys are evicted")
+    void shouldNotLoseConcurrentOffers() throws Exception {
+        // Given
+        SpaceSavingSketch<String, AtomicLong> sketch = new SpaceSavingSketch<>(4, AtomicLong::new);
+        int threads = 8;
+        int offersPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // When
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < offersPerThread; i++) {
+                        // Two hot keys shared by every thread, plus a tail forcing evictions
+                        String key = i % 4 == 0 ? "cold-" + thread + "-" + i : "hot-" + (i % 2);
+                        sketch.offer(key, AtomicLong::incrementAndGet);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+
+            // Then - every occurrence lands in exactly one counter, and evictions hand counts on
+            List<SpaceSavingSketch.HeavyHitter<String, AtomicLong>> top = sketch.top(10, SpaceSavingSketchTest::copy);
+            assertEquals(4, top.size());
+            assertEquals((long) threads * offersPerThread,
+                    top.stream().mapToLong(SpaceSavingSketch.HeavyHitter::count).sum());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when capacity is not positive")
+    void shouldThrowExceptionWhenCapacityIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new SpaceSavingSketch<String, AtomicLong>(0, AtomicLong::new));
+        assertEquals("Capacity must be positive", exception.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.tennis.court_booking.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when threshold is negative")
+    void shouldThrowExceptionWhenThresholdIsNegative() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new VirtualThreadPinningMonitor(Duration.ofMillis(-1), meterRegistry)
+        );
+        assertEquals("Pinning threshold cannot be null or negative", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should record pinning duration in the timer")
+    void shouldRecordPinningDuration() {
+        monitor.record(Duration.ofMillis(35), "com.tennis.court_booking.Example.run:42");
+        monitor.record(Duration.ofMillis(65), null);
+
+        assertEquals(2, meterRegistry.get("virtual.threads.pinned").timer().count());
+        assertEquals(100.0, meterRegistry.get("virtual.threads.pinned").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1.0, meterRegistry.get("virtual.threads.pinned.unattributed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should start and stop the flight recorder stream")
+    void shouldStartAndStopRecordingStream() {
+        assertFalse(monitor.isRunning());
+
+        monitor.start();
+        assertTrue(monitor.isRunning());
+
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+}
@@ -0,0 +1,224 @@
+package com.tennis.court_booking.stress;
+
+import com.tennis.court_booking.application.port.in.BookingUseCase;
+import com.tennis.court_booking.application.port.in.ReserveCommand;
+import com.tennis.court_booking.application.port.out.BookingEventPublisher;
+import com.tennis.court_booking.application.port.out.BookingRepository;
+import com.tennis.court_booking.application.port.out.ContentionMetrics;
+import com.tennis.court_booking.application.port.out.DayLock;
+import com.tennis.court_booking.application.port.out.ReservationMetrics;
+import com.tennis.court_booking.application.service.BookingApplicationService;
+import com.tennis.court_booking.domain.entity.Booking;
+import com.tennis.court_booking.domain.exception.BusinessException;
+import com.tennis.court_booking.domain.service.BookingDomainService;
+import com.tennis.court_booking.domain.valueobject.TimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires thousands of overlapping reservations from many threads at the real reservation
+ * path (application service, JPA adapter, H2) and checks that no two persisted bookings
+ * on the same date overlap.
+ *
+ * Runs on a fixed pool of platform threads and on a virtual thread per request, each with
+ * every request fighting for the same slot and with randomly staggered overlapping slots,
+ * and each against one instance and against two. The second instance is a separate
+ * application service with its own in-memory locks, sharing only the database, so with
+ * two instances the invariant rests on the database day lock alone. Throughput is logged
+ * per run, so a change that speeds up the reserve path can be compared with one that
+ * breaks it. Event publishing is mocked; it runs after the booking is saved and plays no
+ * part in the invariant.
+ *
+ * Tagged "stress" and left out of the test task; run it with ./gradlew stressTest.
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:double-booking-torture",
+        "spring.jpa.show-sql=false",
+        "booking.read-model.enabled=false",
+        "logging.level.com.tennis.court_booking=INFO",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class DoubleBookingTortureTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DoubleBookingTortureTest.class);
+
+    private static final int REQUESTS = 2_000;
+    private static final int DATES = 4;
+    private static final int PLATFORM_THREADS = 64;
+
+    /** Each run books its own dates, so runs sharing the context do not see each other's bookings */
+    private static final AtomicInteger RUNS = new AtomicInteger();
+    private static final LocalDate FIRST_DATE = LocalDate.of(2031, 1, 1);
+
+    @Autowired
+    private BookingUseCase bookingUseCase;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingDomainService domainService;
+
+    @Autowired
+    private DayLock dayLock;
+
+    @MockBean
+    private BookingEventPublisher eventPublisher;
+
+    enum ConcurrencyMode {
+        PLATFORM_POOL(() -> Executors.newFixedThreadPool(PLATFORM_THREADS)),
+        VIRTUAL_PER_REQUEST(Executors::newVirtualThreadPerTaskExecutor);
+
+        private final Supplier<ExecutorService> executor;
+
+        ConcurrencyMode(Supplier<ExecutorService> executor) {
+            this.executor = executor;
+        }
+    }
+
+    enum Contention {
+        /** Every request asks for 10:00-11:00, so exactly one per date may succeed */
+        SAME_SLOT,
+        /** One or two hour slots starting on any half hour, most of them overlapping others */
+        STAGGERED
+    }
+
+    static Stream<Arguments> modes() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (ConcurrencyMode mode : ConcurrencyMode.values()) {
+            for (Contention contention : Contention.values()) {
+                for (int instances = 1; instances <= 2; instances++) {
+                    arguments.add(Arguments.of(mode, contention, instances));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0}, {1}, {2} instance(s)")
+    @MethodSource("modes")
+    @DisplayName("Should never persist overlapping bookings under concurrent reservations")
+    void shouldNeverPersistOverlappingBookings(ConcurrencyMode mode, Contention contention, int instances)
+            throws InterruptedException {
+        // Given
+        LocalDate firstDate = FIRST_DATE.plusDays((long) RUNS.getAndIncrement() * DATES);
+        List<BookingUseCase> useCases = List.of(bookingUseCase, new BookingApplicationService(
+                bookingRepository, eventPublisher, domainService,
+                ReservationMetrics.NONE, ContentionMetrics.NONE, dayLock));
+        List<ReserveCommand> commands = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            commands.add(command(firstDate.plusDays(i % DATES), contention));
+        }
+
+        LongAdder created = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        Map<LocalDate, LongAdder> createdPerDate = new ConcurrentHashMap<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // When
+        long elapsedNanos;
+        try (ExecutorService executor = mode.executor.get()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                ReserveCommand command = commands.get(i);
+                BookingUseCase useCase = useCases.get(i % instances);
+                executor.execute(() -> {
+                    try {
+                        startGate.await();
+                        useCase.reserve(command);
+                        created.increment();
+                        createdPerDate.computeIfAbsent(command.getDate(), date -> new LongAdder()).increment();
+                    } catch (BusinessException e) {
+                        rejected.increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.add(e);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            startGate.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES), "Reservations did not finish in time");
+            elapsedNanos = System.nanoTime() - start;
+        }
+
+        // Then
+        log.info("{}, {}, {} instance(s): {} reservations in {} ms ({}/s), {} created, {} rejected",
+                mode, contention, instances, REQUESTS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(REQUESTS / (elapsedNanos / 1e9)), created.sum(), rejected.sum());
+
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        assertEquals(REQUESTS, created.sum() + rejected.sum());
+
+        long persisted = 0;
+        for (int day = 0; day < DATES; day++) {
+            LocalDate date = firstDate.plusDays(day);
+            List<Booking> bookings = new ArrayList<>(bookingRepository.findByDate(date));
+            assertNoOverlaps(date, bookings);
+            persisted += bookings.size();
+            if (contention == Contention.SAME_SLOT) {
+                assertEquals(1, bookings.size(), "Exactly one booking of the contended slot on " + date);
+            }
+            long createdOnDate = createdPerDate.getOrDefault(date, new LongAdder()).sum();
+            assertEquals(createdOnDate, bookings.size(), "Every created booking is persisted on " + date);
+        }
+        assertEquals(created.sum(), persisted);
+    }
+
+    private static ReserveCommand command(LocalDate date, Contention contention) {
+        if (contention == Contention.SAME_SLOT) {
+            return new ReserveCommand(date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int hours = random.nextInt(1, 3);
+        // Half hour steps from 8:00 so that the slot still ends by 20:00
+        int halfHours = random.nextInt(0, (12 - hours) * 2 + 1);
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(halfHours * 30L);
+        return new ReserveCommand(date, start, start.plusHours(hours));
+    }
+
+    private static void assertNoOverlaps(LocalDate date, List<Booking> bookings) {
+        bookings.sort(Comparator.comparing((Booking booking) -> booking.getTimeSlot().getStart()));
+        for (int i = 1; i < bookings.size(); i++) {
+            TimeSlot previous = bookings.get(i - 1).getTimeSlot();
+            TimeSlot next = bookings.get(i).getTimeSlot();
+            assertFalse(next.getStart().isBefore(previous.getEnd()),
+                    () -> "Overlapping bookings on " + date + ": " + previous.getStart() + "-" + previous.getEnd()
+                            + " and " + next.getStart() + "-" + next.getEnd());
+        }
+    }
+}
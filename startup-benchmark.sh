@@ -0,0 +1,169 @@
+#!/bin/bash
+
+# Tennis Court Booking API - Startup Benchmark
+#
+# Starts the application repeatedly in each startup mode and reports the time from
+# launching the JVM to the first successful reservation (HTTP 201), which is what a
+# client of a freshly autoscaled instance waits for, next to Spring's own startup time.
+#
+# Modes:
+#   baseline  plain java -jar
+#   lazy      the fast-startup profile (lazy initialization outside the reservation path)
+#   cds       fast-startup on the extracted jar with an AppCDS archive from a training run
+#   aot-cds   cds plus Spring AOT, when the jar was built with AOT processing
+#
+# Requirements: a built boot jar. For the aot-cds mode build it with the profiles used here:
+#   ./gradlew bootJar -Paot -PaotProfiles=test,fast-startup
+#
+# Usage: ./startup-benchmark.sh [runs]
+#   runs  starts per mode (default: 5)
+#
+# Environment:
+#   BENCH_PROFILES  base profiles for every run (default: test)
+
+RUNS=${1:-5}
+BASE_PROFILES=${BENCH_PROFILES:-test}
+PORT=8080
+BASE_URL="http://localhost:${PORT}/api/bookings"
+JAR=$(ls build/libs/*.jar 2>/dev/null | grep -v plain | head -n1)
+WORK_DIR=build/startup-benchmark
+# Same logging in every mode; INFO keeps Spring's "Started ... in X seconds" line
+QUIET_ARGS="--spring.jpa.show-sql=false --logging.level.com.tennis.court_booking=INFO --logging.level.org.hibernate.SQL=WARN --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+if [ -z "$JAR" ]; then
+    echo -e "${RED}No boot jar found - run ./gradlew bootJar first${NC}"
+    exit 1
+fi
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+    sort -n | awk '{values[NR] = $1} END {if (NR == 0) print "-"; else print values[int((NR + 1) / 2)]}'
+}
+
+# Extracts the jar so the JVM loads classes from plain jars (required by AppCDS) and
+# records the archive in a training run that stops right after the context refresh
+train_archive() {
+    local name=$1
+    local jvm_args=$2
+    local profiles=$3
+
+    rm -rf "${WORK_DIR}/${name}"
+    java -Djarmode=tools -jar "$JAR" extract --destination "${WORK_DIR}/${name}" > /dev/null || return 1
+    local app_jar
+    app_jar=$(ls "${WORK_DIR}/${name}"/*.jar | head -n1)
+
+    echo -e "${YELLOW}Training CDS archive (${name})${NC}" >&2
+    java $jvm_args -XX:ArchiveClassesAtExit="${WORK_DIR}/${name}/application.jsa" \
+        -Dspring.context.exit=onRefresh \
+        -jar "$app_jar" --spring.profiles.active="$profiles" $QUIET_ARGS \
+        > "${WORK_DIR}/${name}-training.log" 2>&1
+    echo "$app_jar"
+}
+
+# Launches one instance and prints "<millis to first reservation> <startup seconds>"
+measure_start() {
+    local mode=$1
+    local jar=$2
+    local jvm_args=$3
+    local profiles=$4
+
+    local launched
+    launched=$(now_millis)
+    java $jvm_args -jar "$jar" --spring.profiles.active="$profiles" --server.port=$PORT \
+        $QUIET_ARGS > "${WORK_DIR}/${mode}.log" 2>&1 &
+    local pid=$!
+
+    local first_reservation=""
+    for _ in $(seq 1 6000); do
+        local status
+        status=$(curl -s -o /dev/null -w "%{http_code}" --max-time 5 -X POST "$BASE_URL" \
+            -H "Content-Type: application/json" \
+            -d '{"date": "2030-01-15", "start": "10:00", "end": "11:00"}')
+        if [ "$status" = "201" ]; then
+            first_reservation=$(( $(now_millis) - launched ))
+            break
+        fi
+        if ! kill -0 $pid 2>/dev/null; then
+            break
+        fi
+        sleep 0.01
+    done
+
+    kill $pid 2>/dev/null
+    wait $pid 2>/dev/null
+
+    if [ -z "$first_reservation" ]; then
+        echo -e "${RED}No successful reservation (${mode}) - see ${WORK_DIR}/${mode}.log${NC}" >&2
+        return 1
+    fi
+    local started
+    started=$(sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' "${WORK_DIR}/${mode}.log" | head -n1)
+    echo "${first_reservation} ${started:--}"
+}
+
+run_mode() {
+    local mode=$1
+    local jar=$2
+    local jvm_args=$3
+    local profiles=$4
+
+    echo -e "${YELLOW}Measuring ${mode} (profiles: ${profiles}, ${RUNS} runs)${NC}" >&2
+    local results=""
+    for _ in $(seq 1 "$RUNS"); do
+        local result
+        result=$(measure_start "$mode" "$jar" "$jvm_args" "$profiles") || continue
+        results="${results}${result}"$'\n'
+    done
+
+    local first_reservation
+    first_reservation=$(echo -n "$results" | awk '{print $1}' | median)
+    local started
+    started=$(echo -n "$results" | awk '$2 != "-" {print $2}' | median)
+    echo "${mode} ${first_reservation} ${started}"
+}
+
+mkdir -p "$WORK_DIR"
+FAST_PROFILES="${BASE_PROFILES},fast-startup"
+
+echo "=========================================="
+echo "Startup Benchmark"
+echo "Runs per mode: ${RUNS}"
+echo "=========================================="
+
+results=()
+results+=("$(run_mode baseline "$JAR" "" "$BASE_PROFILES")")
+results+=("$(run_mode lazy "$JAR" "" "$FAST_PROFILES")")
+
+cds_jar=$(train_archive cds "" "$FAST_PROFILES")
+if [ -n "$cds_jar" ]; then
+    results+=("$(run_mode cds "$cds_jar" "-XX:SharedArchiveFile=${WORK_DIR}/cds/application.jsa" "$FAST_PROFILES")")
+fi
+
+if unzip -l "$JAR" | grep -q "__ApplicationContextInitializer"; then
+    aot_jar=$(train_archive aot-cds "-Dspring.aot.enabled=true" "$FAST_PROFILES")
+    if [ -n "$aot_jar" ]; then
+        results+=("$(run_mode aot-cds "$aot_jar" \
+            "-Dspring.aot.enabled=true -XX:SharedArchiveFile=${WORK_DIR}/aot-cds/application.jsa" \
+            "$FAST_PROFILES")")
+    fi
+else
+    echo -e "${YELLOW}Skipping aot-cds - the jar was built without -Paot${NC}"
+fi
+
+echo ""
+printf "%-10s %28s %18s\n" "mode" "first reservation (ms)" "started (s)"
+for result in "${results[@]}"; do
+    if [ -n "$result" ]; then
+        printf "%-10s %28s %18s\n" $result
+    fi
+done
+echo ""
+echo -e "${GREEN}Medians over ${RUNS} runs; logs of the last run per mode are in ${WORK_DIR}${NC}"